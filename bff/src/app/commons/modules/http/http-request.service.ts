@@ -14,6 +14,27 @@ export class HttpRequestService {
     method: 'GET' | 'POST' | 'PUT' | 'DELETE',
     url: string,
     data?: any,
+  ): Promise<any> {
+    const response = await this.send(method, url, data);
+    return response.data;
+  }
+
+  /**
+   * GET de uma página: devolve o corpo e o cursor da próxima página
+   * (cabeçalho X-Next-Cursor), ou null na última página.
+   */
+  async requestPage(
+    url: string,
+  ): Promise<{ data: any; nextCursor: string | null }> {
+    const response = await this.send('GET', url);
+    const nextCursor = response.headers?.['x-next-cursor'];
+    return { data: response.data, nextCursor: nextCursor ?? null };
+  }
+
+  private async send(
+    method: 'GET' | 'POST' | 'PUT' | 'DELETE',
+    url: string,
+    data?: any,
   ): Promise<any> {
     try {
       const token = await this.tokenStorageService.getAccessToken();
@@ -28,8 +49,7 @@ export class HttpRequestService {
         DELETE: () => firstValueFrom(this.httpService.delete(url, options)),
       };
 
-      const response = await methodsMap[method]();
-      return response.data;
+      return await methodsMap[method]();
     } catch (error) {
       throw new HttpException(
         error.response ? error.response.data : 'Erro ao fazer a requisição',
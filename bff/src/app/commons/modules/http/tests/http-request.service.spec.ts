@@ -366,4 +366,52 @@ describe('HttpRequestService', () => {
       );
     });
   });
+
+  describe('requestPage', () => {
+    it('should return the body and the next cursor header', async () => {
+      const url = 'http://localhost:3001/users';
+      const expectedData = [{ id: '1' }];
+      const mockResponse: AxiosResponse = {
+        data: expectedData,
+        status: 200,
+        statusText: 'OK',
+        headers: { 'x-next-cursor': '1' },
+        config: {
+          url,
+          method: 'get',
+          headers: {},
+        } as any,
+      };
+
+      tokenStorageService.getAccessToken.mockResolvedValue(null);
+      httpService.get.mockReturnValue(of(mockResponse));
+
+      const result = await service.requestPage(url);
+
+      expect(httpService.get).toHaveBeenCalledWith(url, { headers: {} });
+      expect(result).toEqual({ data: expectedData, nextCursor: '1' });
+    });
+
+    it('should return a null cursor on the last page', async () => {
+      const url = 'http://localhost:3001/users?cursor=1';
+      const mockResponse: AxiosResponse = {
+        data: '',
+        status: 204,
+        statusText: 'No Content',
+        headers: {},
+        config: {
+          url,
+          method: 'get',
+          headers: {},
+        } as any,
+      };
+
+      tokenStorageService.getAccessToken.mockResolvedValue(null);
+      httpService.get.mockReturnValue(of(mockResponse));
+
+      const result = await service.requestPage(url);
+
+      expect(result).toEqual({ data: '', nextCursor: null });
+    });
+  });
 });
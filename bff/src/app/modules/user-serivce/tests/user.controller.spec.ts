@@ -1,11 +1,14 @@
+/* eslint-disable @typescript-eslint/unbound-method */
 import { Test, TestingModule } from '@nestjs/testing';
 import { UsersController } from '../user.controller';
 import { UsersService } from '../user.service';
 import { HttpRequestService } from 'src/app/commons/modules/http/http-request.service';
 import { AppConfigService } from 'src/app/config/config.service';
+import { Response } from 'express';
 
 describe('UsersController', () => {
   let controller: UsersController;
+  let service: UsersService;
 
   beforeEach(async () => {
     const module: TestingModule = await Test.createTestingModule({
@@ -31,9 +34,37 @@ describe('UsersController', () => {
     }).compile();
 
     controller = module.get<UsersController>(UsersController);
+    service = module.get<UsersService>(UsersService);
   });
 
   it('should be defined', () => {
     expect(controller).toBeDefined();
   });
+
+  describe('findAll', () => {
+    it('should return the page and expose the next cursor', async () => {
+      const users = [{ id: '1', name: 'João Silva' }];
+      const response = { setHeader: jest.fn() } as unknown as Response;
+      jest
+        .spyOn(service, 'findAll')
+        .mockResolvedValue({ data: users, nextCursor: '1' });
+
+      const result = await controller.findAll('0', 1, response);
+
+      expect(service.findAll).toHaveBeenCalledWith('0', 1);
+      expect(response.setHeader).toHaveBeenCalledWith('X-Next-Cursor', '1');
+      expect(result).toEqual(users);
+    });
+
+    it('should not set the cursor header on the last page', async () => {
+      const response = { setHeader: jest.fn() } as unknown as Response;
+      jest
+        .spyOn(service, 'findAll')
+        .mockResolvedValue({ data: [], nextCursor: null });
+
+      await controller.findAll(undefined as unknown as string, 1, response);
+
+      expect(response.setHeader).not.toHaveBeenCalled();
+    });
+  });
 });
@@ -19,6 +19,7 @@ describe('UsersService', () => {
           provide: HttpRequestService,
           useValue: {
             request: jest.fn(),
+            requestPage: jest.fn(),
             get: jest.fn(),
             post: jest.fn(),
             put: jest.fn(),
@@ -107,7 +108,7 @@ describe('UsersService', () => {
   });
 
   describe('findAll', () => {
-    it('should retrieve all users successfully', async () => {
+    it('should retrieve the first page of users successfully', async () => {
       const expectedUsers = [
         {
           id: '1',
@@ -123,42 +124,52 @@ describe('UsersService', () => {
           role: 'ADMIN',
           active: true,
         },
-        {
-          id: '3',
-          name: 'Pedro Costa',
-          email: 'pedro@email.com',
-          role: 'PROFESSIONAL',
-          active: false,
-        },
       ];
 
-      httpRequestService.request.mockResolvedValue(expectedUsers);
+      httpRequestService.requestPage.mockResolvedValue({
+        data: expectedUsers,
+        nextCursor: '2',
+      });
 
       const result = await service.findAll();
 
-      expect(httpRequestService.request).toHaveBeenCalledWith(
-        'GET',
+      expect(httpRequestService.requestPage).toHaveBeenCalledWith(
         'http://localhost:3001/users',
       );
-      expect(result).toEqual(expectedUsers);
+      expect(result).toEqual({ data: expectedUsers, nextCursor: '2' });
     });
 
-    it('should return empty array when no users found', async () => {
-      httpRequestService.request.mockResolvedValue([]);
+    it('should forward cursor and size to the user service', async () => {
+      httpRequestService.requestPage.mockResolvedValue({
+        data: [],
+        nextCursor: null,
+      });
 
-      const result = await service.findAll();
+      await service.findAll('2', 50);
 
-      expect(result).toEqual([]);
-      expect(httpRequestService.request).toHaveBeenCalledWith(
-        'GET',
-        'http://localhost:3001/users',
+      expect(httpRequestService.requestPage).toHaveBeenCalledWith(
+        'http://localhost:3001/users?cursor=2&size=50',
+      );
+    });
+
+    it('should return no cursor on the last page', async () => {
+      httpRequestService.requestPage.mockResolvedValue({
+        data: '',
+        nextCursor: null,
+      });
+
+      const result = await service.findAll('3');
+
+      expect(result.nextCursor).toBeNull();
+      expect(httpRequestService.requestPage).toHaveBeenCalledWith(
+        'http://localhost:3001/users?cursor=3',
       );
     });
 
     it('should throw error when service is unavailable', async () => {
       const serviceError = new Error('Service unavailable');
 
-      httpRequestService.request.mockRejectedValue(serviceError);
+      httpRequestService.requestPage.mockRejectedValue(serviceError);
 
       await expect(service.findAll()).rejects.toThrow('Service unavailable');
     });
@@ -166,7 +177,7 @@ describe('UsersService', () => {
     it('should throw error when unauthorized access', async () => {
       const unauthorizedError = new Error('Unauthorized access');
 
-      httpRequestService.request.mockRejectedValue(unauthorizedError);
+      httpRequestService.requestPage.mockRejectedValue(unauthorizedError);
 
       await expect(service.findAll()).rejects.toThrow('Unauthorized access');
     });
@@ -6,7 +6,10 @@ import {
   Param,
   Delete,
   NotFoundException,
+  Query,
+  Res,
 } from '@nestjs/common';
+import { Response } from 'express';
 import { UsersService } from './user.service';
 import { UpdateUserDto } from '../../commons/dto/request/update-user.dto';
 import { UserResponseDto } from '../../commons/dto/response/user-response.dto';
@@ -16,8 +19,16 @@ export class UsersController {
   constructor(private readonly usersService: UsersService) {}
 
   @Get()
-  findAll() {
-    return this.usersService.findAll();
+  async findAll(
+    @Query('cursor') cursor: string,
+    @Query('size') size: number,
+    @Res({ passthrough: true }) response: Response,
+  ) {
+    const page = await this.usersService.findAll(cursor, size);
+    if (page.nextCursor) {
+      response.setHeader('X-Next-Cursor', page.nextCursor);
+    }
+    return page.data;
   }
 
   @Get(':id')
@@ -15,10 +15,20 @@ export class UsersService {
       `${this.appConfigService.baseUrls.USERS_SERVICE}/users/user/${email}`,
     );
   }
-  async findAll() {
-    return await this.httpRequestService.request(
-      'GET',
-      `${this.appConfigService.baseUrls.USERS_SERVICE}/users`,
+  /**
+   * Uma página de usuários; nextCursor é repassado para buscar a seguinte.
+   */
+  async findAll(cursor?: string, size?: number) {
+    const params = new URLSearchParams();
+    if (cursor) {
+      params.set('cursor', cursor);
+    }
+    if (size) {
+      params.set('size', String(size));
+    }
+    const query = params.toString();
+    return await this.httpRequestService.requestPage(
+      `${this.appConfigService.baseUrls.USERS_SERVICE}/users${query ? `?${query}` : ''}`,
     );
   }
 
@@ -3,12 +3,12 @@ package com.clinicboard.business_service;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
-import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableRabbit
 @EnableDiscoveryClient
-@EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication
 public class BusinessServiceApplication {
 
@@ -1,6 +1,8 @@
 package com.clinicboard.business_service.application.port.in;
 
+import com.clinicboard.business_service.domain.model.AppointmentCursor;
 import com.clinicboard.business_service.domain.model.AppointmentId;
+import com.clinicboard.business_service.domain.model.AppointmentListItem;
 import com.clinicboard.business_service.domain.model.AppointmentTime;
 import com.clinicboard.business_service.domain.model.AppointmentType;
 import com.clinicboard.business_service.domain.model.AppointmentStatus;
@@ -40,6 +42,17 @@ public interface FindAppointmentQuery {
      */
     List<AppointmentView> findByPatientId(PatientId patientId);
 
+    /**
+     * Busca uma página das consultas agendadas ou confirmadas de um paciente,
+     * em ordem cronológica, continuando a partir de um cursor.
+     * 
+     * @param patientId ID do paciente
+     * @param after cursor retornado pela página anterior, ou null para a primeira página
+     * @param size tamanho da página
+     * @return consultas da página e cursor da próxima, se houver
+     */
+    AppointmentPage findPageByPatientId(PatientId patientId, AppointmentCursor after, int size);
+
     /**
      * Busca consultas por profissional.
      * 
@@ -65,6 +78,18 @@ public interface FindAppointmentQuery {
      */
     List<AppointmentView> findByDateRange(LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Busca uma página das consultas agendadas no período, em ordem
+     * cronológica, continuando a partir de um cursor.
+     * 
+     * @param startDate data inicial
+     * @param endDate data final
+     * @param after cursor retornado pela página anterior, ou null para a primeira página
+     * @param size tamanho da página
+     * @return consultas da página e cursor da próxima, se houver
+     */
+    AppointmentPage findPageByDateRange(LocalDate startDate, LocalDate endDate, AppointmentCursor after, int size);
+
     /**
      * Busca consultas por status.
      * 
@@ -82,6 +107,15 @@ public interface FindAppointmentQuery {
      */
     boolean isTimeSlotAvailable(ProfessionalId professionalId, AppointmentTime appointmentTime);
 
+    /**
+     * Lista os horários livres de um profissional em uma data.
+     * 
+     * @param professionalId ID do profissional
+     * @param date data desejada
+     * @return horários disponíveis, em ordem cronológica
+     */
+    List<AppointmentTime> findAvailableSlots(ProfessionalId professionalId, LocalDate date);
+
     /**
      * View otimizada para leitura de consultas.
      * 
@@ -140,4 +174,19 @@ public interface FindAppointmentQuery {
             return status == AppointmentStatus.SCHEDULED;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Página de consultas com o cursor para buscar a seguinte.
+     * 
+     * Os itens vêm da projeção de listagem, sem reconstruir o agregado.
+     * 
+     * @param appointments consultas da página, em ordem cronológica
+     * @param nextCursor cursor da próxima página, ou null se esta for a última
+     */
+    record AppointmentPage(List<AppointmentListItem> appointments, AppointmentCursor nextCursor) {
+
+        public boolean hasNext() {
+            return nextCursor != null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.clinicboard.business_service.application.port.in;
+
+import com.clinicboard.business_service.domain.model.AppointmentType;
+import com.clinicboard.business_service.domain.model.ProfessionalId;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Query para busca de horários livres em lote.
+ * 
+ * Atende perguntas como "qual o próximo horário livre de qualquer um destes
+ * profissionais nos próximos 14 dias" com uma única leitura das agendas,
+ * em vez de uma consulta por profissional e por dia.
+ */
+public interface FindAvailabilityQuery {
+
+    int MAX_PROFESSIONALS = 200;
+    int MAX_DAYS = 60;
+
+    /**
+     * Lista os horários livres dos profissionais no período, do mais cedo para o mais tarde.
+     * 
+     * Os resultados são produzidos sob demanda; limitar o stream evita
+     * calcular os dias seguintes.
+     * 
+     * @param request profissionais e período da busca
+     * @return horários livres em ordem cronológica
+     */
+    Stream<AvailableSlotView> findAvailableSlots(FindAvailabilityRequest request);
+
+    /**
+     * Request com os profissionais, o período da busca e, opcionalmente, o tipo de
+     * consulta pretendido (define quantos slots consecutivos livres são necessários;
+     * sem tipo, considera 30 minutos).
+     * A ordem dos profissionais define o desempate entre horários iguais.
+     */
+    record FindAvailabilityRequest(
+        List<ProfessionalId> professionalIds,
+        LocalDate startDate,
+        int days,
+        AppointmentType appointmentType
+    ) {
+        public FindAvailabilityRequest(List<ProfessionalId> professionalIds, LocalDate startDate, int days) {
+            this(professionalIds, startDate, days, null);
+        }
+
+
+        public FindAvailabilityRequest {
+            if (professionalIds == null || professionalIds.isEmpty()) {
+                throw new IllegalArgumentException("Informe ao menos um profissional");
+            }
+            if (professionalIds.size() > MAX_PROFESSIONALS) {
+                throw new IllegalArgumentException("Máximo de " + MAX_PROFESSIONALS + " profissionais por busca");
+            }
+            if (startDate == null) {
+                throw new IllegalArgumentException("Data inicial não pode ser nula");
+            }
+            if (days < 1 || days > MAX_DAYS) {
+                throw new IllegalArgumentException("Período deve ter entre 1 e " + MAX_DAYS + " dias");
+            }
+            professionalIds = List.copyOf(professionalIds);
+        }
+    }
+
+    /**
+     * Horário livre de um profissional.
+     */
+    record AvailableSlotView(
+        String professionalId,
+        LocalDateTime startTime
+    ) {}
+}
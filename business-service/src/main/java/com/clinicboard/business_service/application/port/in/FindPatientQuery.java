@@ -1,6 +1,8 @@
 package com.clinicboard.business_service.application.port.in;
 
+import com.clinicboard.business_service.domain.model.PatientCursor;
 import com.clinicboard.business_service.domain.model.PatientId;
+import com.clinicboard.business_service.domain.model.PatientListItem;
 import com.clinicboard.business_service.domain.model.PatientName;
 import com.clinicboard.business_service.domain.model.PatientStatus;
 import com.clinicboard.business_service.domain.model.Email;
@@ -40,12 +42,24 @@ public interface FindPatientQuery {
     Optional<PatientView> findByEmail(Email email);
 
     /**
-     * Busca pacientes por nome (busca parcial).
+     * Busca pacientes ativos por nome, ignorando acentos e maiúsculas,
+     * do mais parecido com o termo para o menos parecido.
      * 
      * @param name nome ou parte do nome
-     * @return lista de pacientes encontrados
+     * @param limit quantidade máxima de pacientes
+     * @return pacientes encontrados, vazio se o termo tiver menos de 3 caracteres
      */
-    List<PatientView> findByNameContaining(String name);
+    List<PatientView> searchByName(String name, int limit);
+
+    /**
+     * Sugere pacientes ativos enquanto o nome é digitado: cada palavra
+     * digitada é o início de uma palavra do nome.
+     * 
+     * @param prefix início do nome digitado
+     * @param limit quantidade máxima de sugestões
+     * @return pacientes sugeridos, vazio se o termo tiver menos de 2 caracteres
+     */
+    List<PatientView> autocompleteByName(String prefix, int limit);
 
     /**
      * Busca pacientes por status.
@@ -62,6 +76,16 @@ public interface FindPatientQuery {
      */
     List<PatientView> findActivePatients();
 
+    /**
+     * Busca uma página de pacientes ativos em ordem alfabética,
+     * continuando a partir de um cursor.
+     * 
+     * @param after cursor retornado pela página anterior, ou null para a primeira página
+     * @param size tamanho da página
+     * @return pacientes da página e cursor da próxima, se houver
+     */
+    PatientPage findPage(PatientCursor after, int size);
+
     /**
      * Verifica se um email já está em uso.
      * 
@@ -148,4 +172,19 @@ public interface FindPatientQuery {
             );
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Página de pacientes com o cursor para buscar a seguinte.
+     * 
+     * Os itens vêm da projeção de listagem, sem reconstruir o agregado.
+     * 
+     * @param patients pacientes da página, em ordem alfabética
+     * @param nextCursor cursor da próxima página, ou null se esta for a última
+     */
+    record PatientPage(List<PatientListItem> patients, PatientCursor nextCursor) {
+
+        public boolean hasNext() {
+            return nextCursor != null;
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.clinicboard.business_service.application.port.out;
 
+import com.clinicboard.business_service.domain.model.AgendaOccupancy;
 import com.clinicboard.business_service.domain.model.Appointment;
+import com.clinicboard.business_service.domain.model.AppointmentCursor;
 import com.clinicboard.business_service.domain.model.AppointmentId;
+import com.clinicboard.business_service.domain.model.AppointmentListItem;
 import com.clinicboard.business_service.domain.model.AppointmentTime;
 import com.clinicboard.business_service.domain.model.AppointmentStatus;
+import com.clinicboard.business_service.domain.model.AppointmentType;
+import com.clinicboard.business_service.domain.model.DailyAgenda;
 import com.clinicboard.business_service.domain.model.PatientId;
 import com.clinicboard.business_service.domain.model.ProfessionalId;
 
@@ -27,8 +32,15 @@ public interface AppointmentRepository {
     /**
      * Salva uma nova consulta ou atualiza uma existente.
      * 
+     * A persistência garante atomicamente que o profissional não tenha consultas
+     * ativas sobrepostas e que o paciente tenha no máximo uma consulta ativa por dia.
+     * 
      * @param appointment consulta a ser persistida
      * @return consulta persistida com ID gerado (se novo)
+     * @throws com.clinicboard.business_service.domain.exception.AppointmentConflictException
+     *         se o horário conflitar com outra consulta ativa do profissional
+     * @throws com.clinicboard.business_service.domain.exception.PatientBusinessRuleException
+     *         se o paciente já possuir consulta ativa na mesma data
      */
     Appointment save(Appointment appointment);
 
@@ -48,6 +60,19 @@ public interface AppointmentRepository {
      */
     List<Appointment> findByPatientId(PatientId patientId);
 
+    /**
+     * Busca uma página das consultas agendadas ou confirmadas de um paciente,
+     * ordenadas por (horário, ID), a partir de um cursor (keyset).
+     * 
+     * Leitura sem reconstrução de agregados: apenas as colunas da listagem.
+     * 
+     * @param patientId ID do paciente
+     * @param after cursor da última consulta da página anterior, ou null para a primeira página
+     * @param limit quantidade máxima de consultas
+     * @return consultas posteriores ao cursor, em ordem
+     */
+    List<AppointmentListItem> findByPatientIdAfter(PatientId patientId, AppointmentCursor after, int limit);
+
     /**
      * Busca consultas por profissional.
      * 
@@ -73,6 +98,20 @@ public interface AppointmentRepository {
      */
     List<Appointment> findByDateRange(LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Busca uma página das consultas agendadas no período, ordenadas por
+     * (horário, ID), a partir de um cursor (keyset).
+     * 
+     * Leitura sem reconstrução de agregados: apenas as colunas da listagem.
+     * 
+     * @param startDate data inicial
+     * @param endDate data final
+     * @param after cursor da última consulta da página anterior, ou null para a primeira página
+     * @param limit quantidade máxima de consultas
+     * @return consultas posteriores ao cursor, em ordem
+     */
+    List<AppointmentListItem> findByDateRangeAfter(LocalDate startDate, LocalDate endDate, AppointmentCursor after, int limit);
+
     /**
      * Busca consultas por intervalo de data/hora específico.
      * 
@@ -82,6 +121,24 @@ public interface AppointmentRepository {
      */
     List<Appointment> findByDateTimeRange(java.time.LocalDateTime startDateTime, java.time.LocalDateTime endDateTime);
 
+    /**
+     * Busca as consultas ativas relevantes para validar um novo agendamento:
+     * as do profissional e as do paciente na data informada.
+     *
+     * Evita carregar todos os agendamentos da clínica no período apenas
+     * para filtrá-los em memória.
+     *
+     * @param professionalId ID do profissional
+     * @param patientId ID do paciente
+     * @param date data do agendamento pretendido
+     * @return consultas ativas do profissional ou do paciente na data
+     */
+    List<Appointment> findActiveAppointmentsForScheduling(
+        ProfessionalId professionalId,
+        PatientId patientId,
+        LocalDate date
+    );
+
     /**
      * Busca consultas por status.
      * 
@@ -91,7 +148,8 @@ public interface AppointmentRepository {
     List<Appointment> findByStatus(AppointmentStatus status);
 
     /**
-     * Verifica se existe conflito de horário para um profissional.
+     * Verifica se existe conflito de horário para um profissional,
+     * considerando uma consulta de 30 minutos.
      * 
      * @param professionalId ID do profissional
      * @param appointmentTime horário desejado
@@ -100,16 +158,31 @@ public interface AppointmentRepository {
     boolean hasConflictingAppointment(ProfessionalId professionalId, AppointmentTime appointmentTime);
 
     /**
-     * Verifica se existe conflito de horário excluindo uma consulta específica.
+     * Verifica se existe conflito de horário para um profissional,
+     * considerando a duração do tipo de consulta pretendido e a de cada consulta já agendada.
+     * 
+     * @param professionalId ID do profissional
+     * @param appointmentTime horário desejado
+     * @param appointmentType tipo da consulta pretendida
+     * @return true se houver conflito
+     */
+    boolean hasConflictingAppointment(ProfessionalId professionalId, AppointmentTime appointmentTime,
+                                      AppointmentType appointmentType);
+
+    /**
+     * Verifica se existe conflito de horário excluindo uma consulta específica,
+     * considerando a duração do tipo da consulta verificada e a de cada consulta já agendada.
      * 
      * @param professionalId ID do profissional
      * @param appointmentTime horário desejado
+     * @param appointmentType tipo da consulta verificada
      * @param excludeAppointmentId ID da consulta a ser excluída da verificação
      * @return true se houver conflito
      */
     boolean hasConflictingAppointmentExcluding(
         ProfessionalId professionalId, 
         AppointmentTime appointmentTime, 
+        AppointmentType appointmentType,
         AppointmentId excludeAppointmentId
     );
 
@@ -125,6 +198,27 @@ public interface AppointmentRepository {
         LocalDate date
     );
 
+    /**
+     * Retorna os intervalos ocupados de um dia da agenda do profissional,
+     * com a duração de cada consulta ativa.
+     * 
+     * @param professionalId ID do profissional
+     * @param date data da agenda
+     * @return índice de intervalos das consultas ativas na data
+     */
+    DailyAgenda findDailyAgenda(ProfessionalId professionalId, LocalDate date);
+
+    /**
+     * Retorna a ocupação das agendas de vários profissionais em dias consecutivos,
+     * carregada com uma única consulta ao banco.
+     * 
+     * @param professionalIds IDs dos profissionais, na ordem desejada para desempates
+     * @param startDate primeiro dia do período
+     * @param days quantidade de dias do período
+     * @return slots ocupados por consultas ativas de cada profissional em cada dia
+     */
+    AgendaOccupancy findAgendaOccupancy(List<ProfessionalId> professionalIds, LocalDate startDate, int days);
+
     /**
      * Remove uma consulta do repositório.
      * 
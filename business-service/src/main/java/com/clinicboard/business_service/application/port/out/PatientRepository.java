@@ -1,8 +1,11 @@
 package com.clinicboard.business_service.application.port.out;
 
 import com.clinicboard.business_service.domain.model.Patient;
+import com.clinicboard.business_service.domain.model.PatientCursor;
 import com.clinicboard.business_service.domain.model.PatientId;
+import com.clinicboard.business_service.domain.model.PatientListItem;
 import com.clinicboard.business_service.domain.model.PatientStatus;
+import com.clinicboard.business_service.domain.model.PatientStatusCounts;
 import com.clinicboard.business_service.domain.model.ProfessionalId;
 import com.clinicboard.business_service.domain.model.Email;
 
@@ -47,12 +50,24 @@ public interface PatientRepository {
     Optional<Patient> findByEmail(Email email);
 
     /**
-     * Busca pacientes por nome (busca parcial, case-insensitive).
+     * Busca pacientes ativos cujo nome contém as palavras do termo, na ordem,
+     * ordenados por semelhança com o termo.
      * 
-     * @param name nome ou parte do nome
-     * @return lista de pacientes encontrados
+     * @param searchKey termo normalizado com PatientName.toSearchKey
+     * @param limit quantidade máxima de pacientes
+     * @return pacientes encontrados, do mais parecido para o menos parecido
      */
-    List<Patient> findByNameContaining(String name);
+    List<Patient> searchByName(String searchKey, int limit);
+
+    /**
+     * Busca pacientes ativos para autocomplete: cada palavra do termo é o
+     * início de uma palavra do nome, na ordem. Nomes que começam com o termo vêm primeiro.
+     * 
+     * @param searchKey termo normalizado com PatientName.toSearchKey
+     * @param limit quantidade máxima de pacientes
+     * @return pacientes encontrados
+     */
+    List<Patient> findByNamePrefix(String searchKey, int limit);
 
     /**
      * Busca pacientes por status.
@@ -141,13 +156,35 @@ public interface PatientRepository {
      */
     long countByProfessionalId(ProfessionalId professionalId);
 
+    /**
+     * Conta os pacientes de um profissional em cada status com uma única consulta agregada.
+     * 
+     * @param professionalId ID do profissional
+     * @return quantidade de pacientes do profissional por status
+     */
+    PatientStatusCounts countByStatusForProfessional(ProfessionalId professionalId);
+
 
     /**
-     * Busca todos os pacientes (com paginação).
+     * Busca uma página de pacientes ativos ordenados por (nome, ID),
+     * a partir de um cursor (keyset), com custo independente da posição da página.
      * 
-     * @param page número da página (zero-based)
-     * @param size tamanho da página
-     * @return lista paginada de pacientes
+     * Leitura sem reconstrução de agregados: apenas as colunas da listagem.
+     * 
+     * @param after cursor do último paciente da página anterior, ou null para a primeira página
+     * @param limit quantidade máxima de pacientes
+     * @return pacientes posteriores ao cursor, em ordem
+     */
+    List<PatientListItem> findPageAfter(PatientCursor after, int limit);
+
+    /**
+     * Lista os pacientes de um profissional com o status informado, em ordem alfabética.
+     * 
+     * Leitura sem reconstrução de agregados: apenas as colunas da listagem.
+     * 
+     * @param professionalId ID do profissional
+     * @param status status do paciente
+     * @return pacientes do profissional com o status especificado
      */
-    List<Patient> findAll(int page, int size);
+    List<PatientListItem> findListItemsByProfessionalIdAndStatus(ProfessionalId professionalId, PatientStatus status);
 }
@@ -7,6 +7,7 @@ import com.clinicboard.business_service.domain.model.Appointment;
 import com.clinicboard.business_service.domain.event.AppointmentCanceledEvent;
 import com.clinicboard.business_service.domain.exception.DomainException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 
@@ -35,7 +36,12 @@ public class CancelAppointmentUseCaseImpl implements CancelAppointmentCommand {
         this.eventPublisher = Objects.requireNonNull(eventPublisher, "EventPublisherGateway cannot be null");
     }
 
+    /**
+     * Gravação do cancelamento e registro dos eventos acontecem na mesma transação
+     * (outbox); a publicação no broker não faz parte da requisição.
+     */
     @Override
+    @Transactional
     public CancelAppointmentResponse cancelAppointment(CancelAppointmentRequest request) {
         // Validar entrada
         Objects.requireNonNull(request, "CancelAppointmentRequest cannot be null");
@@ -56,7 +62,7 @@ public class CancelAppointmentUseCaseImpl implements CancelAppointmentCommand {
             // 3. Persistir o agendamento cancelado
             Appointment savedAppointment = appointmentRepository.save(cancelledAppointment);
 
-            // 4. Publicar eventos de domínio criados pelo agregado
+            // 4. Registrar eventos de domínio criados pelo agregado (mesma transação do save)
             savedAppointment.getDomainEvents().forEach(event -> {
                 if (event instanceof AppointmentCanceledEvent cancelledEvent) {
                     eventPublisher.publishAppointmentCanceled(cancelledEvent);
@@ -3,6 +3,7 @@ package com.clinicboard.business_service.application.usecase;
 import com.clinicboard.business_service.application.port.in.FindAppointmentQuery;
 import com.clinicboard.business_service.application.port.out.AppointmentRepository;
 import com.clinicboard.business_service.domain.model.*;
+import com.clinicboard.business_service.domain.service.AvailabilityDomainService;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -25,10 +26,15 @@ import java.util.stream.Collectors;
 @Component
 public class FindAppointmentUseCaseImpl implements FindAppointmentQuery {
 
+    static final int MAX_PAGE_SIZE = 200;
+
     private final AppointmentRepository appointmentRepository;
+    private final AvailabilityDomainService availabilityDomainService;
 
-    public FindAppointmentUseCaseImpl(AppointmentRepository appointmentRepository) {
+    public FindAppointmentUseCaseImpl(AppointmentRepository appointmentRepository,
+                                      AvailabilityDomainService availabilityDomainService) {
         this.appointmentRepository = Objects.requireNonNull(appointmentRepository, "AppointmentRepository cannot be null");
+        this.availabilityDomainService = Objects.requireNonNull(availabilityDomainService, "AvailabilityDomainService cannot be null");
     }
 
     @Override
@@ -49,6 +55,14 @@ public class FindAppointmentUseCaseImpl implements FindAppointmentQuery {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public AppointmentPage findPageByPatientId(PatientId patientId, AppointmentCursor after, int size) {
+        Objects.requireNonNull(patientId, "PatientId cannot be null");
+        validatePageSize(size);
+        
+        return toAppointmentPage(appointmentRepository.findByPatientIdAfter(patientId, after, size + 1), size);
+    }
+
     @Override
     public List<AppointmentView> findByProfessionalId(ProfessionalId professionalId) {
         Objects.requireNonNull(professionalId, "ProfessionalId cannot be null");
@@ -84,6 +98,20 @@ public class FindAppointmentUseCaseImpl implements FindAppointmentQuery {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public AppointmentPage findPageByDateRange(LocalDate startDate, LocalDate endDate,
+                                               AppointmentCursor after, int size) {
+        Objects.requireNonNull(startDate, "Start date cannot be null");
+        Objects.requireNonNull(endDate, "End date cannot be null");
+        
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+        validatePageSize(size);
+        
+        return toAppointmentPage(appointmentRepository.findByDateRangeAfter(startDate, endDate, after, size + 1), size);
+    }
+
     @Override
     public List<AppointmentView> findByStatus(AppointmentStatus status) {
         Objects.requireNonNull(status, "Status cannot be null");
@@ -102,6 +130,35 @@ public class FindAppointmentUseCaseImpl implements FindAppointmentQuery {
         return !appointmentRepository.hasConflictingAppointment(professionalId, appointmentTime);
     }
 
+    @Override
+    public List<AppointmentTime> findAvailableSlots(ProfessionalId professionalId, LocalDate date) {
+        Objects.requireNonNull(professionalId, "ProfessionalId cannot be null");
+        Objects.requireNonNull(date, "Date cannot be null");
+        
+        DailySlotBitmap occupiedSlots = appointmentRepository.findDailyAgenda(professionalId, date).occupiedSlots();
+        return availabilityDomainService.generateAvailableSlots(date, occupiedSlots);
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Monta a página a partir de até size + 1 consultas: a linha extra só
+     * indica que existe próxima página, sem precisar de COUNT.
+     */
+    private AppointmentPage toAppointmentPage(List<AppointmentListItem> appointments, int size) {
+        boolean hasNext = appointments.size() > size;
+        List<AppointmentListItem> page = hasNext ? List.copyOf(appointments.subList(0, size)) : appointments;
+        
+        return new AppointmentPage(
+                page,
+                hasNext ? AppointmentCursor.after(page.get(size - 1)) : null
+        );
+    }
+
     /**
      * Converte um agregado Appointment para AppointmentView (read model).
      */
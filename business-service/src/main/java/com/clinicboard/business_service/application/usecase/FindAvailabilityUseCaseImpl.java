@@ -0,0 +1,47 @@
+package com.clinicboard.business_service.application.usecase;
+
+import com.clinicboard.business_service.application.port.in.FindAvailabilityQuery;
+import com.clinicboard.business_service.application.port.out.AppointmentRepository;
+import com.clinicboard.business_service.domain.model.AgendaOccupancy;
+import com.clinicboard.business_service.domain.model.AppointmentTime;
+import com.clinicboard.business_service.domain.service.AvailabilityDomainService;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Implementação da busca de horários livres em lote.
+ * 
+ * Carrega a ocupação de todos os profissionais e dias com uma única
+ * consulta ranged e delega ao Domain Service o cálculo dos horários
+ * livres por operações de bits.
+ */
+public class FindAvailabilityUseCaseImpl implements FindAvailabilityQuery {
+
+    private final AppointmentRepository appointmentRepository;
+    private final AvailabilityDomainService availabilityDomainService;
+
+    public FindAvailabilityUseCaseImpl(AppointmentRepository appointmentRepository,
+                                       AvailabilityDomainService availabilityDomainService) {
+        this.appointmentRepository = Objects.requireNonNull(appointmentRepository, "AppointmentRepository cannot be null");
+        this.availabilityDomainService = Objects.requireNonNull(availabilityDomainService, "AvailabilityDomainService cannot be null");
+    }
+
+    @Override
+    public Stream<AvailableSlotView> findAvailableSlots(FindAvailabilityRequest request) {
+        Objects.requireNonNull(request, "Request cannot be null");
+        
+        AgendaOccupancy occupancy = appointmentRepository.findAgendaOccupancy(
+                request.professionalIds(),
+                request.startDate(),
+                request.days()
+        );
+        
+        int durationMinutes = request.appointmentType() != null
+                ? request.appointmentType().getDefaultDurationMinutes()
+                : AppointmentTime.DEFAULT_DURATION_MINUTES;
+        
+        return availabilityDomainService.streamAvailableSlots(occupancy, durationMinutes)
+                .map(slot -> new AvailableSlotView(slot.professionalId().value(), slot.time().value()));
+    }
+}
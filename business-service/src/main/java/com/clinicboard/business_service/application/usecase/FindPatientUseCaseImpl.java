@@ -24,6 +24,11 @@ import java.util.stream.Collectors;
 @Component
 public class FindPatientUseCaseImpl implements FindPatientQuery {
 
+    static final int MAX_PAGE_SIZE = 200;
+    static final int MAX_SEARCH_RESULTS = 50;
+    static final int MIN_SEARCH_LENGTH = 3;
+    static final int MIN_AUTOCOMPLETE_LENGTH = 2;
+
     private final PatientRepository patientRepository;
 
     public FindPatientUseCaseImpl(PatientRepository patientRepository) {
@@ -47,14 +52,33 @@ public class FindPatientUseCaseImpl implements FindPatientQuery {
     }
 
     @Override
-    public List<PatientView> findByNameContaining(String name) {
+    public List<PatientView> searchByName(String name, int limit) {
         Objects.requireNonNull(name, "Name cannot be null");
+        validateSearchLimit(limit);
+        
+        // Com menos de 3 caracteres o termo não gera trigramas e a busca varreria o índice inteiro
+        String searchKey = PatientName.toSearchKey(name);
+        if (searchKey.length() < MIN_SEARCH_LENGTH) {
+            return List.of();
+        }
+        
+        return patientRepository.searchByName(searchKey, limit)
+                .stream()
+                .map(this::toPatientView)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<PatientView> autocompleteByName(String prefix, int limit) {
+        Objects.requireNonNull(prefix, "Prefix cannot be null");
+        validateSearchLimit(limit);
         
-        if (name.trim().isEmpty()) {
-            throw new IllegalArgumentException("Name cannot be empty");
+        String searchKey = PatientName.toSearchKey(prefix);
+        if (searchKey.length() < MIN_AUTOCOMPLETE_LENGTH) {
+            return List.of();
         }
         
-        return patientRepository.findByNameContaining(name)
+        return patientRepository.findByNamePrefix(searchKey, limit)
                 .stream()
                 .map(this::toPatientView)
                 .collect(Collectors.toList());
@@ -78,6 +102,23 @@ public class FindPatientUseCaseImpl implements FindPatientQuery {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public PatientPage findPage(PatientCursor after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        
+        // Uma linha a mais indica se existe próxima página sem precisar de COUNT
+        List<PatientListItem> patients = patientRepository.findPageAfter(after, size + 1);
+        boolean hasNext = patients.size() > size;
+        List<PatientListItem> page = hasNext ? List.copyOf(patients.subList(0, size)) : patients;
+        
+        return new PatientPage(
+                page,
+                hasNext ? PatientCursor.after(page.get(size - 1)) : null
+        );
+    }
+
     @Override
     public boolean isEmailInUse(Email email) {
         Objects.requireNonNull(email, "Email cannot be null");
@@ -93,6 +134,12 @@ public class FindPatientUseCaseImpl implements FindPatientQuery {
         return patientRepository.existsByEmailAndIdNot(email, excludePatientId);
     }
 
+    private void validateSearchLimit(int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+    }
+
     /**
      * Converte um agregado Patient para PatientView (read model).
      */
@@ -2,9 +2,10 @@ package com.clinicboard.business_service.application.usecase;
 
 import com.clinicboard.business_service.application.port.in.FindPatientsByProfessionalQuery;
 import com.clinicboard.business_service.application.port.out.PatientRepository;
-import com.clinicboard.business_service.domain.model.Patient;
+import com.clinicboard.business_service.domain.model.PatientListItem;
 import com.clinicboard.business_service.domain.model.ProfessionalId;
 import com.clinicboard.business_service.domain.model.PatientStatus;
+import com.clinicboard.business_service.domain.model.PatientStatusCounts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -36,10 +37,10 @@ public class FindPatientsByProfessionalQueryImpl implements FindPatientsByProfes
         
         try {
             ProfessionalId professionalId = ProfessionalId.of(request.professionalId());
-            List<Patient> patients = patientRepository.findByProfessionalId(professionalId);
+            List<PatientListItem> patients = patientRepository.findListItemsByProfessionalIdAndStatus(
+                    professionalId, PatientStatus.ACTIVE);
             
             List<PatientSummary> patientSummaries = patients.stream()
-                    .filter(Patient::isActive)
                     .map(this::toPatientSummary)
                     .toList();
             
@@ -71,7 +72,7 @@ public class FindPatientsByProfessionalQueryImpl implements FindPatientsByProfes
         
         try {
             ProfessionalId professionalId = ProfessionalId.of(request.professionalId());
-            List<Patient> patients = patientRepository.findByProfessionalIdAndStatus(
+            List<PatientListItem> patients = patientRepository.findListItemsByProfessionalIdAndStatus(
                     professionalId, request.status());
             
             List<PatientSummary> patientSummaries = patients.stream()
@@ -104,25 +105,14 @@ public class FindPatientsByProfessionalQueryImpl implements FindPatientsByProfes
         try {
             ProfessionalId professionalId = ProfessionalId.of(request.professionalId());
             
-            long totalActive = patientRepository.findByProfessionalIdAndStatus(
-                    professionalId, PatientStatus.ACTIVE).size();
-            long totalInactive = patientRepository.findByProfessionalIdAndStatus(
-                    professionalId, PatientStatus.INACTIVE).size();
-            long totalSuspended = patientRepository.findByProfessionalIdAndStatus(
-                    professionalId, PatientStatus.SUSPENDED).size();
-            long totalBlocked = patientRepository.findByProfessionalIdAndStatus(
-                    professionalId, PatientStatus.BLOCKED).size();
+            CountPatientsByProfessionalResponse response = toCountResponse(
+                    professionalId, patientRepository.countByStatusForProfessional(professionalId));
             
             log.info("Contagem de pacientes do profissional {}: Ativos={}, Inativos={}, Suspensos={}, Bloqueados={}", 
-                    request.professionalId(), totalActive, totalInactive, totalSuspended, totalBlocked);
+                    request.professionalId(), response.totalActive(), response.totalInactive(),
+                    response.totalSuspended(), response.totalBlocked());
             
-            return new CountPatientsByProfessionalResponse(
-                    request.professionalId(),
-                    totalActive,
-                    totalInactive,
-                    totalSuspended,
-                    totalBlocked
-            );
+            return response;
             
         } catch (Exception e) {
             log.error("Erro ao contar pacientes do profissional {}: {}", 
@@ -131,15 +121,25 @@ public class FindPatientsByProfessionalQueryImpl implements FindPatientsByProfes
         }
     }
 
-    private PatientSummary toPatientSummary(Patient patient) {
+    private CountPatientsByProfessionalResponse toCountResponse(ProfessionalId professionalId, PatientStatusCounts counts) {
+        return new CountPatientsByProfessionalResponse(
+                professionalId.value(),
+                counts.count(PatientStatus.ACTIVE),
+                counts.count(PatientStatus.INACTIVE),
+                counts.count(PatientStatus.SUSPENDED),
+                counts.count(PatientStatus.BLOCKED)
+        );
+    }
+
+    private PatientSummary toPatientSummary(PatientListItem patient) {
         return new PatientSummary(
-                patient.getId() != null ? patient.getId().value() : null,
-                patient.getName(),
-                patient.getEmail().value(),
-                patient.getContact().value(),
-                patient.getStatus(),
-                patient.getCreatedAt() != null ? patient.getCreatedAt().format(DATE_FORMATTER) : null,
-                patient.getUpdatedAt() != null ? patient.getUpdatedAt().format(DATE_FORMATTER) : null
+                patient.patientId(),
+                patient.name(),
+                patient.email(),
+                patient.contactDetails(),
+                patient.status(),
+                patient.createdAt() != null ? patient.createdAt().format(DATE_FORMATTER) : null,
+                patient.updatedAt() != null ? patient.updatedAt().format(DATE_FORMATTER) : null
         );
     }
 }
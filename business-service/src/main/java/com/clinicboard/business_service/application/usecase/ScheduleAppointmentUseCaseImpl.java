@@ -13,9 +13,10 @@ import com.clinicboard.business_service.domain.exception.AppointmentConflictExce
 import com.clinicboard.business_service.domain.exception.InvalidTimeSlotException;
 import com.clinicboard.business_service.domain.service.AvailabilityDomainService;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Objects;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Implementação do caso de uso de agendamento de consultas.
@@ -48,7 +49,12 @@ public class ScheduleAppointmentUseCaseImpl implements ScheduleAppointmentComman
         this.availabilityDomainService = Objects.requireNonNull(availabilityDomainService, "AvailabilityDomainService cannot be null");
     }
 
+    /**
+     * Gravação do agendamento e registro dos eventos acontecem na mesma transação
+     * (outbox); a publicação no broker não faz parte da requisição.
+     */
     @Override
+    @Transactional
     public ScheduleAppointmentResponse scheduleAppointment(ScheduleAppointmentRequest request) {
         // Validar entrada
         Objects.requireNonNull(request, "ScheduleAppointmentRequest cannot be null");
@@ -58,14 +64,18 @@ public class ScheduleAppointmentUseCaseImpl implements ScheduleAppointmentComman
             Patient patient = patientRepository.findById(request.patientId())
                     .orElseThrow(() -> new PatientBusinessRuleException("Patient not found with ID: " + request.patientId().value()));
 
-            // 2. Buscar agendamentos existentes para validação de regras de negócio
+            // 2. Buscar apenas os agendamentos do profissional e do paciente na data pretendida
+            // (índices (professional_id, scheduled_time) e (patient_id, scheduled_time))
             List<Appointment> existingAppointments = appointmentRepository
-                    .findByDateTimeRange(
-                            request.appointmentTime().value().minusHours(12),
-                            request.appointmentTime().value().plusHours(12)
+                    .findActiveAppointmentsForScheduling(
+                            request.professionalId(),
+                            request.patientId(),
+                            request.appointmentTime().value().toLocalDate()
                     );
 
-            // 3. Validar regras de negócio através do Domain Service
+            // 3. Validar regras de negócio através do Domain Service. A pré-leitura
+            // rejeita cedo os conflitos comuns; as constraints do banco verificadas
+            // no save (passo 5) cobrem a corrida entre duas requisições simultâneas.
             availabilityDomainService.validateAppointmentCreation(
                     request.patientId(),
                     request.professionalId(),
@@ -83,10 +93,10 @@ public class ScheduleAppointmentUseCaseImpl implements ScheduleAppointmentComman
                     request.appointmentType()
             );
 
-            // 5. Persistir o agendamento
+            // 5. Persistir o agendamento (pode lançar AppointmentConflictException / PatientBusinessRuleException)
             Appointment savedAppointment = appointmentRepository.save(appointment);
 
-            // 6. Publicar evento de domínio - usar os eventos já criados pelo agregado
+            // 6. Registrar eventos de domínio criados pelo agregado (mesma transação do save)
             savedAppointment.getDomainEvents().forEach(event -> {
                 if (event instanceof AppointmentScheduledEvent scheduledEvent) {
                     eventPublisher.publishAppointmentScheduled(scheduledEvent);
@@ -0,0 +1,109 @@
+package com.clinicboard.business_service.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Ocupação das agendas de vários profissionais em dias consecutivos.
+ *
+ * Armazena um mapa de bits de 30 minutos (ver DailySlotBitmap) por
+ * (profissional, dia) em um único {@code long[]}, indexado por
+ * {@code profissional * dias + dia}, para que buscas de disponibilidade
+ * em lote percorram os dados de forma sequencial.
+ *
+ * Instâncias são construídas pelo Builder e não mudam depois de criadas.
+ */
+public final class AgendaOccupancy {
+
+    private final List<ProfessionalId> professionals;
+    private final LocalDate startDate;
+    private final int days;
+    private final long[] occupiedSlots;
+
+    private AgendaOccupancy(List<ProfessionalId> professionals, LocalDate startDate, int days, long[] occupiedSlots) {
+        this.professionals = professionals;
+        this.startDate = startDate;
+        this.days = days;
+        this.occupiedSlots = occupiedSlots;
+    }
+
+    public static Builder builder(List<ProfessionalId> professionals, LocalDate startDate, int days) {
+        return new Builder(professionals, startDate, days);
+    }
+
+    public List<ProfessionalId> professionals() {
+        return professionals;
+    }
+
+    public LocalDate startDate() {
+        return startDate;
+    }
+
+    public int days() {
+        return days;
+    }
+
+    /**
+     * Slots ocupados de um profissional em um dia do período.
+     *
+     * @param professionalIndex posição do profissional em {@link #professionals()}
+     * @param dayOffset dias a partir de {@link #startDate()}
+     */
+    public long occupiedSlots(int professionalIndex, int dayOffset) {
+        return occupiedSlots[professionalIndex * days + dayOffset];
+    }
+
+    /**
+     * Acumula a ocupação registrando consultas ativas; consultas de
+     * profissionais ou datas fora do período são ignoradas.
+     */
+    public static final class Builder {
+
+        private final List<ProfessionalId> professionals;
+        private final Map<ProfessionalId, Integer> indexes;
+        private final LocalDate startDate;
+        private final int days;
+        private long[] occupiedSlots;
+
+        private Builder(List<ProfessionalId> professionals, LocalDate startDate, int days) {
+            Objects.requireNonNull(professionals, "Lista de profissionais não pode ser nula");
+            Objects.requireNonNull(startDate, "Data inicial não pode ser nula");
+            if (days <= 0) {
+                throw new IllegalArgumentException("Período deve ter ao menos um dia");
+            }
+            this.professionals = List.copyOf(professionals);
+            this.indexes = new HashMap<>(this.professionals.size() * 2);
+            for (int i = 0; i < this.professionals.size(); i++) {
+                this.indexes.putIfAbsent(this.professionals.get(i), i);
+            }
+            this.startDate = startDate;
+            this.days = days;
+            this.occupiedSlots = new long[Math.multiplyExact(this.professionals.size(), days)];
+        }
+
+        public Builder occupy(ProfessionalId professionalId, LocalDateTime start, int durationMinutes) {
+            Integer professionalIndex = indexes.get(professionalId);
+            long dayOffset = ChronoUnit.DAYS.between(startDate, start.toLocalDate());
+            if (professionalIndex == null || dayOffset < 0 || dayOffset >= days) {
+                return this;
+            }
+            occupiedSlots[professionalIndex * days + (int) dayOffset] |=
+                DailySlotBitmap.maskFor(start.toLocalTime(), durationMinutes);
+            return this;
+        }
+
+        public AgendaOccupancy build() {
+            long[] slots = occupiedSlots;
+            occupiedSlots = null;
+            if (slots == null) {
+                throw new IllegalStateException("Builder já utilizado");
+            }
+            return new AgendaOccupancy(professionals, startDate, days, slots);
+        }
+    }
+}
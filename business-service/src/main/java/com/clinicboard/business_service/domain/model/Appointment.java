@@ -266,7 +266,30 @@ public class Appointment {
             return false;
         }
 
-        return this.scheduledTime.conflictsWith(other.scheduledTime);
+        return this.scheduledTime.conflictsWith(
+            other.scheduledTime, this.getDurationMinutes(), other.getDurationMinutes());
+    }
+
+    /**
+     * Método de negócio: Verifica se o agendamento ocupa parte do intervalo
+     * [start, start + durationMinutes)
+     */
+    public boolean overlaps(AppointmentTime start, int durationMinutes) {
+        return this.scheduledTime.conflictsWith(start, this.getDurationMinutes(), durationMinutes);
+    }
+
+    /**
+     * Duração do agendamento, definida pelo tipo
+     */
+    public int getDurationMinutes() {
+        return type.getDefaultDurationMinutes();
+    }
+
+    /**
+     * Horário de término previsto do agendamento
+     */
+    public LocalDateTime getEndTime() {
+        return scheduledTime.value().plusMinutes(getDurationMinutes());
     }
 
     /**
@@ -0,0 +1,25 @@
+package com.clinicboard.business_service.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Posição em uma listagem de consultas ordenada por (horário, ID).
+ *
+ * O ID desempata consultas no mesmo horário, de modo que nenhuma consulta
+ * seja repetida ou pulada entre páginas.
+ */
+public record AppointmentCursor(LocalDateTime scheduledTime, AppointmentId appointmentId) {
+
+    public AppointmentCursor {
+        Objects.requireNonNull(scheduledTime, "Horário do cursor não pode ser nulo");
+        Objects.requireNonNull(appointmentId, "AppointmentId do cursor não pode ser nulo");
+    }
+
+    /**
+     * Cursor posicionado logo após a consulta informada.
+     */
+    public static AppointmentCursor after(AppointmentListItem appointment) {
+        return new AppointmentCursor(appointment.scheduledTime(), AppointmentId.of(appointment.appointmentId()));
+    }
+}
@@ -1,7 +1,6 @@
 package com.clinicboard.business_service.domain.model;
 
 import com.clinicboard.business_service.domain.exception.DomainException;
-import java.util.regex.Pattern;
 
 /**
  * Value Object que representa o identificador único de um agendamento.
@@ -14,11 +13,6 @@ import java.util.regex.Pattern;
  */
 public record AppointmentId(String value) {
     
-    private static final Pattern UUID_PATTERN = Pattern.compile(
-        "^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$",
-        Pattern.CASE_INSENSITIVE
-    );
-
     public AppointmentId {
         validateAppointmentId(value);
     }
@@ -32,7 +26,7 @@ public record AppointmentId(String value) {
             throw new InvalidAppointmentIdException("ID do agendamento não pode ser vazio");
         }
         
-        if (!UUID_PATTERN.matcher(value).matches()) {
+        if (!UuidFormat.isValid(value)) {
             throw new InvalidAppointmentIdException(
                 "ID do agendamento deve estar no formato UUID válido: " + value
             );
@@ -0,0 +1,20 @@
+package com.clinicboard.business_service.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha de uma listagem de consultas, lida do banco apenas com as colunas exibidas.
+ *
+ * Diferente do agregado Appointment, não revalida IDs e horário a cada
+ * leitura (AppointmentTime rejeitaria horários já passados) nem carrega
+ * observações e colunas de auditoria. Serve apenas para leitura.
+ */
+public record AppointmentListItem(
+    String appointmentId,
+    String patientId,
+    String professionalId,
+    LocalDateTime scheduledTime,
+    AppointmentType type,
+    AppointmentStatus status
+) {
+}
@@ -19,6 +19,10 @@ public record AppointmentTime(LocalDateTime value) {
     
     private static final LocalTime BUSINESS_START = LocalTime.of(8, 0);
     private static final LocalTime BUSINESS_END = LocalTime.of(18, 0);
+    /**
+     * Duração assumida quando o tipo da consulta não é conhecido.
+     */
+    public static final int DEFAULT_DURATION_MINUTES = 30;
 
     public AppointmentTime {
         validateAppointmentTime(value);
@@ -75,13 +79,20 @@ public record AppointmentTime(LocalDateTime value) {
      * Considera uma consulta de 30 minutos
      */
     public boolean conflictsWith(AppointmentTime other) {
+        return conflictsWith(other, DEFAULT_DURATION_MINUTES, DEFAULT_DURATION_MINUTES);
+    }
+
+    /**
+     * Verifica se há conflito temporal considerando a duração de cada agendamento
+     */
+    public boolean conflictsWith(AppointmentTime other, int durationMinutes, int otherDurationMinutes) {
         if (other == null) return false;
         
         LocalDateTime thisStart = this.value;
-        LocalDateTime thisEnd = thisStart.plusMinutes(30);
+        LocalDateTime thisEnd = thisStart.plusMinutes(durationMinutes);
         
         LocalDateTime otherStart = other.value;
-        LocalDateTime otherEnd = otherStart.plusMinutes(30);
+        LocalDateTime otherEnd = otherStart.plusMinutes(otherDurationMinutes);
         
         // Há conflito se há sobreposição entre os intervalos
         return thisStart.isBefore(otherEnd) && thisEnd.isAfter(otherStart);
@@ -1,5 +1,7 @@
 package com.clinicboard.business_service.domain.model;
 
+import java.util.Arrays;
+
 /**
  * Value Object que representa o tipo de agendamento no contexto clínico.
  * 
@@ -19,6 +21,11 @@ public enum AppointmentType {
     private final String description;
     private final int defaultDurationMinutes;
 
+    private static final int MAX_DURATION_MINUTES = Arrays.stream(values())
+        .mapToInt(AppointmentType::getDefaultDurationMinutes)
+        .max()
+        .orElse(0);
+
     AppointmentType(String displayName, String description, int defaultDurationMinutes) {
         this.displayName = displayName;
         this.description = description;
@@ -37,6 +44,13 @@ public enum AppointmentType {
         return defaultDurationMinutes;
     }
 
+    /**
+     * Maior duração entre todos os tipos; limita a janela de busca por sobreposições
+     */
+    public static int maxDurationMinutes() {
+        return MAX_DURATION_MINUTES;
+    }
+
     /**
      * Verifica se é um tipo que requer preparação especial
      */
@@ -0,0 +1,174 @@
+package com.clinicboard.business_service.domain.model;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * Índice de intervalos das consultas ativas de um profissional em um dia.
+ *
+ * Mantém os intervalos [início, fim) em minutos do dia, ordenados pelo início,
+ * em arrays paralelos. Como os intervalos têm durações variáveis (ver
+ * AppointmentType.getDefaultDurationMinutes), a busca por sobreposição usa a
+ * maior duração do dia como limite: apenas intervalos que começam em
+ * (início - maiorDuração, fim) podem se sobrepor, e esse trecho é localizado
+ * por busca binária. Consultas de sobreposição custam O(log n + k).
+ *
+ * Também mantém o mapa de bits de 30 minutos equivalente, usado pelas
+ * buscas de disponibilidade.
+ *
+ * Instâncias são imutáveis; {@link #with(LocalTime, int)} retorna uma cópia.
+ */
+public final class DailyAgenda {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    public static final DailyAgenda EMPTY = new DailyAgenda(new int[0], new int[0], 0, DailySlotBitmap.EMPTY);
+
+    private final int[] starts;
+    private final int[] ends;
+    private final int maxDuration;
+    private final DailySlotBitmap occupiedSlots;
+
+    private DailyAgenda(int[] starts, int[] ends, int maxDuration, DailySlotBitmap occupiedSlots) {
+        this.starts = starts;
+        this.ends = ends;
+        this.maxDuration = maxDuration;
+        this.occupiedSlots = occupiedSlots;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retorna uma nova agenda com o intervalo [start, start + durationMinutes) incluído.
+     */
+    public DailyAgenda with(LocalTime start, int durationMinutes) {
+        int startMinute = minuteOfDay(start);
+        int endMinute = endMinute(startMinute, durationMinutes);
+        int position = insertionPoint(startMinute);
+
+        int[] newStarts = new int[starts.length + 1];
+        int[] newEnds = new int[ends.length + 1];
+        System.arraycopy(starts, 0, newStarts, 0, position);
+        System.arraycopy(ends, 0, newEnds, 0, position);
+        newStarts[position] = startMinute;
+        newEnds[position] = endMinute;
+        System.arraycopy(starts, position, newStarts, position + 1, starts.length - position);
+        System.arraycopy(ends, position, newEnds, position + 1, ends.length - position);
+
+        return new DailyAgenda(
+            newStarts,
+            newEnds,
+            Math.max(maxDuration, endMinute - startMinute),
+            occupiedSlots.occupy(start, durationMinutes)
+        );
+    }
+
+    /**
+     * Verifica se algum intervalo da agenda se sobrepõe a [start, start + durationMinutes).
+     */
+    public boolean overlaps(LocalTime start, int durationMinutes) {
+        return countOverlapping(start, durationMinutes, 1) > 0;
+    }
+
+    /**
+     * Quantidade de intervalos que se sobrepõem a [start, start + durationMinutes).
+     */
+    public int countOverlapping(LocalTime start, int durationMinutes) {
+        return countOverlapping(start, durationMinutes, Integer.MAX_VALUE);
+    }
+
+    public DailySlotBitmap occupiedSlots() {
+        return occupiedSlots;
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    private int countOverlapping(LocalTime start, int durationMinutes, int stopAt) {
+        if (durationMinutes <= 0 || starts.length == 0) {
+            return 0;
+        }
+        int queryStart = minuteOfDay(start);
+        int queryEnd = endMinute(queryStart, durationMinutes);
+
+        // Intervalos que começam em ou antes de (queryStart - maxDuration) terminam até queryStart
+        int count = 0;
+        for (int i = insertionPoint(queryStart - maxDuration + 1); i < starts.length && starts[i] < queryEnd; i++) {
+            if (ends[i] > queryStart && ++count >= stopAt) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Primeira posição cujo início é maior ou igual a {@code minute}.
+     */
+    private int insertionPoint(int minute) {
+        int low = 0;
+        int high = starts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < minute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+
+    private static int endMinute(int startMinute, int durationMinutes) {
+        return Math.min(startMinute + Math.max(durationMinutes, 0), MINUTES_PER_DAY);
+    }
+
+    /**
+     * Acumula intervalos em qualquer ordem e ordena uma única vez ao construir.
+     */
+    public static final class Builder {
+
+        private long[] packed = new long[8];
+        private int size;
+        private long occupiedBits;
+
+        private Builder() {
+        }
+
+        public Builder add(LocalTime start, int durationMinutes) {
+            int startMinute = minuteOfDay(start);
+            int endMinute = endMinute(startMinute, durationMinutes);
+            if (size == packed.length) {
+                packed = Arrays.copyOf(packed, size * 2);
+            }
+            // início nos bits altos para que a ordenação numérica siga o início
+            packed[size++] = ((long) startMinute << 32) | endMinute;
+            occupiedBits |= DailySlotBitmap.maskFor(start, durationMinutes);
+            return this;
+        }
+
+        public DailyAgenda build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            long[] sorted = Arrays.copyOf(packed, size);
+            Arrays.sort(sorted);
+
+            int[] starts = new int[size];
+            int[] ends = new int[size];
+            int maxDuration = 0;
+            for (int i = 0; i < size; i++) {
+                starts[i] = (int) (sorted[i] >>> 32);
+                ends[i] = (int) sorted[i];
+                maxDuration = Math.max(maxDuration, ends[i] - starts[i]);
+            }
+            return new DailyAgenda(starts, ends, maxDuration, new DailySlotBitmap(occupiedBits));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.clinicboard.business_service.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+
+/**
+ * Value Object que representa a ocupação de um dia da agenda de um profissional
+ * como um mapa de bits de slots de 30 minutos.
+ *
+ * O bit {@code i} corresponde ao intervalo [i * 30min, (i + 1) * 30min) do dia
+ * e fica ligado quando alguma consulta ativa se sobrepõe a esse intervalo.
+ * Um dia possui 48 slots, o que cabe em um único {@code long}; verificações de
+ * disponibilidade e conflito tornam-se operações de bits.
+ *
+ * Cada consulta ocupa os slots cobertos pela duração do seu tipo
+ * (AppointmentType.getDefaultDurationMinutes). Para consultas fora da grade
+ * de 30 minutos a ocupação é conservadora; DailyAgenda responde sobreposições exatas.
+ */
+public record DailySlotBitmap(long occupiedSlots) {
+
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    /**
+     * Duração assumida quando o tipo do agendamento pretendido não é informado.
+     */
+    public static final int APPOINTMENT_MINUTES = 30;
+
+    private static final long DAY_MASK = (1L << SLOTS_PER_DAY) - 1;
+
+    public static final DailySlotBitmap EMPTY = new DailySlotBitmap(0L);
+
+    public DailySlotBitmap {
+        if ((occupiedSlots & ~DAY_MASK) != 0) {
+            throw new IllegalArgumentException("Mapa de slots possui bits fora do dia: " + Long.toHexString(occupiedSlots));
+        }
+    }
+
+    /**
+     * Constrói o mapa do dia a partir das consultas ativas que caem na data informada.
+     * Consultas de outras datas ou inativas são ignoradas.
+     */
+    public static DailySlotBitmap of(LocalDate date, Collection<Appointment> appointments) {
+        long bits = 0L;
+        for (Appointment appointment : appointments) {
+            if (!appointment.isActive()) {
+                continue;
+            }
+            LocalDateTime start = appointment.getScheduledTime().value();
+            if (start.toLocalDate().equals(date)) {
+                bits |= maskFor(start.toLocalTime(), appointment.getDurationMinutes());
+            }
+        }
+        return new DailySlotBitmap(bits);
+    }
+
+    /**
+     * Máscara dos slots que se sobrepõem a [start, start + durationMinutes),
+     * limitada ao fim do dia.
+     */
+    public static long maskFor(LocalTime start, int durationMinutes) {
+        if (durationMinutes <= 0) {
+            return 0L;
+        }
+        int startMinute = start.toSecondOfDay() / 60;
+        int endMinute = Math.min(startMinute + durationMinutes, 24 * 60);
+        int firstSlot = startMinute / SLOT_MINUTES;
+        int lastSlot = (endMinute - 1) / SLOT_MINUTES;
+        return rangeMask(firstSlot, lastSlot);
+    }
+
+    /**
+     * Máscara dos slots que começam em [from, to], para restringir a busca a uma janela do dia.
+     */
+    public static long windowMask(LocalTime from, LocalTime to) {
+        int firstSlot = (from.toSecondOfDay() / 60 + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        int lastSlot = to.toSecondOfDay() / 60 / SLOT_MINUTES;
+        return firstSlot > lastSlot ? 0L : rangeMask(firstSlot, lastSlot);
+    }
+
+    /**
+     * Máscara dos slots que começam estritamente depois do horário informado.
+     */
+    public static long slotsStartingAfter(LocalTime time) {
+        int firstSlot = time.toSecondOfDay() / (SLOT_MINUTES * 60) + 1;
+        return firstSlot >= SLOTS_PER_DAY ? 0L : DAY_MASK & ~((1L << firstSlot) - 1);
+    }
+
+    /**
+     * Horário de início de um slot.
+     */
+    public static LocalTime slotStart(int slot) {
+        return LocalTime.ofSecondOfDay((long) slot * SLOT_MINUTES * 60);
+    }
+
+    /**
+     * Indica se o início informado coincide com o início de um slot.
+     */
+    public static boolean isAligned(LocalTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0 && time.getMinute() % SLOT_MINUTES == 0;
+    }
+
+    /**
+     * Retorna um novo mapa com o intervalo [start, start + durationMinutes) ocupado.
+     */
+    public DailySlotBitmap occupy(LocalTime start, int durationMinutes) {
+        long bits = occupiedSlots | maskFor(start, durationMinutes);
+        return bits == occupiedSlots ? this : new DailySlotBitmap(bits);
+    }
+
+    /**
+     * Verifica se nenhum slot que se sobrepõe a [start, start + durationMinutes) está ocupado.
+     * Para inícios fora da grade de 30 minutos o resultado é conservador.
+     */
+    public boolean isFree(LocalTime start, int durationMinutes) {
+        return (occupiedSlots & maskFor(start, durationMinutes)) == 0;
+    }
+
+    /**
+     * Slots livres dentro da máscara informada.
+     */
+    public long freeSlots(long windowMask) {
+        return ~occupiedSlots & windowMask & DAY_MASK;
+    }
+
+    /**
+     * Inícios de slot dentro da máscara a partir dos quais há slots livres
+     * consecutivos suficientes para a duração informada.
+     */
+    public long freeStarts(long windowMask, int durationMinutes) {
+        return freeStarts(occupiedSlots, windowMask, durationMinutes);
+    }
+
+    /**
+     * Versão sobre a palavra de bits, para varreduras em lote: intersecta a
+     * palavra de slots livres com ela mesma deslocada uma vez por slot adicional.
+     */
+    public static long freeStarts(long occupiedSlots, long windowMask, int durationMinutes) {
+        long free = ~occupiedSlots;
+        long starts = free;
+        int slots = Math.max(1, (durationMinutes + SLOT_MINUTES - 1) / SLOT_MINUTES);
+        for (int i = 1; i < slots; i++) {
+            starts &= free >>> i;
+        }
+        return starts & windowMask & DAY_MASK;
+    }
+
+    public int occupiedCount() {
+        return Long.bitCount(occupiedSlots);
+    }
+
+    private static long rangeMask(int firstSlot, int lastSlot) {
+        long upTo = lastSlot >= 63 ? -1L : (1L << (lastSlot + 1)) - 1;
+        return upTo & ~((1L << firstSlot) - 1);
+    }
+}
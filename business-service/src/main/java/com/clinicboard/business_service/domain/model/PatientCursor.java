@@ -0,0 +1,25 @@
+package com.clinicboard.business_service.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Posição na listagem de pacientes ordenada por (nome, ID).
+ *
+ * A próxima página começa no primeiro paciente estritamente depois desta
+ * posição, o que permite ao banco descer direto pelo índice em vez de
+ * descartar as linhas das páginas anteriores (OFFSET).
+ */
+public record PatientCursor(String name, PatientId patientId) {
+
+    public PatientCursor {
+        Objects.requireNonNull(name, "Nome do cursor não pode ser nulo");
+        Objects.requireNonNull(patientId, "PatientId do cursor não pode ser nulo");
+    }
+
+    /**
+     * Cursor posicionado logo após o paciente informado.
+     */
+    public static PatientCursor after(PatientListItem patient) {
+        return new PatientCursor(patient.name(), PatientId.of(patient.patientId()));
+    }
+}
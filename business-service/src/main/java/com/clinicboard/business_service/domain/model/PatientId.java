@@ -1,7 +1,6 @@
 package com.clinicboard.business_service.domain.model;
 
 import com.clinicboard.business_service.domain.exception.DomainException;
-import java.util.regex.Pattern;
 
 /**
  * Value Object que representa o identificador único de um paciente.
@@ -10,11 +9,6 @@ import java.util.regex.Pattern;
  */
 public record PatientId(String value) {
     
-    private static final Pattern UUID_PATTERN = Pattern.compile(
-        "^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$",
-        Pattern.CASE_INSENSITIVE
-    );
-
     public PatientId {
         validatePatientId(value);
     }
@@ -28,7 +22,7 @@ public record PatientId(String value) {
             throw new InvalidPatientIdException("ID do paciente não pode ser vazio");
         }
         
-        if (!UUID_PATTERN.matcher(value).matches()) {
+        if (!UuidFormat.isValid(value)) {
             throw new InvalidPatientIdException(
                 "ID do paciente deve estar no formato UUID válido: " + value
             );
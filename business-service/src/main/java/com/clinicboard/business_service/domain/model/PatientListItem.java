@@ -0,0 +1,21 @@
+package com.clinicboard.business_service.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha de uma listagem de pacientes, lida do banco apenas com as colunas exibidas.
+ *
+ * Diferente do agregado Patient, não revalida ID, nome e contato a cada
+ * leitura: os valores já foram validados quando o paciente foi gravado.
+ * Serve apenas para leitura; alterações passam sempre pelo agregado.
+ */
+public record PatientListItem(
+    String patientId,
+    String name,
+    String email,
+    String contactDetails,
+    PatientStatus status,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+}
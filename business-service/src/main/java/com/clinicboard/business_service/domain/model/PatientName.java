@@ -1,6 +1,8 @@
 package com.clinicboard.business_service.domain.model;
 
 import com.clinicboard.business_service.domain.exception.DomainException;
+import java.text.Normalizer;
+import java.util.Locale;
 import java.util.regex.Pattern;
 
 /**
@@ -15,6 +17,8 @@ public record PatientName(String value) {
     private static final Pattern VALID_NAME_PATTERN = Pattern.compile(
         "^[a-zA-ZÀ-ÿ\\s'.-]+$"
     );
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
 
     public PatientName {
         validatePatientName(value);
@@ -114,6 +118,26 @@ public record PatientName(String value) {
         return words.length > 1 ? words[words.length - 1] : words.length > 0 ? words[0] : "";
     }
 
+    /**
+     * Retorna a chave de busca do nome: minúsculas, sem acentos e com
+     * pontuação e espaços repetidos reduzidos a um espaço ("D'Ávila" → "d avila").
+     */
+    public String getSearchKey() {
+        return toSearchKey(value);
+    }
+
+    /**
+     * Normaliza um texto da mesma forma que getSearchKey, para que o termo
+     * digitado na busca seja comparável à chave armazenada.
+     */
+    public static String toSearchKey(String text) {
+        if (text == null) {
+            return "";
+        }
+        String withoutAccents = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
     /**
      * Exceção específica para violações de nome de paciente
      */
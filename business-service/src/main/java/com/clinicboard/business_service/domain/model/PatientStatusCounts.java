@@ -0,0 +1,35 @@
+package com.clinicboard.business_service.domain.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Quantidade de pacientes em cada status, obtida com uma única agregação.
+ *
+ * Status sem pacientes não precisam constar do mapa: count devolve zero.
+ */
+public record PatientStatusCounts(Map<PatientStatus, Long> counts) {
+
+    private static final PatientStatusCounts EMPTY = new PatientStatusCounts(Map.of());
+
+    public PatientStatusCounts {
+        Objects.requireNonNull(counts, "Contagens não podem ser nulas");
+        EnumMap<PatientStatus, Long> copy = new EnumMap<>(PatientStatus.class);
+        copy.putAll(counts);
+        counts = Collections.unmodifiableMap(copy);
+    }
+
+    public static PatientStatusCounts empty() {
+        return EMPTY;
+    }
+
+    public long count(PatientStatus status) {
+        return counts.getOrDefault(status, 0L);
+    }
+
+    public long total() {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -1,19 +1,22 @@
 package com.clinicboard.business_service.domain.model;
 
 import com.clinicboard.business_service.domain.exception.DomainException;
-import java.util.regex.Pattern;
 
 /**
  * Value Object que representa o identificador único de um profissional de saúde.
  * 
  * Valida e encapsula regras específicas para identificação de profissionais.
+ *
+ * Uma clínica tem poucos profissionais e o mesmo ID se repete em quase toda
+ * linha lida (pacientes, consultas). {@link #of(String)} reaproveita as
+ * instâncias recentes em um cache de tamanho fixo, indexado pelo hash do
+ * valor: uma colisão apenas substitui a entrada, sem bloqueio nem despejo.
+ * A igualdade continua sendo por valor.
  */
 public record ProfessionalId(String value) {
     
-    private static final Pattern UUID_PATTERN = Pattern.compile(
-        "^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$",
-        Pattern.CASE_INSENSITIVE
-    );
+    private static final int CACHE_SIZE = 256;
+    private static final ProfessionalId[] CACHE = new ProfessionalId[CACHE_SIZE];
 
     public ProfessionalId {
         validateProfessionalId(value);
@@ -28,7 +31,7 @@ public record ProfessionalId(String value) {
             throw new InvalidProfessionalIdException("ID do profissional não pode ser vazio");
         }
         
-        // if (!UUID_PATTERN.matcher(value).matches()) {
+        // if (!UuidFormat.isValid(value)) {
         //     throw new InvalidProfessionalIdException(
         //         "ID do profissional deve estar no formato UUID válido: " + value
         //     );
@@ -36,10 +39,24 @@ public record ProfessionalId(String value) {
     }
 
     /**
-     * Factory method para criação segura
+     * Factory method para criação segura, reaproveitando a instância em cache
+     * quando o mesmo ID foi criado recentemente.
+     *
+     * Os campos do record são finais, então a leitura concorrente do cache
+     * sem sincronização sempre enxerga uma instância completa.
      */
     public static ProfessionalId of(String value) {
-        return new ProfessionalId(value);
+        if (value == null) {
+            return new ProfessionalId(value);
+        }
+        int slot = value.hashCode() & (CACHE_SIZE - 1);
+        ProfessionalId cached = CACHE[slot];
+        if (cached != null && cached.value.equals(value)) {
+            return cached;
+        }
+        ProfessionalId created = new ProfessionalId(value);
+        CACHE[slot] = created;
+        return created;
     }
 
     /**
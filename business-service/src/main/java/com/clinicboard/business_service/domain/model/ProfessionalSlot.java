@@ -0,0 +1,14 @@
+package com.clinicboard.business_service.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Value Object que representa um horário livre na agenda de um profissional.
+ */
+public record ProfessionalSlot(ProfessionalId professionalId, AppointmentTime time) {
+
+    public ProfessionalSlot {
+        Objects.requireNonNull(professionalId, "ProfessionalId não pode ser nulo");
+        Objects.requireNonNull(time, "AppointmentTime não pode ser nulo");
+    }
+}
@@ -0,0 +1,89 @@
+package com.clinicboard.business_service.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Validação e leitura de UUIDs no formato textual 8-4-4-4-12, sem expressão
+ * regular e sem alocação.
+ *
+ * Os identificadores são construídos a cada linha lida do banco; a validação
+ * percorre os 36 caracteres uma única vez, consultando uma tabela de dígitos
+ * hexadecimais (maiúsculos ou minúsculos), e acumula os erros em vez de
+ * desviar a cada caractere.
+ */
+public final class UuidFormat {
+
+    public static final int LENGTH = 36;
+
+    private static final byte[] HEX_DIGITS = new byte[128];
+
+    static {
+        Arrays.fill(HEX_DIGITS, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_DIGITS['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_DIGITS['a' + i] = (byte) (10 + i);
+            HEX_DIGITS['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private UuidFormat() {
+    }
+
+    /**
+     * Verifica se o valor é um UUID 8-4-4-4-12, com dígitos hexadecimais em
+     * qualquer caixa. Equivale à expressão regular usada anteriormente pelos IDs.
+     */
+    public static boolean isValid(String value) {
+        if (value == null || value.length() != LENGTH) {
+            return false;
+        }
+        int dashes = (value.charAt(8) ^ '-') | (value.charAt(13) ^ '-')
+                | (value.charAt(18) ^ '-') | (value.charAt(23) ^ '-');
+        // Negativo se algum caractere não for hexadecimal
+        int digits = digits(value, 0, 8) | digits(value, 9, 13) | digits(value, 14, 18)
+                | digits(value, 19, 23) | digits(value, 24, 36);
+        return dashes == 0 && digits >= 0;
+    }
+
+    /**
+     * Metade mais significativa (os 64 primeiros bits) de um UUID já validado,
+     * como em {@link java.util.UUID#getMostSignificantBits()}.
+     */
+    public static long mostSignificantBits(String value) {
+        return bits(value, 0, 8) << 32 | bits(value, 9, 13) << 16 | bits(value, 14, 18);
+    }
+
+    /**
+     * Metade menos significativa (os 64 últimos bits) de um UUID já validado,
+     * como em {@link java.util.UUID#getLeastSignificantBits()}.
+     */
+    public static long leastSignificantBits(String value) {
+        return bits(value, 19, 23) << 48 | bits(value, 24, 36);
+    }
+
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            result |= digit(value.charAt(i));
+        }
+        return result;
+    }
+
+    private static long bits(String value, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            result = result << 4 | digit(value.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Valor do dígito hexadecimal, ou -1. Caracteres fora do ASCII caem em uma
+     * posição qualquer da tabela e são anulados pelo OR com -1.
+     */
+    private static int digit(char c) {
+        return HEX_DIGITS[c & 0x7F] | ((0x7F - c) >> 31);
+    }
+}
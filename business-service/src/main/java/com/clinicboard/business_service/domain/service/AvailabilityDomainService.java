@@ -1,6 +1,7 @@
 package com.clinicboard.business_service.domain.service;
 
 import com.clinicboard.business_service.domain.exception.AppointmentConflictException;
+import com.clinicboard.business_service.domain.exception.DomainException;
 import com.clinicboard.business_service.domain.exception.InvalidTimeSlotException;
 import com.clinicboard.business_service.domain.exception.PatientBusinessRuleException;
 import com.clinicboard.business_service.domain.model.*;
@@ -9,8 +10,12 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Set;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Domain Service responsável por regras complexas de disponibilidade de agendamentos.
@@ -22,12 +27,33 @@ import java.util.HashSet;
  */
 public class AvailabilityDomainService {
 
+    // Horário comercial: 8h às 19h, intervalos de 30 minutos
+    private static final long BUSINESS_WINDOW = DailySlotBitmap.windowMask(LocalTime.of(8, 0), LocalTime.of(19, 0));
+
     /**
      * Verifica se um horário está disponível para agendamento
+     * (considera um agendamento pretendido de 30 minutos)
+     */
+    public boolean isTimeSlotAvailable(ProfessionalId professionalId,
+                                     AppointmentTime requestedTime,
+                                     List<Appointment> existingAppointments) {
+        return isTimeSlotAvailable(professionalId, requestedTime, DailySlotBitmap.APPOINTMENT_MINUTES, existingAppointments);
+    }
+
+    /**
+     * Verifica se um horário está disponível para um agendamento do tipo informado
      */
     public boolean isTimeSlotAvailable(ProfessionalId professionalId,
                                      AppointmentTime requestedTime,
+                                     AppointmentType type,
                                      List<Appointment> existingAppointments) {
+        return isTimeSlotAvailable(professionalId, requestedTime, type.getDefaultDurationMinutes(), existingAppointments);
+    }
+
+    private boolean isTimeSlotAvailable(ProfessionalId professionalId,
+                                        AppointmentTime requestedTime,
+                                        int durationMinutes,
+                                        List<Appointment> existingAppointments) {
         
         // Regra 1: Horário deve estar no futuro com antecedência mínima
         if (!requestedTime.value().isAfter(LocalDateTime.now().plusHours(2))) {
@@ -39,11 +65,12 @@ public class AvailabilityDomainService {
             return false;
         }
 
-        // Regra 3: Não deve conflitar com agendamentos existentes do profissional
+        // Regra 3: Não deve conflitar com agendamentos existentes do profissional,
+        // considerando a duração de cada um
         return existingAppointments.stream()
             .filter(apt -> apt.belongsToProfessional(professionalId))
             .filter(apt -> apt.isActive()) // Apenas agendamentos ativos
-            .noneMatch(apt -> apt.getScheduledTime().conflictsWith(requestedTime));
+            .noneMatch(apt -> apt.overlaps(requestedTime, durationMinutes));
     }
 
     /**
@@ -83,6 +110,22 @@ public class AvailabilityDomainService {
         }
     }
 
+    /**
+     * Verifica se um horário está disponível a partir do índice de intervalos do dia,
+     * em O(log n + k)
+     */
+    public boolean isTimeSlotAvailable(AppointmentTime requestedTime, AppointmentType type, DailyAgenda agenda) {
+        
+        // Regras 1 e 2: antecedência mínima e horário comercial
+        if (!requestedTime.value().isAfter(LocalDateTime.now().plusHours(2))
+                || !requestedTime.isWithinBusinessHours()) {
+            return false;
+        }
+
+        // Regra 3: nenhum intervalo existente pode se sobrepor à duração do tipo
+        return !agenda.overlaps(requestedTime.value().toLocalTime(), type.getDefaultDurationMinutes());
+    }
+
     /**
      * Gera lista de horários disponíveis para um profissional em uma data
      */
@@ -90,47 +133,84 @@ public class AvailabilityDomainService {
                                                        LocalDate date,
                                                        List<Appointment> existingAppointments) {
         
-        List<AppointmentTime> availableSlots = new ArrayList<>();
-        
-        // Horário comercial: 8h às 19h, intervalos de 30 minutos
-        LocalTime start = LocalTime.of(8, 0);
-        LocalTime end = LocalTime.of(19, 0);
-        
-        // Coleta horários ocupados
-        Set<LocalTime> busyTimes = new HashSet<>();
-        existingAppointments.stream()
+        List<Appointment> professionalAppointments = existingAppointments.stream()
             .filter(apt -> apt.belongsToProfessional(professionalId))
-            .filter(apt -> apt.isActive())
-            .filter(apt -> apt.getScheduledTime().value().toLocalDate().equals(date))
-            .forEach(apt -> {
-                LocalTime appointmentTime = apt.getScheduledTime().value().toLocalTime();
-                busyTimes.add(appointmentTime);
-                // Bloqueia também os 30 minutos seguintes
-                busyTimes.add(appointmentTime.plusMinutes(30));
-            });
-
-        // Gera slots disponíveis
-        LocalTime current = start;
-        while (!current.isAfter(end)) {
-            if (!busyTimes.contains(current)) {
-                LocalDateTime slotDateTime = LocalDateTime.of(date, current);
-                
-                // Verifica se está no futuro com antecedência mínima
-                if (slotDateTime.isAfter(LocalDateTime.now().plusHours(2))) {
-                    try {
-                        AppointmentTime slot = AppointmentTime.of(slotDateTime);
-                        availableSlots.add(slot);
-                    } catch (InvalidTimeSlotException e) {
-                        // Horário inválido, pula para o próximo
-                    }
+            .toList();
+
+        return generateAvailableSlots(date, DailySlotBitmap.of(date, professionalAppointments));
+    }
+
+    /**
+     * Gera lista de horários disponíveis a partir do mapa de ocupação do dia
+     * (considera um agendamento pretendido de 30 minutos).
+     */
+    public List<AppointmentTime> generateAvailableSlots(LocalDate date, DailySlotBitmap occupiedSlots) {
+        return generateAvailableSlots(date, occupiedSlots, DailySlotBitmap.APPOINTMENT_MINUTES);
+    }
+
+    /**
+     * Gera lista de horários disponíveis para um agendamento do tipo informado.
+     */
+    public List<AppointmentTime> generateAvailableSlots(LocalDate date, DailySlotBitmap occupiedSlots, AppointmentType type) {
+        return generateAvailableSlots(date, occupiedSlots, type.getDefaultDurationMinutes());
+    }
+
+    /**
+     * Horário comercial: 8h às 19h, intervalos de 30 minutos. Os inícios livres
+     * são obtidos com operações de bits sobre a janela do expediente: um início
+     * só é livre se houver slots consecutivos livres para toda a duração.
+     */
+    private List<AppointmentTime> generateAvailableSlots(LocalDate date, DailySlotBitmap occupiedSlots, int durationMinutes) {
+        
+        long freeSlots = occupiedSlots.freeStarts(BUSINESS_WINDOW, durationMinutes);
+        List<AppointmentTime> availableSlots = new ArrayList<>(Long.bitCount(freeSlots));
+        LocalDateTime earliest = LocalDateTime.now().plusHours(2);
+
+        while (freeSlots != 0) {
+            int slot = Long.numberOfTrailingZeros(freeSlots);
+            freeSlots &= freeSlots - 1;
+
+            LocalDateTime slotDateTime = LocalDateTime.of(date, DailySlotBitmap.slotStart(slot));
+            
+            // Verifica se está no futuro com antecedência mínima
+            if (slotDateTime.isAfter(earliest)) {
+                try {
+                    availableSlots.add(AppointmentTime.of(slotDateTime));
+                } catch (DomainException e) {
+                    // Horário inválido, pula para o próximo
                 }
             }
-            current = current.plusMinutes(30);
         }
         
         return availableSlots;
     }
 
+    /**
+     * Lista os horários livres de vários profissionais em vários dias, em ordem
+     * cronológica (empates seguem a ordem dos profissionais na ocupação).
+     * 
+     * Para cada dia, os slots livres de cada profissional são obtidos por
+     * interseção de bits com a janela do expediente e com a antecedência mínima,
+     * e a união dessas palavras indica quais horários têm algum profissional livre.
+     * Os horários são produzidos sob demanda: consumir apenas o primeiro resultado
+     * não calcula os demais dias.
+     */
+    public Stream<ProfessionalSlot> streamAvailableSlots(AgendaOccupancy occupancy) {
+        return streamAvailableSlots(occupancy, DailySlotBitmap.APPOINTMENT_MINUTES);
+    }
+
+    /**
+     * Variante para um agendamento pretendido com a duração informada: um horário
+     * só é retornado se houver slots consecutivos livres para toda a duração.
+     */
+    public Stream<ProfessionalSlot> streamAvailableSlots(AgendaOccupancy occupancy, int durationMinutes) {
+        EarliestSlotIterator iterator = new EarliestSlotIterator(occupancy, LocalDateTime.now().plusHours(2), durationMinutes);
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT),
+            false
+        );
+    }
+
     /**
      * Calcula estatísticas de disponibilidade para um período
      */
@@ -173,6 +253,39 @@ public class AvailabilityDomainService {
                                           List<Appointment> existingAppointments,
                                           Patient patient) {
         
+        // 1 a 3. Regras do paciente e de antecedência
+        validateAppointmentRequest(patientId, requestedTime, type, patient);
+
+        // 4. Validar disponibilidade do horário para a duração do tipo
+        if (!isTimeSlotAvailable(professionalId, requestedTime, type, existingAppointments)) {
+            throw new AppointmentConflictException(
+                professionalId.value(),
+                requestedTime.getFormattedDateTime()
+            );
+        }
+
+        // 5. Validar regra de um agendamento por dia
+        validatePatientCanScheduleOnDate(
+            patientId, 
+            requestedTime.value().toLocalDate(), 
+            existingAppointments
+        );
+    }
+
+    /**
+     * Valida as regras de um novo agendamento que não dependem da agenda existente.
+     * 
+     * A ausência de sobreposição na agenda do profissional e a regra de um
+     * agendamento por dia do paciente são verificadas por
+     * validateAppointmentCreation e, de forma atômica, pela persistência, que
+     * sinaliza violações com AppointmentConflictException e
+     * PatientBusinessRuleException.
+     */
+    public void validateAppointmentRequest(PatientId patientId,
+                                           AppointmentTime requestedTime,
+                                           AppointmentType type,
+                                           Patient patient) {
+        
         // 1. Validar se paciente está ativo
         if (!patient.isActive()) {
             throw new PatientBusinessRuleException(
@@ -191,21 +304,6 @@ public class AvailabilityDomainService {
 
         // 3. Validar antecedência necessária
         validateAdvanceNotice(requestedTime, type);
-
-        // 4. Validar disponibilidade do horário
-        if (!isTimeSlotAvailable(professionalId, requestedTime, existingAppointments)) {
-            throw new AppointmentConflictException(
-                professionalId.value(),
-                requestedTime.getFormattedDateTime()
-            );
-        }
-
-        // 5. Validar regra de um agendamento por dia
-        validatePatientCanScheduleOnDate(
-            patientId, 
-            requestedTime.value().toLocalDate(), 
-            existingAppointments
-        );
     }
 
     // Métodos auxiliares
@@ -221,6 +319,107 @@ public class AvailabilityDomainService {
         return 22;
     }
 
+    /**
+     * Percorre os dias do período e, em cada dia, os horários com algum
+     * profissional livre, do mais cedo para o mais tarde.
+     */
+    private static final class EarliestSlotIterator implements Iterator<ProfessionalSlot> {
+
+        private final AgendaOccupancy occupancy;
+        private final LocalDateTime earliest;
+        private final int durationMinutes;
+        private final long[] freeSlots;
+
+        private int day = -1;
+        private long pendingSlots;
+        private int currentSlot = -1;
+        private int nextProfessional;
+        private ProfessionalSlot next;
+
+        private EarliestSlotIterator(AgendaOccupancy occupancy, LocalDateTime earliest, int durationMinutes) {
+            this.occupancy = occupancy;
+            this.earliest = earliest;
+            this.durationMinutes = durationMinutes;
+            this.freeSlots = new long[occupancy.professionals().size()];
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public ProfessionalSlot next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ProfessionalSlot slot = next;
+            next = null;
+            return slot;
+        }
+
+        private ProfessionalSlot advance() {
+            while (true) {
+                if (currentSlot >= 0) {
+                    long bit = 1L << currentSlot;
+                    while (nextProfessional < freeSlots.length) {
+                        int professional = nextProfessional++;
+                        if ((freeSlots[professional] & bit) != 0) {
+                            ProfessionalSlot slot = toSlot(professional);
+                            if (slot != null) {
+                                return slot;
+                            }
+                        }
+                    }
+                    currentSlot = -1;
+                }
+
+                if (pendingSlots != 0) {
+                    currentSlot = Long.numberOfTrailingZeros(pendingSlots);
+                    pendingSlots &= pendingSlots - 1;
+                    nextProfessional = 0;
+                    continue;
+                }
+
+                if (++day >= occupancy.days()) {
+                    return null;
+                }
+                loadDay();
+            }
+        }
+
+        private void loadDay() {
+            LocalDate date = occupancy.startDate().plusDays(day);
+            long window = BUSINESS_WINDOW;
+            if (date.isBefore(earliest.toLocalDate())) {
+                window = 0L;
+            } else if (date.equals(earliest.toLocalDate())) {
+                window &= DailySlotBitmap.slotsStartingAfter(earliest.toLocalTime());
+            }
+
+            long anyFree = 0L;
+            for (int professional = 0; professional < freeSlots.length; professional++) {
+                freeSlots[professional] = DailySlotBitmap.freeStarts(
+                    occupancy.occupiedSlots(professional, day), window, durationMinutes);
+                anyFree |= freeSlots[professional];
+            }
+            pendingSlots = anyFree;
+        }
+
+        private ProfessionalSlot toSlot(int professional) {
+            LocalDateTime start = LocalDateTime.of(occupancy.startDate().plusDays(day), DailySlotBitmap.slotStart(currentSlot));
+            try {
+                return new ProfessionalSlot(occupancy.professionals().get(professional), AppointmentTime.of(start));
+            } catch (DomainException e) {
+                // Horário inválido (ex.: além do limite de agendamento), pula para o próximo
+                return null;
+            }
+        }
+    }
+
     /**
      * Record para estatísticas de disponibilidade
      */
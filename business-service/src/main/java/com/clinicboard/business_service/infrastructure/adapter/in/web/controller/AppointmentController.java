@@ -3,9 +3,16 @@ package com.clinicboard.business_service.infrastructure.adapter.in.web.controlle
 import com.clinicboard.business_service.application.port.in.ScheduleAppointmentCommand;
 import com.clinicboard.business_service.application.port.in.CancelAppointmentCommand;
 import com.clinicboard.business_service.application.port.in.FindAppointmentQuery;
+import com.clinicboard.business_service.application.port.in.FindAvailabilityQuery;
+import com.clinicboard.business_service.application.port.in.FindAvailabilityQuery.FindAvailabilityRequest;
+import com.clinicboard.business_service.domain.model.AppointmentType;
+import com.clinicboard.business_service.domain.model.PatientId;
+import com.clinicboard.business_service.domain.model.ProfessionalId;
+import com.clinicboard.business_service.infrastructure.adapter.in.web.dto.AppointmentPageResponseDto;
 import com.clinicboard.business_service.infrastructure.adapter.in.web.dto.AppointmentRequestDto;
 import com.clinicboard.business_service.infrastructure.adapter.in.web.dto.AppointmentResponseDto;
 import com.clinicboard.business_service.infrastructure.adapter.in.web.mapper.AppointmentWebMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,9 +20,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Controller REST para gerenciamento de consultas.
@@ -38,7 +51,9 @@ public class AppointmentController {
     private final ScheduleAppointmentCommand scheduleAppointmentCommand;
     private final CancelAppointmentCommand cancelAppointmentCommand;
     private final FindAppointmentQuery findAppointmentQuery;
+    private final FindAvailabilityQuery findAvailabilityQuery;
     private final AppointmentWebMapper appointmentMapper;
+    private final ObjectMapper objectMapper;
 
     @Operation(
         summary = "Agendar nova consulta",
@@ -69,6 +84,107 @@ public class AppointmentController {
         }
     }
 
+    @Operation(
+        summary = "Buscar horários livres em lote",
+        description = "Lista horários livres de vários profissionais em vários dias, do mais cedo para o mais tarde, "
+                + "como NDJSON (um horário por linha) enviado à medida que é calculado"
+    )
+    @ApiResponse(responseCode = "200", description = "Horários livres em ordem cronológica")
+    @ApiResponse(responseCode = "400", description = "Parâmetros de busca inválidos")
+    @GetMapping(value = "/availability", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> findAvailability(
+            @Parameter(description = "IDs dos profissionais; a ordem define o desempate entre horários iguais")
+            @RequestParam List<String> professionalIds,
+            @Parameter(description = "Primeiro dia da busca (padrão: hoje)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Quantidade de dias")
+            @RequestParam(defaultValue = "14") int days,
+            @Parameter(description = "Máximo de horários retornados (1 = próximo horário livre)")
+            @RequestParam(defaultValue = "100") int limit,
+            @Parameter(description = "Tipo de consulta pretendido; define a duração exigida (padrão: 30 minutos)")
+            @RequestParam(required = false) AppointmentType appointmentType) {
+        
+        log.info("Buscando disponibilidade: profissionais={}, startDate={}, days={}, limit={}, tipo={}", 
+                professionalIds.size(), startDate, days, limit, appointmentType);
+        
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limite deve ser positivo");
+        }
+        
+        var request = new FindAvailabilityRequest(
+                professionalIds.stream().map(ProfessionalId::of).toList(),
+                startDate != null ? startDate : LocalDate.now(),
+                days,
+                appointmentType
+        );
+        var slots = findAvailabilityQuery.findAvailableSlots(request).limit(limit);
+        
+        StreamingResponseBody body = outputStream -> {
+            try (slots) {
+                var iterator = slots.iterator();
+                while (iterator.hasNext()) {
+                    outputStream.write(objectMapper.writeValueAsBytes(appointmentMapper.toAvailableSlotDto(iterator.next())));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(
+        summary = "Listar consultas do paciente",
+        description = "Lista as consultas agendadas ou confirmadas de um paciente em ordem cronológica, "
+                + "paginadas por cursor: envie o nextCursor da resposta anterior para obter a página seguinte"
+    )
+    @ApiResponse(responseCode = "200", description = "Página de consultas")
+    @ApiResponse(responseCode = "400", description = "Cursor ou tamanho de página inválido")
+    @GetMapping(params = "patientId")
+    public ResponseEntity<AppointmentPageResponseDto> listByPatient(
+            @Parameter(description = "ID do paciente")
+            @RequestParam String patientId,
+            @Parameter(description = "Cursor opaco retornado pela página anterior (ausente na primeira página)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (1 a 200)")
+            @RequestParam(defaultValue = "50") int size) {
+        
+        log.info("Listando consultas do paciente: patientId={}, cursor={}, size={}", patientId, cursor, size);
+        
+        var after = cursor != null ? appointmentMapper.toAppointmentCursor(cursor) : null;
+        var page = findAppointmentQuery.findPageByPatientId(PatientId.of(patientId), after, size);
+        
+        return ResponseEntity.ok(appointmentMapper.toPageResponseDto(page));
+    }
+
+    @Operation(
+        summary = "Listar consultas do período",
+        description = "Lista as consultas agendadas entre duas datas em ordem cronológica, "
+                + "paginadas por cursor: envie o nextCursor da resposta anterior para obter a página seguinte"
+    )
+    @ApiResponse(responseCode = "200", description = "Página de consultas")
+    @ApiResponse(responseCode = "400", description = "Período, cursor ou tamanho de página inválido")
+    @GetMapping(params = {"startDate", "endDate"})
+    public ResponseEntity<AppointmentPageResponseDto> listByPeriod(
+            @Parameter(description = "Data inicial")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Data final (inclusiva)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Cursor opaco retornado pela página anterior (ausente na primeira página)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (1 a 200)")
+            @RequestParam(defaultValue = "50") int size) {
+        
+        log.info("Listando consultas do período: {} - {}, cursor={}, size={}", startDate, endDate, cursor, size);
+        
+        var after = cursor != null ? appointmentMapper.toAppointmentCursor(cursor) : null;
+        var page = findAppointmentQuery.findPageByDateRange(startDate, endDate, after, size);
+        
+        return ResponseEntity.ok(appointmentMapper.toPageResponseDto(page));
+    }
+
     @Operation(
         summary = "Buscar consulta",
         description = "Busca uma consulta específica por ID"
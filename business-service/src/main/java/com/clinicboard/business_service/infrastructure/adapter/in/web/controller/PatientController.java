@@ -3,6 +3,7 @@ package com.clinicboard.business_service.infrastructure.adapter.in.web.controlle
 import com.clinicboard.business_service.application.port.in.ManagePatientCommand;
 import com.clinicboard.business_service.application.port.in.FindPatientQuery;
 import com.clinicboard.business_service.infrastructure.adapter.in.web.dto.ManagePatientRequestDto;
+import com.clinicboard.business_service.infrastructure.adapter.in.web.dto.PatientPageResponseDto;
 import com.clinicboard.business_service.infrastructure.adapter.in.web.dto.PatientResponseDto;
 import com.clinicboard.business_service.infrastructure.adapter.in.web.mapper.PatientWebMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,6 +17,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Controller REST para gerenciamento de pacientes.
  * 
@@ -63,6 +66,70 @@ public class PatientController {
         }
     }
 
+    @Operation(
+        summary = "Listar pacientes",
+        description = "Lista pacientes ativos em ordem alfabética, paginados por cursor: "
+                + "envie o nextCursor da resposta anterior para obter a página seguinte"
+    )
+    @ApiResponse(responseCode = "200", description = "Página de pacientes")
+    @ApiResponse(responseCode = "400", description = "Cursor ou tamanho de página inválido")
+    @GetMapping
+    public ResponseEntity<PatientPageResponseDto> listPatients(
+            @Parameter(description = "Cursor opaco retornado pela página anterior (ausente na primeira página)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (1 a 200)")
+            @RequestParam(defaultValue = "50") int size) {
+        
+        log.info("Listando pacientes: cursor={}, size={}", cursor, size);
+        
+        var after = cursor != null ? patientMapper.toPatientCursor(cursor) : null;
+        var page = findPatientQuery.findPage(after, size);
+        
+        return ResponseEntity.ok(patientMapper.toPageResponseDto(page));
+    }
+
+    @Operation(
+        summary = "Buscar pacientes por nome",
+        description = "Busca pacientes ativos cujo nome contém as palavras informadas, ignorando acentos e maiúsculas, "
+                + "do mais parecido para o menos parecido"
+    )
+    @ApiResponse(responseCode = "200", description = "Pacientes encontrados (vazio para termos com menos de 3 caracteres)")
+    @ApiResponse(responseCode = "400", description = "Limite inválido")
+    @GetMapping("/search")
+    public ResponseEntity<List<PatientResponseDto>> searchPatients(
+            @Parameter(description = "Nome ou parte do nome")
+            @RequestParam String name,
+            @Parameter(description = "Máximo de resultados (1 a 50)")
+            @RequestParam(defaultValue = "20") int limit) {
+        
+        log.info("Buscando pacientes por nome: name={}, limit={}", name, limit);
+        
+        return ResponseEntity.ok(findPatientQuery.searchByName(name, limit).stream()
+                .map(patientMapper::toResponseDto)
+                .toList());
+    }
+
+    @Operation(
+        summary = "Autocompletar nome de paciente",
+        description = "Sugere pacientes ativos enquanto o nome é digitado: cada palavra digitada é o início "
+                + "de uma palavra do nome; nomes que começam com o termo vêm primeiro"
+    )
+    @ApiResponse(responseCode = "200", description = "Sugestões (vazio para termos com menos de 2 caracteres)")
+    @ApiResponse(responseCode = "400", description = "Limite inválido")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<PatientResponseDto>> autocompletePatients(
+            @Parameter(description = "Início do nome digitado")
+            @RequestParam String prefix,
+            @Parameter(description = "Máximo de sugestões (1 a 50)")
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        log.debug("Autocomplete de pacientes: prefix={}, limit={}", prefix, limit);
+        
+        return ResponseEntity.ok(findPatientQuery.autocompleteByName(prefix, limit).stream()
+                .map(patientMapper::toResponseDto)
+                .toList());
+    }
+
     @Operation(
         summary = "Buscar paciente",
         description = "Busca um paciente específico por ID"
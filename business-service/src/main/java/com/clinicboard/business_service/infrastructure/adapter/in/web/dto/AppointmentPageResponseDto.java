@@ -0,0 +1,17 @@
+package com.clinicboard.business_service.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Página de consultas com o cursor da próxima página")
+public record AppointmentPageResponseDto(
+        
+        @Schema(description = "Consultas da página, em ordem cronológica")
+        List<AppointmentResponseDto> items,
+        
+        @Schema(description = "Cursor opaco da próxima página (ausente na última página)",
+                example = "YTF8MjAyNS0wOS0xNVQxMDozMHw1NTBlODQwMC1lMjliLTQxZDQtYTcxNi00NDY2NTU0NDAwMDE")
+        String nextCursor
+) {
+}
@@ -0,0 +1,20 @@
+package com.clinicboard.business_service.infrastructure.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de resposta para um horário livre na busca de disponibilidade em lote.
+ */
+@Schema(description = "Horário livre de um profissional")
+public record AvailableSlotDto(
+
+        @Schema(description = "ID do profissional", example = "660e8400-e29b-41d4-a716-446655440001")
+        String professionalId,
+
+        @Schema(description = "Início do horário livre", example = "2025-09-15T10:30:00")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime startTime
+) {}
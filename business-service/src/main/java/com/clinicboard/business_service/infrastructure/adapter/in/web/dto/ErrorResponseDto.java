@@ -0,0 +1,23 @@
+package com.clinicboard.business_service.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Erro retornado pela API")
+public record ErrorResponseDto(
+        
+        @Schema(description = "Sempre verdadeiro em respostas de erro", example = "true")
+        boolean error,
+        
+        @Schema(description = "Descrição do erro", example = "Cursor inválido")
+        String message,
+        
+        @Schema(description = "Momento do erro")
+        LocalDateTime timestamp
+) {
+    
+    public ErrorResponseDto(String message) {
+        this(true, message, LocalDateTime.now());
+    }
+}
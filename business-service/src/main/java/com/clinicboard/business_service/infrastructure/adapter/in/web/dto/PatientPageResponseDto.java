@@ -0,0 +1,17 @@
+package com.clinicboard.business_service.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Página de pacientes com o cursor da próxima página")
+public record PatientPageResponseDto(
+        
+        @Schema(description = "Pacientes da página, em ordem alfabética")
+        List<PatientResponseDto> items,
+        
+        @Schema(description = "Cursor opaco da próxima página (ausente na última página)",
+                example = "cDF8NTUwZTg0MDAtZTI5Yi00MWQ0LWE3MTYtNDQ2NjU1NDQwMDAwfEpvw6NvIFNpbHZh")
+        String nextCursor
+) {
+}
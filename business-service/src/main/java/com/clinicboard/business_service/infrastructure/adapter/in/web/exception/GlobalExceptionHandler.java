@@ -0,0 +1,28 @@
+package com.clinicboard.business_service.infrastructure.adapter.in.web.exception;
+
+import com.clinicboard.business_service.infrastructure.adapter.in.web.dto.ErrorResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Adaptador de entrada para tratamento global de exceções na camada web.
+ * 
+ * As portas de entrada e os mappers web validam os parâmetros recebidos
+ * (limite, tamanho de página, período, cursor) com IllegalArgumentException;
+ * esses erros são do cliente e respondem 400 com a mensagem da validação.
+ * As demais exceções seguem o tratamento padrão do Spring.
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    // Handler para parâmetros de requisição inválidos
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponseDto> handleIllegalArgumentException(IllegalArgumentException ex) {
+        log.debug("Requisição inválida: {}", ex.getMessage());
+        return new ResponseEntity<>(new ErrorResponseDto(ex.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+}
@@ -1,17 +1,28 @@
 package com.clinicboard.business_service.infrastructure.adapter.in.web.mapper;
 
+import com.clinicboard.business_service.application.port.in.FindAppointmentQuery.AppointmentPage;
+import com.clinicboard.business_service.application.port.in.FindAvailabilityQuery.AvailableSlotView;
 import com.clinicboard.business_service.application.port.in.ScheduleAppointmentCommand.ScheduleAppointmentRequest;
 import com.clinicboard.business_service.application.port.in.ScheduleAppointmentCommand.ScheduleAppointmentResponse;
+import com.clinicboard.business_service.infrastructure.adapter.in.web.dto.AppointmentPageResponseDto;
 import com.clinicboard.business_service.infrastructure.adapter.in.web.dto.AppointmentRequestDto;
 import com.clinicboard.business_service.infrastructure.adapter.in.web.dto.AppointmentResponseDto;
+import com.clinicboard.business_service.infrastructure.adapter.in.web.dto.AvailableSlotDto;
 import com.clinicboard.business_service.domain.model.PatientId;
 import com.clinicboard.business_service.domain.model.ProfessionalId;
 import com.clinicboard.business_service.domain.model.Appointment;
+import com.clinicboard.business_service.domain.model.AppointmentCursor;
+import com.clinicboard.business_service.domain.model.AppointmentId;
+import com.clinicboard.business_service.domain.model.AppointmentListItem;
 import com.clinicboard.business_service.domain.model.AppointmentTime;
 import com.clinicboard.business_service.domain.model.AppointmentType;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
 /**
  * Mapper para conversão entre DTOs de consulta e objetos da camada de aplicação.
  * 
@@ -27,6 +38,8 @@ import org.mapstruct.MappingConstants;
  */
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface AppointmentWebMapper {
+
+    String CURSOR_VERSION = "a1";
     
     /**
      * Converte DTO de requisição REST para comando da camada de aplicação.
@@ -102,4 +115,68 @@ public interface AppointmentWebMapper {
             default -> AppointmentType.FIRST_CONSULTATION;
         };
     }
+
+    /**
+     * Converte horário livre da busca em lote para DTO de resposta REST.
+     */
+    default AvailableSlotDto toAvailableSlotDto(AvailableSlotView view) {
+        return new AvailableSlotDto(view.professionalId(), view.startTime());
+    }
+
+    /**
+     * Converte item de listagem para DTO de resposta REST. Observações e
+     * auditoria não fazem parte da listagem; ficam na consulta por ID.
+     */
+    default AppointmentResponseDto toResponseDto(AppointmentListItem item) {
+        return new AppointmentResponseDto(
+            item.appointmentId(),
+            item.patientId(),
+            item.professionalId(),
+            item.scheduledTime(),
+            item.type().name(),
+            item.status().name(),
+            null,
+            null,
+            null,
+            null,
+            null
+        );
+    }
+
+    /**
+     * Converte página da camada de aplicação para DTO de resposta REST,
+     * codificando o cursor da próxima página como token opaco.
+     */
+    default AppointmentPageResponseDto toPageResponseDto(AppointmentPage page) {
+        return new AppointmentPageResponseDto(
+            page.appointments().stream().map(this::toResponseDto).toList(),
+            page.hasNext() ? toCursorToken(page.nextCursor()) : null
+        );
+    }
+
+    /**
+     * Codifica o cursor como token opaco (Base64 URL-safe de "a1|horário|id").
+     * O prefixo de versão permite mudar o formato sem quebrar tokens já emitidos.
+     */
+    default String toCursorToken(AppointmentCursor cursor) {
+        String raw = CURSOR_VERSION + "|" + cursor.scheduledTime() + "|" + cursor.appointmentId().value();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um token emitido por toCursorToken.
+     *
+     * @throws IllegalArgumentException se o token não for um cursor de consultas válido
+     */
+    default AppointmentCursor toAppointmentCursor(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3 || !CURSOR_VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return new AppointmentCursor(LocalDateTime.parse(parts[1]), AppointmentId.of(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
 }
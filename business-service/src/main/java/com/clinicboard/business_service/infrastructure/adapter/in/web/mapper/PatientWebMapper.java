@@ -2,8 +2,14 @@ package com.clinicboard.business_service.infrastructure.adapter.in.web.mapper;
 
 import com.clinicboard.business_service.application.port.in.ManagePatientCommand.CreatePatientRequest;
 import com.clinicboard.business_service.application.port.in.ManagePatientCommand.CreatePatientResponse;
+import com.clinicboard.business_service.application.port.in.FindPatientQuery.PatientPage;
+import com.clinicboard.business_service.application.port.in.FindPatientQuery.PatientView;
 import com.clinicboard.business_service.infrastructure.adapter.in.web.dto.ManagePatientRequestDto;
+import com.clinicboard.business_service.infrastructure.adapter.in.web.dto.PatientPageResponseDto;
 import com.clinicboard.business_service.infrastructure.adapter.in.web.dto.PatientResponseDto;
+import com.clinicboard.business_service.domain.model.PatientCursor;
+import com.clinicboard.business_service.domain.model.PatientId;
+import com.clinicboard.business_service.domain.model.PatientListItem;
 import com.clinicboard.business_service.domain.model.PatientName;
 import com.clinicboard.business_service.domain.model.Email;
 import com.clinicboard.business_service.domain.model.ContactDetails;
@@ -11,6 +17,9 @@ import com.clinicboard.business_service.domain.model.ProfessionalId;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 /**
  * Mapper para conversão entre DTOs de paciente e objetos da camada de aplicação.
  * 
@@ -19,6 +28,8 @@ import org.mapstruct.MappingConstants;
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface PatientWebMapper {
     
+    String CURSOR_VERSION = "p1";
+    
     /**
      * Converte DTO de requisição REST para comando da camada de aplicação.
      */
@@ -42,4 +53,65 @@ public interface PatientWebMapper {
             response.contactDetails().value()
         );
     }
+    
+    /**
+     * Converte view da camada de aplicação para DTO de resposta REST.
+     */
+    default PatientResponseDto toResponseDto(PatientView view) {
+        return new PatientResponseDto(
+            view.patientId().value(),
+            view.name().value(),
+            view.email().value(),
+            view.contactDetails() != null ? view.contactDetails().value() : null
+        );
+    }
+    
+    /**
+     * Converte item de listagem para DTO de resposta REST.
+     */
+    default PatientResponseDto toResponseDto(PatientListItem item) {
+        return new PatientResponseDto(
+            item.patientId(),
+            item.name(),
+            item.email(),
+            item.contactDetails()
+        );
+    }
+    
+    /**
+     * Converte página da camada de aplicação para DTO de resposta REST,
+     * codificando o cursor da próxima página como token opaco.
+     */
+    default PatientPageResponseDto toPageResponseDto(PatientPage page) {
+        return new PatientPageResponseDto(
+            page.patients().stream().map(this::toResponseDto).toList(),
+            page.hasNext() ? toCursorToken(page.nextCursor()) : null
+        );
+    }
+    
+    /**
+     * Codifica o cursor como token opaco (Base64 URL-safe de "p1|id|nome").
+     * O prefixo de versão permite mudar o formato sem quebrar tokens já emitidos.
+     */
+    default String toCursorToken(PatientCursor cursor) {
+        String raw = CURSOR_VERSION + "|" + cursor.patientId().value() + "|" + cursor.name();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Decodifica um token emitido por toCursorToken.
+     * 
+     * @throws IllegalArgumentException se o token não for um cursor de pacientes válido
+     */
+    default PatientCursor toPatientCursor(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", 3);
+            if (parts.length != 3 || !CURSOR_VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return new PatientCursor(parts[2], PatientId.of(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
 }
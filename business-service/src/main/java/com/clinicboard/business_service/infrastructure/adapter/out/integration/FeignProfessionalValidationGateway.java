@@ -3,7 +3,9 @@ package com.clinicboard.business_service.infrastructure.adapter.out.integration;
 import com.clinicboard.business_service.application.port.out.ProfessionalValidationGateway;
 import com.clinicboard.business_service.domain.exception.ProfessionalValidationException;
 import com.clinicboard.business_service.domain.model.ProfessionalId;
-import com.clinicboard.business_service.infrastructure.adapter.out.integration.client.UserServiceFeignClient;
+import com.clinicboard.business_service.infrastructure.adapter.out.integration.cache.ProfessionalValidationCache;
+import com.clinicboard.business_service.infrastructure.adapter.out.integration.client.CoalescingUserLookupClient;
+import com.clinicboard.business_service.infrastructure.adapter.out.integration.dto.UserSummaryDto;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import java.util.Optional;
 import org.slf4j.Logger;
@@ -15,6 +17,10 @@ import org.springframework.stereotype.Component;
  * 
  * Utiliza Feign Client para comunicação com o user-service,
  * com Circuit Breaker para resiliência.
+ * 
+ * Os resultados ficam no ProfessionalValidationCache: o cadastro em massa de
+ * pacientes faz uma chamada por profissional, e não uma por paciente. Com o
+ * user-service indisponível, os fallbacks usam o último resultado conhecido.
  */
 @Component
 public class FeignProfessionalValidationGateway implements ProfessionalValidationGateway {
@@ -23,10 +29,13 @@ public class FeignProfessionalValidationGateway implements ProfessionalValidatio
     private static final String CIRCUIT_BREAKER_NAME = "business-service";
 
     
-    private final UserServiceFeignClient userServiceClient;
+    private final CoalescingUserLookupClient userLookupClient;
+    private final ProfessionalValidationCache validationCache;
     
-    public FeignProfessionalValidationGateway(UserServiceFeignClient userServiceClient) {
-        this.userServiceClient = userServiceClient;
+    public FeignProfessionalValidationGateway(CoalescingUserLookupClient userLookupClient,
+                                              ProfessionalValidationCache validationCache) {
+        this.userLookupClient = userLookupClient;
+        this.validationCache = validationCache;
     }
     
     @Override
@@ -34,28 +43,8 @@ public class FeignProfessionalValidationGateway implements ProfessionalValidatio
     public boolean isValidAndActiveProfessional(ProfessionalId professionalId) {
         log.debug("Validando se profissional está ativo com ID: {}", professionalId.value());
         
-       try {
-        Optional<?> user = userServiceClient.findById(professionalId.value());
-        
-        if (user == null) {
-            log.warn("Usuário não encontrado para ID: {}", professionalId.value());
-            return false;
-        }
-        
-        if (user.isPresent()) {
-            log.debug("Profissional validado com sucesso: {}", professionalId.value());
-            return true;
-        } else {
-            log.warn("Usuário não encontrado para ID: {}", professionalId.value());
-            return false;
-        }
-        
-    } catch (Exception e) {
-        log.error("Erro ao validar profissional {}: {}", professionalId.value(), e.getMessage(), e);
-        throw new ProfessionalValidationException(
-            "Erro ao validar profissional. Tente novamente."
-        );
-    }
+        return validationCache.get(professionalId.value(),
+            () -> fetchProfessional(professionalId, "Erro ao validar profissional. Tente novamente."));
     }
     
     @Override
@@ -63,10 +52,18 @@ public class FeignProfessionalValidationGateway implements ProfessionalValidatio
     public boolean professionalExists(ProfessionalId professionalId) {
         log.debug("Verificando existência do profissional com ID: {}", professionalId.value());
         
+        return validationCache.get(professionalId.value(),
+            () -> fetchProfessional(professionalId, "Erro ao verificar profissional. Tente novamente."));
+    }
+    
+    /**
+     * Consulta o user-service; chamado apenas quando o resultado não está em cache.
+     */
+    private boolean fetchProfessional(ProfessionalId professionalId, String errorMessage) {
         try {
-            Optional<?> user = userServiceClient.findById(professionalId.value());
+            Optional<UserSummaryDto> user = userLookupClient.lookup(professionalId.value()).join();
             
-            boolean exists = user != null && user.isPresent();
+            boolean exists = user.isPresent();
             
             if (exists) {
                 log.debug("Profissional encontrado: {}", professionalId.value());
@@ -77,10 +74,8 @@ public class FeignProfessionalValidationGateway implements ProfessionalValidatio
             return exists;
             
         } catch (Exception e) {
-            log.error("Erro ao verificar existência do profissional {}: {}", professionalId.value(), e.getMessage(), e);
-            throw new ProfessionalValidationException(
-                "Erro ao verificar profissional. Tente novamente."
-            );
+            log.error("Erro ao consultar profissional {}: {}", professionalId.value(), e.getMessage(), e);
+            throw new ProfessionalValidationException(errorMessage);
         }
     }
     
@@ -88,19 +83,25 @@ public class FeignProfessionalValidationGateway implements ProfessionalValidatio
      * Método de fallback para isValidAndActiveProfessional quando o Circuit Breaker está aberto.
      */
     public boolean fallbackIsValidAndActiveProfessional(ProfessionalId professionalId, Exception ex) {
-        log.error("Circuit Breaker ativo - Fallback para validação do profissional {}: {}", 
-                 professionalId.value(), ex.getMessage());
-        
-        throw new ProfessionalValidationException(
-            "Serviço de validação de profissionais temporariamente indisponível. Tente novamente em alguns instantes."
-        );
+        return lastKnownOrThrow(professionalId, ex);
     }
     
     /**
      * Método de fallback para professionalExists quando o Circuit Breaker está aberto.
      */
     public boolean fallbackProfessionalExists(ProfessionalId professionalId, Exception ex) {
-        log.error("Circuit Breaker ativo - Fallback para verificação do profissional {}: {}", 
+        return lastKnownOrThrow(professionalId, ex);
+    }
+    
+    private boolean lastKnownOrThrow(ProfessionalId professionalId, Exception ex) {
+        Optional<Boolean> lastKnown = validationCache.getStale(professionalId.value());
+        if (lastKnown.isPresent()) {
+            log.warn("Circuit Breaker ativo - Usando validação em cache do profissional {}: {}", 
+                     professionalId.value(), ex.getMessage());
+            return lastKnown.get();
+        }
+        
+        log.error("Circuit Breaker ativo - Fallback para validação do profissional {}: {}", 
                  professionalId.value(), ex.getMessage());
         
         throw new ProfessionalValidationException(
@@ -0,0 +1,188 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.integration.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Cache em memória do resultado da validação de profissionais no user-service.
+ *
+ * Profissional encontrado fica em cache por ttl; profissional não encontrado,
+ * por negative-ttl, mais curto, para que um cadastro recente logo passe a
+ * valer. Consultas simultâneas ao mesmo profissional ausente do cache
+ * compartilham uma única chamada remota. O tamanho é limitado com despejo LRU.
+ *
+ * Após expirar, a entrada continua disponível por stale-ttl apenas para o
+ * fallback do gateway: com o user-service fora do ar, a validação usa o
+ * último resultado conhecido em vez de falhar.
+ *
+ * Alterações de usuários devem chamar invalidate; enquanto o user-service
+ * não publica eventos de alteração, a defasagem máxima é o ttl.
+ *
+ * Métricas expostas:
+ * - clinicboard.professional.validation.cache.requests{result=hit|miss|stale}
+ * - clinicboard.professional.validation.cache.size
+ */
+@Component
+public class ProfessionalValidationCache {
+
+    private final Map<String, CachedValidation> entries;
+    private final Map<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final long staleTtlMillis;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter staleHits;
+
+    /**
+     * Incrementado a cada invalidação; uma carga concorrente com invalidações
+     * não é armazenada.
+     */
+    private long generation;
+
+    @Autowired
+    public ProfessionalValidationCache(MeterRegistry meterRegistry,
+                                       @Value("${app.cache.professional-validation.max-entries:5000}") int maxEntries,
+                                       @Value("${app.cache.professional-validation.ttl:PT5M}") Duration ttl,
+                                       @Value("${app.cache.professional-validation.negative-ttl:PT30S}") Duration negativeTtl,
+                                       @Value("${app.cache.professional-validation.stale-ttl:PT15M}") Duration staleTtl) {
+        this(meterRegistry, maxEntries, ttl, negativeTtl, staleTtl, Clock.systemUTC());
+    }
+
+    ProfessionalValidationCache(MeterRegistry meterRegistry, int maxEntries, Duration ttl, Duration negativeTtl,
+                                Duration staleTtl, Clock clock) {
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+        this.staleTtlMillis = staleTtl.toMillis();
+        this.hits = requests(meterRegistry, "hit", "Validações atendidas pelo cache");
+        this.misses = requests(meterRegistry, "miss", "Validações que exigiram chamada ao user-service");
+        this.staleHits = requests(meterRegistry, "stale", "Validações atendidas com resultado expirado por falha no user-service");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedValidation> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        Gauge.builder("clinicboard.professional.validation.cache.size", this, ProfessionalValidationCache::size)
+                .description("Profissionais com validação em cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retorna a validação em cache ou executa o loader. Se outra thread já
+     * estiver carregando o mesmo profissional, aguarda o resultado dela.
+     *
+     * @throws RuntimeException a exceção do loader; falhas não são armazenadas
+     */
+    public boolean get(String professionalId, BooleanSupplier loader) {
+        long now = clock.millis();
+        long loadGeneration;
+        synchronized (this) {
+            CachedValidation cached = entries.get(professionalId);
+            if (cached != null && now < cached.expiresAt()) {
+                hits.increment();
+                return cached.exists();
+            }
+            loadGeneration = generation;
+        }
+
+        CompletableFuture<Boolean> load = new CompletableFuture<>();
+        CompletableFuture<Boolean> running = inFlight.putIfAbsent(professionalId, load);
+        if (running != null) {
+            hits.increment();
+            return await(running);
+        }
+
+        try {
+            synchronized (this) {
+                // Outra carga pode ter terminado entre a consulta acima e o registro desta
+                CachedValidation cached = entries.get(professionalId);
+                if (cached != null && clock.millis() < cached.expiresAt()) {
+                    hits.increment();
+                    load.complete(cached.exists());
+                    return cached.exists();
+                }
+            }
+            misses.increment();
+            boolean exists = loader.getAsBoolean();
+            store(professionalId, exists, loadGeneration);
+            load.complete(exists);
+            return exists;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(professionalId, load);
+        }
+    }
+
+    /**
+     * Último resultado conhecido, ainda dentro de stale-ttl. Usado apenas
+     * quando a chamada ao user-service falha.
+     */
+    public synchronized Optional<Boolean> getStale(String professionalId) {
+        CachedValidation cached = entries.get(professionalId);
+        if (cached == null || clock.millis() >= cached.expiresAt() + staleTtlMillis) {
+            return Optional.empty();
+        }
+        staleHits.increment();
+        return Optional.of(cached.exists());
+    }
+
+    public synchronized void invalidate(String professionalId) {
+        generation++;
+        entries.remove(professionalId);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void store(String professionalId, boolean exists, long loadGeneration) {
+        if (generation == loadGeneration) {
+            long ttl = exists ? ttlMillis : negativeTtlMillis;
+            entries.put(professionalId, new CachedValidation(exists, clock.millis() + ttl));
+        }
+    }
+
+    private static boolean await(CompletableFuture<Boolean> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("clinicboard.professional.validation.cache.requests")
+                .tag("result", result)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private record CachedValidation(boolean exists, long expiresAt) {}
+}
@@ -0,0 +1,177 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.integration.client;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.integration.dto.UserBatchRequestDto;
+import com.clinicboard.business_service.infrastructure.adapter.out.integration.dto.UserSummaryDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Busca de usuários no user-service com agrupamento de chamadas simultâneas.
+ *
+ * As buscas feitas dentro de uma janela curta (window) são reunidas em uma
+ * única chamada a POST /users/batch; cada chamador recebe um
+ * CompletableFuture concluído com o resultado do seu id. O lote é enviado
+ * antes do fim da janela quando atinge max-size. Buscas repetidas do mesmo id
+ * na mesma janela compartilham o mesmo future.
+ *
+ * O envio acontece em threads próprias; uma falha na chamada em lote conclui
+ * com erro os futures de todos os ids do lote.
+ *
+ * Métricas expostas:
+ * - clinicboard.user.lookup.requests
+ * - clinicboard.user.lookup.batch.size
+ */
+@Slf4j
+@Component
+public class CoalescingUserLookupClient implements DisposableBean {
+
+    private final UserServiceFeignClient userServiceClient;
+    private final ScheduledExecutorService executor;
+    private final long windowMicros;
+    private final int maxBatchSize;
+    private final Counter requests;
+    private final DistributionSummary batchSizes;
+
+    private final Object lock = new Object();
+    private Map<String, CompletableFuture<Optional<UserSummaryDto>>> pending = new HashMap<>();
+
+    public CoalescingUserLookupClient(UserServiceFeignClient userServiceClient,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${app.integration.users.batch.window:PT0.005S}") Duration window,
+                                      @Value("${app.integration.users.batch.max-size:100}") int maxBatchSize,
+                                      @Value("${app.integration.users.batch.threads:2}") int threads) {
+        this.userServiceClient = userServiceClient;
+        this.windowMicros = window.toNanos() / 1_000;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.executor = newExecutor(threads);
+        this.requests = Counter.builder("clinicboard.user.lookup.requests")
+                .description("Buscas de usuário recebidas para agrupamento")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("clinicboard.user.lookup.batch.size")
+                .description("Ids distintos por chamada em lote ao user-service")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Busca o resumo de um usuário.
+     *
+     * @return future concluído com o usuário, ou vazio se o id não existe
+     */
+    public CompletableFuture<Optional<UserSummaryDto>> lookup(String userId) {
+        requests.increment();
+        CompletableFuture<Optional<UserSummaryDto>> future;
+        Map<String, CompletableFuture<Optional<UserSummaryDto>>> full = null;
+        synchronized (lock) {
+            future = pending.get(userId);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            pending.put(userId, future);
+            if (pending.size() >= maxBatchSize) {
+                full = pending;
+                pending = new HashMap<>();
+            } else if (pending.size() == 1) {
+                scheduleFlush(pending);
+            }
+        }
+        if (full != null) {
+            sendAsync(full);
+        }
+        return future;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        Map<String, CompletableFuture<Optional<UserSummaryDto>>> remaining;
+        synchronized (lock) {
+            remaining = pending;
+            pending = new HashMap<>();
+        }
+        fail(remaining, new IllegalStateException("Busca de usuários encerrada"));
+    }
+
+    /**
+     * Envia o lote no fim da janela, se ele ainda não foi enviado por ter
+     * atingido o tamanho máximo.
+     */
+    private void flushIfPending(Map<String, CompletableFuture<Optional<UserSummaryDto>>> batch) {
+        synchronized (lock) {
+            if (pending != batch) {
+                return;
+            }
+            pending = new HashMap<>();
+        }
+        send(batch);
+    }
+
+    private void send(Map<String, CompletableFuture<Optional<UserSummaryDto>>> batch) {
+        batchSizes.record(batch.size());
+        try {
+            List<UserSummaryDto> found = userServiceClient.findSummariesByIds(
+                    new UserBatchRequestDto(new ArrayList<>(batch.keySet())));
+
+            Map<String, UserSummaryDto> byId = new HashMap<>(found.size() * 2);
+            for (UserSummaryDto user : found) {
+                byId.put(user.id(), user);
+            }
+            batch.forEach((id, future) -> future.complete(Optional.ofNullable(byId.get(id))));
+        } catch (RuntimeException e) {
+            log.error("Erro na busca em lote de {} usuários: {}", batch.size(), e.getMessage(), e);
+            fail(batch, e);
+        }
+    }
+
+    /**
+     * Chamado com o lock, ao abrir o lote: em caso de rejeição o lote ainda
+     * está em pending e é descartado aqui.
+     */
+    private void scheduleFlush(Map<String, CompletableFuture<Optional<UserSummaryDto>>> batch) {
+        try {
+            executor.schedule(() -> flushIfPending(batch), windowMicros, TimeUnit.MICROSECONDS);
+        } catch (RejectedExecutionException e) {
+            pending = new HashMap<>();
+            fail(batch, e);
+        }
+    }
+
+    private void sendAsync(Map<String, CompletableFuture<Optional<UserSummaryDto>>> batch) {
+        try {
+            executor.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            fail(batch, e);
+        }
+    }
+
+    private static void fail(Map<String, CompletableFuture<Optional<UserSummaryDto>>> batch, Throwable cause) {
+        batch.values().forEach(future -> future.completeExceptionally(cause));
+    }
+
+    private static ScheduledExecutorService newExecutor(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ScheduledThreadPoolExecutor(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "user-lookup-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -1,8 +1,13 @@
 package com.clinicboard.business_service.infrastructure.adapter.out.integration.client;
+import com.clinicboard.business_service.infrastructure.adapter.out.integration.dto.UserBatchRequestDto;
+import com.clinicboard.business_service.infrastructure.adapter.out.integration.dto.UserSummaryDto;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 /**
  * Feign Client para comunicação com o user-service.
@@ -25,4 +30,13 @@ public interface UserServiceFeignClient {
      */
     @GetMapping("/users/{id}")
     Optional<?> findById(@PathVariable("id") String userId);
+    
+    /**
+     * Busca o resumo de vários usuários em uma única chamada ao user-service.
+     * 
+     * @param request IDs dos usuários a serem buscados
+     * @return resumo dos usuários encontrados; IDs inexistentes são omitidos
+     */
+    @PostMapping("/users/batch")
+    List<UserSummaryDto> findSummariesByIds(@RequestBody UserBatchRequestDto request);
 }
@@ -1,8 +1,11 @@
 package com.clinicboard.business_service.infrastructure.adapter.out.integration.client;
 
 import com.clinicboard.business_service.domain.exception.ProfessionalValidationException;
+import com.clinicboard.business_service.infrastructure.adapter.out.integration.dto.UserBatchRequestDto;
 import com.clinicboard.business_service.infrastructure.adapter.out.integration.dto.UserServiceResponseDto;
+import com.clinicboard.business_service.infrastructure.adapter.out.integration.dto.UserSummaryDto;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -28,4 +31,13 @@ public class UserServiceFeignClientFallback implements UserServiceFeignClient {
             "Serviço de usuários não está ativo no momento. Tente novamente em alguns instantes."
         );
     }
+    
+    @Override
+    public List<UserSummaryDto> findSummariesByIds(UserBatchRequestDto request) {
+        log.error("Fallback acionado: user-service está indisponível para busca em lote de {} usuários", request.ids().size());
+        
+        throw new ProfessionalValidationException(
+            "Serviço de usuários não está ativo no momento. Tente novamente em alguns instantes."
+        );
+    }
 }
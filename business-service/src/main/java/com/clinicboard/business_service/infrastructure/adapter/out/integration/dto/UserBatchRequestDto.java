@@ -0,0 +1,12 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.integration.dto;
+
+import java.util.List;
+
+/**
+ * DTO para comunicação com o user-service.
+ * Representa o corpo do endpoint POST /users/batch.
+ */
+public record UserBatchRequestDto(
+    List<String> ids
+) {
+}
@@ -0,0 +1,15 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.integration.dto;
+
+/**
+ * DTO para comunicação com o user-service.
+ * Representa cada item da resposta do endpoint POST /users/batch.
+ *
+ * O role vem como texto (ADMIN, PROFESSIONAL) porque os papéis do
+ * user-service não coincidem com os de UserRoleDto.
+ */
+public record UserSummaryDto(
+    String id,
+    String name,
+    String role
+) {
+}
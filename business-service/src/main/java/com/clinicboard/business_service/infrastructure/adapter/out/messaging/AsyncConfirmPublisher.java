@@ -0,0 +1,253 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publicador assíncrono em lotes com publisher confirms.
+ *
+ * Quem publica apenas serializa a mensagem e a coloca em um buffer circular
+ * limitado; uma thread dedicada esvazia o buffer em lotes, enviando cada lote
+ * em um único canal (RabbitTemplate.invoke). Cada mensagem recebe um
+ * CompletableFuture concluído pelo confirm do broker.
+ *
+ * Backpressure em dois pontos:
+ * - buffer cheio: quem publica espera até enqueue-timeout e então recebe o future com falha
+ *   (tryPublish não espera);
+ * - mensagens sem confirm: a thread de envio para quando há max-in-flight pendentes.
+ *
+ * Requer spring.rabbitmq.publisher-confirm-type=correlated.
+ *
+ * Métricas expostas:
+ * - clinicboard.publisher.queue.depth
+ * - clinicboard.publisher.batch.size
+ * - clinicboard.publisher.confirm.latency
+ * - clinicboard.publisher.rejected
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.messaging.publisher.mode", havingValue = "async")
+public class AsyncConfirmPublisher implements SmartLifecycle {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final BlockingQueue<PendingPublish> buffer;
+    private final Semaphore inFlight;
+    private final int batchSize;
+    private final Duration enqueueTimeout;
+    private final Duration confirmTimeout;
+    private final DistributionSummary batchSizes;
+    private final Timer confirmLatency;
+    private final Counter rejected;
+
+    private volatile boolean running;
+    private Thread publisherThread;
+
+    public AsyncConfirmPublisher(RabbitTemplate rabbitTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.messaging.publisher.buffer-size:8192}") int bufferSize,
+                                 @Value("${app.messaging.publisher.batch-size:256}") int batchSize,
+                                 @Value("${app.messaging.publisher.max-in-flight:4096}") int maxInFlight,
+                                 @Value("${app.messaging.publisher.enqueue-timeout-ms:1000}") long enqueueTimeoutMs,
+                                 @Value("${app.messaging.publisher.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        // Um lote inteiro precisa caber nas permissões, senão a thread de envio nunca avança
+        this.inFlight = new Semaphore(Math.max(maxInFlight, batchSize));
+        this.enqueueTimeout = Duration.ofMillis(enqueueTimeoutMs);
+        this.confirmTimeout = Duration.ofMillis(confirmTimeoutMs);
+        this.batchSizes = DistributionSummary.builder("clinicboard.publisher.batch.size")
+                .description("Mensagens enviadas por lote")
+                .register(meterRegistry);
+        this.confirmLatency = Timer.builder("clinicboard.publisher.confirm.latency")
+                .description("Tempo entre a entrada no buffer e o confirm do broker")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("clinicboard.publisher.rejected")
+                .description("Publicações recusadas por buffer cheio")
+                .register(meterRegistry);
+        Gauge.builder("clinicboard.publisher.queue.depth", buffer, BlockingQueue::size)
+                .description("Mensagens aguardando envio no buffer")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enfileira a mensagem para envio.
+     *
+     * @return future concluído quando o broker confirmar a mensagem, ou com
+     *         falha em caso de nack, timeout de confirm ou buffer cheio
+     */
+    public CompletableFuture<Void> publish(String exchange, String routingKey, Object payload) {
+        return enqueue(exchange, routingKey, payload, enqueueTimeout.toMillis());
+    }
+
+    /**
+     * Como publish, mas sem esperar por espaço no buffer: se estiver cheio, o
+     * future já volta com falha. Para quem publica a partir de callbacks de
+     * confirm, que não podem bloquear enquanto a thread de envio espera por
+     * esses mesmos confirms.
+     */
+    public CompletableFuture<Void> tryPublish(String exchange, String routingKey, Object payload) {
+        return enqueue(exchange, routingKey, payload, 0);
+    }
+
+    private CompletableFuture<Void> enqueue(String exchange, String routingKey, Object payload, long timeoutMillis) {
+        CompletableFuture<Void> confirmed = new CompletableFuture<>();
+        if (!running) {
+            confirmed.completeExceptionally(new IllegalStateException("Publicador assíncrono não está em execução"));
+            return confirmed;
+        }
+
+        try {
+            // Serialização na thread de quem publica, fora da thread de envio
+            Message message = rabbitTemplate.getMessageConverter().toMessage(payload, new MessageProperties());
+            PendingPublish pending = new PendingPublish(exchange, routingKey, message, confirmed, System.nanoTime());
+            if (!buffer.offer(pending, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                confirmed.completeExceptionally(new RejectedExecutionException(
+                        "Buffer de publicação cheio (" + (buffer.size() + buffer.remainingCapacity()) + " mensagens)"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            confirmed.completeExceptionally(e);
+        } catch (Exception e) {
+            confirmed.completeExceptionally(e);
+        }
+        return confirmed;
+    }
+
+    public int queueDepth() {
+        return buffer.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        publisherThread = new Thread(this::publishLoop, "rabbit-async-publisher");
+        publisherThread.setDaemon(true);
+        publisherThread.start();
+        log.info("Publicador assíncrono iniciado: buffer={}, lote={}", buffer.remainingCapacity(), batchSize);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            // A thread esvazia o que já estava no buffer antes de terminar
+            publisherThread.join(confirmTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failRemaining(new IllegalStateException("Publicador assíncrono encerrado"));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void publishLoop() {
+        List<PendingPublish> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                PendingPublish first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.confirmed().completeExceptionally(e));
+                return;
+            } catch (Exception e) {
+                log.error("Erro inesperado no publicador assíncrono: {}", e.getMessage(), e);
+                batch.forEach(pending -> pending.confirmed().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void sendBatch(List<PendingPublish> batch) throws InterruptedException {
+        inFlight.acquire(batch.size());
+        batchSizes.record(batch.size());
+
+        List<CorrelationData> correlations = new ArrayList<>(batch.size());
+        for (PendingPublish pending : batch) {
+            CorrelationData correlation = new CorrelationData();
+            track(pending, correlation);
+            correlations.add(correlation);
+        }
+
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (int i = 0; i < batch.size(); i++) {
+                    PendingPublish pending = batch.get(i);
+                    operations.send(pending.exchange(), pending.routingKey(), pending.message(), correlations.get(i));
+                }
+                return null;
+            });
+        } catch (AmqpException e) {
+            log.warn("Falha ao enviar lote de {} mensagens: {}", batch.size(), e.getMessage());
+            // Mensagens já enviadas ainda podem ser confirmadas; as demais falham aqui
+            correlations.forEach(correlation -> correlation.getFuture().completeExceptionally(e));
+        }
+    }
+
+    private void track(PendingPublish pending, CorrelationData correlation) {
+        correlation.getFuture()
+                .orTimeout(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, error) -> {
+                    inFlight.release();
+                    confirmLatency.record(System.nanoTime() - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+                    if (error != null) {
+                        pending.confirmed().completeExceptionally(error);
+                    } else if (confirm.isAck()) {
+                        pending.confirmed().complete(null);
+                    } else {
+                        pending.confirmed().completeExceptionally(
+                                new AmqpException("Mensagem rejeitada pelo broker: " + confirm.getReason()));
+                    }
+                });
+    }
+
+    private void failRemaining(Exception cause) {
+        List<PendingPublish> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        remaining.forEach(pending -> pending.confirmed().completeExceptionally(cause));
+    }
+
+    record PendingPublish(String exchange, String routingKey, Message message,
+                          CompletableFuture<Void> confirmed, long enqueuedAt) {}
+}
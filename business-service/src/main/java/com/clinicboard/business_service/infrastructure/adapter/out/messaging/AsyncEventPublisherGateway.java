@@ -0,0 +1,97 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging;
+
+import com.clinicboard.business_service.application.port.out.EventPublisherGateway;
+import com.clinicboard.business_service.domain.event.AppointmentCanceledEvent;
+import com.clinicboard.business_service.domain.event.AppointmentRescheduledEvent;
+import com.clinicboard.business_service.domain.event.AppointmentScheduledEvent;
+import com.clinicboard.business_service.domain.event.AppointmentStatusChangedEvent;
+import com.clinicboard.business_service.domain.event.DomainEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementação do gateway de eventos com publicação assíncrona em lotes
+ * (app.messaging.publisher.mode=async).
+ *
+ * A chamada apenas enfileira o evento no AsyncConfirmPublisher e não bloqueia.
+ * O resultado só é conhecido no confirm do broker, depois que o método já
+ * retornou; por isso não há Circuit Breaker nem Retry aqui, pois eles só
+ * observariam o enfileiramento. Eventos não confirmados (nack, timeout ou
+ * buffer cheio) são desviados para a DLQ.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.messaging.publisher.mode", havingValue = "async")
+public class AsyncEventPublisherGateway implements EventPublisherGateway {
+
+    private final AsyncConfirmPublisher asyncPublisher;
+
+    @Value("${app.messaging.exchange.events:clinicboard.events}")
+    private String eventsExchange;
+
+    @Value("${app.messaging.routing-key.appointment-scheduled:appointment.scheduled}")
+    private String appointmentScheduledRoutingKey;
+
+    @Value("${app.messaging.routing-key.appointment-canceled:appointment.canceled}")
+    private String appointmentCanceledRoutingKey;
+
+    @Value("${app.messaging.routing-key.appointment-status-changed:appointment.status.changed}")
+    private String appointmentStatusChangedRoutingKey;
+
+    @Value("${app.messaging.routing-key.appointment-rescheduled:appointment.rescheduled}")
+    private String appointmentRescheduledRoutingKey;
+
+    @Value("${app.messaging.dlq.exchange:clinicboard.dlq}")
+    private String dlqExchange;
+
+    @Value("${app.messaging.dlq.routing-key:events.failed}")
+    private String dlqRoutingKey;
+
+    @Override
+    public void publishAppointmentScheduled(AppointmentScheduledEvent event) {
+        publish(event, appointmentScheduledRoutingKey);
+    }
+
+    @Override
+    public void publishAppointmentCanceled(AppointmentCanceledEvent event) {
+        publish(event, appointmentCanceledRoutingKey);
+    }
+
+    @Override
+    public void publishAppointmentStatusChanged(AppointmentStatusChangedEvent event) {
+        publish(event, appointmentStatusChangedRoutingKey);
+    }
+
+    @Override
+    public void publishAppointmentRescheduled(AppointmentRescheduledEvent event) {
+        publish(event, appointmentRescheduledRoutingKey);
+    }
+
+    /**
+     * Enfileira o evento e retorna um future concluído com o confirm do broker.
+     */
+    CompletableFuture<Void> publish(DomainEvent event, String routingKey) {
+        CompletableFuture<Void> confirmed = asyncPublisher.publish(eventsExchange, routingKey, event);
+        confirmed.whenComplete((ignored, error) -> {
+            if (error != null) {
+                log.warn("{} not confirmed for appointment: {}. Sending to DLQ: {}",
+                    event.getEventType(), event.getAggregateId(), error.getMessage());
+                // Roda na thread do confirm (ou do timeout): não pode esperar por espaço no buffer
+                asyncPublisher.tryPublish(dlqExchange, dlqRoutingKey, event)
+                    .whenComplete((dlqIgnored, dlqError) -> {
+                        if (dlqError != null) {
+                            log.error("Failed to send {} to DLQ for appointment: {}",
+                                event.getEventType(), event.getAggregateId(), dlqError);
+                        }
+                    });
+            }
+        });
+        return confirmed;
+    }
+}
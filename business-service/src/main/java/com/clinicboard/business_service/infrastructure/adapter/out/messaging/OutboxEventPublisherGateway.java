@@ -0,0 +1,117 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging;
+
+import com.clinicboard.business_service.application.port.out.EventPublisherGateway;
+import com.clinicboard.business_service.domain.event.AppointmentCanceledEvent;
+import com.clinicboard.business_service.domain.event.AppointmentRescheduledEvent;
+import com.clinicboard.business_service.domain.event.AppointmentScheduledEvent;
+import com.clinicboard.business_service.domain.event.AppointmentStatusChangedEvent;
+import com.clinicboard.business_service.domain.event.DomainEvent;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.OutboxEventJpaEntity;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.OutboxEventJpaRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementação do gateway de eventos com outbox transacional.
+ *
+ * Em vez de publicar no RabbitMQ na thread da requisição, serializa o evento
+ * com o mesmo MessageConverter usado na publicação direta e grava a mensagem
+ * na tabela eventos_outbox, dentro da transação do caso de uso. O evento só
+ * existe se o agendamento foi gravado, e nenhum evento se perde entre o save
+ * e a publicação. O OutboxRelay publica as mensagens em segundo plano.
+ *
+ * Desative com app.messaging.outbox.enabled=false para voltar à publicação
+ * direta via RabbitEventPublisherGateway (ou AsyncEventPublisherGateway com
+ * app.messaging.publisher.mode=async).
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.messaging.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxEventPublisherGateway implements EventPublisherGateway {
+
+    private final OutboxEventJpaRepository outboxRepository;
+    private final MessageConverter messageConverter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.messaging.exchange.events:clinicboard.events}")
+    private String eventsExchange;
+
+    @Value("${app.messaging.routing-key.appointment-scheduled:appointment.scheduled}")
+    private String appointmentScheduledRoutingKey;
+
+    @Value("${app.messaging.routing-key.appointment-canceled:appointment.canceled}")
+    private String appointmentCanceledRoutingKey;
+
+    @Value("${app.messaging.routing-key.appointment-status-changed:appointment.status.changed}")
+    private String appointmentStatusChangedRoutingKey;
+
+    @Value("${app.messaging.routing-key.appointment-rescheduled:appointment.rescheduled}")
+    private String appointmentRescheduledRoutingKey;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAppointmentScheduled(AppointmentScheduledEvent event) {
+        enqueue(event, appointmentScheduledRoutingKey);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAppointmentCanceled(AppointmentCanceledEvent event) {
+        enqueue(event, appointmentCanceledRoutingKey);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAppointmentStatusChanged(AppointmentStatusChangedEvent event) {
+        enqueue(event, appointmentStatusChangedRoutingKey);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAppointmentRescheduled(AppointmentRescheduledEvent event) {
+        enqueue(event, appointmentRescheduledRoutingKey);
+    }
+
+    private void enqueue(DomainEvent event, String routingKey) {
+        Message message = messageConverter.toMessage(event, new MessageProperties());
+        LocalDateTime now = LocalDateTime.now();
+
+        OutboxEventJpaEntity outboxEvent = OutboxEventJpaEntity.builder()
+                .aggregateId(event.getAggregateId())
+                .eventType(event.getEventType())
+                .exchange(eventsExchange)
+                .routingKey(routingKey)
+                .contentType(message.getMessageProperties().getContentType())
+                .headers(toJson(message))
+                .payload(message.getBody())
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+
+        outboxRepository.save(outboxEvent);
+        log.debug("Evento {} registrado no outbox para agendamento {}", event.getEventType(), event.getAggregateId());
+    }
+
+    private String toJson(Message message) {
+        try {
+            return objectMapper.writeValueAsString(message.getMessageProperties().getHeaders());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar cabeçalhos do evento para o outbox", e);
+        }
+    }
+}
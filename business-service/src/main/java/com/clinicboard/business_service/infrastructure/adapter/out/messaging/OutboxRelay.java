@@ -0,0 +1,235 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.OutboxEventJpaEntity;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.OutboxEventJpaRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Relay do outbox transacional: publica no RabbitMQ os eventos gravados
+ * por OutboxEventPublisherGateway.
+ *
+ * A cada ciclo reivindica um lote com FOR UPDATE SKIP LOCKED (seguro com
+ * várias réplicas), publica todas as mensagens e só então aguarda os
+ * publisher confirms do broker. Eventos confirmados são marcados como
+ * publicados; os demais voltam ao outbox com backoff exponencial até
+ * app.messaging.outbox.max-attempts tentativas, quando são marcados como
+ * falhos (failed_at) e deixam de ser reivindicados. Eventos falhos não são
+ * removidos pela limpeza e precisam de reenvio manual.
+ *
+ * A entrega é at-least-once: uma queda entre o confirm e o commit do lote
+ * republica o lote, e consumidores devem tolerar duplicatas. A ordem é a de
+ * gravação dentro de um lote, mas não é garantida entre réplicas nem após falhas.
+ *
+ * Requer spring.rabbitmq.publisher-confirm-type=correlated.
+ *
+ * Métricas expostas:
+ * - clinicboard.outbox.published
+ * - clinicboard.outbox.failures
+ * - clinicboard.outbox.abandoned
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.messaging.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventJpaRepository outboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter published;
+    private final Counter failures;
+    private final Counter abandoned;
+    private final int batchSize;
+    private final Duration confirmTimeout;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    public OutboxRelay(OutboxEventJpaRepository outboxRepository,
+                       RabbitTemplate rabbitTemplate,
+                       TransactionTemplate transactionTemplate,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.messaging.outbox.batch-size:100}") int batchSize,
+                       @Value("${app.messaging.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                       @Value("${app.messaging.outbox.max-backoff-ms:60000}") long maxBackoffMs,
+                       @Value("${app.messaging.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${app.messaging.outbox.retention-hours:24}") long retentionHours) {
+        this.outboxRepository = outboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.confirmTimeout = Duration.ofMillis(confirmTimeoutMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.maxAttempts = maxAttempts;
+        this.retention = Duration.ofHours(retentionHours);
+        this.published = Counter.builder("clinicboard.outbox.published")
+                .description("Eventos do outbox confirmados pelo broker")
+                .register(meterRegistry);
+        this.failures = Counter.builder("clinicboard.outbox.failures")
+                .description("Tentativas de publicação do outbox sem confirmação")
+                .register(meterRegistry);
+        this.abandoned = Counter.builder("clinicboard.outbox.abandoned")
+                .description("Eventos do outbox marcados como falhos após max-attempts tentativas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Drena o outbox enquanto houver lotes cheios.
+     */
+    @Scheduled(fixedDelayString = "${app.messaging.outbox.poll-interval-ms:500}")
+    public void relayPending() {
+        try {
+            int claimed;
+            do {
+                claimed = relayBatch();
+            } while (claimed == batchSize);
+        } catch (Exception e) {
+            log.error("Erro ao publicar eventos do outbox: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Publica um lote na mesma transação que o reivindicou.
+     *
+     * @return quantidade de eventos reivindicados
+     */
+    int relayBatch() {
+        Integer claimed = transactionTemplate.execute(status -> {
+            List<OutboxEventJpaEntity> batch = outboxRepository.claimPending(LocalDateTime.now(), batchSize);
+            if (!batch.isEmpty()) {
+                publish(batch);
+            }
+            return batch.size();
+        });
+        return claimed != null ? claimed : 0;
+    }
+
+    /**
+     * Remove eventos publicados há mais tempo que a retenção configurada.
+     */
+    @Scheduled(fixedDelayString = "${app.messaging.outbox.purge-interval-ms:3600000}")
+    public void purgePublished() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+            if (deleted != null && deleted > 0) {
+                log.info("Removidos {} eventos publicados do outbox", deleted);
+            }
+        } catch (Exception e) {
+            log.error("Erro ao limpar eventos publicados do outbox: {}", e.getMessage(), e);
+        }
+    }
+
+    private void publish(List<OutboxEventJpaEntity> batch) {
+        // Envia o lote inteiro antes de esperar: os confirms chegam em paralelo
+        List<CorrelationData> correlations = new ArrayList<>(batch.size());
+        AmqpException sendFailure = null;
+        for (OutboxEventJpaEntity event : batch) {
+            CorrelationData correlation = new CorrelationData(String.valueOf(event.getId()));
+            correlations.add(correlation);
+            if (sendFailure != null) {
+                // Broker indisponível: o restante do lote fica para a próxima tentativa
+                correlation.getFuture().completeExceptionally(sendFailure);
+                continue;
+            }
+            try {
+                rabbitTemplate.send(event.getExchange(), event.getRoutingKey(), toMessage(event), correlation);
+            } catch (AmqpException e) {
+                sendFailure = e;
+                correlation.getFuture().completeExceptionally(e);
+            } catch (Exception e) {
+                correlation.getFuture().completeExceptionally(e);
+            }
+        }
+
+        long deadline = System.nanoTime() + confirmTimeout.toNanos();
+        int confirmed = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            String error = awaitConfirm(correlations.get(i), deadline);
+            if (error == null) {
+                batch.get(i).setPublishedAt(LocalDateTime.now());
+                confirmed++;
+            } else {
+                scheduleRetry(batch.get(i), error);
+            }
+        }
+
+        published.increment(confirmed);
+        failures.increment(batch.size() - confirmed);
+        log.debug("Lote do outbox publicado: {} confirmados de {}", confirmed, batch.size());
+    }
+
+    /**
+     * @return null se o broker confirmou a mensagem, ou a descrição da falha
+     */
+    private String awaitConfirm(CorrelationData correlation, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            CorrelationData.Confirm confirm = correlation.getFuture().get(remaining, TimeUnit.NANOSECONDS);
+            return confirm.isAck() ? null : "nack: " + confirm.getReason();
+        } catch (TimeoutException e) {
+            return "confirm não recebido em " + confirmTimeout.toMillis() + " ms";
+        } catch (ExecutionException e) {
+            return String.valueOf(e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrompido aguardando confirm";
+        }
+    }
+
+    private void scheduleRetry(OutboxEventJpaEntity event, String error) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+        if (attempts >= maxAttempts) {
+            event.setFailedAt(LocalDateTime.now());
+            abandoned.increment();
+            log.error("Evento {} do outbox marcado como falho após {} tentativas: {}", event.getId(), attempts, error);
+            return;
+        }
+
+        long backoffMs = Math.min(maxBackoff.toMillis(), 1000L << Math.min(attempts - 1, 20));
+        event.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoffMs)));
+
+        log.warn("Falha ao publicar evento {} do outbox (tentativa {}): {}", event.getId(), attempts, error);
+    }
+
+    private Message toMessage(OutboxEventJpaEntity event) throws Exception {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(event.getContentType());
+        properties.setMessageId(String.valueOf(event.getId()));
+        if (event.getHeaders() != null) {
+            Map<String, Object> headers = objectMapper.readValue(event.getHeaders(), new TypeReference<>() {});
+            headers.forEach(properties::setHeader);
+        }
+        return new Message(event.getPayload(), properties);
+    }
+}
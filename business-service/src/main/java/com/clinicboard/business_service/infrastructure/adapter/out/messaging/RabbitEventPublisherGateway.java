@@ -7,6 +7,7 @@ import com.clinicboard.business_service.domain.event.AppointmentStatusChangedEve
 import com.clinicboard.business_service.domain.event.AppointmentRescheduledEvent;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
@@ -24,10 +25,14 @@ import lombok.extern.slf4j.Slf4j;
  * - Detecta falhas no serviço de notificação
  * - Ativa fallback para DLQ quando necessário
  * - Protege contra cascading failures
+ * 
+ * Ativa com app.messaging.publisher.mode=sync (padrão); no modo async a
+ * publicação é feita pelo AsyncEventPublisherGateway.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.messaging.publisher.mode", havingValue = "sync", matchIfMissing = true)
 public class RabbitEventPublisherGateway implements EventPublisherGateway {
 
     private final RabbitTemplate rabbitTemplate;
@@ -67,7 +72,7 @@ public class RabbitEventPublisherGateway implements EventPublisherGateway {
                 event
             );
             
-            log.info("Successfully published AppointmentScheduledEvent for appointment: {}", 
+            log.debug("Successfully published AppointmentScheduledEvent for appointment: {}", 
                 event.getAggregateId());
         } catch (Exception e) {
             log.error("Failed to publish AppointmentScheduledEvent for appointment: {}", 
@@ -90,7 +95,7 @@ public class RabbitEventPublisherGateway implements EventPublisherGateway {
                 event
             );
             
-            log.info("Successfully published AppointmentCanceledEvent for appointment: {}", 
+            log.debug("Successfully published AppointmentCanceledEvent for appointment: {}", 
                 event.appointmentId());
         } catch (Exception e) {
             log.error("Failed to publish AppointmentCanceledEvent for appointment: {}", 
@@ -113,7 +118,7 @@ public class RabbitEventPublisherGateway implements EventPublisherGateway {
                 event
             );
             
-            log.info("Successfully published AppointmentStatusChangedEvent for appointment: {} - {} -> {}", 
+            log.debug("Successfully published AppointmentStatusChangedEvent for appointment: {} - {} -> {}", 
                 event.getAggregateId(), 
                 event.getPreviousStatusName(), 
                 event.getNewStatusName());
@@ -138,7 +143,7 @@ public class RabbitEventPublisherGateway implements EventPublisherGateway {
                 event
             );
             
-            log.info("Successfully published AppointmentRescheduledEvent for appointment: {} from {} to {}", 
+            log.debug("Successfully published AppointmentRescheduledEvent for appointment: {} from {} to {}", 
                 event.appointmentId(),
                 event.getFormattedPreviousTime(),
                 event.getFormattedNewTime());
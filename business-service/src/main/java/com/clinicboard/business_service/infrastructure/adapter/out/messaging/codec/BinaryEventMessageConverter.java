@@ -0,0 +1,92 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging.codec;
+
+import com.clinicboard.business_service.domain.event.AppointmentCanceledEvent;
+import com.clinicboard.business_service.domain.event.AppointmentRescheduledEvent;
+import com.clinicboard.business_service.domain.event.AppointmentScheduledEvent;
+import com.clinicboard.business_service.domain.event.AppointmentStatusChangedEvent;
+import com.clinicboard.business_service.domain.model.AppointmentTime;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.time.LocalDateTime;
+
+/**
+ * MessageConverter que publica os eventos de agendamento no formato binário
+ * compacto descrito em EventWireFormat.
+ *
+ * Substitui o JSON com cabeçalho __TypeId__ (nome de classe Java) por um tipo
+ * estável e uma versão de schema nos cabeçalhos. O produtor apenas codifica:
+ * a decodificação fica a cargo dos consumidores, que conhecem os próprios
+ * modelos de evento.
+ */
+public class BinaryEventMessageConverter implements MessageConverter {
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        CompactEventWriter writer = new CompactEventWriter();
+        String eventType = encode(object, writer);
+
+        messageProperties.setContentType(EventWireFormat.CONTENT_TYPE);
+        messageProperties.setContentLength(writer.size());
+        messageProperties.setHeader(EventWireFormat.TYPE_HEADER, eventType);
+        messageProperties.setHeader(EventWireFormat.VERSION_HEADER, EventWireFormat.CURRENT_VERSION);
+        return new Message(writer.toByteArray(), messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        throw new MessageConversionException("O business-service apenas publica eventos no formato "
+                + EventWireFormat.CONTENT_TYPE);
+    }
+
+    /**
+     * Grava os campos da versão atual do schema.
+     *
+     * @return tipo do evento para o cabeçalho
+     */
+    static String encode(Object event, CompactEventWriter writer) {
+        if (event instanceof AppointmentScheduledEvent scheduled) {
+            writer.writeId(scheduled.getAggregateId())
+                    .writeId(scheduled.patientId() != null ? scheduled.patientId().value() : null)
+                    .writeId(scheduled.professionalId() != null ? scheduled.professionalId().value() : null)
+                    .writeDateTime(valueOf(scheduled.scheduledTime()))
+                    .writeInstant(scheduled.occurredOn());
+            return EventWireFormat.APPOINTMENT_SCHEDULED;
+        }
+        if (event instanceof AppointmentCanceledEvent canceled) {
+            writer.writeId(canceled.appointmentId())
+                    .writeId(canceled.patientId())
+                    .writeId(canceled.professionalId())
+                    .writeDateTime(canceled.scheduledTime())
+                    .writeDateTime(canceled.canceledAt())
+                    .writeId(canceled.eventId())
+                    .writeInstant(canceled.occurredAt());
+            return EventWireFormat.APPOINTMENT_CANCELED;
+        }
+        if (event instanceof AppointmentStatusChangedEvent statusChanged) {
+            writer.writeId(statusChanged.getAggregateId())
+                    .writeString(statusChanged.previousStatus() != null ? statusChanged.getPreviousStatusName() : null)
+                    .writeString(statusChanged.newStatus() != null ? statusChanged.getNewStatusName() : null)
+                    .writeInstant(statusChanged.occurredOn());
+            return EventWireFormat.APPOINTMENT_STATUS_CHANGED;
+        }
+        if (event instanceof AppointmentRescheduledEvent rescheduled) {
+            writer.writeId(rescheduled.getAggregateId())
+                    .writeId(rescheduled.patientId() != null ? rescheduled.patientId().value() : null)
+                    .writeId(rescheduled.professionalId() != null ? rescheduled.professionalId().value() : null)
+                    .writeDateTime(valueOf(rescheduled.previousTime()))
+                    .writeDateTime(valueOf(rescheduled.newTime()))
+                    .writeString(rescheduled.reason())
+                    .writeInstant(rescheduled.rescheduledAt());
+            return EventWireFormat.APPOINTMENT_RESCHEDULED;
+        }
+        throw new MessageConversionException("Tipo de evento sem schema binário: "
+                + (event != null ? event.getClass().getName() : "null"));
+    }
+
+    private static LocalDateTime valueOf(AppointmentTime time) {
+        return time != null ? time.value() : null;
+    }
+}
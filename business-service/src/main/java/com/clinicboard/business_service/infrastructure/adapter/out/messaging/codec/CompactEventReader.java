@@ -0,0 +1,121 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Leitura dos campos do formato binário compacto, na ordem em que
+ * CompactEventWriter os gravou.
+ *
+ * Usado para validar o contrato e nos benchmarks; os consumidores mantêm a
+ * própria cópia do leitor.
+ */
+public final class CompactEventReader {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final byte[] buffer;
+    private int position;
+
+    public CompactEventReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    public String readId() {
+        int marker = readByte();
+        return switch (marker) {
+            case CompactEventWriter.ID_NULL -> null;
+            case CompactEventWriter.ID_UUID -> formatUuid(readLong(), readLong());
+            case CompactEventWriter.ID_TEXT -> readString();
+            default -> throw new IllegalArgumentException("Marcação de id desconhecida: " + marker);
+        };
+    }
+
+    public String readString() {
+        long length = readVarLong();
+        if (length == 0) {
+            return null;
+        }
+        int size = (int) (length - 1);
+        require(size);
+        String value = new String(buffer, position, size, StandardCharsets.UTF_8);
+        position += size;
+        return value;
+    }
+
+    public LocalDateTime readDateTime() {
+        long nanos = readVarLong();
+        if (nanos == 0) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(unzigzag(readVarLong()), (int) (nanos - 1), ZoneOffset.UTC);
+    }
+
+    public Instant readInstant() {
+        long nanos = readVarLong();
+        if (nanos == 0) {
+            return null;
+        }
+        return Instant.ofEpochSecond(unzigzag(readVarLong()), nanos - 1);
+    }
+
+    public boolean hasRemaining() {
+        return position < buffer.length;
+    }
+
+    private long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Varint malformado na posição " + position);
+    }
+
+    private long readLong() {
+        require(8);
+        long result = 0;
+        for (int i = 0; i < 8; i++) {
+            result = (result << 8) | (buffer[position++] & 0xFF);
+        }
+        return result;
+    }
+
+    private int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    private void require(int bytes) {
+        if (position + bytes > buffer.length) {
+            throw new IllegalArgumentException("Evento truncado: esperados " + bytes
+                    + " bytes na posição " + position + " de " + buffer.length);
+        }
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static String formatUuid(long msb, long lsb) {
+        char[] chars = new char[36];
+        int index = appendHex(chars, 0, msb);
+        appendHex(chars, index, lsb);
+        return new String(chars);
+    }
+
+    private static int appendHex(char[] chars, int index, long bits) {
+        for (int shift = 60; shift >= 0; shift -= 4) {
+            if (index == 8 || index == 13 || index == 18 || index == 23) {
+                chars[index++] = '-';
+            }
+            chars[index++] = HEX[(int) (bits >>> shift) & 0xF];
+        }
+        return index;
+    }
+}
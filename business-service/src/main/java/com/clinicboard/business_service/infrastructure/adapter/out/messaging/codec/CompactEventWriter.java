@@ -0,0 +1,152 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging.codec;
+
+import com.clinicboard.business_service.domain.model.UuidFormat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Escrita dos campos do formato binário compacto.
+ *
+ * Codificação dos tipos:
+ * - inteiros: varint (LEB128), com zigzag para valores com sinal;
+ * - texto: varint(tamanho em bytes + 1) seguido do UTF-8; 0 representa null;
+ * - id: 1 byte de marcação (0 null, 1 UUID, 2 texto); UUIDs canônicos em
+ *   minúsculas ocupam 16 bytes, qualquer outro valor é gravado como texto;
+ * - data-hora e instante: varint(nanos + 1), 0 representa null, seguido dos
+ *   segundos desde a época em zigzag (data-hora interpretada em UTC).
+ */
+public final class CompactEventWriter {
+
+    static final int ID_NULL = 0;
+    static final int ID_UUID = 1;
+    static final int ID_TEXT = 2;
+
+    private byte[] buffer;
+    private int position;
+
+    public CompactEventWriter() {
+        this(128);
+    }
+
+    public CompactEventWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public CompactEventWriter writeId(String value) {
+        if (value == null) {
+            writeByte(ID_NULL);
+        } else if (isCanonicalUuid(value)) {
+            writeByte(ID_UUID);
+            writeLong(UuidFormat.mostSignificantBits(value));
+            writeLong(UuidFormat.leastSignificantBits(value));
+        } else {
+            writeByte(ID_TEXT);
+            writeString(value);
+        }
+        return this;
+    }
+
+    public CompactEventWriter writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return this;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(utf8.length + 1L);
+        ensureCapacity(utf8.length);
+        System.arraycopy(utf8, 0, buffer, position, utf8.length);
+        position += utf8.length;
+        return this;
+    }
+
+    public CompactEventWriter writeDateTime(LocalDateTime value) {
+        if (value == null) {
+            writeVarLong(0);
+            return this;
+        }
+        writeVarLong(value.getNano() + 1L);
+        writeVarLong(zigzag(value.toEpochSecond(ZoneOffset.UTC)));
+        return this;
+    }
+
+    public CompactEventWriter writeInstant(Instant value) {
+        if (value == null) {
+            writeVarLong(0);
+            return this;
+        }
+        writeVarLong(value.getNano() + 1L);
+        writeVarLong(zigzag(value.getEpochSecond()));
+        return this;
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /**
+     * Descarta o conteúdo para reaproveitar o buffer na próxima mensagem.
+     */
+    public void reset() {
+        position = 0;
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Só UUIDs na forma canônica (36 caracteres, hexadecimal minúsculo) são
+     * compactados, para que a leitura reproduza exatamente o texto original.
+     */
+    private static boolean isCanonicalUuid(String value) {
+        if (value.length() != UuidFormat.LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UuidFormat.LENGTH; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging.codec;
+
+/**
+ * Contrato do formato binário compacto dos eventos de agendamento.
+ *
+ * O tipo e a versão do schema viajam nos cabeçalhos da mensagem, nunca o nome
+ * de classe Java. O corpo é a sequência de campos da versão, sem nomes nem
+ * delimitadores:
+ *
+ * appointment.scheduled v1: appointmentId, patientId, professionalId (id),
+ *   scheduledTime (data-hora), occurredOn (instante)
+ * appointment.canceled v1: appointmentId, patientId, professionalId (id),
+ *   scheduledTime, canceledAt (data-hora), eventId (id), occurredAt (instante)
+ * appointment.status.changed v1: appointmentId (id), previousStatus,
+ *   newStatus (texto, nome de exibição), occurredOn (instante)
+ * appointment.rescheduled v1: appointmentId, patientId, professionalId (id),
+ *   previousTime, newTime (data-hora), reason (texto), rescheduledAt (instante)
+ *
+ * Evolução: campos novos só podem ser acrescentados ao final, mantendo a versão
+ * (leitores antigos ignoram bytes excedentes). Remover, reordenar ou mudar o
+ * tipo de um campo exige nova versão, e os consumidores precisam aceitá-la
+ * antes de o produtor passar a publicá-la.
+ *
+ * Este contrato é espelhado no notification-service.
+ */
+public final class EventWireFormat {
+
+    public static final String CONTENT_TYPE = "application/x-clinicboard-event";
+    public static final String TYPE_HEADER = "x-event-type";
+    public static final String VERSION_HEADER = "x-event-version";
+
+    public static final String APPOINTMENT_SCHEDULED = "appointment.scheduled";
+    public static final String APPOINTMENT_CANCELED = "appointment.canceled";
+    public static final String APPOINTMENT_STATUS_CHANGED = "appointment.status.changed";
+    public static final String APPOINTMENT_RESCHEDULED = "appointment.rescheduled";
+
+    public static final int CURRENT_VERSION = 1;
+
+    private EventWireFormat() {
+    }
+}
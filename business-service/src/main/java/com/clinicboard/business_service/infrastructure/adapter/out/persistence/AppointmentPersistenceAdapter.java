@@ -2,20 +2,35 @@ package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
 import lombok.extern.slf4j.Slf4j;
 
 import com.clinicboard.business_service.application.port.out.AppointmentRepository;
+import com.clinicboard.business_service.domain.exception.AppointmentConflictException;
+import com.clinicboard.business_service.domain.exception.PatientBusinessRuleException;
+import com.clinicboard.business_service.domain.model.AgendaOccupancy;
 import com.clinicboard.business_service.domain.model.Appointment;
+import com.clinicboard.business_service.domain.model.AppointmentCursor;
 import com.clinicboard.business_service.domain.model.AppointmentId;
+import com.clinicboard.business_service.domain.model.AppointmentListItem;
 import com.clinicboard.business_service.domain.model.PatientId;
 import com.clinicboard.business_service.domain.model.ProfessionalId;
 import com.clinicboard.business_service.domain.model.AppointmentTime;
 import com.clinicboard.business_service.domain.model.AppointmentStatus;
+import com.clinicboard.business_service.domain.model.AppointmentType;
+import com.clinicboard.business_service.domain.model.DailyAgenda;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.cache.ProfessionalCalendarCache;
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.AppointmentJpaEntity;
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.AppointmentJpaEntity.AppointmentStatusEnum;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.AppointmentJpaEntity.AppointmentTypeEnum;
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.AppointmentJpaRepository;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.AppointmentJpaRepository.AppointmentListProjection;
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.mapper.AppointmentPersistenceMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -34,8 +49,14 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AppointmentPersistenceAdapter implements AppointmentRepository {
 
+    private static final String EXCLUSION_VIOLATION = "23P01";
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String PROFESSIONAL_SLOT_CONSTRAINT = "ex_agendamentos_professional_slot";
+    private static final String PATIENT_DAY_CONSTRAINT = "uq_agendamentos_patient_day_active";
+
     private final AppointmentJpaRepository appointmentJpaRepository;
     private final AppointmentPersistenceMapper appointmentMapper;
+    private final ProfessionalCalendarCache calendarCache;
 
     @Override
     public Appointment save(Appointment appointment) {
@@ -43,6 +64,8 @@ public class AppointmentPersistenceAdapter implements AppointmentRepository {
         
         try {
             AppointmentJpaEntity jpaEntity;
+            ProfessionalId previousProfessionalId = null;
+            LocalDate previousDate = null;
             
             if (appointment.getId() == null) {
                 // Nova consulta - gerar ID
@@ -54,6 +77,8 @@ public class AppointmentPersistenceAdapter implements AppointmentRepository {
                 
                 if (existingEntity.isPresent()) {
                     jpaEntity = existingEntity.get();
+                    previousProfessionalId = ProfessionalId.of(jpaEntity.getProfessionalId());
+                    previousDate = jpaEntity.getScheduledTime().toLocalDate();
                     appointmentMapper.updateJpaEntity(jpaEntity, appointment);
                 } else {
                     // Consulta com ID mas não existe no banco
@@ -61,18 +86,102 @@ public class AppointmentPersistenceAdapter implements AppointmentRepository {
                 }
             }
             
-            AppointmentJpaEntity savedEntity = appointmentJpaRepository.save(jpaEntity);
+            // Flush imediato para que violações de constraint surjam aqui, e não no commit
+            AppointmentJpaEntity savedEntity = appointmentJpaRepository.saveAndFlush(jpaEntity);
             Appointment savedAppointment = appointmentMapper.toDomainEntity(savedEntity);
+            ProfessionalId cachedProfessionalId = previousProfessionalId;
+            LocalDate cachedDate = previousDate;
+            afterCommit(() -> refreshCalendarCache(cachedProfessionalId, cachedDate, savedAppointment));
             
             log.info("Consulta salva com sucesso: id={}", savedEntity.getAppointmentId());
             return savedAppointment;
             
+        } catch (DataIntegrityViolationException e) {
+            throw translateIntegrityViolation(appointment, e);
         } catch (Exception e) {
             log.error("Erro ao salvar consulta: {}", e.getMessage(), e);
             throw new RuntimeException("Falha ao persistir consulta", e);
         }
     }
 
+    /**
+     * Mantém o cache de agenda coerente após uma gravação: uma nova consulta ativa
+     * apenas é incluída no dia; alterações de consultas existentes (cancelamento,
+     * remarcação, mudança de status) invalidam os dias afetados.
+     */
+    private void refreshCalendarCache(ProfessionalId previousProfessionalId, LocalDate previousDate,
+                                      Appointment savedAppointment) {
+        LocalDateTime scheduledTime = savedAppointment.getScheduledTime().value();
+        
+        if (previousProfessionalId != null) {
+            calendarCache.invalidate(previousProfessionalId, previousDate);
+            calendarCache.invalidate(savedAppointment.getProfessionalId(), scheduledTime.toLocalDate());
+        } else if (savedAppointment.isActive()) {
+            calendarCache.occupy(
+                    savedAppointment.getProfessionalId(),
+                    scheduledTime.toLocalDate(),
+                    scheduledTime.toLocalTime(),
+                    savedAppointment.getDurationMinutes());
+        }
+    }
+
+    /**
+     * Executa a ação após o commit da transação corrente, para que o cache nunca
+     * reflita gravações desfeitas por rollback; sem transação, executa imediatamente.
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Traduz violações das regras de agenda garantidas pelo banco
+     * (ver db/postgresql/agendamentos-constraints.sql) para exceções de domínio.
+     */
+    private RuntimeException translateIntegrityViolation(Appointment appointment, DataIntegrityViolationException e) {
+        SQLException sqlException = findSqlException(e);
+        String sqlState = sqlException != null ? sqlException.getSQLState() : null;
+        String message = sqlException != null && sqlException.getMessage() != null ? sqlException.getMessage() : "";
+
+        if (EXCLUSION_VIOLATION.equals(sqlState) || message.contains(PROFESSIONAL_SLOT_CONSTRAINT)) {
+            log.warn("Conflito de horário rejeitado pelo banco para profissional {} no horário {}",
+                    appointment.getProfessionalId().value(), appointment.getScheduledTime().value());
+            return new AppointmentConflictException(
+                    appointment.getProfessionalId().value(),
+                    appointment.getScheduledTime().getFormattedDateTime());
+        }
+
+        if (UNIQUE_VIOLATION.equals(sqlState) && message.contains(PATIENT_DAY_CONSTRAINT)) {
+            log.warn("Segundo agendamento no dia rejeitado pelo banco para paciente {}",
+                    appointment.getPatientId().value());
+            return new PatientBusinessRuleException(
+                    appointment.getPatientId().value(),
+                    "Paciente já possui agendamento ativo nesta data");
+        }
+
+        log.error("Erro de integridade ao salvar consulta: {}", e.getMessage(), e);
+        return new RuntimeException("Falha ao persistir consulta", e);
+    }
+
+    private SQLException findSqlException(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof SQLException sqlException) {
+                return sqlException;
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+
     @Override
     public Optional<Appointment> findById(AppointmentId appointmentId) {
         log.debug("Buscando consulta por ID: {}", appointmentId.value());
@@ -103,15 +212,33 @@ public class AppointmentPersistenceAdapter implements AppointmentRepository {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<AppointmentListItem> findByPatientIdAfter(PatientId patientId, AppointmentCursor after, int limit) {
+        log.debug("Buscando consultas do paciente {} após {} - limite {}", patientId.value(), after, limit);
+        
+        try {
+            List<AppointmentListProjection> rows = after == null
+                    ? appointmentJpaRepository.findScheduledByPatientFirstPage(patientId.value(), limit)
+                    : appointmentJpaRepository.findScheduledByPatientAfter(
+                            patientId.value(), after.scheduledTime(), after.appointmentId().value(), limit);
+            return rows.stream()
+                    .map(appointmentMapper::toListItem)
+                    .collect(Collectors.toList());
+                    
+        } catch (Exception e) {
+            log.error("Erro ao buscar página de consultas do paciente {}: {}", patientId.value(), e.getMessage(), e);
+            return List.of();
+        }
+    }
+
     @Override
     public List<Appointment> findByProfessionalId(ProfessionalId professionalId) {
         log.debug("Buscando consultas por profissional: {}", professionalId.value());
         
         try {
-            return appointmentJpaRepository.findAll()
+            return appointmentJpaRepository.findActiveAppointmentsByProfessional(professionalId.value())
                     .stream()
-                    .filter(entity -> entity.getProfessionalId().equals(professionalId.value()))
-                    .filter(entity -> entity.getStatus() != AppointmentStatusEnum.CANCELLED)
                     .map(appointmentMapper::toDomainEntity)
                     .collect(Collectors.toList());
                     
@@ -161,6 +288,28 @@ public class AppointmentPersistenceAdapter implements AppointmentRepository {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<AppointmentListItem> findByDateRangeAfter(LocalDate startDate, LocalDate endDate,
+                                                          AppointmentCursor after, int limit) {
+        log.debug("Buscando consultas no período: {} - {} após {} - limite {}", startDate, endDate, after, limit);
+        
+        try {
+            LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
+            List<AppointmentListProjection> rows = after == null
+                    ? appointmentJpaRepository.findScheduledInPeriodFirstPage(startDate.atStartOfDay(), endDateTime, limit)
+                    : appointmentJpaRepository.findScheduledInPeriodAfter(
+                            after.scheduledTime(), after.appointmentId().value(), endDateTime, limit);
+            return rows.stream()
+                    .map(appointmentMapper::toListItem)
+                    .collect(Collectors.toList());
+                    
+        } catch (Exception e) {
+            log.error("Erro ao buscar página de consultas por período: {}", e.getMessage(), e);
+            return List.of();
+        }
+    }
+
     @Override
     public List<Appointment> findByDateTimeRange(LocalDateTime startDateTime, LocalDateTime endDateTime) {
         log.debug("Buscando consultas no período: {} - {}", startDateTime, endDateTime);
@@ -178,15 +327,34 @@ public class AppointmentPersistenceAdapter implements AppointmentRepository {
         }
     }
 
+    @Override
+    public List<Appointment> findActiveAppointmentsForScheduling(ProfessionalId professionalId,
+                                                                 PatientId patientId,
+                                                                 LocalDate date) {
+        log.debug("Buscando consultas ativas do profissional {} e do paciente {} na data {}",
+                professionalId.value(), patientId.value(), date);
+
+        try {
+            return appointmentJpaRepository.findActiveAppointmentsByProfessionalOrPatientInPeriod(
+                    professionalId.value(), patientId.value(), date.atStartOfDay(), date.plusDays(1).atStartOfDay())
+                    .stream()
+                    .map(appointmentMapper::toDomainEntity)
+                    .collect(Collectors.toList());
+
+        } catch (Exception e) {
+            log.error("Erro ao buscar consultas para validação de agendamento: {}", e.getMessage(), e);
+            return List.of();
+        }
+    }
+
     @Override
     public List<Appointment> findByStatus(AppointmentStatus status) {
         log.debug("Buscando consultas por status: {}", status);
         
         try {
             AppointmentStatusEnum jpaStatus = mapToJpaStatus(status);
-            return appointmentJpaRepository.findAll()
+            return appointmentJpaRepository.findByStatusOrderByScheduledTime(jpaStatus)
                     .stream()
-                    .filter(entity -> entity.getStatus() == jpaStatus)
                     .map(appointmentMapper::toDomainEntity)
                     .collect(Collectors.toList());
                     
@@ -198,50 +366,63 @@ public class AppointmentPersistenceAdapter implements AppointmentRepository {
 
     @Override
     public boolean hasConflictingAppointment(ProfessionalId professionalId, AppointmentTime appointmentTime) {
-        log.debug("Verificando conflitos para profissional {} no horário {}", 
-                professionalId.value(), appointmentTime.value());
+        return hasConflictingAppointment(professionalId, appointmentTime, AppointmentTime.DEFAULT_DURATION_MINUTES);
+    }
+
+    @Override
+    public boolean hasConflictingAppointment(ProfessionalId professionalId, AppointmentTime appointmentTime,
+                                             AppointmentType appointmentType) {
+        return hasConflictingAppointment(professionalId, appointmentTime, appointmentType.getDefaultDurationMinutes());
+    }
+
+    private boolean hasConflictingAppointment(ProfessionalId professionalId, AppointmentTime appointmentTime,
+                                              int durationMinutes) {
+        log.debug("Verificando conflitos para profissional {} no horário {} ({} min)", 
+                professionalId.value(), appointmentTime.value(), durationMinutes);
         
         try {
             LocalDateTime requestedTime = appointmentTime.value();
-            LocalDateTime startWindow = requestedTime.minusMinutes(30);
-            LocalDateTime endWindow = requestedTime.plusMinutes(30);
-            
-            List<AppointmentJpaEntity> conflicts = appointmentJpaRepository.findConflictingAppointments(
-                    professionalId.value(), requestedTime, startWindow, endWindow);
             
-            boolean hasConflict = !conflicts.isEmpty();
+            // Sobreposição exata pelo índice de intervalos do dia, mantido em cache
+            boolean hasConflict = findDailyAgenda(professionalId, requestedTime.toLocalDate())
+                    .overlaps(requestedTime.toLocalTime(), durationMinutes);
             
             if (hasConflict) {
-                log.warn("Conflito de horário detectado para profissional {} no horário {}. Consultas conflitantes: {}", 
-                        professionalId.value(), requestedTime, conflicts.size());
+                log.warn("Conflito de horário detectado para profissional {} no horário {}", 
+                        professionalId.value(), requestedTime);
             }
             
             return hasConflict;
             
         } catch (Exception e) {
             log.error("Erro ao verificar conflitos: {}", e.getMessage(), e);
-            return false; // Em caso de erro, assume que não há conflito
+            throw new RuntimeException("Falha ao verificar conflitos de horário", e);
         }
     }
 
     @Override
     public boolean hasConflictingAppointmentExcluding(ProfessionalId professionalId, 
                                                       AppointmentTime appointmentTime, 
+                                                      AppointmentType appointmentType,
                                                       AppointmentId excludeAppointmentId) {
         log.debug("Verificando conflitos para profissional {} no horário {} excluindo consulta {}", 
                 professionalId.value(), appointmentTime.value(), excludeAppointmentId.value());
         
         try {
             LocalDateTime requestedTime = appointmentTime.value();
-            LocalDateTime startWindow = requestedTime.minusMinutes(30);
-            LocalDateTime endWindow = requestedTime.plusMinutes(30);
+            int durationMinutes = appointmentType.getDefaultDurationMinutes();
             
-            List<AppointmentJpaEntity> conflicts = appointmentJpaRepository.findConflictingAppointments(
-                    professionalId.value(), requestedTime, startWindow, endWindow);
+            // Só consultas que começam até a maior duração antes do horário podem alcançá-lo
+            List<AppointmentJpaEntity> candidates = appointmentJpaRepository.findConflictCandidates(
+                    professionalId.value(),
+                    requestedTime.minusMinutes(AppointmentType.maxDurationMinutes()),
+                    requestedTime.plusMinutes(durationMinutes));
             
-            // Filtrar excluindo a consulta especificada
-            boolean hasConflict = conflicts.stream()
-                    .anyMatch(entity -> !entity.getAppointmentId().equals(excludeAppointmentId.value()));
+            boolean hasConflict = candidates.stream()
+                    .filter(entity -> !entity.getAppointmentId().equals(excludeAppointmentId.value()))
+                    .anyMatch(entity -> entity.getScheduledTime()
+                            .plusMinutes(durationOf(entity.getAppointmentType()))
+                            .isAfter(requestedTime));
             
             if (hasConflict) {
                 log.warn("Conflito de horário detectado para profissional {} no horário {} (excluindo {})", 
@@ -252,7 +433,7 @@ public class AppointmentPersistenceAdapter implements AppointmentRepository {
             
         } catch (Exception e) {
             log.error("Erro ao verificar conflitos excluindo consulta: {}", e.getMessage(), e);
-            return false;
+            throw new RuntimeException("Falha ao verificar conflitos de horário", e);
         }
     }
 
@@ -262,14 +443,11 @@ public class AppointmentPersistenceAdapter implements AppointmentRepository {
         
         try {
             LocalDateTime startOfDay = date.atStartOfDay();
-            LocalDateTime endOfDay = date.atTime(23, 59, 59);
+            LocalDateTime startOfNextDay = date.plusDays(1).atStartOfDay();
             
-            return appointmentJpaRepository.findAll()
+            return appointmentJpaRepository.findActiveAppointmentsByProfessionalInPeriod(
+                    professionalId.value(), startOfDay, startOfNextDay)
                     .stream()
-                    .filter(entity -> entity.getProfessionalId().equals(professionalId.value()))
-                    .filter(entity -> entity.getStatus() != AppointmentStatusEnum.CANCELLED)
-                    .filter(entity -> entity.getScheduledTime().isAfter(startOfDay.minusSeconds(1)))
-                    .filter(entity -> entity.getScheduledTime().isBefore(endOfDay.plusSeconds(1)))
                     .map(appointmentMapper::toDomainEntity)
                     .collect(Collectors.toList());
                     
@@ -279,6 +457,67 @@ public class AppointmentPersistenceAdapter implements AppointmentRepository {
         }
     }
 
+    @Override
+    public DailyAgenda findDailyAgenda(ProfessionalId professionalId, LocalDate date) {
+        log.debug("Buscando ocupação da agenda do profissional {} na data {}", professionalId.value(), date);
+        
+        try {
+            return calendarCache.get(professionalId, date, () -> loadDailyAgenda(professionalId, date));
+                    
+        } catch (Exception e) {
+            log.error("Erro ao buscar ocupação da agenda do profissional {}: {}", professionalId.value(), e.getMessage(), e);
+            throw new RuntimeException("Falha ao buscar ocupação da agenda", e);
+        }
+    }
+
+    private DailyAgenda loadDailyAgenda(ProfessionalId professionalId, LocalDate date) {
+        DailyAgenda.Builder builder = DailyAgenda.builder();
+        appointmentJpaRepository.findActiveSlotsByProfessionalsInPeriod(
+                List.of(professionalId.value()), date.atStartOfDay(), date.plusDays(1).atStartOfDay())
+                .forEach(slot -> builder.add(
+                        slot.getScheduledTime().toLocalTime(),
+                        durationOf(slot.getAppointmentType())));
+        return builder.build();
+    }
+
+    @Override
+    public AgendaOccupancy findAgendaOccupancy(List<ProfessionalId> professionalIds, LocalDate startDate, int days) {
+        log.debug("Buscando ocupação da agenda de {} profissionais a partir de {} por {} dias", 
+                professionalIds.size(), startDate, days);
+        
+        try {
+            return loadAgendaOccupancy(professionalIds, startDate, days);
+            
+        } catch (Exception e) {
+            log.error("Erro ao buscar ocupação das agendas: {}", e.getMessage(), e);
+            throw new RuntimeException("Falha ao buscar ocupação das agendas", e);
+        }
+    }
+
+    /**
+     * Carrega apenas profissional, horário e tipo das consultas ativas do período,
+     * sem reconstruir agregados (que rejeitariam horários já passados).
+     */
+    private AgendaOccupancy loadAgendaOccupancy(List<ProfessionalId> professionalIds, LocalDate startDate, int days) {
+        List<String> ids = professionalIds.stream()
+                .map(ProfessionalId::value)
+                .distinct()
+                .collect(Collectors.toList());
+        
+        AgendaOccupancy.Builder builder = AgendaOccupancy.builder(professionalIds, startDate, days);
+        appointmentJpaRepository.findActiveSlotsByProfessionalsInPeriod(
+                ids, startDate.atStartOfDay(), startDate.plusDays(days).atStartOfDay())
+                .forEach(slot -> builder.occupy(
+                        ProfessionalId.of(slot.getProfessionalId()),
+                        slot.getScheduledTime(),
+                        durationOf(slot.getAppointmentType())));
+        return builder.build();
+    }
+
+    private int durationOf(AppointmentTypeEnum appointmentType) {
+        return AppointmentType.valueOf(appointmentType.name()).getDefaultDurationMinutes();
+    }
+
     @Override
     public List<Appointment> findUpcomingAppointmentsByPatient(PatientId patientId, int limit) {
         log.debug("Buscando {} próximas consultas do paciente {}", limit, patientId.value());
@@ -324,6 +563,9 @@ public class AppointmentPersistenceAdapter implements AppointmentRepository {
                 entity.setStatus(AppointmentStatusEnum.CANCELLED);
                 entity.setCancelledAt(LocalDateTime.now());
                 appointmentJpaRepository.save(entity);
+                afterCommit(() -> calendarCache.invalidate(
+                        ProfessionalId.of(entity.getProfessionalId()),
+                        entity.getScheduledTime().toLocalDate()));
                 
                 log.info("Consulta cancelada com sucesso: id={}", appointmentId.value());
             } else {
@@ -342,10 +584,7 @@ public class AppointmentPersistenceAdapter implements AppointmentRepository {
         
         try {
             AppointmentStatusEnum jpaStatus = mapToJpaStatus(status);
-            return appointmentJpaRepository.findAll()
-                    .stream()
-                    .filter(entity -> entity.getStatus() == jpaStatus)
-                    .count();
+            return appointmentJpaRepository.countByStatus(jpaStatus);
                     
         } catch (Exception e) {
             log.error("Erro ao contar consultas por status {}: {}", status, e.getMessage(), e);
@@ -3,21 +3,25 @@ import lombok.extern.slf4j.Slf4j;
 
 import com.clinicboard.business_service.application.port.out.PatientRepository;
 import com.clinicboard.business_service.domain.model.Patient;
+import com.clinicboard.business_service.domain.model.PatientCursor;
 import com.clinicboard.business_service.domain.model.PatientId;
+import com.clinicboard.business_service.domain.model.PatientListItem;
 import com.clinicboard.business_service.domain.model.PatientStatus;
+import com.clinicboard.business_service.domain.model.PatientStatusCounts;
 import com.clinicboard.business_service.domain.model.ProfessionalId;
 import com.clinicboard.business_service.domain.model.Email;
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.PatientJpaEntity;
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.PatientJpaRepository;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.PatientJpaRepository.PatientListProjection;
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.mapper.PatientPersistenceMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -101,19 +105,37 @@ public class PatientPersistenceAdapter implements PatientRepository {
     }
 
     @Override
-    public List<Patient> findByNameContaining(String name) {
-        log.debug("Buscando pacientes por nome: {}", name);
+    public List<Patient> searchByName(String searchKey, int limit) {
+        log.debug("Buscando pacientes por nome: {}", searchKey);
         
         try {
-            // TODO: Implementar query no repository
-            return patientJpaRepository.findAll()
+            // "jose silva" -> "%jose%silva%": palavras na ordem, em qualquer posição
+            String pattern = "%" + String.join("%", searchKey.split(" ")) + "%";
+            return patientJpaRepository.searchActiveByName(pattern, searchKey, limit)
                     .stream()
-                    .filter(entity -> entity.getName().toLowerCase().contains(name.toLowerCase()))
                     .map(patientMapper::toDomainEntity)
                     .collect(Collectors.toList());
                     
         } catch (Exception e) {
-            log.error("Erro ao buscar pacientes por nome {}: {}", name, e.getMessage(), e);
+            log.error("Erro ao buscar pacientes por nome {}: {}", searchKey, e.getMessage(), e);
+            return List.of();
+        }
+    }
+
+    @Override
+    public List<Patient> findByNamePrefix(String searchKey, int limit) {
+        log.debug("Autocomplete de pacientes por nome: {}", searchKey);
+        
+        try {
+            // "jo si" -> "jo% si%" (nome começa com o termo) ou "% jo% si%" (alguma palavra começa com o termo)
+            String wordPrefixes = String.join("% ", searchKey.split(" ")) + "%";
+            return patientJpaRepository.autocompleteActiveByName(wordPrefixes, "% " + wordPrefixes, limit)
+                    .stream()
+                    .map(patientMapper::toDomainEntity)
+                    .collect(Collectors.toList());
+                    
+        } catch (Exception e) {
+            log.error("Erro no autocomplete de pacientes por nome {}: {}", searchKey, e.getMessage(), e);
             return List.of();
         }
     }
@@ -286,19 +308,55 @@ public class PatientPersistenceAdapter implements PatientRepository {
     }
 
     @Override
-    public List<Patient> findAll(int page, int size) {
-        log.debug("Buscando pacientes - página {} tamanho {}", page, size);
+    public PatientStatusCounts countByStatusForProfessional(ProfessionalId professionalId) {
+        log.debug("Contando pacientes por status do profissional: {}", professionalId.value());
+        
+        try {
+            Map<PatientStatus, Long> counts = new EnumMap<>(PatientStatus.class);
+            patientJpaRepository.countByProfessionalGroupedByStatus(professionalId.value())
+                    .forEach(row -> counts.put(PatientStatus.fromString(row.getStatus()), row.getTotal()));
+            return new PatientStatusCounts(counts);
+            
+        } catch (Exception e) {
+            log.error("Erro ao contar pacientes por status: {}", e.getMessage(), e);
+            throw new RuntimeException("Falha ao contar pacientes por status", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PatientListItem> findPageAfter(PatientCursor after, int limit) {
+        log.debug("Buscando pacientes após {} - limite {}", after, limit);
+        
+        try {
+            List<PatientListProjection> rows = after == null
+                    ? patientJpaRepository.findActiveFirstPage(limit)
+                    : patientJpaRepository.findActivePageAfter(after.name(), after.patientId().value(), limit);
+            return rows.stream()
+                    .map(patientMapper::toListItem)
+                    .collect(Collectors.toList());
+                    
+        } catch (Exception e) {
+            log.error("Erro ao buscar página de pacientes: {}", e.getMessage(), e);
+            return List.of();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PatientListItem> findListItemsByProfessionalIdAndStatus(ProfessionalId professionalId,
+                                                                        PatientStatus status) {
+        log.debug("Listando pacientes por profissional {} e status {}", professionalId.value(), status);
         
         try {
-            Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "name"));
-            return patientJpaRepository.findAll(pageable)
-                    .getContent()
+            return patientJpaRepository.findListByProfessionalIdAndStatus(professionalId.value(), status.name())
                     .stream()
-                    .map(patientMapper::toDomainEntity)
+                    .map(patientMapper::toListItem)
                     .collect(Collectors.toList());
                     
         } catch (Exception e) {
-            log.error("Erro ao buscar pacientes paginados: {}", e.getMessage(), e);
+            log.error("Erro ao listar pacientes por profissional {} e status {}: {}",
+                     professionalId.value(), status, e.getMessage(), e);
             return List.of();
         }
     }
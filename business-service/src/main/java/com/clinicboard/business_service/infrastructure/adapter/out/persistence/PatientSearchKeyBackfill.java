@@ -0,0 +1,76 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+import com.clinicboard.business_service.domain.model.PatientName;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.PatientJpaRepository;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.PatientJpaRepository.PatientNameProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Preenche search_name dos pacientes gravados antes da coluna existir.
+ *
+ * A chave é calculada com PatientName.toSearchKey, a mesma normalização
+ * aplicada às novas gravações e aos termos de busca; uma normalização em
+ * SQL (unaccent, classes de caracteres do locale do banco) divergiria dela
+ * para ligaduras e letras como "ø" ou "ß", e esses pacientes não seriam
+ * encontrados. Roda uma vez na subida, em lotes, e não faz nada quando
+ * todas as linhas já têm a chave.
+ */
+@Slf4j
+@Component
+public class PatientSearchKeyBackfill {
+
+    private final PatientJpaRepository patientJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public PatientSearchKeyBackfill(PatientJpaRepository patientJpaRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${app.patients.search-key-backfill.batch-size:500}") int batchSize) {
+        this.patientJpaRepository = patientJpaRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Preenche lotes enquanto houver lotes cheios.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int total = 0;
+            int updated;
+            do {
+                updated = backfillBatch();
+                total += updated;
+            } while (updated == batchSize);
+            if (total > 0) {
+                log.info("Chave de busca preenchida para {} pacientes", total);
+            }
+        } catch (Exception e) {
+            log.error("Erro ao preencher a chave de busca dos pacientes: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Preenche um lote em uma transação.
+     *
+     * @return quantidade de pacientes atualizados
+     */
+    int backfillBatch() {
+        Integer updated = transactionTemplate.execute(status -> {
+            List<PatientNameProjection> batch = patientJpaRepository.findWithoutSearchName(batchSize);
+            for (PatientNameProjection patient : batch) {
+                patientJpaRepository.updateSearchName(patient.getPatientId(), PatientName.toSearchKey(patient.getName()));
+            }
+            return batch.size();
+        });
+        return updated != null ? updated : 0;
+    }
+}
@@ -0,0 +1,158 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence.cache;
+
+import com.clinicboard.business_service.domain.model.DailyAgenda;
+import com.clinicboard.business_service.domain.model.ProfessionalId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Cache em memória da ocupação diária da agenda dos profissionais.
+ *
+ * Mantém um DailyAgenda por (profissional, data), carregado sob demanda
+ * do banco e atualizado pelo adaptador de persistência a cada gravação ou
+ * cancelamento. O tamanho é limitado com despejo LRU.
+ *
+ * O cache é local à instância: gravações feitas por outras instâncias só
+ * aparecem quando a entrada expira, após ttl. A garantia contra agendamentos
+ * sobrepostos continua sendo a exclusion constraint do banco.
+ *
+ * Métricas expostas:
+ * - clinicboard.calendar.cache.requests{result=hit|miss}
+ * - clinicboard.calendar.cache.evictions
+ * - clinicboard.calendar.cache.size
+ */
+@Component
+@Slf4j
+public class ProfessionalCalendarCache {
+
+    private final Map<CalendarKey, CachedAgenda> entries;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /**
+     * Cargas em andamento por dia. Uma alteração no mesmo dia remove o token
+     * e a carga não é armazenada, evitando reinserir um mapa desatualizado;
+     * alterações em outros dias não interferem.
+     */
+    private final Map<CalendarKey, Object> loading = new HashMap<>();
+
+    @Autowired
+    public ProfessionalCalendarCache(MeterRegistry meterRegistry,
+                                     @Value("${app.cache.calendar.max-entries:10000}") int maxEntries,
+                                     @Value("${app.cache.calendar.ttl:PT1M}") Duration ttl) {
+        this(meterRegistry, maxEntries, ttl, Clock.systemUTC());
+    }
+
+    ProfessionalCalendarCache(MeterRegistry meterRegistry, int maxEntries, Duration ttl, Clock clock) {
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.hits = Counter.builder("clinicboard.calendar.cache.requests")
+                .tag("result", "hit")
+                .description("Consultas ao cache de agenda atendidas em memória")
+                .register(meterRegistry);
+        this.misses = Counter.builder("clinicboard.calendar.cache.requests")
+                .tag("result", "miss")
+                .description("Consultas ao cache de agenda que exigiram leitura no banco")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("clinicboard.calendar.cache.evictions")
+                .description("Dias de agenda removidos do cache por limite de tamanho")
+                .register(meterRegistry);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CalendarKey, CachedAgenda> eldest) {
+                boolean evict = size() > maxEntries;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+        Gauge.builder("clinicboard.calendar.cache.size", this, ProfessionalCalendarCache::size)
+                .description("Dias de agenda mantidos em memória")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retorna a ocupação do dia, carregando-a com o loader em caso de ausência.
+     * A leitura no banco acontece fora do lock.
+     */
+    public DailyAgenda get(ProfessionalId professionalId, LocalDate date, Supplier<DailyAgenda> loader) {
+        CalendarKey key = new CalendarKey(professionalId.value(), date);
+        long now = clock.millis();
+        Object token = new Object();
+
+        synchronized (this) {
+            CachedAgenda cached = entries.get(key);
+            if (cached != null && now < cached.expiresAt()) {
+                hits.increment();
+                return cached.agenda();
+            }
+            loading.put(key, token);
+        }
+
+        misses.increment();
+        DailyAgenda loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loading.remove(key, token);
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            if (loading.remove(key, token)) {
+                entries.put(key, new CachedAgenda(loaded, now + ttlMillis));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Marca um intervalo como ocupado no dia, se ele estiver em cache.
+     */
+    public synchronized void occupy(ProfessionalId professionalId, LocalDate date, LocalTime start, int durationMinutes) {
+        CalendarKey key = new CalendarKey(professionalId.value(), date);
+        loading.remove(key);
+        entries.computeIfPresent(key,
+                (ignored, cached) -> new CachedAgenda(cached.agenda().with(start, durationMinutes), cached.expiresAt()));
+    }
+
+    /**
+     * Descarta a ocupação em cache de um dia; a próxima leitura recarrega do banco.
+     *
+     * Usado em cancelamentos, remarcações e mudanças de status; recarregar o dia
+     * é mais simples e seguro do que localizar e remover o intervalo.
+     */
+    public synchronized void invalidate(ProfessionalId professionalId, LocalDate date) {
+        CalendarKey key = new CalendarKey(professionalId.value(), date);
+        loading.remove(key);
+        entries.remove(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record CalendarKey(String professionalId, LocalDate date) {}
+
+    private record CachedAgenda(DailyAgenda agenda, long expiresAt) {}
+}
@@ -16,7 +16,10 @@ import java.time.LocalDateTime;
  * Representa a estrutura de dados no banco, independente do modelo de domínio.
  */
 @Entity
-@Table(name = "agendamentos")
+@Table(name = "agendamentos", indexes = {
+    @Index(name = "idx_agendamentos_professional_time", columnList = "professional_id, scheduled_time"),
+    @Index(name = "idx_agendamentos_patient_time", columnList = "patient_id, scheduled_time")
+})
 @Data
 @Builder
 @NoArgsConstructor
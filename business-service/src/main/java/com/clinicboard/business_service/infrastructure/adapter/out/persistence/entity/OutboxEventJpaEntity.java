@@ -0,0 +1,76 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA do outbox transacional.
+ *
+ * Cada linha é uma mensagem já serializada, gravada na mesma transação
+ * que altera agendamentos e publicada depois pelo OutboxRelay.
+ */
+@Entity
+@Table(name = "eventos_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "aggregate_id", length = 36)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "exchange", nullable = false, length = 100)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false, length = 100)
+    private String routingKey;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    /**
+     * Cabeçalhos AMQP produzidos pelo MessageConverter (ex.: __TypeId__), em JSON.
+     */
+    @Column(name = "headers", columnDefinition = "TEXT")
+    private String headers;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "bytea")
+    private byte[] payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * Preenchido quando o evento esgota app.messaging.outbox.max-attempts:
+     * o relay deixa de tentar e a linha fica para análise.
+     */
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+}
@@ -32,6 +32,13 @@ public class PatientJpaEntity {
     @Column(name = "name", nullable = false, length = 200)
     private String name;
 
+    /**
+     * Nome normalizado para busca (PatientName.getSearchKey), indexado por
+     * trigramas em db/postgresql/pacientes-indexes.sql.
+     */
+    @Column(name = "search_name", length = 200)
+    private String searchName;
+
     @Column(name = "email", nullable = false, length = 150)
     private String email;
 
@@ -64,6 +71,9 @@ public class PatientJpaEntity {
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
     
+    public String getSearchName() { return searchName; }
+    public void setSearchName(String searchName) { this.searchName = searchName; }
+    
     public String getEmail() { return email; }
     public void setEmail(String email) { this.email = email; }
     
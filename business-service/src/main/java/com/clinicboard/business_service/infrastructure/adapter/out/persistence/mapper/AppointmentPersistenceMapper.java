@@ -7,9 +7,11 @@ import com.clinicboard.business_service.domain.model.ProfessionalId;
 import com.clinicboard.business_service.domain.model.AppointmentTime;
 import com.clinicboard.business_service.domain.model.AppointmentType;
 import com.clinicboard.business_service.domain.model.AppointmentStatus;
+import com.clinicboard.business_service.domain.model.AppointmentListItem;
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.AppointmentJpaEntity;
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.AppointmentJpaEntity.AppointmentTypeEnum;
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.AppointmentJpaEntity.AppointmentStatusEnum;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.AppointmentJpaRepository.AppointmentListProjection;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
 
@@ -45,6 +47,25 @@ public interface AppointmentPersistenceMapper {
         );
     }
     
+    /**
+     * Converte a projeção de listagem em item de leitura, sem reconstruir o
+     * agregado. Os nomes dos enums JPA coincidem com os do domínio.
+     */
+    default AppointmentListItem toListItem(AppointmentListProjection projection) {
+        if (projection == null) {
+            return null;
+        }
+        
+        return new AppointmentListItem(
+            projection.getAppointmentId(),
+            projection.getPatientId(),
+            projection.getProfessionalId(),
+            projection.getScheduledTime(),
+            AppointmentType.valueOf(projection.getAppointmentType()),
+            AppointmentStatus.valueOf(projection.getStatus())
+        );
+    }
+    
     /**
      * Converte objeto de domínio para entidade JPA.
      */
@@ -7,7 +7,9 @@ import com.clinicboard.business_service.domain.model.Patient;
 import com.clinicboard.business_service.domain.model.ContactDetails;
 import com.clinicboard.business_service.domain.model.ProfessionalId;
 import com.clinicboard.business_service.domain.model.PatientStatus;
+import com.clinicboard.business_service.domain.model.PatientListItem;
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.PatientJpaEntity;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.PatientJpaRepository.PatientListProjection;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
 
@@ -54,6 +56,7 @@ public interface PatientPersistenceMapper {
         return PatientJpaEntity.builder()
             .patientId(patient.getId() != null ? patient.getId().value() : null)
             .name(patient.getName())
+            .searchName(patient.getDomainName().getSearchKey())
             .email(patient.getEmail().value())
             .contactDetails(patient.getContact().value())
             .professionalId(patient.getAssignedProfessionalId().value())
@@ -71,10 +74,31 @@ public interface PatientPersistenceMapper {
         }
         
         jpaEntity.setName(patient.getName());
+        jpaEntity.setSearchName(patient.getDomainName().getSearchKey());
         jpaEntity.setEmail(patient.getEmail().value());
         jpaEntity.setContactDetails(patient.getContact().value());
         jpaEntity.setProfessionalId(patient.getAssignedProfessionalId().value());
         jpaEntity.setStatus(patient.getStatus().name());
         // createdAt, version permanecem inalterados
     }
+
+    /**
+     * Converte a projeção de listagem em item de leitura, sem reconstruir o
+     * agregado (os valores já foram validados na escrita).
+     */
+    default PatientListItem toListItem(PatientListProjection projection) {
+        if (projection == null) {
+            return null;
+        }
+        
+        return new PatientListItem(
+            projection.getPatientId(),
+            projection.getName(),
+            projection.getEmail(),
+            projection.getContactDetails(),
+            PatientStatus.fromString(projection.getStatus()),
+            projection.getCreatedAt(),
+            projection.getUpdatedAt()
+        );
+    }
 }
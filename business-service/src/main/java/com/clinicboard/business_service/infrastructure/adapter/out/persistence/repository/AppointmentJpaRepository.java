@@ -2,12 +2,14 @@ package com.clinicboard.business_service.infrastructure.adapter.out.persistence.
 
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.AppointmentJpaEntity;
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.AppointmentJpaEntity.AppointmentStatusEnum;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.AppointmentJpaEntity.AppointmentTypeEnum;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,21 +35,86 @@ public interface AppointmentJpaRepository extends JpaRepository<AppointmentJpaEn
     List<AppointmentJpaEntity> findScheduledAppointmentsByPatient(@Param("patientId") String patientId);
     
     /**
-     * Verifica conflitos de horário para um profissional em um período específico.
-     * A lógica de sobreposição de horários é calculada no código Java.
+     * Busca consultas não canceladas de um profissional.
+     * Atendida pelo índice parcial idx_agendamentos_professional_time_active.
+     */
+    @Query("SELECT a FROM AppointmentJpaEntity a WHERE a.professionalId = :professionalId AND a.status <> 'CANCELLED' ORDER BY a.scheduledTime")
+    List<AppointmentJpaEntity> findActiveAppointmentsByProfessional(@Param("professionalId") String professionalId);
+
+    /**
+     * Busca consultas não canceladas de um profissional em um intervalo [startTime, endTime).
+     * Atendida pelo índice parcial idx_agendamentos_professional_time_active.
+     */
+    @Query("""
+        SELECT a FROM AppointmentJpaEntity a
+        WHERE a.professionalId = :professionalId
+        AND a.status <> 'CANCELLED'
+        AND a.scheduledTime >= :startTime
+        AND a.scheduledTime < :endTime
+        ORDER BY a.scheduledTime
+        """)
+    List<AppointmentJpaEntity> findActiveAppointmentsByProfessionalInPeriod(
+        @Param("professionalId") String professionalId,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime
+    );
+
+    /**
+     * Busca os horários ocupados de vários profissionais em um intervalo [startTime, endTime).
+     * Retorna apenas profissional, horário e tipo, sem materializar entidades.
+     * Atendida pelo índice parcial idx_agendamentos_professional_time_active.
+     */
+    @Query("""
+        SELECT a.professionalId AS professionalId, a.scheduledTime AS scheduledTime,
+               a.appointmentType AS appointmentType
+        FROM AppointmentJpaEntity a
+        WHERE a.professionalId IN :professionalIds
+        AND a.status IN ('SCHEDULED', 'CONFIRMED', 'IN_PROGRESS')
+        AND a.scheduledTime >= :startTime
+        AND a.scheduledTime < :endTime
+        """)
+    List<ScheduledSlotProjection> findActiveSlotsByProfessionalsInPeriod(
+        @Param("professionalIds") Collection<String> professionalIds,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime
+    );
+
+    /**
+     * Projeção mínima de um agendamento ativo: profissional, horário e tipo (que define a duração).
+     */
+    interface ScheduledSlotProjection {
+        String getProfessionalId();
+        LocalDateTime getScheduledTime();
+        AppointmentTypeEnum getAppointmentType();
+    }
+
+    /**
+     * Busca consultas por status.
+     */
+    @Query("SELECT a FROM AppointmentJpaEntity a WHERE a.status = :status ORDER BY a.scheduledTime")
+    List<AppointmentJpaEntity> findByStatusOrderByScheduledTime(@Param("status") AppointmentStatusEnum status);
+
+    /**
+     * Conta consultas por status diretamente no banco.
+     */
+    @Query("SELECT COUNT(a) FROM AppointmentJpaEntity a WHERE a.status = :status")
+    long countByStatus(@Param("status") AppointmentStatusEnum status);
+
+    /**
+     * Busca candidatas a conflito de horário: consultas ativas de um profissional
+     * que começam em (startTime, endTime). O chamador escolhe a janela a partir da
+     * maior duração possível e confirma a sobreposição pela duração de cada tipo.
      */
     @Query("""
         SELECT a FROM AppointmentJpaEntity a 
         WHERE a.professionalId = :professionalId 
         AND a.status IN ('SCHEDULED', 'CONFIRMED', 'IN_PROGRESS')
-        AND (
-            (a.scheduledTime BETWEEN :startTime AND :endTime)
-            OR (a.scheduledTime <= :scheduledTime AND :scheduledTime <= :endTime)
-        )
+        AND a.scheduledTime > :startTime
+        AND a.scheduledTime < :endTime
+        ORDER BY a.scheduledTime
         """)
-    List<AppointmentJpaEntity> findConflictingAppointments(
+    List<AppointmentJpaEntity> findConflictCandidates(
         @Param("professionalId") String professionalId,
-        @Param("scheduledTime") LocalDateTime scheduledTime,
         @Param("startTime") LocalDateTime startTime,
         @Param("endTime") LocalDateTime endTime
     );
@@ -62,6 +129,27 @@ public interface AppointmentJpaRepository extends JpaRepository<AppointmentJpaEn
         @Param("status") AppointmentStatusEnum status
     );
     
+    /**
+     * Busca consultas ativas de um profissional ou de um paciente em um intervalo.
+     * Cada ramo do OR é atendido por um índice parcial de agenda ativa
+     * (idx_agendamentos_professional_time_active e idx_agendamentos_patient_time_active),
+     * evitando varrer todos os agendamentos do período.
+     */
+    @Query("""
+        SELECT a FROM AppointmentJpaEntity a
+        WHERE (a.professionalId = :professionalId OR a.patientId = :patientId)
+        AND a.scheduledTime >= :startTime
+        AND a.scheduledTime < :endTime
+        AND a.status IN ('SCHEDULED', 'CONFIRMED', 'IN_PROGRESS')
+        ORDER BY a.scheduledTime
+        """)
+    List<AppointmentJpaEntity> findActiveAppointmentsByProfessionalOrPatientInPeriod(
+        @Param("professionalId") String professionalId,
+        @Param("patientId") String patientId,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime
+    );
+
     /**
      * Conta consultas agendadas para um paciente em um período.
      * Útil para aplicar regras de limite de consultas por período.
@@ -77,4 +165,98 @@ public interface AppointmentJpaRepository extends JpaRepository<AppointmentJpaEn
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
     );
+
+    /**
+     * Projeção das colunas exibidas nas listagens de consultas (sem observações,
+     * auditoria e versão). Lida como tupla: não entra no contexto de persistência
+     * nem no dirty checking.
+     */
+    interface AppointmentListProjection {
+        String getAppointmentId();
+        String getPatientId();
+        String getProfessionalId();
+        LocalDateTime getScheduledTime();
+        String getAppointmentType();
+        String getStatus();
+    }
+
+    /**
+     * Primeira página das consultas agendadas ou confirmadas de um paciente,
+     * ordenadas por (horário, ID).
+     */
+    @Query(value = """
+        SELECT appointment_id AS "appointmentId", patient_id AS "patientId", professional_id AS "professionalId",
+               scheduled_time AS "scheduledTime", appointment_type AS "appointmentType", status
+        FROM agendamentos
+        WHERE patient_id = :patientId
+        AND status IN ('SCHEDULED', 'CONFIRMED')
+        ORDER BY scheduled_time, appointment_id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<AppointmentListProjection> findScheduledByPatientFirstPage(
+        @Param("patientId") String patientId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Página das consultas agendadas ou confirmadas de um paciente posteriores
+     * a (scheduledTime, appointmentId), atendida pelo índice parcial
+     * idx_agendamentos_patient_keyset.
+     */
+    @Query(value = """
+        SELECT appointment_id AS "appointmentId", patient_id AS "patientId", professional_id AS "professionalId",
+               scheduled_time AS "scheduledTime", appointment_type AS "appointmentType", status
+        FROM agendamentos
+        WHERE patient_id = :patientId
+        AND status IN ('SCHEDULED', 'CONFIRMED')
+        AND (scheduled_time, appointment_id) > (:scheduledTime, :appointmentId)
+        ORDER BY scheduled_time, appointment_id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<AppointmentListProjection> findScheduledByPatientAfter(
+        @Param("patientId") String patientId,
+        @Param("scheduledTime") LocalDateTime scheduledTime,
+        @Param("appointmentId") String appointmentId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Primeira página das consultas agendadas no período, ordenadas por (horário, ID).
+     */
+    @Query(value = """
+        SELECT appointment_id AS "appointmentId", patient_id AS "patientId", professional_id AS "professionalId",
+               scheduled_time AS "scheduledTime", appointment_type AS "appointmentType", status
+        FROM agendamentos
+        WHERE status = 'SCHEDULED'
+        AND scheduled_time BETWEEN :startTime AND :endTime
+        ORDER BY scheduled_time, appointment_id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<AppointmentListProjection> findScheduledInPeriodFirstPage(
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Página das consultas agendadas no período posteriores a
+     * (scheduledTime, appointmentId), atendida pelo índice parcial
+     * idx_agendamentos_scheduled_keyset.
+     */
+    @Query(value = """
+        SELECT appointment_id AS "appointmentId", patient_id AS "patientId", professional_id AS "professionalId",
+               scheduled_time AS "scheduledTime", appointment_type AS "appointmentType", status
+        FROM agendamentos
+        WHERE status = 'SCHEDULED'
+        AND (scheduled_time, appointment_id) > (:scheduledTime, :appointmentId)
+        AND scheduled_time <= :endTime
+        ORDER BY scheduled_time, appointment_id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<AppointmentListProjection> findScheduledInPeriodAfter(
+        @Param("scheduledTime") LocalDateTime scheduledTime,
+        @Param("appointmentId") String appointmentId,
+        @Param("endTime") LocalDateTime endTime,
+        @Param("limit") int limit
+    );
 }
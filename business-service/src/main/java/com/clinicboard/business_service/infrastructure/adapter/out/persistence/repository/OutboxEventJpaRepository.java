@@ -0,0 +1,44 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.OutboxEventJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository JPA para o outbox transacional de eventos.
+ */
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    /**
+     * Reivindica um lote de eventos pendentes (nem publicados nem abandonados),
+     * na ordem de gravação.
+     *
+     * FOR UPDATE SKIP LOCKED bloqueia as linhas até o fim da transação e faz
+     * outras réplicas do relay pularem as linhas já reivindicadas, em vez de
+     * esperar por elas ou publicá-las em duplicidade.
+     */
+    @Query(value = """
+        SELECT * FROM eventos_outbox
+        WHERE published_at IS NULL
+        AND failed_at IS NULL
+        AND next_attempt_at <= :now
+        ORDER BY id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<OutboxEventJpaEntity> claimPending(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Remove eventos já publicados antes do instante informado.
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEventJpaEntity e WHERE e.publishedAt < :publishedBefore")
+    int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore);
+}
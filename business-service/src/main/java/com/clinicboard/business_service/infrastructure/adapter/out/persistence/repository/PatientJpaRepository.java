@@ -2,10 +2,12 @@ package com.clinicboard.business_service.infrastructure.adapter.out.persistence.
 
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.PatientJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -67,4 +69,156 @@ public interface PatientJpaRepository extends JpaRepository<PatientJpaEntity, St
      */
     @Query("SELECT COUNT(p) FROM PatientJpaEntity p WHERE p.professionalId = :professionalId AND p.status = 'ACTIVE'")
     long countActivePatientsByProfessionalId(@Param("professionalId") String professionalId);
+    
+    /**
+     * Conta pacientes do profissional por status em uma única agregação.
+     * Atendida pelo índice idx_pacientes_professional_status, sem carregar entidades.
+     */
+    @Query("""
+        SELECT p.status AS status, COUNT(p) AS total
+        FROM PatientJpaEntity p
+        WHERE p.professionalId = :professionalId
+        GROUP BY p.status
+        """)
+    List<StatusCountProjection> countByProfessionalGroupedByStatus(
+        @Param("professionalId") String professionalId
+    );
+
+    /**
+     * Linha da contagem agrupada: status e quantidade de pacientes.
+     */
+    interface StatusCountProjection {
+        String getStatus();
+        long getTotal();
+    }
+
+    /**
+     * Primeira página de pacientes ativos ordenados por (nome, ID).
+     * Seleciona apenas as colunas da listagem, sem materializar entidades.
+     */
+    @Query(value = """
+        SELECT patient_id AS "patientId", name, email, contact_details AS "contactDetails",
+               status, created_at AS "createdAt", updated_at AS "updatedAt"
+        FROM pacientes
+        WHERE status = 'ACTIVE'
+        ORDER BY name, patient_id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<PatientListProjection> findActiveFirstPage(@Param("limit") int limit);
+
+    /**
+     * Página de pacientes ativos posteriores a (name, patientId).
+     *
+     * A comparação de linha (name, patient_id) > (...) desce direto pelo índice
+     * idx_pacientes_active_name_id, sem ler as páginas anteriores como faria um OFFSET.
+     */
+    @Query(value = """
+        SELECT patient_id AS "patientId", name, email, contact_details AS "contactDetails",
+               status, created_at AS "createdAt", updated_at AS "updatedAt"
+        FROM pacientes
+        WHERE status = 'ACTIVE'
+        AND (name, patient_id) > (:name, :patientId)
+        ORDER BY name, patient_id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<PatientListProjection> findActivePageAfter(
+        @Param("name") String name,
+        @Param("patientId") String patientId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Lista pacientes de um profissional por status, apenas com as colunas da listagem.
+     */
+    @Query("""
+        SELECT p.patientId AS patientId, p.name AS name, p.email AS email,
+               p.contactDetails AS contactDetails, p.status AS status,
+               p.createdAt AS createdAt, p.updatedAt AS updatedAt
+        FROM PatientJpaEntity p
+        WHERE p.professionalId = :professionalId AND p.status = :status
+        ORDER BY p.name
+        """)
+    List<PatientListProjection> findListByProfessionalIdAndStatus(
+        @Param("professionalId") String professionalId,
+        @Param("status") String status
+    );
+
+    /**
+     * Projeção das colunas exibidas nas listagens de pacientes.
+     * Lida como tupla: não entra no contexto de persistência nem no dirty checking.
+     */
+    interface PatientListProjection {
+        String getPatientId();
+        String getName();
+        String getEmail();
+        String getContactDetails();
+        String getStatus();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
+
+    /**
+     * Busca pacientes ativos cuja chave de busca contém o padrão LIKE informado,
+     * do mais parecido com o termo para o menos parecido.
+     *
+     * Atendida pelo índice de trigramas idx_pacientes_search_name_trgm.
+     */
+    @Query(value = """
+        SELECT * FROM pacientes
+        WHERE status = 'ACTIVE'
+        AND search_name LIKE :pattern
+        ORDER BY similarity(search_name, :term) DESC, name, patient_id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<PatientJpaEntity> searchActiveByName(
+        @Param("pattern") String pattern,
+        @Param("term") String term,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Busca pacientes ativos para autocomplete: a chave de busca casa com
+     * startPattern (nome começa com o termo) ou com wordPattern (alguma palavra
+     * começa com o termo). Nomes que começam com o termo vêm primeiro.
+     *
+     * Atendida pelo índice de trigramas idx_pacientes_search_name_trgm.
+     */
+    @Query(value = """
+        SELECT * FROM pacientes
+        WHERE status = 'ACTIVE'
+        AND (search_name LIKE :startPattern OR search_name LIKE :wordPattern)
+        ORDER BY search_name LIKE :startPattern DESC, name, patient_id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<PatientJpaEntity> autocompleteActiveByName(
+        @Param("startPattern") String startPattern,
+        @Param("wordPattern") String wordPattern,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Busca um lote de pacientes sem chave de busca (gravados antes da coluna
+     * search_name existir), para preenchimento pela aplicação.
+     */
+    @Query(value = """
+        SELECT patient_id AS "patientId", name FROM pacientes
+        WHERE search_name IS NULL
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<PatientNameProjection> findWithoutSearchName(@Param("limit") int limit);
+
+    /**
+     * Grava a chave de busca de um paciente sem alterar updated_at.
+     */
+    @Modifying
+    @Query("UPDATE PatientJpaEntity p SET p.searchName = :searchName WHERE p.patientId = :patientId")
+    int updateSearchName(@Param("patientId") String patientId, @Param("searchName") String searchName);
+
+    /**
+     * Projeção com o nome de um paciente
+     */
+    interface PatientNameProjection {
+        String getPatientId();
+        String getName();
+    }
 }
@@ -62,8 +62,18 @@ public class ApplicationConfig {
      * Bean do caso de uso de buscar consultas
      */
     @Bean
-    public FindAppointmentQuery findAppointmentQuery(AppointmentRepository appointmentRepository) {
-        return new FindAppointmentUseCaseImpl(appointmentRepository);
+    public FindAppointmentQuery findAppointmentQuery(AppointmentRepository appointmentRepository,
+                                                     AvailabilityDomainService availabilityDomainService) {
+        return new FindAppointmentUseCaseImpl(appointmentRepository, availabilityDomainService);
+    }
+
+    /**
+     * Bean do caso de uso de busca de horários livres em lote
+     */
+    @Bean
+    public FindAvailabilityQuery findAvailabilityQuery(AppointmentRepository appointmentRepository,
+                                                       AvailabilityDomainService availabilityDomainService) {
+        return new FindAvailabilityUseCaseImpl(appointmentRepository, availabilityDomainService);
     }
 
     /**
@@ -0,0 +1,15 @@
+package com.clinicboard.business_service.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * Auditoria JPA (datas de criação e alteração das entidades).
+ * 
+ * Fica fora da classe principal para que testes de fatia web (@WebMvcTest),
+ * que não sobem o JPA, não precisem do metamodelo.
+ */
+@Configuration
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+}
@@ -9,9 +9,12 @@ import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.beans.factory.annotation.Value;
 
+import com.clinicboard.business_service.infrastructure.adapter.out.messaging.codec.BinaryEventMessageConverter;
+
 @Configuration
 public class RabbitMQConfig {
 
@@ -24,6 +27,9 @@ public class RabbitMQConfig {
     @Value("${app.messaging.dlq.routing-key:events.failed}")
     private String dlqRoutingKey;
 
+    @Value("${app.messaging.event-encoding:json}")
+    private String eventEncoding;
+
     /**
      * Exchange principal para eventos de domínio
      */
@@ -57,14 +63,22 @@ public class RabbitMQConfig {
     }
 
     @Bean
-    RabbitTemplate rabbitTemplate(final ConnectionFactory connectionFactory) {
+    RabbitTemplate rabbitTemplate(final ConnectionFactory connectionFactory, final MessageConverter eventMessageConverter) {
         final var rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(producerJackson2MessageConverter());
+        rabbitTemplate.setMessageConverter(eventMessageConverter);
         return rabbitTemplate;
     }
 
+    /**
+     * Conversor dos eventos publicados: binary (formato compacto versionado)
+     * ou json (formato anterior, com __TypeId__). Os consumidores aceitam os
+     * dois, então a troca pode ser feita sem drenar as filas.
+     */
     @Bean
-    Jackson2JsonMessageConverter producerJackson2MessageConverter() {
+    MessageConverter eventMessageConverter() {
+        if ("binary".equalsIgnoreCase(eventEncoding)) {
+            return new BinaryEventMessageConverter();
+        }
         return new Jackson2JsonMessageConverter();
     }
 
@@ -0,0 +1,49 @@
+-- Regras de agenda garantidas pelo PostgreSQL para a tabela agendamentos.
+-- Este arquivo é executado como um único statement (ver spring.sql.init.separator),
+-- o que permite blocos DO $$ ... $$ para manter o script idempotente.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Versões anteriores assumiam 30 minutos para toda consulta (coluna time_slot)
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'agendamentos' AND column_name = 'time_slot') THEN
+        ALTER TABLE agendamentos DROP CONSTRAINT IF EXISTS ex_agendamentos_professional_slot;
+        ALTER TABLE agendamentos DROP COLUMN time_slot;
+    END IF;
+END
+$$;
+
+-- Intervalo ocupado por cada consulta, [início, fim), com a duração do tipo
+-- (mesmos valores de AppointmentType.getDefaultDurationMinutes, conferidos por
+-- AgendamentosConstraintsScriptTest)
+ALTER TABLE agendamentos
+    ADD COLUMN IF NOT EXISTS booked_period tsrange
+    GENERATED ALWAYS AS (tsrange(
+        scheduled_time,
+        scheduled_time + CASE appointment_type
+            WHEN 'FIRST_CONSULTATION' THEN interval '60 minutes'
+            WHEN 'EMERGENCY' THEN interval '45 minutes'
+            WHEN 'PROCEDURE' THEN interval '90 minutes'
+            WHEN 'VACCINATION' THEN interval '15 minutes'
+            ELSE interval '30 minutes'
+        END,
+        '[)')) STORED;
+
+-- Um profissional não pode ter duas consultas ativas com intervalos sobrepostos
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'ex_agendamentos_professional_slot') THEN
+        ALTER TABLE agendamentos
+            ADD CONSTRAINT ex_agendamentos_professional_slot
+            EXCLUDE USING gist (professional_id WITH =, booked_period WITH &&)
+            WHERE (status IN ('SCHEDULED', 'CONFIRMED', 'IN_PROGRESS'));
+    END IF;
+END
+$$;
+
+-- Um paciente só pode ter um agendamento ativo por dia
+CREATE UNIQUE INDEX IF NOT EXISTS uq_agendamentos_patient_day_active
+    ON agendamentos (patient_id, (CAST(scheduled_time AS date)))
+    WHERE status IN ('SCHEDULED', 'CONFIRMED', 'IN_PROGRESS');
@@ -0,0 +1,34 @@
+-- Índices específicos do PostgreSQL para a tabela agendamentos.
+-- Executado após o Hibernate (ddl-auto=update) criar/atualizar as tabelas.
+-- Índices que o JPA não consegue expressar (parciais) ficam aqui; todos são idempotentes.
+
+-- Agenda ativa do profissional: consultas canceladas nunca entram nas buscas de agenda/conflito.
+-- O índice completo idx_agendamentos_professional_time (@Index em AppointmentJpaEntity) continua
+-- atendendo às consultas que incluem canceladas; este não carrega as canceladas, que se acumulam
+-- com o tempo, e é o escolhido pelo planner quando a consulta filtra status <> 'CANCELLED' ou um
+-- IN só com status ativos
+CREATE INDEX IF NOT EXISTS idx_agendamentos_professional_time_active
+    ON agendamentos (professional_id, scheduled_time)
+    WHERE status <> 'CANCELLED';
+
+-- Agenda ativa do paciente
+CREATE INDEX IF NOT EXISTS idx_agendamentos_patient_time_active
+    ON agendamentos (patient_id, scheduled_time)
+    WHERE status <> 'CANCELLED';
+
+-- Listagens e contagens por status
+CREATE INDEX IF NOT EXISTS idx_agendamentos_status_time
+    ON agendamentos (status, scheduled_time);
+
+-- Paginação por cursor (keyset) das consultas agendadas/confirmadas do paciente:
+-- (scheduled_time, appointment_id) > (cursor) percorre o índice a partir do cursor.
+-- Diferente de idx_agendamentos_patient_time, desempata por appointment_id e contém
+-- apenas as linhas que a listagem lê
+CREATE INDEX IF NOT EXISTS idx_agendamentos_patient_keyset
+    ON agendamentos (patient_id, scheduled_time, appointment_id)
+    WHERE status IN ('SCHEDULED', 'CONFIRMED');
+
+-- Paginação por cursor (keyset) das consultas agendadas de um período
+CREATE INDEX IF NOT EXISTS idx_agendamentos_scheduled_keyset
+    ON agendamentos (scheduled_time, appointment_id)
+    WHERE status = 'SCHEDULED';
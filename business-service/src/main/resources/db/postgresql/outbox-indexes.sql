@@ -0,0 +1,19 @@
+-- Índices específicos do PostgreSQL para a tabela eventos_outbox.
+-- Executado após o Hibernate (ddl-auto=update) criar/atualizar as tabelas.
+
+-- Reivindicação de eventos pendentes pelo OutboxRelay: só linhas não publicadas nem abandonadas
+-- (failed_at), na ordem de gravação. Substitui idx_eventos_outbox_pending, anterior a failed_at
+DROP INDEX IF EXISTS idx_eventos_outbox_pending;
+CREATE INDEX IF NOT EXISTS idx_eventos_outbox_claimable
+    ON eventos_outbox (next_attempt_at, id)
+    WHERE published_at IS NULL AND failed_at IS NULL;
+
+-- Eventos abandonados após app.messaging.outbox.max-attempts, para análise e reenvio manual
+CREATE INDEX IF NOT EXISTS idx_eventos_outbox_failed_at
+    ON eventos_outbox (failed_at)
+    WHERE failed_at IS NOT NULL;
+
+-- Limpeza de eventos publicados após o período de retenção
+CREATE INDEX IF NOT EXISTS idx_eventos_outbox_published_at
+    ON eventos_outbox (published_at)
+    WHERE published_at IS NOT NULL;
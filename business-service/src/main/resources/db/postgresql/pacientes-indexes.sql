@@ -0,0 +1,21 @@
+-- Índices específicos do PostgreSQL para a tabela pacientes.
+-- Executado após o Hibernate (ddl-auto=update) criar/atualizar as tabelas; idempotente.
+
+-- Paginação por cursor (keyset) da listagem de pacientes ativos ordenada por (name, patient_id)
+CREATE INDEX IF NOT EXISTS idx_pacientes_active_name_id
+    ON pacientes (name, patient_id)
+    WHERE status = 'ACTIVE';
+
+-- Busca por nome: trigramas sobre search_name (nome em minúsculas, sem acentos e sem pontuação,
+-- ver PatientName.getSearchKey). Atende LIKE '%termo%' e prefixos de palavra do autocomplete.
+-- Linhas gravadas antes da coluna existir são preenchidas pela aplicação (PatientSearchKeyBackfill).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_pacientes_search_name_trgm
+    ON pacientes USING gin (search_name gin_trgm_ops)
+    WHERE status = 'ACTIVE';
+
+-- Contagem de pacientes por status de um profissional (WHERE professional_id = ? GROUP BY status):
+-- as duas colunas estão no índice, então a agregação pode ser resolvida por index-only scan
+CREATE INDEX IF NOT EXISTS idx_pacientes_professional_status
+    ON pacientes (professional_id, status);
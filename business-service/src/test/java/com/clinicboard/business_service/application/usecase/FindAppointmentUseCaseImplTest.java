@@ -0,0 +1,138 @@
+package com.clinicboard.business_service.application.usecase;
+
+import com.clinicboard.business_service.application.port.in.FindAppointmentQuery.AppointmentPage;
+import com.clinicboard.business_service.application.port.out.AppointmentRepository;
+import com.clinicboard.business_service.domain.model.*;
+import com.clinicboard.business_service.domain.service.AvailabilityDomainService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para FindAppointmentUseCaseImpl
+ *
+ * Foco na paginação por cursor: tamanho da consulta ao repositório
+ * e cálculo do cursor da próxima página.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FindAppointment UseCase Tests")
+class FindAppointmentUseCaseImplTest {
+
+    private static final LocalDateTime FIRST_SLOT =
+            LocalDateTime.now().plusDays(1).withHour(8).withMinute(0).withSecond(0).withNano(0);
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private AvailabilityDomainService availabilityDomainService;
+
+    private FindAppointmentUseCaseImpl findAppointmentUseCase;
+
+    @BeforeEach
+    void setUp() {
+        findAppointmentUseCase = new FindAppointmentUseCaseImpl(appointmentRepository, availabilityDomainService);
+    }
+
+    @Nested
+    @DisplayName("Paginação por cursor")
+    class CursorPagination {
+
+        @Test
+        @DisplayName("Deve buscar uma linha a mais e retornar o cursor da última consulta da página")
+        void shouldReturnNextCursorWhenMoreRowsExist() {
+            // Given
+            PatientId patientId = PatientId.generate();
+            List<AppointmentListItem> rows = createListItems(patientId, 4);
+            when(appointmentRepository.findByPatientIdAfter(patientId, null, 4)).thenReturn(rows);
+
+            // When
+            AppointmentPage page = findAppointmentUseCase.findPageByPatientId(patientId, null, 3);
+
+            // Then
+            assertEquals(3, page.appointments().size());
+            assertTrue(page.hasNext());
+            assertEquals(AppointmentCursor.after(rows.get(2)), page.nextCursor());
+            assertSame(rows.get(2), page.appointments().get(2));
+        }
+
+        @Test
+        @DisplayName("Deve encerrar a paginação quando não houver linha extra")
+        void shouldReturnNoCursorOnLastPage() {
+            // Given
+            PatientId patientId = PatientId.generate();
+            List<AppointmentListItem> rows = createListItems(patientId, 2);
+            AppointmentCursor after = new AppointmentCursor(FIRST_SLOT.minusHours(1), AppointmentId.generate());
+            when(appointmentRepository.findByPatientIdAfter(patientId, after, 4)).thenReturn(rows);
+
+            // When
+            AppointmentPage page = findAppointmentUseCase.findPageByPatientId(patientId, after, 3);
+
+            // Then
+            assertEquals(2, page.appointments().size());
+            assertFalse(page.hasNext());
+            assertNull(page.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Deve repassar o cursor ao repositório na busca por período")
+        void shouldPassCursorToRepositoryForDateRange() {
+            // Given
+            LocalDate start = FIRST_SLOT.toLocalDate();
+            LocalDate end = start.plusDays(7);
+            AppointmentCursor after = new AppointmentCursor(FIRST_SLOT, AppointmentId.generate());
+            when(appointmentRepository.findByDateRangeAfter(start, end, after, 51)).thenReturn(List.of());
+
+            // When
+            AppointmentPage page = findAppointmentUseCase.findPageByDateRange(start, end, after, 50);
+
+            // Then
+            assertTrue(page.appointments().isEmpty());
+            assertNull(page.nextCursor());
+            verify(appointmentRepository).findByDateRangeAfter(start, end, after, 51);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar tamanho de página fora do limite")
+        void shouldRejectInvalidPageSize() {
+            // Given
+            PatientId patientId = PatientId.generate();
+
+            // When / Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> findAppointmentUseCase.findPageByPatientId(patientId, null, 0));
+            assertThrows(IllegalArgumentException.class,
+                    () -> findAppointmentUseCase.findPageByPatientId(patientId, null, FindAppointmentUseCaseImpl.MAX_PAGE_SIZE + 1));
+            verify(appointmentRepository, never()).findByPatientIdAfter(any(), any(), anyInt());
+        }
+    }
+
+    // Métodos auxiliares
+
+    private List<AppointmentListItem> createListItems(PatientId patientId, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new AppointmentListItem(
+                    AppointmentId.generate().value(),
+                    patientId.value(),
+                    ProfessionalId.generate().value(),
+                    FIRST_SLOT.plusMinutes(30L * i),
+                    AppointmentType.FOLLOW_UP,
+                    AppointmentStatus.SCHEDULED
+                ))
+                .toList();
+    }
+}
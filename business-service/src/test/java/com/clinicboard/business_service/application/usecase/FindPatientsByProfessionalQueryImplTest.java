@@ -0,0 +1,107 @@
+package com.clinicboard.business_service.application.usecase;
+
+import com.clinicboard.business_service.application.port.in.FindPatientsByProfessionalQuery.CountPatientsByProfessionalRequest;
+import com.clinicboard.business_service.application.port.in.FindPatientsByProfessionalQuery.CountPatientsByProfessionalResponse;
+import com.clinicboard.business_service.application.port.in.FindPatientsByProfessionalQuery.FindPatientsByProfessionalRequest;
+import com.clinicboard.business_service.application.port.in.FindPatientsByProfessionalQuery.FindPatientsByProfessionalResponse;
+import com.clinicboard.business_service.application.port.in.FindPatientsByProfessionalQuery.PatientSummary;
+import com.clinicboard.business_service.application.port.out.PatientRepository;
+import com.clinicboard.business_service.domain.model.PatientId;
+import com.clinicboard.business_service.domain.model.PatientListItem;
+import com.clinicboard.business_service.domain.model.PatientStatus;
+import com.clinicboard.business_service.domain.model.PatientStatusCounts;
+import com.clinicboard.business_service.domain.model.ProfessionalId;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para FindPatientsByProfessionalQueryImpl
+ *
+ * Foco na listagem pela projeção e na contagem de pacientes por status
+ * com uma única consulta agregada.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FindPatientsByProfessional Query Tests")
+class FindPatientsByProfessionalQueryImplTest {
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    private FindPatientsByProfessionalQueryImpl findPatientsByProfessionalQuery;
+
+    @BeforeEach
+    void setUp() {
+        findPatientsByProfessionalQuery = new FindPatientsByProfessionalQueryImpl(patientRepository);
+    }
+
+    @Nested
+    @DisplayName("Listagem por status")
+    class ListByStatus {
+
+        @Test
+        @DisplayName("Deve listar pacientes ativos pela projeção de listagem")
+        void shouldListActivePatientsFromListItems() {
+            // Given
+            ProfessionalId professionalId = ProfessionalId.generate();
+            LocalDateTime createdAt = LocalDateTime.of(2025, 8, 30, 14, 30);
+            PatientListItem item = new PatientListItem(PatientId.generate().value(), "Maria Silva",
+                    "maria@clinicboard.com", "+5511999999999", PatientStatus.ACTIVE, createdAt, null);
+            when(patientRepository.findListItemsByProfessionalIdAndStatus(professionalId, PatientStatus.ACTIVE))
+                    .thenReturn(List.of(item));
+
+            // When
+            FindPatientsByProfessionalResponse response = findPatientsByProfessionalQuery.findActivePatientsByProfessional(
+                    new FindPatientsByProfessionalRequest(professionalId.value()));
+
+            // Then
+            assertEquals(1, response.totalPatients());
+            PatientSummary summary = response.patients().get(0);
+            assertEquals(item.patientId(), summary.patientId());
+            assertEquals("Maria Silva", summary.name());
+            assertEquals("+5511999999999", summary.contact());
+            assertEquals("30/08/2025 14:30", summary.createdAt());
+            assertNull(summary.updatedAt());
+            verify(patientRepository).findListItemsByProfessionalIdAndStatus(professionalId, PatientStatus.ACTIVE);
+            verifyNoMoreInteractions(patientRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Contagem por status")
+    class CountByStatus {
+
+        @Test
+        @DisplayName("Deve contar pacientes do profissional com uma única consulta agregada")
+        void shouldCountWithSingleAggregateQuery() {
+            // Given
+            ProfessionalId professionalId = ProfessionalId.generate();
+            when(patientRepository.countByStatusForProfessional(professionalId)).thenReturn(new PatientStatusCounts(
+                    Map.of(PatientStatus.ACTIVE, 12L, PatientStatus.SUSPENDED, 1L)));
+
+            // When
+            CountPatientsByProfessionalResponse response = findPatientsByProfessionalQuery.countPatientsByProfessional(
+                    new CountPatientsByProfessionalRequest(professionalId.value()));
+
+            // Then
+            assertEquals(12, response.totalActive());
+            assertEquals(0, response.totalInactive());
+            assertEquals(1, response.totalSuspended());
+            assertEquals(0, response.totalBlocked());
+            verify(patientRepository).countByStatusForProfessional(professionalId);
+            verifyNoMoreInteractions(patientRepository);
+        }
+    }
+}
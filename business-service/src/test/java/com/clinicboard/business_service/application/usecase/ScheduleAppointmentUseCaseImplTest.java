@@ -6,6 +6,7 @@ import com.clinicboard.business_service.application.port.in.ScheduleAppointmentC
 import com.clinicboard.business_service.application.port.out.AppointmentRepository;
 import com.clinicboard.business_service.application.port.out.EventPublisherGateway;
 import com.clinicboard.business_service.application.port.out.PatientRepository;
+import com.clinicboard.business_service.domain.exception.AppointmentConflictException;
 import com.clinicboard.business_service.domain.exception.PatientBusinessRuleException;
 import com.clinicboard.business_service.domain.model.*;
 import com.clinicboard.business_service.domain.service.AvailabilityDomainService;
@@ -19,8 +20,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -74,7 +75,6 @@ class ScheduleAppointmentUseCaseImplTest {
             Appointment appointment = createAppointment();
             
             when(patientRepository.findById(any(PatientId.class))).thenReturn(Optional.of(activePatient));
-            when(appointmentRepository.findByDateTimeRange(any(), any())).thenReturn(List.of()); // Mock para o Domain Service
             when(appointmentRepository.save(any(Appointment.class))).thenReturn(appointment);
             
             // When
@@ -97,12 +97,43 @@ class ScheduleAppointmentUseCaseImplTest {
             Appointment appointment = createAppointment();
             
             when(patientRepository.findById(any(PatientId.class))).thenReturn(Optional.of(activePatient));
-            when(appointmentRepository.findByDateTimeRange(any(), any())).thenReturn(List.of()); // Mock para o Domain Service
             when(appointmentRepository.save(any(Appointment.class))).thenReturn(appointment);
             
             // When & Then
             assertDoesNotThrow(() -> scheduleAppointmentUseCase.scheduleAppointment(request));
         }
+
+        @Test
+        @DisplayName("Deve buscar apenas agendamentos do profissional e do paciente na data")
+        void shouldQueryOnlyProfessionalAndPatientAppointmentsOnDate() {
+            // Given
+            ScheduleAppointmentRequest request = createValidScheduleRequest();
+            Patient activePatient = createActivePatient();
+            Appointment appointment = createAppointment();
+
+            when(patientRepository.findById(any(PatientId.class))).thenReturn(Optional.of(activePatient));
+            when(appointmentRepository.findActiveAppointmentsForScheduling(any(), any(), any())).thenReturn(List.of());
+            when(appointmentRepository.save(any(Appointment.class))).thenReturn(appointment);
+
+            // When
+            scheduleAppointmentUseCase.scheduleAppointment(request);
+
+            // Then
+            verify(appointmentRepository).findActiveAppointmentsForScheduling(
+                request.professionalId(),
+                request.patientId(),
+                request.appointmentTime().value().toLocalDate()
+            );
+            verify(availabilityDomainService).validateAppointmentCreation(
+                request.patientId(),
+                request.professionalId(),
+                request.appointmentTime(),
+                request.appointmentType(),
+                List.of(),
+                activePatient
+            );
+            verify(appointmentRepository, never()).findByDateTimeRange(any(), any());
+        }
     }
 
     @Nested
@@ -133,7 +164,6 @@ class ScheduleAppointmentUseCaseImplTest {
             Patient inactivePatient = createInactivePatient();
             
             when(patientRepository.findById(any(PatientId.class))).thenReturn(Optional.of(inactivePatient));
-            when(appointmentRepository.findByDateTimeRange(any(), any())).thenReturn(List.of()); // Mock para o Domain Service
             
             // Mock do Domain Service para lançar a exceção esperada diretamente
             doThrow(new PatientBusinessRuleException(inactivePatient.getId().value(), "Paciente inativo não pode agendar consultas"))
@@ -148,6 +178,50 @@ class ScheduleAppointmentUseCaseImplTest {
             verify(eventPublisher, never()).publishAppointmentScheduled(any());
         }
 
+        @Test
+        @DisplayName("Deve propagar conflito detectado pela persistência sem publicar evento")
+        void shouldPropagateConflictDetectedOnSave() {
+            // Given
+            ScheduleAppointmentRequest request = createValidScheduleRequest();
+            Patient activePatient = createActivePatient();
+
+            when(patientRepository.findById(any(PatientId.class))).thenReturn(Optional.of(activePatient));
+            when(appointmentRepository.save(any(Appointment.class))).thenThrow(
+                new AppointmentConflictException(
+                    request.professionalId().value(),
+                    request.appointmentTime().getFormattedDateTime()
+                )
+            );
+
+            // When & Then
+            assertThrows(AppointmentConflictException.class,
+                () -> scheduleAppointmentUseCase.scheduleAppointment(request));
+
+            verify(eventPublisher, never()).publishAppointmentScheduled(any());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar conflito encontrado na pré-leitura sem persistir")
+        void shouldRejectConflictFoundBeforeSaving() {
+            // Given
+            ScheduleAppointmentRequest request = createValidScheduleRequest();
+            Patient activePatient = createActivePatient();
+
+            when(patientRepository.findById(any(PatientId.class))).thenReturn(Optional.of(activePatient));
+            doThrow(new AppointmentConflictException(
+                    request.professionalId().value(),
+                    request.appointmentTime().getFormattedDateTime()))
+                .when(availabilityDomainService)
+                .validateAppointmentCreation(any(), any(), any(), any(), any(), any());
+
+            // When & Then
+            assertThrows(AppointmentConflictException.class,
+                () -> scheduleAppointmentUseCase.scheduleAppointment(request));
+
+            verify(appointmentRepository, never()).save(any());
+            verify(eventPublisher, never()).publishAppointmentScheduled(any());
+        }
+
         @Test
         @DisplayName("Deve falhar quando tentar agendar no passado")
         void shouldFailWhenSchedulingInPast() {
@@ -0,0 +1,99 @@
+package com.clinicboard.business_service.benchmark;
+
+import com.clinicboard.business_service.domain.model.AgendaOccupancy;
+import com.clinicboard.business_service.domain.model.ProfessionalId;
+import com.clinicboard.business_service.domain.model.ProfessionalSlot;
+import com.clinicboard.business_service.domain.service.AvailabilityDomainService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca de horários livres de 100 profissionais em 30 dias, com 12 consultas
+ * por profissional por dia: montagem da ocupação a partir das consultas
+ * seguida da enumeração completa ou do primeiro horário livre.
+ *
+ * Execução (após mvn test-compile):
+ *   java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.clinicboard.business_service.benchmark.AvailabilitySearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailabilitySearchBenchmark {
+
+    private static final int PROFESSIONALS = 100;
+    private static final int DAYS = 30;
+    private static final int APPOINTMENTS_PER_DAY = 12;
+
+    private final AvailabilityDomainService service = new AvailabilityDomainService();
+
+    private LocalDate startDate;
+    private List<ProfessionalId> professionals;
+    private List<ProfessionalId> owners;
+    private List<LocalDateTime> times;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        startDate = LocalDate.now().plusDays(1);
+        professionals = new ArrayList<>(PROFESSIONALS);
+        for (int i = 0; i < PROFESSIONALS; i++) {
+            professionals.add(ProfessionalId.generate());
+        }
+        owners = new ArrayList<>();
+        times = new ArrayList<>();
+        for (ProfessionalId professional : professionals) {
+            for (int day = 0; day < DAYS; day++) {
+                for (int i = 0; i < APPOINTMENTS_PER_DAY; i++) {
+                    owners.add(professional);
+                    times.add(startDate.plusDays(day).atTime(8, 0).plusMinutes(30L * random.nextInt(20)));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public long enumerateAllSlots() {
+        return service.streamAvailableSlots(occupancy()).count();
+    }
+
+    @Benchmark
+    public ProfessionalSlot findEarliestSlot() {
+        return service.streamAvailableSlots(occupancy()).findFirst().orElseThrow();
+    }
+
+    private AgendaOccupancy occupancy() {
+        AgendaOccupancy.Builder builder = AgendaOccupancy.builder(professionals, startDate, DAYS);
+        for (int i = 0; i < times.size(); i++) {
+            builder.occupy(owners.get(i), times.get(i), 30);
+        }
+        return builder.build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(AvailabilitySearchBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,108 @@
+package com.clinicboard.business_service.benchmark;
+
+import com.clinicboard.business_service.domain.event.AppointmentScheduledEvent;
+import com.clinicboard.business_service.domain.model.AppointmentId;
+import com.clinicboard.business_service.domain.model.AppointmentTime;
+import com.clinicboard.business_service.domain.model.PatientId;
+import com.clinicboard.business_service.domain.model.ProfessionalId;
+import com.clinicboard.business_service.infrastructure.adapter.out.messaging.codec.BinaryEventMessageConverter;
+import com.clinicboard.business_service.infrastructure.adapter.out.messaging.codec.CompactEventReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a codificação JSON (Jackson2JsonMessageConverter) com o formato
+ * binário compacto para o evento de agendamento criado.
+ *
+ * Execução (após mvn test-compile):
+ *   java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.clinicboard.business_service.benchmark.EventEncodingBenchmark
+ *
+ * O tamanho das mensagens é impresso antes das medições de tempo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventEncodingBenchmark {
+
+    private final Jackson2JsonMessageConverter jsonConverter = new Jackson2JsonMessageConverter();
+    private final BinaryEventMessageConverter binaryConverter = new BinaryEventMessageConverter();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private AppointmentScheduledEvent event;
+    private byte[] jsonBody;
+    private byte[] binaryBody;
+
+    @Setup
+    public void setUp() {
+        event = sampleEvent();
+        jsonBody = jsonConverter.toMessage(event, new MessageProperties()).getBody();
+        binaryBody = binaryConverter.toMessage(event, new MessageProperties()).getBody();
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return jsonConverter.toMessage(event, new MessageProperties()).getBody();
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return binaryConverter.toMessage(event, new MessageProperties()).getBody();
+    }
+
+    @Benchmark
+    public JsonNode decodeJson() throws Exception {
+        return objectMapper.readTree(jsonBody);
+    }
+
+    @Benchmark
+    public void decodeBinary(Blackhole blackhole) {
+        CompactEventReader reader = new CompactEventReader(binaryBody);
+        blackhole.consume(reader.readId());
+        blackhole.consume(reader.readId());
+        blackhole.consume(reader.readId());
+        blackhole.consume(reader.readDateTime());
+        blackhole.consume(reader.readInstant());
+    }
+
+    public static void main(String[] args) throws Exception {
+        EventEncodingBenchmark sizes = new EventEncodingBenchmark();
+        sizes.setUp();
+        System.out.printf("Bytes por mensagem: json=%d binary=%d%n", sizes.jsonBody.length, sizes.binaryBody.length);
+
+        new Runner(new OptionsBuilder()
+                .include(EventEncodingBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    private static AppointmentScheduledEvent sampleEvent() {
+        return AppointmentScheduledEvent.from(
+                AppointmentId.of(UUID.randomUUID().toString()),
+                PatientId.of(UUID.randomUUID().toString()),
+                ProfessionalId.of(UUID.randomUUID().toString()),
+                new AppointmentTime(LocalDate.now().plusDays(1).atTime(9, 0)));
+    }
+}
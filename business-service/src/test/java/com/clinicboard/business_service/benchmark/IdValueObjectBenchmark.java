@@ -0,0 +1,236 @@
+package com.clinicboard.business_service.benchmark;
+
+import com.clinicboard.business_service.domain.model.PatientId;
+import com.clinicboard.business_service.domain.model.ProfessionalId;
+import com.clinicboard.business_service.domain.model.UuidFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compara a construção, o equals e o hashCode dos IDs com a implementação
+ * anterior (record validado por expressão regular) e com um ID que guarda
+ * as duas metades do UUID em longs.
+ *
+ * Os valores são cópias distintas das strings, como as que o driver JDBC
+ * devolve a cada linha, para que nem equals nem hashCode se beneficiem de
+ * identidade ou de hash já calculado.
+ *
+ * Execução (após mvn test-compile):
+ *   java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.clinicboard.business_service.benchmark.IdValueObjectBenchmark
+ *
+ * O GCProfiler reporta gc.alloc.rate.norm em bytes por ID.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdValueObjectBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final int PROFESSIONALS = 20;
+
+    private String[] patientValues;
+    private String[] professionalValues;
+    private RegexPatientId[] regexIds;
+    private RegexPatientId[] regexCopies;
+    private PatientId[] ids;
+    private PatientId[] copies;
+    private BitsPatientId[] bitsIds;
+    private BitsPatientId[] bitsCopies;
+
+    @Setup
+    public void setUp() {
+        patientValues = new String[ROWS];
+        professionalValues = new String[ROWS];
+        regexIds = new RegexPatientId[ROWS];
+        regexCopies = new RegexPatientId[ROWS];
+        ids = new PatientId[ROWS];
+        copies = new PatientId[ROWS];
+        bitsIds = new BitsPatientId[ROWS];
+        bitsCopies = new BitsPatientId[ROWS];
+
+        String[] professionals = new String[PROFESSIONALS];
+        for (int i = 0; i < PROFESSIONALS; i++) {
+            professionals[i] = UUID.randomUUID().toString();
+        }
+        for (int i = 0; i < ROWS; i++) {
+            String value = UUID.randomUUID().toString();
+            patientValues[i] = new String(value);
+            professionalValues[i] = new String(professionals[i % PROFESSIONALS]);
+            regexIds[i] = new RegexPatientId(new String(value));
+            regexCopies[i] = new RegexPatientId(new String(value));
+            ids[i] = new PatientId(new String(value));
+            copies[i] = new PatientId(new String(value));
+            bitsIds[i] = BitsPatientId.of(new String(value));
+            bitsCopies[i] = BitsPatientId.of(new String(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void constructRegex(Blackhole blackhole) {
+        for (String value : patientValues) {
+            blackhole.consume(new RegexPatientId(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void constructParser(Blackhole blackhole) {
+        for (String value : patientValues) {
+            blackhole.consume(PatientId.of(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void constructBits(Blackhole blackhole) {
+        for (String value : patientValues) {
+            blackhole.consume(BitsPatientId.of(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void professionalNew(Blackhole blackhole) {
+        for (String value : professionalValues) {
+            blackhole.consume(new ProfessionalId(value));
+        }
+    }
+
+    /**
+     * Após a primeira invocação as strings já têm o hash calculado; com
+     * strings novas do driver o cache ainda paga o hash dos 36 caracteres.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void professionalCached(Blackhole blackhole) {
+        for (String value : professionalValues) {
+            blackhole.consume(ProfessionalId.of(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int equalsRecord() {
+        int equal = 0;
+        for (int i = 0; i < ROWS; i++) {
+            equal += ids[i].equals(copies[i]) ? 1 : 0;
+        }
+        return equal;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int equalsRegexRecord() {
+        int equal = 0;
+        for (int i = 0; i < ROWS; i++) {
+            equal += regexIds[i].equals(regexCopies[i]) ? 1 : 0;
+        }
+        return equal;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int equalsBits() {
+        int equal = 0;
+        for (int i = 0; i < ROWS; i++) {
+            equal += bitsIds[i].equals(bitsCopies[i]) ? 1 : 0;
+        }
+        return equal;
+    }
+
+    /**
+     * hashCode de um ID recém-lido: a string ainda não tem o hash em cache.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int hashCodeFreshRecord() {
+        int hash = 0;
+        for (String value : patientValues) {
+            hash += new PatientId(new String(value)).hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int hashCodeFreshBits() {
+        int hash = 0;
+        for (String value : patientValues) {
+            hash += BitsPatientId.of(new String(value)).hashCode();
+        }
+        return hash;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(IdValueObjectBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+
+    /**
+     * Implementação anterior de PatientId, validada por expressão regular.
+     */
+    record RegexPatientId(String value) {
+
+        private static final Pattern UUID_PATTERN = Pattern.compile(
+            "^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$",
+            Pattern.CASE_INSENSITIVE
+        );
+
+        RegexPatientId {
+            if (value == null || value.trim().isEmpty() || !UUID_PATTERN.matcher(value).matches()) {
+                throw new IllegalArgumentException("UUID inválido: " + value);
+            }
+        }
+    }
+
+    /**
+     * Alternativa que guarda as metades do UUID: equals e hashCode sobre longs.
+     */
+    record BitsPatientId(String value, long mostSignificantBits, long leastSignificantBits) {
+
+        static BitsPatientId of(String value) {
+            if (!UuidFormat.isValid(value)) {
+                throw new IllegalArgumentException("UUID inválido: " + value);
+            }
+            return new BitsPatientId(value, UuidFormat.mostSignificantBits(value), UuidFormat.leastSignificantBits(value));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof BitsPatientId id
+                    && mostSignificantBits == id.mostSignificantBits
+                    && leastSignificantBits == id.leastSignificantBits;
+        }
+
+        @Override
+        public int hashCode() {
+            long bits = mostSignificantBits ^ leastSignificantBits;
+            return (int) (bits >> 32) ^ (int) bits;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.clinicboard.business_service.benchmark;
+
+import com.clinicboard.business_service.application.port.in.FindPatientQuery.PatientView;
+import com.clinicboard.business_service.domain.model.Patient;
+import com.clinicboard.business_service.domain.model.PatientListItem;
+import com.clinicboard.business_service.infrastructure.adapter.in.web.dto.PatientResponseDto;
+import com.clinicboard.business_service.infrastructure.adapter.in.web.mapper.PatientWebMapper;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.PatientJpaEntity;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.mapper.PatientPersistenceMapper;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.PatientJpaRepository.PatientListProjection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara, por linha, a listagem de pacientes pelo agregado (entidade JPA →
+ * Patient → PatientView → DTO) com a projeção de listagem (projeção →
+ * PatientListItem → DTO).
+ *
+ * As entidades e as tuplas já chegam prontas: a hidratação do Hibernate, o
+ * snapshot do dirty checking e o registro no contexto de persistência, que só
+ * o caminho pelo agregado paga, não entram na medição. A projeção é criada
+ * pela mesma fábrica de proxies do Spring Data, a partir de um Map como o
+ * TupleBackedMap.
+ *
+ * Execução (após mvn test-compile):
+ *   java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.clinicboard.business_service.benchmark.ListReadPathBenchmark
+ *
+ * O GCProfiler reporta gc.alloc.rate.norm em bytes por linha.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListReadPathBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private final PatientPersistenceMapper persistenceMapper = new PatientPersistenceMapper() {};
+    private final PatientWebMapper webMapper = new PatientWebMapper() {};
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    private List<PatientJpaEntity> entities;
+    private List<Map<String, Object>> tuples;
+
+    @Setup
+    public void setUp() {
+        entities = new ArrayList<>(PAGE_SIZE);
+        tuples = new ArrayList<>(PAGE_SIZE);
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(30);
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            String patientId = UUID.randomUUID().toString();
+            String name = "Paciente Teste " + (char) ('A' + i % 26);
+            String email = "paciente" + i + "@clinicboard.com";
+            String contact = String.format("+55119%08d", i);
+
+            entities.add(PatientJpaEntity.builder()
+                    .patientId(patientId)
+                    .name(name)
+                    .email(email)
+                    .contactDetails(contact)
+                    .professionalId(UUID.randomUUID().toString())
+                    .status("ACTIVE")
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+
+            Map<String, Object> tuple = new HashMap<>();
+            tuple.put("patientId", patientId);
+            tuple.put("name", name);
+            tuple.put("email", email);
+            tuple.put("contactDetails", contact);
+            tuple.put("status", "ACTIVE");
+            tuple.put("createdAt", createdAt);
+            tuple.put("updatedAt", createdAt);
+            tuples.add(tuple);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void aggregatePath(Blackhole blackhole) {
+        for (PatientJpaEntity entity : entities) {
+            Patient patient = persistenceMapper.toDomainEntity(entity);
+            PatientView view = PatientView.of(
+                    patient.getId(),
+                    patient.getDomainName(),
+                    patient.getEmail(),
+                    patient.getContact(),
+                    patient.getStatus(),
+                    patient.getCreatedAt());
+            PatientResponseDto dto = webMapper.toResponseDto(view);
+            blackhole.consume(dto);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void projectionPath(Blackhole blackhole) {
+        for (Map<String, Object> tuple : tuples) {
+            PatientListProjection projection = projectionFactory.createProjection(PatientListProjection.class, tuple);
+            PatientListItem item = persistenceMapper.toListItem(projection);
+            PatientResponseDto dto = webMapper.toResponseDto(item);
+            blackhole.consume(dto);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ListReadPathBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
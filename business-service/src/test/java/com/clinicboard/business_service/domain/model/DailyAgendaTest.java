@@ -0,0 +1,120 @@
+package com.clinicboard.business_service.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para DailyAgenda
+ */
+@DisplayName("DailyAgenda - Índice de Intervalos Tests")
+class DailyAgendaTest {
+
+    @Nested
+    @DisplayName("Sobreposição de Intervalos")
+    class Overlaps {
+
+        @Test
+        @DisplayName("Procedimento de 90 minutos deve bloquear os três slots seguintes")
+        void longAppointmentShouldBlockFollowingSlots() {
+            // Given
+            DailyAgenda agenda = DailyAgenda.builder()
+                .add(LocalTime.of(10, 0), 90)
+                .build();
+
+            // When & Then
+            assertTrue(agenda.overlaps(LocalTime.of(10, 0), 30));
+            assertTrue(agenda.overlaps(LocalTime.of(10, 30), 30));
+            assertTrue(agenda.overlaps(LocalTime.of(11, 0), 30));
+            assertFalse(agenda.overlaps(LocalTime.of(11, 30), 30));
+            assertFalse(agenda.overlaps(LocalTime.of(9, 30), 30));
+            assertEquals(3, agenda.occupiedSlots().occupiedCount());
+        }
+
+        @Test
+        @DisplayName("Intervalos adjacentes não devem se sobrepor")
+        void adjacentIntervalsShouldNotOverlap() {
+            // Given
+            DailyAgenda agenda = DailyAgenda.builder()
+                .add(LocalTime.of(10, 0), 15)
+                .build();
+
+            // When & Then
+            assertFalse(agenda.overlaps(LocalTime.of(10, 15), 15));
+            assertFalse(agenda.overlaps(LocalTime.of(9, 45), 15));
+            assertTrue(agenda.overlaps(LocalTime.of(9, 50), 15));
+        }
+
+        @Test
+        @DisplayName("Consulta curta após uma longa deve ser encontrada pela maior duração do dia")
+        void shouldFindOverlapUsingMaxDuration() {
+            // Given - procedimento às 8h e vacina às 9h15
+            DailyAgenda agenda = DailyAgenda.builder()
+                .add(LocalTime.of(9, 15), 15)
+                .add(LocalTime.of(8, 0), 90)
+                .build();
+
+            // When & Then
+            assertEquals(2, agenda.countOverlapping(LocalTime.of(9, 0), 30));
+            assertEquals(1, agenda.countOverlapping(LocalTime.of(8, 30), 30));
+            assertFalse(agenda.overlaps(LocalTime.of(9, 30), 30));
+        }
+
+        @Test
+        @DisplayName("Inclusão deve manter a agenda original inalterada")
+        void withShouldReturnNewAgenda() {
+            // Given
+            DailyAgenda agenda = DailyAgenda.builder()
+                .add(LocalTime.of(14, 0), 30)
+                .build();
+
+            // When
+            DailyAgenda updated = agenda.with(LocalTime.of(10, 0), 60);
+
+            // Then
+            assertEquals(1, agenda.size());
+            assertEquals(2, updated.size());
+            assertFalse(agenda.overlaps(LocalTime.of(10, 30), 30));
+            assertTrue(updated.overlaps(LocalTime.of(10, 30), 30));
+            assertTrue(updated.overlaps(LocalTime.of(14, 0), 30));
+        }
+
+        @Test
+        @DisplayName("Deve coincidir com a verificação exaustiva em agendas aleatórias")
+        void shouldMatchBruteForce() {
+            // Given
+            Random random = new Random(7);
+            int[] durations = {15, 30, 45, 60, 90};
+
+            for (int day = 0; day < 200; day++) {
+                int size = random.nextInt(20);
+                int[] starts = new int[size];
+                int[] ends = new int[size];
+                DailyAgenda.Builder builder = DailyAgenda.builder();
+                for (int i = 0; i < size; i++) {
+                    starts[i] = 15 * random.nextInt(80);
+                    ends[i] = starts[i] + durations[random.nextInt(durations.length)];
+                    builder.add(LocalTime.ofSecondOfDay(starts[i] * 60L), ends[i] - starts[i]);
+                }
+                DailyAgenda agenda = builder.build();
+
+                // When & Then
+                for (int minute = 0; minute < 20 * 60; minute += 15) {
+                    int duration = durations[random.nextInt(durations.length)];
+                    int expected = 0;
+                    for (int i = 0; i < size; i++) {
+                        if (starts[i] < minute + duration && minute < ends[i]) {
+                            expected++;
+                        }
+                    }
+                    assertEquals(expected, agenda.countOverlapping(LocalTime.ofSecondOfDay(minute * 60L), duration));
+                }
+            }
+        }
+    }
+}
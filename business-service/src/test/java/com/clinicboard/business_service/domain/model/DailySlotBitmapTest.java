@@ -0,0 +1,132 @@
+package com.clinicboard.business_service.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para DailySlotBitmap Value Object
+ */
+@DisplayName("DailySlotBitmap - Value Object Tests")
+class DailySlotBitmapTest {
+
+    private final LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+    @Nested
+    @DisplayName("Ocupação de Slots")
+    class SlotOccupation {
+
+        @Test
+        @DisplayName("Consulta na grade deve ocupar exatamente um slot")
+        void alignedAppointmentShouldOccupySingleSlot() {
+            // When
+            DailySlotBitmap bitmap = DailySlotBitmap.EMPTY.occupy(LocalTime.of(10, 0), 30);
+
+            // Then
+            assertEquals(1, bitmap.occupiedCount());
+            assertFalse(bitmap.isFree(LocalTime.of(10, 0), 30));
+            assertTrue(bitmap.isFree(LocalTime.of(9, 30), 30));
+            assertTrue(bitmap.isFree(LocalTime.of(10, 30), 30));
+        }
+
+        @Test
+        @DisplayName("Consulta fora da grade deve ocupar os dois slots sobrepostos")
+        void unalignedAppointmentShouldOccupyBothOverlappingSlots() {
+            // When
+            DailySlotBitmap bitmap = DailySlotBitmap.EMPTY.occupy(LocalTime.of(10, 15), 30);
+
+            // Then
+            assertEquals(2, bitmap.occupiedCount());
+            assertFalse(bitmap.isFree(LocalTime.of(10, 0), 30));
+            assertFalse(bitmap.isFree(LocalTime.of(10, 30), 30));
+        }
+
+        @Test
+        @DisplayName("Último slot do dia deve caber no mapa")
+        void lastSlotOfDayShouldFit() {
+            // When
+            DailySlotBitmap bitmap = DailySlotBitmap.EMPTY.occupy(LocalTime.of(23, 30), 60);
+
+            // Then
+            assertEquals(1, bitmap.occupiedCount());
+            assertFalse(bitmap.isFree(LocalTime.of(23, 30), 30));
+        }
+
+        @Test
+        @DisplayName("Deve ignorar consultas inativas e de outras datas")
+        void shouldIgnoreInactiveAndOtherDates() {
+            // Given
+            ProfessionalId professionalId = ProfessionalId.generate();
+            List<Appointment> appointments = List.of(
+                appointment(professionalId, tomorrow.atTime(9, 0), AppointmentStatus.SCHEDULED),
+                appointment(professionalId, tomorrow.atTime(11, 0), AppointmentStatus.CANCELLED),
+                appointment(professionalId, tomorrow.plusDays(1).atTime(9, 30), AppointmentStatus.CONFIRMED)
+            );
+
+            // When
+            DailySlotBitmap bitmap = DailySlotBitmap.of(tomorrow, appointments);
+
+            // Then
+            assertEquals(1, bitmap.occupiedCount());
+            assertFalse(bitmap.isFree(LocalTime.of(9, 0), 30));
+            assertTrue(bitmap.isFree(LocalTime.of(11, 0), 30));
+        }
+    }
+
+    @Nested
+    @DisplayName("Janelas e Slots Livres")
+    class FreeSlots {
+
+        @Test
+        @DisplayName("Janela de 8h às 19h deve conter 23 inícios de slot")
+        void businessWindowShouldContainExpectedSlots() {
+            // When
+            long window = DailySlotBitmap.windowMask(LocalTime.of(8, 0), LocalTime.of(19, 0));
+
+            // Then
+            assertEquals(23, Long.bitCount(window));
+            assertEquals(LocalTime.of(8, 0), DailySlotBitmap.slotStart(Long.numberOfTrailingZeros(window)));
+        }
+
+        @Test
+        @DisplayName("Slots livres devem excluir os ocupados")
+        void freeSlotsShouldExcludeOccupied() {
+            // Given
+            long window = DailySlotBitmap.windowMask(LocalTime.of(8, 0), LocalTime.of(9, 0));
+            DailySlotBitmap bitmap = DailySlotBitmap.EMPTY.occupy(LocalTime.of(8, 30), 30);
+
+            // When
+            long free = bitmap.freeSlots(window);
+
+            // Then
+            assertEquals(2, Long.bitCount(free));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar bits fora do dia")
+        void shouldRejectBitsOutsideDay() {
+            assertThrows(IllegalArgumentException.class, () -> new DailySlotBitmap(1L << DailySlotBitmap.SLOTS_PER_DAY));
+        }
+    }
+
+    private Appointment appointment(ProfessionalId professionalId, LocalDateTime time, AppointmentStatus status) {
+        return new Appointment(
+            AppointmentId.generate(),
+            PatientId.generate(),
+            professionalId,
+            AppointmentTime.of(time),
+            status,
+            AppointmentType.FOLLOW_UP,
+            "",
+            LocalDateTime.now(),
+            LocalDateTime.now()
+        );
+    }
+}
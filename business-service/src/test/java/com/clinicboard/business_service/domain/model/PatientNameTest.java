@@ -265,6 +265,32 @@ class PatientNameTest {
             // Then
             assertEquals("João Silva Santos", formatted);
         }
+
+        @Test
+        @DisplayName("Deve gerar chave de busca sem acentos, caixa e pontuação")
+        void shouldGenerateSearchKeyWithoutAccentsCaseAndPunctuation() {
+            // Given
+            PatientName patientName = new PatientName("  Ana  D'Ávila-Conceição ");
+            
+            // When
+            String searchKey = patientName.getSearchKey();
+            
+            // Then
+            assertEquals("ana d avila conceicao", searchKey);
+        }
+
+        @Test
+        @DisplayName("Deve normalizar termo de busca igual à chave do nome")
+        void shouldNormalizeSearchTermLikeStoredKey() {
+            // Given
+            PatientName patientName = new PatientName("José Júnior");
+            
+            // When
+            String term = PatientName.toSearchKey("JOSE jun");
+            
+            // Then
+            assertTrue(patientName.getSearchKey().startsWith(term));
+        }
     }
 
     @Nested
@@ -0,0 +1,59 @@
+package com.clinicboard.business_service.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ProfessionalId Value Object
+ *
+ * Foco no cache de instâncias do factory method of().
+ */
+@DisplayName("ProfessionalId - Value Object Tests")
+class ProfessionalIdTest {
+
+    @Nested
+    @DisplayName("Cache de Instâncias")
+    class InstanceCache {
+
+        @Test
+        @DisplayName("Deve reaproveitar a instância para o mesmo ID")
+        void shouldReuseInstanceForSameValue() {
+            // Given
+            String value = "660e8400-e29b-41d4-a716-446655440001";
+
+            // When
+            ProfessionalId first = ProfessionalId.of(value);
+            ProfessionalId second = ProfessionalId.of(new String(value));
+
+            // Then
+            assertSame(first, second);
+        }
+
+        @Test
+        @DisplayName("Deve manter igualdade por valor fora do cache")
+        void shouldKeepValueEqualityOutsideCache() {
+            // Given
+            String value = "660e8400-e29b-41d4-a716-446655440002";
+
+            // When
+            ProfessionalId cached = ProfessionalId.of(value);
+            ProfessionalId constructed = new ProfessionalId(value);
+
+            // Then
+            assertNotSame(cached, constructed);
+            assertEquals(cached, constructed);
+            assertEquals(cached.hashCode(), constructed.hashCode());
+        }
+
+        @Test
+        @DisplayName("Deve validar o valor antes de guardar no cache")
+        void shouldValidateBeforeCaching() {
+            // When & Then
+            assertThrows(ProfessionalId.InvalidProfessionalIdException.class, () -> ProfessionalId.of(null));
+            assertThrows(ProfessionalId.InvalidProfessionalIdException.class, () -> ProfessionalId.of("   "));
+        }
+    }
+}
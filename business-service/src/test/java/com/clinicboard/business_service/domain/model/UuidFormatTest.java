@@ -0,0 +1,77 @@
+package com.clinicboard.business_service.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para UuidFormat
+ *
+ * Foco na equivalência com a expressão regular que os IDs usavam e na
+ * leitura das duas metades do UUID.
+ */
+@DisplayName("UuidFormat Tests")
+class UuidFormatTest {
+
+    @Nested
+    @DisplayName("Validação")
+    class Validation {
+
+        @ParameterizedTest
+        @DisplayName("Deve aceitar UUIDs em qualquer caixa")
+        @ValueSource(strings = {
+            "123e4567-e89b-12d3-a456-426614174000",
+            "123E4567-E89B-12D3-A456-426614174000",
+            "00000000-0000-0000-0000-000000000000",
+            "ffffffff-FFFF-ffff-FFFF-ffffffffffff"
+        })
+        void shouldAcceptValidUuids(String value) {
+            // When & Then
+            assertTrue(UuidFormat.isValid(value));
+        }
+
+        @ParameterizedTest
+        @DisplayName("Deve rejeitar formatos inválidos")
+        @NullAndEmptySource
+        @ValueSource(strings = {
+            "123e4567-e89b-12d3-a456",
+            "123e4567-e89b-12d3-a456-4266141740000",
+            "123e4567_e89b_12d3_a456_426614174000",
+            "123e4567-e89b-12d3-a456-42661417400g",
+            "123e4567-e89b-12d3-a456-42661417400١",
+            "123e4567-e89b-12d3-a456-42661417400İ",
+            "123e4567-e89b-12d3-a456-42661417400 ",
+            "123e45678e89b-12d3-a456-426614174000"
+        })
+        void shouldRejectInvalidFormats(String value) {
+            // When & Then
+            assertFalse(UuidFormat.isValid(value));
+        }
+    }
+
+    @Nested
+    @DisplayName("Metades do UUID")
+    class Halves {
+
+        @Test
+        @DisplayName("Deve ler as mesmas metades que java.util.UUID")
+        void shouldReadSameBitsAsJavaUuid() {
+            for (int i = 0; i < 100; i++) {
+                // Given
+                UUID uuid = UUID.randomUUID();
+                String value = i % 2 == 0 ? uuid.toString() : uuid.toString().toUpperCase();
+
+                // When & Then
+                assertEquals(uuid.getMostSignificantBits(), UuidFormat.mostSignificantBits(value));
+                assertEquals(uuid.getLeastSignificantBits(), UuidFormat.leastSignificantBits(value));
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.clinicboard.business_service.domain.service;
+
+import com.clinicboard.business_service.domain.model.AgendaOccupancy;
+import com.clinicboard.business_service.domain.model.AppointmentTime;
+import com.clinicboard.business_service.domain.model.AppointmentType;
+import com.clinicboard.business_service.domain.model.DailyAgenda;
+import com.clinicboard.business_service.domain.model.ProfessionalId;
+import com.clinicboard.business_service.domain.model.ProfessionalSlot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para AvailabilityDomainService
+ *
+ * Foco na busca de horários livres em lote sobre a ocupação
+ * em mapas de bits de vários profissionais e dias, considerando
+ * a duração de cada tipo de consulta.
+ */
+@DisplayName("AvailabilityDomainService Tests")
+class AvailabilityDomainServiceTest {
+
+    private final AvailabilityDomainService service = new AvailabilityDomainService();
+    private final LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+    @Nested
+    @DisplayName("Busca de Horários Livres em Lote")
+    class BulkAvailability {
+
+        @Test
+        @DisplayName("Deve retornar o primeiro horário livre entre todos os profissionais")
+        void shouldReturnEarliestFreeSlotAcrossProfessionals() {
+            // Given - primeiro profissional ocupado às 8h, segundo às 8h e 8h30
+            ProfessionalId first = ProfessionalId.generate();
+            ProfessionalId second = ProfessionalId.generate();
+            AgendaOccupancy occupancy = AgendaOccupancy.builder(List.of(first, second), tomorrow, 1)
+                .occupy(first, tomorrow.atTime(8, 0), 30)
+                .occupy(second, tomorrow.atTime(8, 0), 30)
+                .occupy(second, tomorrow.atTime(8, 30), 30)
+                .build();
+
+            // When
+            ProfessionalSlot slot = service.streamAvailableSlots(occupancy).findFirst().orElseThrow();
+
+            // Then
+            assertEquals(first, slot.professionalId());
+            assertEquals(tomorrow.atTime(8, 30), slot.time().value());
+        }
+
+        @Test
+        @DisplayName("Deve ordenar por horário e desempatar pela ordem dos profissionais")
+        void shouldOrderByTimeThenProfessionalOrder() {
+            // Given
+            ProfessionalId first = ProfessionalId.generate();
+            ProfessionalId second = ProfessionalId.generate();
+            AgendaOccupancy occupancy = AgendaOccupancy.builder(List.of(first, second), tomorrow, 2).build();
+
+            // When
+            List<ProfessionalSlot> slots = service.streamAvailableSlots(occupancy).toList();
+
+            // Then
+            for (int i = 1; i < slots.size(); i++) {
+                LocalDateTime previous = slots.get(i - 1).time().value();
+                LocalDateTime current = slots.get(i).time().value();
+                assertFalse(current.isBefore(previous));
+                if (current.equals(previous)) {
+                    assertEquals(first, slots.get(i - 1).professionalId());
+                    assertEquals(second, slots.get(i).professionalId());
+                }
+            }
+            assertEquals(tomorrow.plusDays(1).atTime(18, 0), slots.get(slots.size() - 1).time().value());
+        }
+
+        @Test
+        @DisplayName("Não deve retornar horários ocupados nem fora do expediente")
+        void shouldSkipOccupiedAndOutOfHoursSlots() {
+            // Given - consulta fora da grade ocupa 10h e 10h30
+            ProfessionalId professional = ProfessionalId.generate();
+            AgendaOccupancy occupancy = AgendaOccupancy.builder(List.of(professional), tomorrow, 1)
+                .occupy(professional, tomorrow.atTime(10, 15), 30)
+                .build();
+
+            // When
+            List<LocalTime> times = service.streamAvailableSlots(occupancy)
+                .map(slot -> slot.time().value().toLocalTime())
+                .toList();
+
+            // Then
+            assertFalse(times.contains(LocalTime.of(10, 0)));
+            assertFalse(times.contains(LocalTime.of(10, 30)));
+            assertTrue(times.contains(LocalTime.of(11, 0)));
+            assertTrue(times.stream().noneMatch(time -> time.isBefore(LocalTime.of(8, 0)) || time.isAfter(LocalTime.of(18, 0))));
+        }
+
+        @Test
+        @DisplayName("Deve ignorar consultas de profissionais e datas fora da busca")
+        void shouldIgnoreAppointmentsOutsideQuery() {
+            // Given
+            ProfessionalId professional = ProfessionalId.generate();
+            AgendaOccupancy occupancy = AgendaOccupancy.builder(List.of(professional), tomorrow, 1)
+                .occupy(ProfessionalId.generate(), tomorrow.atTime(8, 0), 30)
+                .occupy(professional, tomorrow.plusDays(1).atTime(8, 0), 30)
+                .build();
+
+            // When & Then
+            assertEquals(0L, occupancy.occupiedSlots(0, 0));
+            assertEquals(tomorrow.atTime(8, 0), service.streamAvailableSlots(occupancy).findFirst().orElseThrow().time().value());
+        }
+
+        @Test
+        @DisplayName("Não deve retornar horários sem a antecedência mínima de 2 horas")
+        void shouldRespectMinimumAdvanceNotice() {
+            // Given
+            ProfessionalId professional = ProfessionalId.generate();
+            AgendaOccupancy occupancy = AgendaOccupancy.builder(List.of(professional), LocalDate.now(), 2).build();
+            LocalDateTime earliest = LocalDateTime.now().plusHours(2);
+
+            // When & Then
+            service.streamAvailableSlots(occupancy)
+                .forEach(slot -> assertTrue(slot.time().value().isAfter(earliest)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Duração por Tipo de Consulta")
+    class AppointmentDuration {
+
+        @Test
+        @DisplayName("Consulta longa deve exigir slots consecutivos livres")
+        void longAppointmentShouldRequireConsecutiveFreeSlots() {
+            // Given - ocupado às 9h e 10h30
+            ProfessionalId professional = ProfessionalId.generate();
+            AgendaOccupancy occupancy = AgendaOccupancy.builder(List.of(professional), tomorrow, 1)
+                .occupy(professional, tomorrow.atTime(9, 0), 30)
+                .occupy(professional, tomorrow.atTime(10, 30), 30)
+                .build();
+
+            // When
+            List<LocalTime> times = service.streamAvailableSlots(occupancy, 90)
+                .map(slot -> slot.time().value().toLocalTime())
+                .toList();
+
+            // Then - até 9h esbarram às 9h; de 9h30 a 10h30 esbarram às 10h30
+            assertEquals(LocalTime.of(11, 0), times.get(0));
+        }
+
+        @Test
+        @DisplayName("Procedimento agendado deve bloquear os horários que ele cobre")
+        void scheduledProcedureShouldBlockCoveredSlots() {
+            // Given
+            ProfessionalId professional = ProfessionalId.generate();
+            AgendaOccupancy occupancy = AgendaOccupancy.builder(List.of(professional), tomorrow, 1)
+                .occupy(professional, tomorrow.atTime(8, 0), AppointmentType.PROCEDURE.getDefaultDurationMinutes())
+                .build();
+
+            // When
+            ProfessionalSlot first = service.streamAvailableSlots(occupancy).findFirst().orElseThrow();
+
+            // Then
+            assertEquals(tomorrow.atTime(9, 30), first.time().value());
+        }
+
+        @Test
+        @DisplayName("Verificação na agenda do dia deve usar a duração do tipo pretendido")
+        void shouldCheckAgendaWithRequestedTypeDuration() {
+            // Given - consulta às 10h
+            DailyAgenda agenda = DailyAgenda.builder().add(LocalTime.of(10, 0), 30).build();
+            AppointmentTime nineThirty = AppointmentTime.of(tomorrow.atTime(9, 30));
+
+            // When & Then
+            assertTrue(service.isTimeSlotAvailable(nineThirty, AppointmentType.FOLLOW_UP, agenda));
+            assertFalse(service.isTimeSlotAvailable(nineThirty, AppointmentType.FIRST_CONSULTATION, agenda));
+        }
+    }
+
+    @Nested
+    @DisplayName("Grande Volume")
+    class LargeOccupancy {
+
+        @Test
+        @DisplayName("Deve enumerar em ordem todos os horários livres de 100 profissionais x 30 dias")
+        void shouldEnumerateAllFreeSlotsInOrder() {
+            // Given - 100 profissionais, 30 dias, 12 consultas por profissional por dia
+            Random random = new Random(42);
+            List<ProfessionalId> professionals = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                professionals.add(ProfessionalId.generate());
+            }
+            AgendaOccupancy.Builder builder = AgendaOccupancy.builder(professionals, tomorrow, 30);
+            Set<String> occupied = new HashSet<>();
+            for (ProfessionalId professional : professionals) {
+                for (int day = 0; day < 30; day++) {
+                    for (int i = 0; i < 12; i++) {
+                        LocalDateTime time = tomorrow.plusDays(day).atTime(8, 0).plusMinutes(30L * random.nextInt(20));
+                        builder.occupy(professional, time, 30);
+                        occupied.add(professional.value() + "@" + time);
+                    }
+                }
+            }
+
+            // When
+            List<ProfessionalSlot> slots = service.streamAvailableSlots(builder.build()).toList();
+
+            // Then - 21 horários por dia (das 8h às 18h, de 30 em 30 minutos), menos os ocupados
+            assertEquals(100 * 30 * 21 - occupied.size(), slots.size());
+            for (int i = 1; i < slots.size(); i++) {
+                assertFalse(slots.get(i).time().value().isBefore(slots.get(i - 1).time().value()));
+            }
+            assertTrue(slots.stream().noneMatch(slot ->
+                occupied.contains(slot.professionalId().value() + "@" + slot.time().value())));
+        }
+    }
+}
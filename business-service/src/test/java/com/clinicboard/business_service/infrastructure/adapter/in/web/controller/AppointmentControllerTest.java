@@ -0,0 +1,177 @@
+package com.clinicboard.business_service.infrastructure.adapter.in.web.controller;
+
+import com.clinicboard.business_service.application.port.in.CancelAppointmentCommand;
+import com.clinicboard.business_service.application.port.in.FindAppointmentQuery;
+import com.clinicboard.business_service.application.port.in.FindAppointmentQuery.AppointmentPage;
+import com.clinicboard.business_service.application.port.in.FindAvailabilityQuery;
+import com.clinicboard.business_service.application.port.in.ScheduleAppointmentCommand;
+import com.clinicboard.business_service.domain.model.PatientId;
+import com.clinicboard.business_service.infrastructure.adapter.in.web.mapper.AppointmentWebMapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes da camada web para AppointmentController
+ *
+ * Parâmetros de busca e paginação inválidos devem responder 400 pelo
+ * GlobalExceptionHandler, e não 500.
+ */
+@WebMvcTest(AppointmentController.class)
+@DisplayName("AppointmentController Tests")
+class AppointmentControllerTest {
+
+    private static final String PATIENT_ID = "550e8400-e29b-41d4-a716-446655440000";
+    private static final String PROFESSIONAL_ID = "660e8400-e29b-41d4-a716-446655440001";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ScheduleAppointmentCommand scheduleAppointmentCommand;
+
+    @MockitoBean
+    private CancelAppointmentCommand cancelAppointmentCommand;
+
+    @MockitoBean
+    private FindAppointmentQuery findAppointmentQuery;
+
+    @MockitoBean
+    private FindAvailabilityQuery findAvailabilityQuery;
+
+    @TestConfiguration
+    static class MapperConfig {
+
+        @Bean
+        AppointmentWebMapper appointmentWebMapper() {
+            return new AppointmentWebMapper() {};
+        }
+    }
+
+    @Nested
+    @DisplayName("Busca de Disponibilidade")
+    class FindAvailability {
+
+        @Test
+        @DisplayName("Deve responder 400 para limite não positivo")
+        void shouldRejectNonPositiveLimit() throws Exception {
+            mockMvc.perform(get("/api/v1/appointments/availability")
+                    .param("professionalIds", PROFESSIONAL_ID)
+                    .param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Limite deve ser positivo"));
+
+            verifyNoInteractions(findAvailabilityQuery);
+        }
+
+        @Test
+        @DisplayName("Deve responder 400 para período fora do permitido")
+        void shouldRejectInvalidPeriod() throws Exception {
+            mockMvc.perform(get("/api/v1/appointments/availability")
+                    .param("professionalIds", PROFESSIONAL_ID)
+                    .param("days", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(true));
+
+            verifyNoInteractions(findAvailabilityQuery);
+        }
+    }
+
+    @Nested
+    @DisplayName("Consultas do Paciente")
+    class ListByPatient {
+
+        @Test
+        @DisplayName("Deve responder 400 para cursor inválido")
+        void shouldRejectInvalidCursor() throws Exception {
+            mockMvc.perform(get("/api/v1/appointments")
+                    .param("patientId", PATIENT_ID)
+                    .param("cursor", "não-é-um-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Cursor inválido"));
+
+            verifyNoInteractions(findAppointmentQuery);
+        }
+
+        @Test
+        @DisplayName("Deve responder 400 para tamanho de página fora do permitido")
+        void shouldRejectInvalidPageSize() throws Exception {
+            // Given - a porta de entrada valida o tamanho
+            when(findAppointmentQuery.findPageByPatientId(any(PatientId.class), isNull(), eq(0)))
+                .thenThrow(new IllegalArgumentException("Page size must be between 1 and 200"));
+
+            // When / Then
+            mockMvc.perform(get("/api/v1/appointments")
+                    .param("patientId", PATIENT_ID)
+                    .param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Page size must be between 1 and 200"));
+        }
+
+        @Test
+        @DisplayName("Deve responder 200 para página válida")
+        void shouldReturnPage() throws Exception {
+            // Given
+            when(findAppointmentQuery.findPageByPatientId(any(PatientId.class), isNull(), eq(50)))
+                .thenReturn(new AppointmentPage(List.of(), null));
+
+            // When / Then
+            mockMvc.perform(get("/api/v1/appointments").param("patientId", PATIENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Consultas do Período")
+    class ListByPeriod {
+
+        @Test
+        @DisplayName("Deve responder 400 para cursor inválido")
+        void shouldRejectInvalidCursor() throws Exception {
+            mockMvc.perform(get("/api/v1/appointments")
+                    .param("startDate", "2026-01-05")
+                    .param("endDate", "2026-01-09")
+                    .param("cursor", "YTF8c2VtLWRhdGE"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Cursor inválido"));
+
+            verifyNoInteractions(findAppointmentQuery);
+        }
+
+        @Test
+        @DisplayName("Deve responder 400 para período invertido")
+        void shouldRejectInvertedPeriod() throws Exception {
+            // Given
+            LocalDate start = LocalDate.of(2026, 1, 9);
+            LocalDate end = LocalDate.of(2026, 1, 5);
+            when(findAppointmentQuery.findPageByDateRange(start, end, null, 50))
+                .thenThrow(new IllegalArgumentException("Start date cannot be after end date"));
+
+            // When / Then
+            mockMvc.perform(get("/api/v1/appointments")
+                    .param("startDate", start.toString())
+                    .param("endDate", end.toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Start date cannot be after end date"));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.clinicboard.business_service.infrastructure.adapter.in.web.controller;
+
+import com.clinicboard.business_service.application.port.in.FindPatientQuery;
+import com.clinicboard.business_service.application.port.in.FindPatientQuery.PatientPage;
+import com.clinicboard.business_service.application.port.in.ManagePatientCommand;
+import com.clinicboard.business_service.infrastructure.adapter.in.web.mapper.PatientWebMapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes da camada web para PatientController
+ *
+ * Parâmetros de busca e paginação inválidos devem responder 400 pelo
+ * GlobalExceptionHandler, e não 500.
+ */
+@WebMvcTest(PatientController.class)
+@DisplayName("PatientController Tests")
+class PatientControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ManagePatientCommand managePatientCommand;
+
+    @MockitoBean
+    private FindPatientQuery findPatientQuery;
+
+    @TestConfiguration
+    static class MapperConfig {
+
+        @Bean
+        PatientWebMapper patientWebMapper() {
+            return new PatientWebMapper() {};
+        }
+    }
+
+    @Nested
+    @DisplayName("Listagem Paginada")
+    class ListPatients {
+
+        @Test
+        @DisplayName("Deve responder 400 para cursor inválido")
+        void shouldRejectInvalidCursor() throws Exception {
+            mockMvc.perform(get("/api/v1/patients").param("cursor", "não-é-um-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Cursor inválido"));
+
+            verifyNoInteractions(findPatientQuery);
+        }
+
+        @Test
+        @DisplayName("Deve responder 400 para tamanho de página fora do permitido")
+        void shouldRejectInvalidPageSize() throws Exception {
+            // Given - a porta de entrada valida o tamanho
+            when(findPatientQuery.findPage(null, 500))
+                .thenThrow(new IllegalArgumentException("Page size must be between 1 and 200"));
+
+            // When / Then
+            mockMvc.perform(get("/api/v1/patients").param("size", "500"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Page size must be between 1 and 200"));
+        }
+
+        @Test
+        @DisplayName("Deve responder 200 para página válida")
+        void shouldReturnPage() throws Exception {
+            // Given
+            when(findPatientQuery.findPage(null, 50)).thenReturn(new PatientPage(List.of(), null));
+
+            // When / Then
+            mockMvc.perform(get("/api/v1/patients"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Busca por Nome")
+    class Search {
+
+        @Test
+        @DisplayName("Deve responder 400 para limite fora do permitido na busca")
+        void shouldRejectInvalidSearchLimit() throws Exception {
+            // Given
+            when(findPatientQuery.searchByName("Silva", 0))
+                .thenThrow(new IllegalArgumentException("Limit must be between 1 and 50"));
+
+            // When / Then
+            mockMvc.perform(get("/api/v1/patients/search").param("name", "Silva").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Limit must be between 1 and 50"));
+        }
+
+        @Test
+        @DisplayName("Deve responder 400 para limite fora do permitido no autocomplete")
+        void shouldRejectInvalidAutocompleteLimit() throws Exception {
+            // Given
+            when(findPatientQuery.autocompleteByName("Jo", 51))
+                .thenThrow(new IllegalArgumentException("Limit must be between 1 and 50"));
+
+            // When / Then
+            mockMvc.perform(get("/api/v1/patients/autocomplete").param("prefix", "Jo").param("limit", "51"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Limit must be between 1 and 50"));
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.integration.cache;
+
+import com.clinicboard.business_service.domain.exception.ProfessionalValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ProfessionalValidationCache
+ */
+@DisplayName("ProfessionalValidationCache Tests")
+class ProfessionalValidationCacheTest {
+
+    private static final String PROFESSIONAL_ID = "550e8400-e29b-41d4-a716-446655440000";
+
+    private final MutableClock clock = new MutableClock();
+    private final AtomicInteger remoteCalls = new AtomicInteger();
+    private ProfessionalValidationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProfessionalValidationCache(new SimpleMeterRegistry(), 100,
+                Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofMinutes(15), clock);
+    }
+
+    @Nested
+    @DisplayName("Expiração")
+    class Expiration {
+
+        @Test
+        @DisplayName("Deve reutilizar o profissional encontrado até o fim do TTL")
+        void shouldReuseFoundProfessionalUntilTtl() {
+            // Given
+            cache.get(PROFESSIONAL_ID, () -> remote(true));
+
+            // When
+            clock.advance(Duration.ofMinutes(4));
+            boolean cached = cache.get(PROFESSIONAL_ID, () -> remote(true));
+            clock.advance(Duration.ofMinutes(2));
+            cache.get(PROFESSIONAL_ID, () -> remote(true));
+
+            // Then
+            assertTrue(cached);
+            assertEquals(2, remoteCalls.get());
+        }
+
+        @Test
+        @DisplayName("Deve expirar profissional não encontrado com o TTL negativo")
+        void shouldExpireNotFoundWithNegativeTtl() {
+            // Given
+            cache.get(PROFESSIONAL_ID, () -> remote(false));
+
+            // When
+            clock.advance(Duration.ofSeconds(20));
+            boolean cached = cache.get(PROFESSIONAL_ID, () -> remote(true));
+            clock.advance(Duration.ofSeconds(15));
+            boolean reloaded = cache.get(PROFESSIONAL_ID, () -> remote(true));
+
+            // Then
+            assertFalse(cached);
+            assertTrue(reloaded);
+            assertEquals(2, remoteCalls.get());
+        }
+
+        @Test
+        @DisplayName("Deve recarregar após invalidação")
+        void shouldReloadAfterInvalidation() {
+            // Given
+            cache.get(PROFESSIONAL_ID, () -> remote(true));
+
+            // When
+            cache.invalidate(PROFESSIONAL_ID);
+            boolean reloaded = cache.get(PROFESSIONAL_ID, () -> remote(false));
+
+            // Then
+            assertFalse(reloaded);
+            assertEquals(2, remoteCalls.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Falhas do user-service")
+    class Failures {
+
+        @Test
+        @DisplayName("Deve oferecer o último resultado conhecido dentro do stale-ttl")
+        void shouldOfferLastKnownResultWithinStaleTtl() {
+            // Given
+            cache.get(PROFESSIONAL_ID, () -> remote(true));
+            clock.advance(Duration.ofMinutes(10));
+
+            // When
+            assertThrows(ProfessionalValidationException.class,
+                    () -> cache.get(PROFESSIONAL_ID, () -> { throw new ProfessionalValidationException("fora do ar"); }));
+            Optional<Boolean> lastKnown = cache.getStale(PROFESSIONAL_ID);
+            clock.advance(Duration.ofMinutes(15));
+            Optional<Boolean> tooOld = cache.getStale(PROFESSIONAL_ID);
+
+            // Then
+            assertEquals(Optional.of(true), lastKnown);
+            assertTrue(tooOld.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Não deve oferecer resultado de profissional nunca consultado")
+        void shouldNotOfferUnknownProfessional() {
+            assertTrue(cache.getStale(PROFESSIONAL_ID).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Consultas Simultâneas")
+    class ConcurrentLookups {
+
+        @Test
+        @DisplayName("Deve fazer uma única chamada remota para consultas simultâneas ao mesmo profissional")
+        void shouldShareSingleRemoteCall() throws Exception {
+            // Given
+            CountDownLatch remoteStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            try {
+                // When
+                Future<Boolean> first = executor.submit(() -> cache.get(PROFESSIONAL_ID, () -> {
+                    remoteStarted.countDown();
+                    await(release);
+                    return remote(true);
+                }));
+                assertTrue(remoteStarted.await(5, TimeUnit.SECONDS));
+                Future<?>[] others = new Future<?>[7];
+                for (int i = 0; i < others.length; i++) {
+                    others[i] = executor.submit(() -> cache.get(PROFESSIONAL_ID, () -> remote(true)));
+                }
+                release.countDown();
+
+                // Then
+                assertTrue(first.get(5, TimeUnit.SECONDS));
+                for (Future<?> other : others) {
+                    assertEquals(true, other.get(5, TimeUnit.SECONDS));
+                }
+                assertEquals(1, remoteCalls.get());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private boolean remote(boolean exists) {
+        remoteCalls.incrementAndGet();
+        return exists;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-05T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public long millis() {
+            return now.toEpochMilli();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.integration.client;
+
+import com.clinicboard.business_service.domain.exception.ProfessionalValidationException;
+import com.clinicboard.business_service.infrastructure.adapter.out.integration.dto.UserBatchRequestDto;
+import com.clinicboard.business_service.infrastructure.adapter.out.integration.dto.UserSummaryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para CoalescingUserLookupClient
+ */
+@DisplayName("CoalescingUserLookupClient Tests")
+class CoalescingUserLookupClientTest {
+
+    private static final Set<String> EXISTING_IDS = Set.of("prof-1", "prof-2", "prof-3");
+
+    private final List<List<String>> batchCalls = new CopyOnWriteArrayList<>();
+    private volatile boolean userServiceDown;
+    private CoalescingUserLookupClient client;
+
+    @AfterEach
+    void tearDown() {
+        client.destroy();
+    }
+
+    @Nested
+    @DisplayName("Agrupamento")
+    class Coalescing {
+
+        @Test
+        @DisplayName("Deve reunir buscas simultâneas em uma única chamada em lote")
+        void shouldCoalesceConcurrentLookups() throws Exception {
+            // Given
+            client = newClient(Duration.ofMillis(200), 100);
+            ExecutorService callers = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<Optional<UserSummaryDto>>> futures = new CopyOnWriteArrayList<>();
+
+            // When
+            for (String id : List.of("prof-1", "prof-2", "prof-3", "unknown", "prof-1", "prof-2", "prof-3", "unknown")) {
+                callers.submit(() -> {
+                    start.await();
+                    return futures.add(client.lookup(id));
+                });
+            }
+            start.countDown();
+            callers.shutdown();
+            assertTrue(callers.awaitTermination(5, TimeUnit.SECONDS));
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertEquals(1, batchCalls.size());
+            assertEquals(4, batchCalls.get(0).size());
+            assertEquals(6, futures.stream().filter(future -> future.join().isPresent()).count());
+        }
+
+        @Test
+        @DisplayName("Deve enviar o lote antes do fim da janela ao atingir o tamanho máximo")
+        void shouldSendFullBatchBeforeWindowEnds() throws Exception {
+            // Given
+            client = newClient(Duration.ofSeconds(30), 2);
+
+            // When
+            CompletableFuture<Optional<UserSummaryDto>> first = client.lookup("prof-1");
+            CompletableFuture<Optional<UserSummaryDto>> second = client.lookup("prof-2");
+            CompletableFuture<Optional<UserSummaryDto>> third = client.lookup("prof-3");
+
+            // Then
+            assertEquals("Profissional prof-1", first.get(5, TimeUnit.SECONDS).orElseThrow().name());
+            assertTrue(second.get(5, TimeUnit.SECONDS).isPresent());
+            assertFalse(third.isDone());
+            assertEquals(List.of("prof-1", "prof-2"), batchCalls.get(0).stream().sorted().toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Resultado")
+    class Result {
+
+        @Test
+        @DisplayName("Deve concluir com vazio o id que não existe no user-service")
+        void shouldCompleteEmptyForUnknownId() throws Exception {
+            // Given
+            client = newClient(Duration.ofMillis(1), 100);
+
+            // When
+            Optional<UserSummaryDto> user = client.lookup("unknown").get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertTrue(user.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Deve propagar a falha da chamada em lote a todos os ids do lote")
+        void shouldFailEveryLookupOfFailedBatch() {
+            // Given
+            client = newClient(Duration.ofMillis(20), 100);
+            userServiceDown = true;
+
+            // When
+            CompletableFuture<Optional<UserSummaryDto>> first = client.lookup("prof-1");
+            CompletableFuture<Optional<UserSummaryDto>> second = client.lookup("prof-2");
+
+            // Then
+            CompletionException error = assertThrows(CompletionException.class, first::join);
+            assertInstanceOf(ProfessionalValidationException.class, error.getCause());
+            assertThrows(CompletionException.class, second::join);
+            assertEquals(1, batchCalls.size());
+        }
+    }
+
+    private CoalescingUserLookupClient newClient(Duration window, int maxBatchSize) {
+        return new CoalescingUserLookupClient(new FakeUserServiceClient(), new SimpleMeterRegistry(),
+                window, maxBatchSize, 2);
+    }
+
+    private class FakeUserServiceClient implements UserServiceFeignClient {
+
+        @Override
+        public Optional<?> findById(String userId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<UserSummaryDto> findSummariesByIds(UserBatchRequestDto request) {
+            batchCalls.add(List.copyOf(request.ids()));
+            if (userServiceDown) {
+                throw new ProfessionalValidationException("user-service indisponível");
+            }
+            return request.ids().stream()
+                    .filter(EXISTING_IDS::contains)
+                    .map(id -> new UserSummaryDto(id, "Profissional " + id, "PROFESSIONAL"))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para AsyncConfirmPublisher
+ *
+ * O broker é simulado: cada envio recebe o confirm imediatamente
+ * (ou nunca, para exercitar a backpressure).
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsyncConfirmPublisher Tests")
+class AsyncConfirmPublisherTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations operations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AsyncConfirmPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null) {
+            publisher.stop();
+        }
+    }
+
+    @Nested
+    @DisplayName("Publicação em Lotes")
+    class BatchPublishing {
+
+        @Test
+        @DisplayName("Deve concluir os futures com o confirm do broker, em lotes limitados")
+        void shouldCompleteFuturesOnConfirm() throws Exception {
+            // Given
+            start(1024, 100, confirmAll(true));
+
+            // When
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                futures.add(publisher.publish("clinicboard.events", "appointment.scheduled", "evento-" + i));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+            // Then
+            DistributionSummary batches = meterRegistry.get("clinicboard.publisher.batch.size").summary();
+            assertEquals(500.0, batches.totalAmount());
+            assertTrue(batches.max() <= 100);
+            assertEquals(500, meterRegistry.get("clinicboard.publisher.confirm.latency").timer().count());
+        }
+
+        @Test
+        @DisplayName("Deve concluir o future com falha quando o broker rejeitar a mensagem")
+        void shouldFailFutureOnNack() {
+            // Given
+            start(16, 8, confirmAll(false));
+
+            // When
+            CompletableFuture<Void> future = publisher.publish("clinicboard.events", "appointment.scheduled", "evento");
+
+            // Then
+            ExecutionException error = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(AmqpException.class, error.getCause());
+        }
+
+        @Test
+        @DisplayName("Deve recusar publicações quando o buffer estiver cheio")
+        void shouldRejectWhenBufferIsFull() throws Exception {
+            // Given - a thread de envio fica presa no primeiro lote
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch sending = new CountDownLatch(1);
+            start(2, 1, (exchange, routingKey, message, correlation) -> {
+                sending.countDown();
+                release.await();
+                correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            });
+            CompletableFuture<Void> first = publisher.publish("clinicboard.events", "appointment.scheduled", "1");
+            assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+            // When - o buffer comporta 2 mensagens
+            publisher.publish("clinicboard.events", "appointment.scheduled", "2");
+            publisher.publish("clinicboard.events", "appointment.scheduled", "3");
+            CompletableFuture<Void> rejected = publisher.publish("clinicboard.events", "appointment.scheduled", "4");
+
+            // Then
+            ExecutionException error = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+            assertInstanceOf(RejectedExecutionException.class, error.getCause());
+            assertEquals(1.0, meterRegistry.get("clinicboard.publisher.rejected").counter().count());
+            assertEquals(2.0, meterRegistry.get("clinicboard.publisher.queue.depth").gauge().value());
+
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+        }
+
+        @Test
+        @DisplayName("tryPublish deve falhar na hora com o buffer cheio, sem esperar o enqueue-timeout")
+        void shouldNotWaitForBufferOnTryPublish() throws Exception {
+            // Given - enqueue-timeout longo e a thread de envio presa no primeiro lote
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch sending = new CountDownLatch(1);
+            start(1, 1, 60_000, (exchange, routingKey, message, correlation) -> {
+                sending.countDown();
+                release.await();
+                correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            });
+            CompletableFuture<Void> first = publisher.publish("clinicboard.events", "appointment.scheduled", "1");
+            assertTrue(sending.await(5, TimeUnit.SECONDS));
+            publisher.publish("clinicboard.events", "appointment.scheduled", "2");
+
+            // When
+            CompletableFuture<Void> rejected = publisher.tryPublish("clinicboard.dlq", "events.failed", "3");
+
+            // Then - já concluído ao retornar
+            assertTrue(rejected.isCompletedExceptionally());
+            ExecutionException error = assertThrows(ExecutionException.class, rejected::get);
+            assertInstanceOf(RejectedExecutionException.class, error.getCause());
+
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void start(int bufferSize, int batchSize, Sender sender) {
+        start(bufferSize, batchSize, 10, sender);
+    }
+
+    private void start(int bufferSize, int batchSize, long enqueueTimeoutMs, Sender sender) {
+        when(rabbitTemplate.getMessageConverter()).thenReturn(new SimpleMessageConverter());
+        when(rabbitTemplate.invoke(any(RabbitOperations.OperationsCallback.class))).thenAnswer(invocation ->
+            invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+        doAnswer(invocation -> {
+            sender.send(invocation.getArgument(0), invocation.getArgument(1),
+                invocation.getArgument(2), invocation.getArgument(3));
+            return null;
+        }).when(operations).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        publisher = new AsyncConfirmPublisher(rabbitTemplate, meterRegistry, bufferSize, batchSize, 4096, enqueueTimeoutMs, 5000);
+        publisher.start();
+    }
+
+    private Sender confirmAll(boolean ack) {
+        return (exchange, routingKey, message, correlation) ->
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "rejeitado"));
+    }
+
+    @FunctionalInterface
+    private interface Sender {
+        void send(String exchange, String routingKey, Message message, CorrelationData correlation) throws Exception;
+    }
+}
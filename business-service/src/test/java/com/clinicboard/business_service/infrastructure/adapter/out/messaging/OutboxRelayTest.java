@@ -0,0 +1,220 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.OutboxEventJpaEntity;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.OutboxEventJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.ConnectException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para OutboxRelay
+ *
+ * Garante que apenas eventos confirmados pelo broker sejam marcados como
+ * publicados, que falhas voltem ao outbox com backoff e que eventos sem
+ * confirmação após max-attempts (3 aqui) sejam marcados como falhos.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventJpaRepository outboxRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxRepository, rabbitTemplate, transactionTemplate, new ObjectMapper(),
+            meterRegistry, 10, 1000, 60000, 3, 24);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Nested
+    @DisplayName("Publicação com Confirms")
+    class PublisherConfirms {
+
+        @Test
+        @DisplayName("Deve marcar como publicados apenas os eventos confirmados")
+        void shouldMarkOnlyConfirmedEventsAsPublished() {
+            // Given
+            OutboxEventJpaEntity acked = pendingEvent(1L);
+            OutboxEventJpaEntity nacked = pendingEvent(2L);
+            when(outboxRepository.claimPending(any(), anyInt())).thenReturn(List.of(acked, nacked));
+            doAnswer(invocation -> {
+                CorrelationData correlation = invocation.getArgument(3);
+                correlation.getFuture().complete(new CorrelationData.Confirm("1".equals(correlation.getId()), "rejeitado"));
+                return null;
+            }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+            // When
+            int claimed = relay.relayBatch();
+
+            // Then
+            assertEquals(2, claimed);
+            assertNotNull(acked.getPublishedAt());
+            assertNull(nacked.getPublishedAt());
+            assertEquals(1, nacked.getAttempts());
+            assertTrue(nacked.getNextAttemptAt().isAfter(LocalDateTime.now()));
+            assertTrue(nacked.getLastError().contains("rejeitado"));
+            assertNull(nacked.getFailedAt());
+            assertEquals(1.0, meterRegistry.get("clinicboard.outbox.published").counter().count());
+            assertEquals(1.0, meterRegistry.get("clinicboard.outbox.failures").counter().count());
+        }
+
+        @Test
+        @DisplayName("Deve reenviar a mensagem com o corpo e os cabeçalhos gravados")
+        void shouldRebuildStoredMessage() {
+            // Given
+            OutboxEventJpaEntity event = pendingEvent(7L);
+            when(outboxRepository.claimPending(any(), anyInt())).thenReturn(List.of(event));
+            doAnswer(invocation -> {
+                invocation.<CorrelationData>getArgument(3).getFuture().complete(new CorrelationData.Confirm(true, null));
+                return null;
+            }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+            // When
+            relay.relayBatch();
+
+            // Then
+            ArgumentCaptor<Message> message = ArgumentCaptor.forClass(Message.class);
+            verify(rabbitTemplate).send(eq("clinicboard.events"), eq("appointment.scheduled"), message.capture(), any());
+            assertArrayEquals(event.getPayload(), message.getValue().getBody());
+            assertEquals("application/json", message.getValue().getMessageProperties().getContentType());
+            assertEquals("com.example.Event", message.getValue().getMessageProperties().getHeader("__TypeId__"));
+            assertEquals("7", message.getValue().getMessageProperties().getMessageId());
+        }
+
+        @Test
+        @DisplayName("Deve adiar o lote inteiro quando o broker estiver indisponível")
+        void shouldPostponeBatchWhenBrokerIsDown() {
+            // Given
+            OutboxEventJpaEntity first = pendingEvent(1L);
+            OutboxEventJpaEntity second = pendingEvent(2L);
+            when(outboxRepository.claimPending(any(), anyInt())).thenReturn(List.of(first, second));
+            doThrow(new AmqpConnectException(new ConnectException("Connection refused")))
+                .when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+            // When
+            relay.relayBatch();
+
+            // Then - uma única tentativa de envio; os dois eventos voltam ao outbox
+            verify(rabbitTemplate, times(1)).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+            assertNull(first.getPublishedAt());
+            assertNull(second.getPublishedAt());
+            assertEquals(1, first.getAttempts());
+            assertEquals(1, second.getAttempts());
+        }
+
+        @Test
+        @DisplayName("Não deve acessar o broker quando não houver eventos pendentes")
+        void shouldNotTouchBrokerWhenOutboxIsEmpty() {
+            // Given
+            when(outboxRepository.claimPending(any(), anyInt())).thenReturn(List.of());
+
+            // When
+            relay.relayPending();
+
+            // Then
+            verifyNoInteractions(rabbitTemplate);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tentativas Esgotadas")
+    class MaxAttempts {
+
+        @Test
+        @DisplayName("Deve marcar como falho o evento que atingir max-attempts")
+        void shouldMarkEventAsFailedAtMaxAttempts() {
+            // Given - duas tentativas anteriores sem confirmação
+            OutboxEventJpaEntity event = pendingEvent(5L);
+            event.setAttempts(2);
+            LocalDateTime nextAttemptAt = event.getNextAttemptAt();
+            when(outboxRepository.claimPending(any(), anyInt())).thenReturn(List.of(event));
+            doAnswer(invocation -> {
+                invocation.<CorrelationData>getArgument(3).getFuture().complete(new CorrelationData.Confirm(false, "rejeitado"));
+                return null;
+            }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+            // When
+            relay.relayBatch();
+
+            // Then
+            assertEquals(3, event.getAttempts());
+            assertNotNull(event.getFailedAt());
+            assertNull(event.getPublishedAt());
+            assertEquals(nextAttemptAt, event.getNextAttemptAt());
+            assertTrue(event.getLastError().contains("rejeitado"));
+            assertEquals(1.0, meterRegistry.get("clinicboard.outbox.abandoned").counter().count());
+        }
+
+        @Test
+        @DisplayName("Deve manter no outbox o evento abaixo de max-attempts")
+        void shouldRetryEventBelowMaxAttempts() {
+            // Given
+            OutboxEventJpaEntity event = pendingEvent(6L);
+            event.setAttempts(1);
+            when(outboxRepository.claimPending(any(), anyInt())).thenReturn(List.of(event));
+            doThrow(new AmqpConnectException(new ConnectException("Connection refused")))
+                .when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+            // When
+            relay.relayBatch();
+
+            // Then
+            assertEquals(2, event.getAttempts());
+            assertNull(event.getFailedAt());
+            assertTrue(event.getNextAttemptAt().isAfter(LocalDateTime.now()));
+            assertEquals(0.0, meterRegistry.get("clinicboard.outbox.abandoned").counter().count());
+        }
+    }
+
+    private OutboxEventJpaEntity pendingEvent(long id) {
+        return OutboxEventJpaEntity.builder()
+            .id(id)
+            .aggregateId("550e8400-e29b-41d4-a716-446655440000")
+            .eventType("AppointmentScheduledEvent")
+            .exchange("clinicboard.events")
+            .routingKey("appointment.scheduled")
+            .contentType("application/json")
+            .headers("{\"__TypeId__\":\"com.example.Event\"}")
+            .payload("{\"appointmentId\":\"550e8400\"}".getBytes())
+            .createdAt(LocalDateTime.now())
+            .nextAttemptAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging.codec;
+
+import com.clinicboard.business_service.domain.event.AppointmentCanceledEvent;
+import com.clinicboard.business_service.domain.event.AppointmentRescheduledEvent;
+import com.clinicboard.business_service.domain.event.AppointmentScheduledEvent;
+import com.clinicboard.business_service.domain.event.AppointmentStatusChangedEvent;
+import com.clinicboard.business_service.domain.model.AppointmentId;
+import com.clinicboard.business_service.domain.model.AppointmentStatus;
+import com.clinicboard.business_service.domain.model.AppointmentTime;
+import com.clinicboard.business_service.domain.model.PatientId;
+import com.clinicboard.business_service.domain.model.ProfessionalId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para BinaryEventMessageConverter
+ *
+ * Lê as mensagens com CompactEventReader, na ordem de campos documentada em
+ * EventWireFormat, para travar o contrato com os consumidores.
+ */
+@DisplayName("BinaryEventMessageConverter Tests")
+class BinaryEventMessageConverterTest {
+
+    private static final String APPOINTMENT_ID = "550e8400-e29b-41d4-a716-446655440000";
+    private static final String PATIENT_ID = "6ba7b810-9dad-11d1-80b4-00c04fd430c8";
+    private static final String PROFESSIONAL_ID = "6ba7b811-9dad-11d1-80b4-00c04fd430c8";
+
+    private final BinaryEventMessageConverter converter = new BinaryEventMessageConverter();
+
+    @Nested
+    @DisplayName("Cabeçalhos")
+    class Headers {
+
+        @Test
+        @DisplayName("Deve publicar tipo e versão do schema em vez do nome da classe")
+        void shouldUseStableTypeAndVersionHeaders() {
+            // Given
+            AppointmentScheduledEvent event = scheduledEvent(PROFESSIONAL_ID);
+
+            // When
+            Message message = converter.toMessage(event, new MessageProperties());
+
+            // Then
+            MessageProperties properties = message.getMessageProperties();
+            assertEquals(EventWireFormat.CONTENT_TYPE, properties.getContentType());
+            assertEquals(EventWireFormat.APPOINTMENT_SCHEDULED, properties.getHeader(EventWireFormat.TYPE_HEADER));
+            assertEquals(EventWireFormat.CURRENT_VERSION, (int) properties.getHeader(EventWireFormat.VERSION_HEADER));
+            assertNull(properties.getHeader("__TypeId__"));
+            assertEquals(message.getBody().length, properties.getContentLength());
+        }
+
+        @Test
+        @DisplayName("Deve recusar eventos sem schema binário")
+        void shouldRejectUnknownEvents() {
+            assertThrows(MessageConversionException.class,
+                () -> converter.toMessage("evento", new MessageProperties()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Campos")
+    class Fields {
+
+        @Test
+        @DisplayName("Deve gravar os campos do agendamento criado na ordem do schema")
+        void shouldEncodeScheduledEvent() {
+            // Given
+            AppointmentScheduledEvent event = scheduledEvent(PROFESSIONAL_ID);
+
+            // When
+            CompactEventReader reader = read(event);
+
+            // Then
+            assertEquals(APPOINTMENT_ID, reader.readId());
+            assertEquals(PATIENT_ID, reader.readId());
+            assertEquals(PROFESSIONAL_ID, reader.readId());
+            assertEquals(event.scheduledTime().value(), reader.readDateTime());
+            assertEquals(event.occurredOn(), reader.readInstant());
+            assertFalse(reader.hasRemaining());
+        }
+
+        @Test
+        @DisplayName("Deve preservar ids que não são UUID canônico")
+        void shouldKeepNonUuidIdsAsText() {
+            // Given
+            AppointmentScheduledEvent event = scheduledEvent("prof-legado-01");
+
+            // When
+            CompactEventReader reader = read(event);
+            reader.readId();
+            reader.readId();
+
+            // Then
+            assertEquals("prof-legado-01", reader.readId());
+        }
+
+        @Test
+        @DisplayName("Deve gravar os campos do cancelamento, incluindo nulos")
+        void shouldEncodeCanceledEvent() {
+            // Given
+            LocalDateTime scheduledTime = LocalDateTime.of(2030, 3, 4, 9, 30);
+            AppointmentCanceledEvent event = new AppointmentCanceledEvent(APPOINTMENT_ID, PATIENT_ID, PROFESSIONAL_ID,
+                scheduledTime, null, "evento-1", Instant.ofEpochSecond(1_700_000_000L, 123_456_789));
+
+            // When
+            CompactEventReader reader = read(event);
+
+            // Then
+            assertEquals(APPOINTMENT_ID, reader.readId());
+            assertEquals(PATIENT_ID, reader.readId());
+            assertEquals(PROFESSIONAL_ID, reader.readId());
+            assertEquals(scheduledTime, reader.readDateTime());
+            assertNull(reader.readDateTime());
+            assertEquals("evento-1", reader.readId());
+            assertEquals(event.occurredAt(), reader.readInstant());
+            assertFalse(reader.hasRemaining());
+        }
+
+        @Test
+        @DisplayName("Deve gravar os nomes de exibição dos status")
+        void shouldEncodeStatusChangedEvent() {
+            // Given
+            AppointmentStatusChangedEvent event = AppointmentStatusChangedEvent.from(
+                AppointmentId.of(APPOINTMENT_ID), AppointmentStatus.PENDING, AppointmentStatus.COMPLETED);
+
+            // When
+            CompactEventReader reader = read(event);
+
+            // Then
+            assertEquals(APPOINTMENT_ID, reader.readId());
+            assertEquals("Pendente", reader.readString());
+            assertEquals("Concluído", reader.readString());
+            assertEquals(event.occurredOn(), reader.readInstant());
+        }
+
+        @Test
+        @DisplayName("Deve gravar os horários anterior e novo do reagendamento")
+        void shouldEncodeRescheduledEvent() {
+            // Given
+            AppointmentTime previousTime = new AppointmentTime(tomorrowAt(10));
+            AppointmentTime newTime = new AppointmentTime(tomorrowAt(14));
+            AppointmentRescheduledEvent event = AppointmentRescheduledEvent.of(AppointmentId.of(APPOINTMENT_ID),
+                PatientId.of(PATIENT_ID), ProfessionalId.of(PROFESSIONAL_ID), previousTime, newTime, "Pedido do paciente");
+
+            // When
+            Message message = converter.toMessage(event, new MessageProperties());
+            CompactEventReader reader = new CompactEventReader(message.getBody());
+
+            // Then
+            assertEquals(EventWireFormat.APPOINTMENT_RESCHEDULED,
+                message.getMessageProperties().getHeader(EventWireFormat.TYPE_HEADER));
+            assertEquals(APPOINTMENT_ID, reader.readId());
+            assertEquals(PATIENT_ID, reader.readId());
+            assertEquals(PROFESSIONAL_ID, reader.readId());
+            assertEquals(previousTime.value(), reader.readDateTime());
+            assertEquals(newTime.value(), reader.readDateTime());
+            assertEquals("Pedido do paciente", reader.readString());
+            assertEquals(event.rescheduledAt(), reader.readInstant());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar mensagens menores que o JSON equivalente")
+    void shouldBeSmallerThanJson() {
+        // Given
+        AppointmentScheduledEvent event = scheduledEvent(PROFESSIONAL_ID);
+
+        // When
+        int binary = converter.toMessage(event, new MessageProperties()).getBody().length;
+        int json = new Jackson2JsonMessageConverter().toMessage(event, new MessageProperties()).getBody().length;
+
+        // Then - 3 UUIDs de 16 bytes + marcações + data-hora + instante
+        assertTrue(binary <= 70, "Binário: " + binary + " bytes");
+        assertTrue(binary * 4 < json, "Binário: " + binary + " bytes, JSON: " + json + " bytes");
+    }
+
+    private CompactEventReader read(Object event) {
+        return new CompactEventReader(converter.toMessage(event, new MessageProperties()).getBody());
+    }
+
+    private static AppointmentScheduledEvent scheduledEvent(String professionalId) {
+        return AppointmentScheduledEvent.from(AppointmentId.of(APPOINTMENT_ID), PatientId.of(PATIENT_ID),
+            ProfessionalId.of(professionalId), new AppointmentTime(tomorrowAt(9)));
+    }
+
+    private static LocalDateTime tomorrowAt(int hour) {
+        return LocalDate.now().plusDays(1).atTime(hour, 0);
+    }
+}
@@ -0,0 +1,99 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+import com.clinicboard.business_service.domain.model.AppointmentType;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.AppointmentJpaEntity.AppointmentTypeEnum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o script db/postgresql/agendamentos-constraints.sql
+ *
+ * A coluna gerada booked_period repete no CASE a duração de cada tipo de
+ * consulta, e a exclusion constraint só detecta sobreposições corretas
+ * enquanto esses valores forem os de AppointmentType.getDefaultDurationMinutes.
+ */
+@DisplayName("agendamentos-constraints.sql Tests")
+class AgendamentosConstraintsScriptTest {
+
+    private static final String SCRIPT = "db/postgresql/agendamentos-constraints.sql";
+
+    private static final Pattern WHEN_DURATION =
+        Pattern.compile("WHEN '(\\w+)' THEN interval '(\\d+) minutes'");
+    private static final Pattern ELSE_DURATION =
+        Pattern.compile("ELSE interval '(\\d+) minutes'");
+
+    private static Map<String, Integer> durationByType;
+    private static int elseDuration;
+
+    @BeforeAll
+    static void parseScript() throws IOException {
+        String script = readScript();
+
+        durationByType = new HashMap<>();
+        Matcher when = WHEN_DURATION.matcher(script);
+        while (when.find()) {
+            assertNull(durationByType.put(when.group(1), Integer.parseInt(when.group(2))),
+                "Tipo repetido no CASE: " + when.group(1));
+        }
+
+        Matcher otherwise = ELSE_DURATION.matcher(script);
+        assertTrue(otherwise.find(), "CASE de booked_period sem ELSE");
+        elseDuration = Integer.parseInt(otherwise.group(1));
+    }
+
+    @Test
+    @DisplayName("Deve usar a duração de AppointmentType para todo tipo de consulta")
+    void shouldMatchDomainDurationForEveryType() {
+        for (AppointmentType type : AppointmentType.values()) {
+            // Given
+            int expected = type.getDefaultDurationMinutes();
+
+            // When
+            int booked = durationByType.getOrDefault(type.name(), elseDuration);
+
+            // Then
+            assertEquals(expected, booked, "Duração de " + type + " divergente no CASE de booked_period");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve citar no CASE apenas tipos existentes")
+    void shouldOnlyReferenceExistingTypes() {
+        for (String name : durationByType.keySet()) {
+            assertDoesNotThrow(() -> AppointmentType.valueOf(name), "Tipo desconhecido no CASE: " + name);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve persistir appointment_type com os mesmos nomes comparados no CASE")
+    void shouldPersistTypeNamesComparedByScript() {
+        // Given
+        String[] domainNames = Arrays.stream(AppointmentType.values()).map(Enum::name).toArray(String[]::new);
+
+        // When
+        String[] persistedNames = Arrays.stream(AppointmentTypeEnum.values()).map(Enum::name).toArray(String[]::new);
+
+        // Then
+        assertArrayEquals(domainNames, persistedNames);
+    }
+
+    private static String readScript() throws IOException {
+        try (InputStream in = AgendamentosConstraintsScriptTest.class.getClassLoader().getResourceAsStream(SCRIPT)) {
+            assertNotNull(in, "Script não encontrado no classpath: " + SCRIPT);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
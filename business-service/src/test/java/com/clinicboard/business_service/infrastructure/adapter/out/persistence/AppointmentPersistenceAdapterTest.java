@@ -0,0 +1,480 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+import com.clinicboard.business_service.domain.exception.AppointmentConflictException;
+import com.clinicboard.business_service.domain.exception.PatientBusinessRuleException;
+import com.clinicboard.business_service.domain.model.AgendaOccupancy;
+import com.clinicboard.business_service.domain.model.Appointment;
+import com.clinicboard.business_service.domain.model.AppointmentId;
+import com.clinicboard.business_service.domain.model.AppointmentStatus;
+import com.clinicboard.business_service.domain.model.AppointmentTime;
+import com.clinicboard.business_service.domain.model.AppointmentType;
+import com.clinicboard.business_service.domain.model.DailyAgenda;
+import com.clinicboard.business_service.domain.model.PatientId;
+import com.clinicboard.business_service.domain.model.ProfessionalId;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.cache.ProfessionalCalendarCache;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.AppointmentJpaEntity;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.AppointmentJpaEntity.AppointmentStatusEnum;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.entity.AppointmentJpaEntity.AppointmentTypeEnum;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.mapper.AppointmentPersistenceMapper;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.AppointmentJpaRepository;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.AppointmentJpaRepository.ScheduledSlotProjection;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para AppointmentPersistenceAdapter
+ *
+ * Garante que as consultas do adaptador sejam delegadas a queries
+ * dedicadas no banco, sem varreduras completas da tabela agendamentos,
+ * e que violações das regras de agenda garantidas pelo banco sejam
+ * traduzidas para exceções de domínio.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AppointmentPersistenceAdapter Tests")
+class AppointmentPersistenceAdapterTest {
+
+    private static final String PROFESSIONAL_ID = "660e8400-e29b-41d4-a716-446655440001";
+
+    @Mock
+    private AppointmentJpaRepository appointmentJpaRepository;
+
+    @Mock
+    private AppointmentPersistenceMapper appointmentMapper;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AppointmentPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new AppointmentPersistenceAdapter(
+            appointmentJpaRepository, appointmentMapper, new ProfessionalCalendarCache(meterRegistry, 2, Duration.ofMinutes(1)));
+    }
+
+    @Nested
+    @DisplayName("Consultas Indexadas")
+    class IndexedQueries {
+
+        @Test
+        @DisplayName("Deve buscar consultas do profissional com query dedicada")
+        void shouldFindByProfessionalWithDedicatedQuery() {
+            // When
+            adapter.findByProfessionalId(ProfessionalId.of(PROFESSIONAL_ID));
+
+            // Then
+            verify(appointmentJpaRepository).findActiveAppointmentsByProfessional(PROFESSIONAL_ID);
+            verify(appointmentJpaRepository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("Deve buscar consultas por status com query dedicada")
+        void shouldFindByStatusWithDedicatedQuery() {
+            // When
+            adapter.findByStatus(AppointmentStatus.CONFIRMED);
+
+            // Then
+            verify(appointmentJpaRepository).findByStatusOrderByScheduledTime(AppointmentStatusEnum.CONFIRMED);
+            verify(appointmentJpaRepository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("Deve contar consultas por status com COUNT no banco")
+        void shouldCountByStatusInDatabase() {
+            // Given
+            when(appointmentJpaRepository.countByStatus(AppointmentStatusEnum.CANCELLED)).thenReturn(7L);
+
+            // When
+            long count = adapter.countByStatus(AppointmentStatus.CANCELLED);
+
+            // Then
+            assertEquals(7L, count);
+            verify(appointmentJpaRepository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("Deve buscar agenda do dia do profissional em intervalo semiaberto")
+        void shouldFindActiveAppointmentsByProfessionalAndDateWithinDayBounds() {
+            // Given
+            LocalDate date = LocalDate.of(2030, 3, 15);
+
+            // When
+            adapter.findActiveAppointmentsByProfessionalAndDate(ProfessionalId.of(PROFESSIONAL_ID), date);
+
+            // Then
+            verify(appointmentJpaRepository).findActiveAppointmentsByProfessionalInPeriod(
+                PROFESSIONAL_ID, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+            verify(appointmentJpaRepository, never()).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("Tradução de Violações de Integridade")
+    class IntegrityViolationTranslation {
+
+        @Test
+        @DisplayName("Deve traduzir violação da exclusion constraint em conflito de horário")
+        void shouldTranslateExclusionViolationToAppointmentConflict() {
+            // Given
+            Appointment appointment = createNewAppointment();
+            when(appointmentMapper.toJpaEntity(any())).thenReturn(new AppointmentJpaEntity());
+            when(appointmentJpaRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("conflicting key value violates exclusion constraint \"ex_agendamentos_professional_slot\"", "23P01")
+            ));
+
+            // When & Then
+            assertThrows(AppointmentConflictException.class, () -> adapter.save(appointment));
+        }
+
+        @Test
+        @DisplayName("Deve traduzir violação do índice único diário em regra de negócio do paciente")
+        void shouldTranslatePatientDayUniqueViolationToBusinessRule() {
+            // Given
+            Appointment appointment = createNewAppointment();
+            when(appointmentMapper.toJpaEntity(any())).thenReturn(new AppointmentJpaEntity());
+            when(appointmentJpaRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("duplicate key value violates unique constraint \"uq_agendamentos_patient_day_active\"", "23505")
+            ));
+
+            // When & Then
+            assertThrows(PatientBusinessRuleException.class, () -> adapter.save(appointment));
+        }
+
+        @Test
+        @DisplayName("Não deve mascarar outras violações de integridade como conflito")
+        void shouldNotTranslateUnrelatedIntegrityViolations() {
+            // Given
+            Appointment appointment = createNewAppointment();
+            when(appointmentMapper.toJpaEntity(any())).thenReturn(new AppointmentJpaEntity());
+            when(appointmentJpaRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("null value in column \"patient_id\" violates not-null constraint", "23502")
+            ));
+
+            // When & Then
+            RuntimeException exception = assertThrows(RuntimeException.class, () -> adapter.save(appointment));
+            assertFalse(exception instanceof AppointmentConflictException);
+            assertFalse(exception instanceof PatientBusinessRuleException);
+        }
+
+        private Appointment createNewAppointment() {
+            return new Appointment(
+                PatientId.generate(),
+                ProfessionalId.of(PROFESSIONAL_ID),
+                AppointmentTime.of(LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0)),
+                AppointmentType.FOLLOW_UP
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Cache de Ocupação da Agenda")
+    class CalendarCache {
+
+        private final LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+        @Test
+        @DisplayName("Deve carregar a ocupação do dia uma única vez")
+        void shouldLoadDayOnlyOnce() {
+            // Given
+            when(appointmentJpaRepository.findActiveSlotsByProfessionalsInPeriod(any(), any(), any()))
+                .thenReturn(List.of(slotAt(tomorrow.atTime(10, 0))));
+
+            // When
+            DailyAgenda first = adapter.findDailyAgenda(ProfessionalId.of(PROFESSIONAL_ID), tomorrow);
+            DailyAgenda second = adapter.findDailyAgenda(ProfessionalId.of(PROFESSIONAL_ID), tomorrow);
+
+            // Then
+            assertTrue(first.overlaps(LocalTime.of(10, 0), 30));
+            assertSame(first, second);
+            verify(appointmentJpaRepository, times(1))
+                .findActiveSlotsByProfessionalsInPeriod(any(), any(), any());
+            assertEquals(1.0, counter("hit"));
+            assertEquals(1.0, counter("miss"));
+        }
+
+        @Test
+        @DisplayName("Deve ocupar o slot em cache ao salvar nova consulta, sem recarregar")
+        void shouldOccupyCachedSlotOnSave() {
+            // Given
+            ProfessionalId professionalId = ProfessionalId.of(PROFESSIONAL_ID);
+            adapter.findDailyAgenda(professionalId, tomorrow);
+
+            AppointmentJpaEntity entity = new AppointmentJpaEntity();
+            when(appointmentMapper.toJpaEntity(any())).thenReturn(entity);
+            when(appointmentJpaRepository.saveAndFlush(entity)).thenReturn(entity);
+            when(appointmentMapper.toDomainEntity(entity)).thenReturn(scheduledAt(LocalTime.of(14, 30)));
+
+            // When
+            adapter.save(new Appointment(
+                PatientId.generate(), professionalId,
+                AppointmentTime.of(tomorrow.atTime(14, 30)), AppointmentType.FOLLOW_UP));
+
+            // Then
+            assertTrue(adapter.hasConflictingAppointment(professionalId, AppointmentTime.of(tomorrow.atTime(14, 30))));
+            assertFalse(adapter.hasConflictingAppointment(professionalId, AppointmentTime.of(tomorrow.atTime(15, 0))));
+            verify(appointmentJpaRepository, times(1))
+                .findActiveSlotsByProfessionalsInPeriod(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Deve recarregar o dia após cancelamento")
+        void shouldReloadDayAfterCancellation() {
+            // Given
+            ProfessionalId professionalId = ProfessionalId.of(PROFESSIONAL_ID);
+            adapter.findDailyAgenda(professionalId, tomorrow);
+
+            AppointmentJpaEntity entity = new AppointmentJpaEntity();
+            entity.setProfessionalId(PROFESSIONAL_ID);
+            entity.setScheduledTime(tomorrow.atTime(10, 0));
+            AppointmentId appointmentId = AppointmentId.generate();
+            when(appointmentJpaRepository.findById(appointmentId.value())).thenReturn(Optional.of(entity));
+
+            // When
+            adapter.deleteById(appointmentId);
+            adapter.findDailyAgenda(professionalId, tomorrow);
+
+            // Then
+            verify(appointmentJpaRepository, times(2))
+                .findActiveSlotsByProfessionalsInPeriod(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Deve despejar o dia menos usado ao atingir o limite")
+        void shouldEvictLeastRecentlyUsedDay() {
+            // Given - limite de 2 dias em cache
+            ProfessionalId professionalId = ProfessionalId.of(PROFESSIONAL_ID);
+
+            // When
+            adapter.findDailyAgenda(professionalId, tomorrow);
+            adapter.findDailyAgenda(professionalId, tomorrow.plusDays(1));
+            adapter.findDailyAgenda(professionalId, tomorrow);
+            adapter.findDailyAgenda(professionalId, tomorrow.plusDays(2));
+            adapter.findDailyAgenda(professionalId, tomorrow);
+
+            // Then
+            assertEquals(1.0, meterRegistry.get("clinicboard.calendar.cache.evictions").counter().count());
+            assertEquals(2.0, counter("hit"));
+        }
+
+        @Test
+        @DisplayName("Deve considerar a duração do tipo de cada consulta ao verificar conflitos")
+        void shouldUseAppointmentTypeDurationForConflicts() {
+            // Given - procedimento de 90 minutos às 10h
+            ProfessionalId professionalId = ProfessionalId.of(PROFESSIONAL_ID);
+            when(appointmentJpaRepository.findActiveSlotsByProfessionalsInPeriod(any(), any(), any()))
+                .thenReturn(List.of(slotAt(tomorrow.atTime(10, 0), AppointmentTypeEnum.PROCEDURE)));
+
+            // When & Then
+            assertTrue(adapter.hasConflictingAppointment(professionalId, AppointmentTime.of(tomorrow.atTime(11, 0))));
+            assertFalse(adapter.hasConflictingAppointment(professionalId, AppointmentTime.of(tomorrow.atTime(11, 30))));
+            assertTrue(adapter.hasConflictingAppointment(
+                professionalId, AppointmentTime.of(tomorrow.atTime(9, 0)), AppointmentType.FIRST_CONSULTATION));
+            assertFalse(adapter.hasConflictingAppointment(
+                professionalId, AppointmentTime.of(tomorrow.atTime(9, 45)), AppointmentType.VACCINATION));
+        }
+
+        @Test
+        @DisplayName("Deve considerar a duração das consultas ao verificar conflitos excluindo uma consulta")
+        void shouldUseAppointmentTypeDurationWhenExcluding() {
+            // Given - primeira consulta (60 min) às 10h e a consulta remarcada às 10h30
+            ProfessionalId professionalId = ProfessionalId.of(PROFESSIONAL_ID);
+            AppointmentId rescheduled = AppointmentId.generate();
+            AppointmentJpaEntity firstConsultation = entityAt(tomorrow.atTime(10, 0), AppointmentTypeEnum.FIRST_CONSULTATION);
+            AppointmentJpaEntity self = entityAt(tomorrow.atTime(10, 30), AppointmentTypeEnum.FOLLOW_UP);
+            self.setAppointmentId(rescheduled.value());
+            when(appointmentJpaRepository.findConflictCandidates(
+                    PROFESSIONAL_ID, tomorrow.atTime(10, 30).minusMinutes(AppointmentType.maxDurationMinutes()),
+                    tomorrow.atTime(11, 0)))
+                .thenReturn(List.of(firstConsultation, self));
+
+            // When & Then
+            assertTrue(adapter.hasConflictingAppointmentExcluding(
+                professionalId, AppointmentTime.of(tomorrow.atTime(10, 30)), AppointmentType.FOLLOW_UP, rescheduled));
+        }
+
+        @Test
+        @DisplayName("Deve considerar a duração do tipo verificado ao excluir uma consulta")
+        void shouldUseCheckedTypeDurationWhenExcluding() {
+            // Given - consulta às 11h e a consulta remarcada (60 min) às 10h30
+            ProfessionalId professionalId = ProfessionalId.of(PROFESSIONAL_ID);
+            AppointmentId rescheduled = AppointmentId.generate();
+            AppointmentJpaEntity next = entityAt(tomorrow.atTime(11, 0), AppointmentTypeEnum.FOLLOW_UP);
+            when(appointmentJpaRepository.findConflictCandidates(
+                    PROFESSIONAL_ID, tomorrow.atTime(10, 30).minusMinutes(AppointmentType.maxDurationMinutes()),
+                    tomorrow.atTime(11, 30)))
+                .thenReturn(List.of(next));
+
+            // When & Then
+            assertTrue(adapter.hasConflictingAppointmentExcluding(
+                professionalId, AppointmentTime.of(tomorrow.atTime(10, 30)), AppointmentType.FIRST_CONSULTATION,
+                rescheduled));
+        }
+
+        @Test
+        @DisplayName("Deve carregar a ocupação de vários profissionais com uma única consulta")
+        void shouldLoadAgendaOccupancyWithSingleQuery() {
+            // Given
+            ProfessionalId other = ProfessionalId.generate();
+            when(appointmentJpaRepository.findActiveSlotsByProfessionalsInPeriod(
+                    List.of(PROFESSIONAL_ID, other.value()), tomorrow.atStartOfDay(), tomorrow.plusDays(3).atStartOfDay()))
+                .thenReturn(List.of(slotAt(tomorrow.plusDays(2).atTime(9, 0))));
+
+            // When
+            AgendaOccupancy occupancy = adapter.findAgendaOccupancy(
+                List.of(ProfessionalId.of(PROFESSIONAL_ID), other), tomorrow, 3);
+
+            // Then
+            assertNotEquals(0L, occupancy.occupiedSlots(0, 2));
+            assertEquals(0L, occupancy.occupiedSlots(1, 2));
+            verify(appointmentJpaRepository, times(1)).findActiveSlotsByProfessionalsInPeriod(any(), any(), any());
+        }
+
+        private ScheduledSlotProjection slotAt(LocalDateTime time) {
+            return slotAt(time, AppointmentTypeEnum.FOLLOW_UP);
+        }
+
+        private ScheduledSlotProjection slotAt(LocalDateTime time, AppointmentTypeEnum type) {
+            return new ScheduledSlotProjection() {
+                @Override
+                public String getProfessionalId() {
+                    return PROFESSIONAL_ID;
+                }
+
+                @Override
+                public LocalDateTime getScheduledTime() {
+                    return time;
+                }
+
+                @Override
+                public AppointmentTypeEnum getAppointmentType() {
+                    return type;
+                }
+            };
+        }
+
+        private AppointmentJpaEntity entityAt(LocalDateTime time, AppointmentTypeEnum type) {
+            AppointmentJpaEntity entity = new AppointmentJpaEntity();
+            entity.setAppointmentId(AppointmentId.generate().value());
+            entity.setProfessionalId(PROFESSIONAL_ID);
+            entity.setScheduledTime(time);
+            entity.setAppointmentType(type);
+            entity.setStatus(AppointmentStatusEnum.SCHEDULED);
+            return entity;
+        }
+
+        private double counter(String result) {
+            return meterRegistry.get("clinicboard.calendar.cache.requests").tag("result", result).counter().count();
+        }
+
+        private Appointment scheduledAt(LocalTime time) {
+            return new Appointment(
+                AppointmentId.generate(),
+                PatientId.generate(),
+                ProfessionalId.of(PROFESSIONAL_ID),
+                AppointmentTime.of(tomorrow.atTime(time)),
+                AppointmentStatus.SCHEDULED,
+                AppointmentType.FOLLOW_UP,
+                "",
+                LocalDateTime.now(),
+                LocalDateTime.now()
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Falha na Verificação de Conflitos")
+    class ConflictCheckFailure {
+
+        private final AppointmentTime requestedTime = AppointmentTime.of(LocalDate.now().plusDays(1).atTime(10, 0));
+
+        @Test
+        @DisplayName("Não deve tratar falha do banco como horário livre")
+        void shouldPropagateFailureWhenCheckingConflicts() {
+            // Given
+            when(appointmentJpaRepository.findActiveSlotsByProfessionalsInPeriod(any(), any(), any()))
+                .thenThrow(new DataAccessResourceFailureException("conexão recusada"));
+
+            // When & Then
+            assertThrows(RuntimeException.class, () ->
+                adapter.hasConflictingAppointment(ProfessionalId.of(PROFESSIONAL_ID), requestedTime));
+        }
+
+        @Test
+        @DisplayName("Não deve tratar falha do banco como horário livre ao excluir uma consulta")
+        void shouldPropagateFailureWhenCheckingConflictsExcluding() {
+            // Given
+            when(appointmentJpaRepository.findConflictCandidates(any(), any(), any()))
+                .thenThrow(new DataAccessResourceFailureException("conexão recusada"));
+
+            // When & Then
+            assertThrows(RuntimeException.class, () ->
+                adapter.hasConflictingAppointmentExcluding(
+                    ProfessionalId.of(PROFESSIONAL_ID), requestedTime, AppointmentType.FOLLOW_UP,
+                    AppointmentId.generate()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Fitness Function - Varreduras Completas")
+    class FullScanRegression {
+
+        @Test
+        @DisplayName("Nenhum método do adaptador deve chamar findAll sem limites")
+        void adapterShouldNeverCallUnboundedFindAll() {
+            JavaClasses classes = new ClassFileImporter()
+                .importClasses(AppointmentPersistenceAdapter.class);
+
+            ArchRule rule = noClasses()
+                .that().areAssignableTo(AppointmentPersistenceAdapter.class)
+                .should().callMethod(AppointmentJpaRepository.class, "findAll")
+                .orShould().callMethod(AppointmentJpaRepository.class, "findAll", Sort.class)
+                .because("findAll() carrega a tabela agendamentos inteira em memória; use uma query dedicada e indexada");
+
+            rule.check(classes);
+        }
+
+        @Test
+        @DisplayName("Adaptador não deve invocar findAll em nenhuma operação de leitura")
+        void readOperationsShouldNotInvokeFindAll() {
+            ProfessionalId professionalId = ProfessionalId.of(PROFESSIONAL_ID);
+
+            adapter.findByProfessionalId(professionalId);
+            adapter.findByStatus(AppointmentStatus.SCHEDULED);
+            adapter.countByStatus(AppointmentStatus.SCHEDULED);
+            adapter.findActiveAppointmentsByProfessionalAndDate(professionalId, LocalDate.of(2030, 3, 15));
+            adapter.findByDate(LocalDate.of(2030, 3, 15));
+
+            verify(appointmentJpaRepository, never()).findAll();
+            verify(appointmentJpaRepository, never()).findAll(any(Sort.class));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.PatientJpaRepository;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.repository.PatientJpaRepository.PatientNameProjection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para PatientSearchKeyBackfill
+ *
+ * Garante que a chave de busca das linhas antigas seja a mesma de
+ * PatientName.toSearchKey, usada nas novas gravações e nos termos de busca.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PatientSearchKeyBackfill Tests")
+class PatientSearchKeyBackfillTest {
+
+    @Mock
+    private PatientJpaRepository patientJpaRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private PatientSearchKeyBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        backfill = new PatientSearchKeyBackfill(patientJpaRepository, transactionTemplate, 2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Deve gravar a chave normalizada por PatientName.toSearchKey")
+    void shouldStoreDomainSearchKey() {
+        // Given
+        when(patientJpaRepository.findWithoutSearchName(2))
+            .thenReturn(List.of(patient("p1", "João D'Ávila"), patient("p2", "Ana  Conceição-Lima")));
+
+        // When
+        int updated = backfill.backfillBatch();
+
+        // Then
+        assertEquals(2, updated);
+        verify(patientJpaRepository).updateSearchName("p1", "joao d avila");
+        verify(patientJpaRepository).updateSearchName("p2", "ana conceicao lima");
+    }
+
+    @Test
+    @DisplayName("Deve processar lotes até encontrar um lote incompleto")
+    void shouldDrainFullBatches() {
+        // Given
+        when(patientJpaRepository.findWithoutSearchName(2))
+            .thenReturn(List.of(patient("p1", "Ana"), patient("p2", "Bruno")))
+            .thenReturn(List.of(patient("p3", "Carla")));
+
+        // When
+        backfill.backfill();
+
+        // Then
+        verify(patientJpaRepository, times(2)).findWithoutSearchName(2);
+        verify(patientJpaRepository, times(3)).updateSearchName(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Não deve atualizar nada quando todas as linhas já têm a chave")
+    void shouldDoNothingWhenAlreadyFilled() {
+        // Given
+        when(patientJpaRepository.findWithoutSearchName(2)).thenReturn(List.of());
+
+        // When
+        backfill.backfill();
+
+        // Then
+        verify(patientJpaRepository, never()).updateSearchName(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Não deve impedir a subida quando o banco falhar")
+    void shouldNotPropagateDatabaseFailure() {
+        // Given
+        when(patientJpaRepository.findWithoutSearchName(2))
+            .thenThrow(new DataAccessResourceFailureException("conexão recusada"));
+
+        // When / Then
+        assertDoesNotThrow(() -> backfill.backfill());
+    }
+
+    private static PatientNameProjection patient(String patientId, String name) {
+        return new PatientNameProjection() {
+            @Override
+            public String getPatientId() {
+                return patientId;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence.cache;
+
+import com.clinicboard.business_service.domain.model.DailyAgenda;
+import com.clinicboard.business_service.domain.model.ProfessionalId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ProfessionalCalendarCache
+ */
+@DisplayName("ProfessionalCalendarCache Tests")
+class ProfessionalCalendarCacheTest {
+
+    private static final ProfessionalId PROFESSIONAL = new ProfessionalId("660e8400-e29b-41d4-a716-446655440001");
+    private static final ProfessionalId OTHER_PROFESSIONAL = new ProfessionalId("660e8400-e29b-41d4-a716-446655440002");
+    private static final LocalDate DATE = LocalDate.of(2026, 1, 5);
+
+    private final MutableClock clock = new MutableClock();
+    private final AtomicInteger loads = new AtomicInteger();
+    private ProfessionalCalendarCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProfessionalCalendarCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), clock);
+    }
+
+    @Nested
+    @DisplayName("Expiração")
+    class Expiration {
+
+        @Test
+        @DisplayName("Deve reutilizar o dia carregado até o fim do TTL")
+        void shouldReuseLoadedDayUntilTtl() {
+            // Given
+            cache.get(PROFESSIONAL, DATE, this::load);
+
+            // When
+            clock.advance(Duration.ofSeconds(50));
+            cache.get(PROFESSIONAL, DATE, this::load);
+            clock.advance(Duration.ofSeconds(20));
+            cache.get(PROFESSIONAL, DATE, this::load);
+
+            // Then
+            assertEquals(2, loads.get());
+        }
+
+        @Test
+        @DisplayName("Não deve estender o TTL ao ocupar um intervalo")
+        void shouldKeepExpiryWhenOccupying() {
+            // Given
+            cache.get(PROFESSIONAL, DATE, this::load);
+
+            // When
+            clock.advance(Duration.ofSeconds(50));
+            cache.occupy(PROFESSIONAL, DATE, LocalTime.of(10, 0), 30);
+            clock.advance(Duration.ofSeconds(20));
+            DailyAgenda agenda = cache.get(PROFESSIONAL, DATE, this::load);
+
+            // Then - recarregado do banco, sem o intervalo aplicado só em memória
+            assertEquals(2, loads.get());
+            assertFalse(agenda.overlaps(LocalTime.of(10, 0), 30));
+        }
+
+        private DailyAgenda load() {
+            loads.incrementAndGet();
+            return DailyAgenda.EMPTY;
+        }
+    }
+
+    @Nested
+    @DisplayName("Cargas Concorrentes")
+    class ConcurrentLoads {
+
+        @Test
+        @DisplayName("Não deve armazenar carga concorrente com alteração do mesmo dia")
+        void shouldDiscardLoadRacingWriteOnSameDay() {
+            // When - o agendamento é gravado enquanto o dia é lido do banco
+            cache.get(PROFESSIONAL, DATE, () -> {
+                cache.occupy(PROFESSIONAL, DATE, LocalTime.of(10, 0), 30);
+                return DailyAgenda.EMPTY;
+            });
+
+            // Then
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        @DisplayName("Deve armazenar carga concorrente com alteração de outro profissional")
+        void shouldKeepLoadRacingWriteOnOtherProfessional() {
+            // When
+            cache.get(PROFESSIONAL, DATE, () -> {
+                cache.invalidate(OTHER_PROFESSIONAL, DATE);
+                return DailyAgenda.EMPTY;
+            });
+
+            // Then
+            assertEquals(1, cache.size());
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-05T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public long millis() {
+            return now.toEpochMilli();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.clinicboard.gateway.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.clinicboard.gateway.security.VerifiedTokenCache.VerifiedIdentity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Autenticação na borda: valida o token JWT (HS256) uma vez, no gateway, e
+ * repassa a identidade aos serviços nos cabeçalhos X-User-Id e X-User-Role.
+ *
+ * O verificador é criado uma vez com a chave já calculada, e os tokens
+ * válidos ficam em um LRU local até expirarem ou até o fim do TTL do cache
+ * (app.gateway.auth.cache.ttl), o que vier primeiro. O gateway não recebe os
+ * eventos de alteração e remoção de usuários, então o TTL curto limita o
+ * tempo em que um papel alterado ou um usuário removido ainda passa pela
+ * borda com a identidade antiga. Requisições com token
+ * inválido ou expirado recebem 401 sem chegar aos serviços; sem token, só
+ * passam as rotas públicas e os preflight de CORS, a menos que
+ * app.gateway.auth.require-token seja false.
+ *
+ * Os cabeçalhos de identidade vindos do cliente são sempre removidos, para
+ * que só o gateway possa preenchê-los.
+ *
+ * Métricas expostas:
+ * - clinicboard.gateway.auth.requests{result=hit|miss|rejected|anonymous}
+ * - clinicboard.gateway.auth.cache.size
+ */
+@Component
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String USER_ROLE_HEADER = "X-User-Role";
+
+    private static final String ISSUER = "clinicboard-backend-ms";
+    private static final String ROLE_CLAIM = "role";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JWTVerifier verifier;
+    private final VerifiedTokenCache verifiedTokens;
+    private final List<PathPattern> publicPaths;
+    private final boolean requireToken;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter rejected;
+    private final Counter anonymous;
+    private final Clock clock;
+
+    @Autowired
+    public JwtAuthenticationFilter(MeterRegistry meterRegistry,
+                                   @Value("${api.security.token.secret}") String secret,
+                                   @Value("${app.gateway.auth.public-paths:/user-service/auth/**,/user-service/users/register,/actuator/**}") List<String> publicPaths,
+                                   @Value("${app.gateway.auth.require-token:true}") boolean requireToken,
+                                   @Value("${app.gateway.auth.cache.max-entries:10000}") int maxEntries,
+                                   @Value("${app.gateway.auth.cache.ttl:PT30S}") Duration cacheTtl) {
+        this(meterRegistry, secret, publicPaths, requireToken, maxEntries, cacheTtl, Clock.systemUTC());
+    }
+
+    JwtAuthenticationFilter(MeterRegistry meterRegistry, String secret, List<String> publicPaths,
+                            boolean requireToken, int maxEntries, Duration cacheTtl, Clock clock) {
+        this.verifier = JWT.require(Algorithm.HMAC256(secret))
+                .withIssuer(ISSUER)
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache(maxEntries, cacheTtl);
+        this.publicPaths = publicPaths.stream()
+                .map(String::trim)
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.requireToken = requireToken;
+        this.clock = clock;
+        this.hits = requests(meterRegistry, "hit", "Tokens válidos encontrados no cache do gateway");
+        this.misses = requests(meterRegistry, "miss", "Tokens verificados pelo gateway");
+        this.rejected = requests(meterRegistry, "rejected", "Requisições recusadas por token ausente, inválido ou expirado");
+        this.anonymous = requests(meterRegistry, "anonymous", "Requisições repassadas sem identidade");
+        Gauge.builder("clinicboard.gateway.auth.cache.size", verifiedTokens, VerifiedTokenCache::size)
+                .description("Tokens verificados em cache no gateway")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        boolean publicPath = exchange.getRequest().getMethod() == HttpMethod.OPTIONS || isPublic(exchange);
+        String token = bearerToken(exchange);
+
+        if (token == null) {
+            if (requireToken && !publicPath) {
+                return reject(exchange, "Bearer");
+            }
+            anonymous.increment();
+            return chain.filter(withIdentity(exchange, null));
+        }
+
+        long now = clock.millis();
+        VerifiedIdentity identity = verifiedTokens.get(token, now);
+        if (identity != null) {
+            hits.increment();
+        } else {
+            identity = verify(token);
+            if (identity == null) {
+                if (publicPath) {
+                    anonymous.increment();
+                    return chain.filter(withIdentity(exchange, null));
+                }
+                return reject(exchange, "Bearer error=\"invalid_token\"");
+            }
+            misses.increment();
+            verifiedTokens.put(token, identity, now);
+        }
+        return chain.filter(withIdentity(exchange, identity));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 100;
+    }
+
+    private VerifiedIdentity verify(String token) {
+        try {
+            DecodedJWT jwt = verifier.verify(token);
+            String subject = jwt.getSubject();
+            if (subject == null || subject.isBlank()) {
+                return null;
+            }
+            Date expiresAt = jwt.getExpiresAt();
+            long expiresAtMillis = expiresAt != null ? expiresAt.getTime() : Long.MAX_VALUE;
+            return new VerifiedIdentity(subject, jwt.getClaim(ROLE_CLAIM).asString(), expiresAtMillis);
+        } catch (JWTVerificationException e) {
+            return null;
+        }
+    }
+
+    private boolean isPublic(ServerWebExchange exchange) {
+        var path = exchange.getRequest().getPath().pathWithinApplication();
+        for (PathPattern pattern : publicPaths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String bearerToken(ServerWebExchange exchange) {
+        String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    private static ServerWebExchange withIdentity(ServerWebExchange exchange, VerifiedIdentity identity) {
+        return exchange.mutate()
+                .request(request -> request.headers(headers -> {
+                    headers.remove(USER_ID_HEADER);
+                    headers.remove(USER_ROLE_HEADER);
+                    if (identity != null) {
+                        headers.set(USER_ID_HEADER, identity.userId());
+                        if (identity.role() != null) {
+                            headers.set(USER_ROLE_HEADER, identity.role());
+                        }
+                    }
+                }))
+                .build();
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, String challenge) {
+        rejected.increment();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, challenge);
+        return response.setComplete();
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("clinicboard.gateway.auth.requests")
+                .tag("result", result)
+                .description(description)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,98 @@
+package com.clinicboard.gateway.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU dos tokens já verificados pelo gateway.
+ *
+ * A chave são os primeiros 128 bits do SHA-256 do token, para que tokens não
+ * fiquem na memória. Uma entrada vale até a expiração do token ou até o fim
+ * do TTL, o que vier primeiro; depois disso o token é verificado de novo.
+ */
+class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(VerifiedTokenCache::newDigest);
+
+    private final Map<TokenKey, Entry> entries;
+    private final long ttlMillis;
+
+    VerifiedTokenCache(int maxEntries, Duration ttl) {
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TokenKey, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return a identidade do token, ou null se ele não está no cache ou expirou
+     */
+    VerifiedIdentity get(String token, long nowMillis) {
+        TokenKey key = TokenKey.of(token);
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.validUntilMillis() <= nowMillis) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.identity();
+        }
+    }
+
+    void put(String token, VerifiedIdentity identity, long nowMillis) {
+        TokenKey key = TokenKey.of(token);
+        long validUntil = Math.min(identity.expiresAtMillis(), nowMillis + ttlMillis);
+        synchronized (entries) {
+            entries.put(key, new Entry(identity, validUntil));
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Usuário e papel extraídos de um token válido.
+     */
+    record VerifiedIdentity(String userId, String role, long expiresAtMillis) {
+    }
+
+    private record Entry(VerifiedIdentity identity, long validUntilMillis) {
+    }
+
+    private record TokenKey(long high, long low) {
+
+        static TokenKey of(String token) {
+            byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+            return new TokenKey(toLong(digest, 0), toLong(digest, 8));
+        }
+
+        private static long toLong(byte[] bytes, int offset) {
+            long value = 0;
+            for (int i = offset; i < offset + 8; i++) {
+                value = (value << 8) | (bytes[i] & 0xFF);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.clinicboard.gateway.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para JwtAuthenticationFilter
+ *
+ * Os tokens são assinados com o mesmo algoritmo do user-service. O relógio
+ * controla só o cache; a expiração do token é verificada pela biblioteca JWT.
+ */
+@DisplayName("JwtAuthenticationFilter Tests")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "segredo-de-teste";
+    private static final String ISSUER = "clinicboard-backend-ms";
+    private static final String PROTECTED_PATH = "/business-service/patients";
+    private static final String PUBLIC_PATH = "/user-service/auth/login";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+    private final ForwardingChain chain = new ForwardingChain();
+
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(meterRegistry, SECRET, List.of("/user-service/auth/**"),
+                true, 100, Duration.ofSeconds(30), clock);
+    }
+
+    @Nested
+    @DisplayName("Verificação do Token")
+    class Verification {
+
+        @Test
+        @DisplayName("Deve repassar a identidade de um token válido")
+        void shouldForwardIdentityOfValidToken() {
+            // When
+            MockServerWebExchange exchange = send(PROTECTED_PATH, token(SECRET, Instant.now().plusSeconds(3600)));
+
+            // Then
+            assertNull(exchange.getResponse().getStatusCode());
+            assertEquals("user-01", forwardedHeader(JwtAuthenticationFilter.USER_ID_HEADER));
+            assertEquals("PROFESSIONAL", forwardedHeader(JwtAuthenticationFilter.USER_ROLE_HEADER));
+        }
+
+        @Test
+        @DisplayName("Deve recusar token expirado")
+        void shouldRejectExpiredToken() {
+            // When
+            MockServerWebExchange exchange = send(PROTECTED_PATH, token(SECRET, Instant.now().minusSeconds(60)));
+
+            // Then
+            assertRejected(exchange);
+        }
+
+        @Test
+        @DisplayName("Deve recusar token assinado com outro segredo")
+        void shouldRejectTokenWithBadSignature() {
+            // When
+            MockServerWebExchange exchange = send(PROTECTED_PATH, token("outro-segredo", Instant.now().plusSeconds(3600)));
+
+            // Then
+            assertRejected(exchange);
+        }
+
+        @Test
+        @DisplayName("Deve recusar requisição sem token em rota protegida")
+        void shouldRejectMissingTokenOnProtectedRoute() {
+            // When
+            MockServerWebExchange exchange = send(PROTECTED_PATH, null);
+
+            // Then
+            assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+            assertNull(chain.forwarded);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cabeçalhos de Identidade")
+    class IdentityHeaders {
+
+        @Test
+        @DisplayName("Deve remover cabeçalhos de identidade enviados pelo cliente em rota pública")
+        void shouldStripSpoofedHeadersOnPublicRoute() {
+            // When
+            send(MockServerHttpRequest.get(PUBLIC_PATH)
+                    .header(JwtAuthenticationFilter.USER_ID_HEADER, "admin")
+                    .header(JwtAuthenticationFilter.USER_ROLE_HEADER, "ADMIN"));
+
+            // Then
+            assertNotNull(chain.forwarded);
+            assertNull(forwardedHeader(JwtAuthenticationFilter.USER_ID_HEADER));
+            assertNull(forwardedHeader(JwtAuthenticationFilter.USER_ROLE_HEADER));
+        }
+
+        @Test
+        @DisplayName("Deve substituir cabeçalhos de identidade enviados pelo cliente pelos do token")
+        void shouldReplaceSpoofedHeadersWithTokenIdentity() {
+            // When
+            send(MockServerHttpRequest.get(PROTECTED_PATH)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(SECRET, Instant.now().plusSeconds(3600)))
+                    .header(JwtAuthenticationFilter.USER_ID_HEADER, "admin")
+                    .header(JwtAuthenticationFilter.USER_ROLE_HEADER, "ADMIN"));
+
+            // Then
+            assertEquals(List.of("user-01"),
+                    chain.forwarded.getRequest().getHeaders().get(JwtAuthenticationFilter.USER_ID_HEADER));
+            assertEquals(List.of("PROFESSIONAL"),
+                    chain.forwarded.getRequest().getHeaders().get(JwtAuthenticationFilter.USER_ROLE_HEADER));
+        }
+    }
+
+    @Nested
+    @DisplayName("Cache de Tokens Verificados")
+    class VerifiedTokens {
+
+        @Test
+        @DisplayName("Deve atender o mesmo token pelo cache")
+        void shouldServeRepeatedTokenFromCache() {
+            // Given
+            String token = token(SECRET, Instant.now().plusSeconds(3600));
+            send(PROTECTED_PATH, token);
+
+            // When
+            send(PROTECTED_PATH, token);
+
+            // Then
+            assertEquals(1.0, requests("miss"));
+            assertEquals(1.0, requests("hit"));
+            assertEquals("user-01", forwardedHeader(JwtAuthenticationFilter.USER_ID_HEADER));
+        }
+
+        @Test
+        @DisplayName("Deve verificar o token de novo após o TTL do cache")
+        void shouldVerifyAgainAfterCacheTtl() {
+            // Given - token válido por uma hora, cache de 30 segundos
+            String token = token(SECRET, Instant.now().plusSeconds(3600));
+            send(PROTECTED_PATH, token);
+
+            // When
+            clock.advance(Duration.ofSeconds(29));
+            send(PROTECTED_PATH, token);
+            clock.advance(Duration.ofSeconds(1));
+            send(PROTECTED_PATH, token);
+
+            // Then
+            assertEquals(1.0, requests("hit"));
+            assertEquals(2.0, requests("miss"));
+        }
+    }
+
+    private MockServerWebExchange send(String path, String token) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path);
+        if (token != null) {
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        return send(request);
+    }
+
+    private MockServerWebExchange send(MockServerHttpRequest.BaseBuilder<?> request) {
+        chain.forwarded = null;
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, chain).block();
+        return exchange;
+    }
+
+    private void assertRejected(MockServerWebExchange exchange) {
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertEquals("Bearer error=\"invalid_token\"",
+                exchange.getResponse().getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE));
+        assertNull(chain.forwarded);
+        assertEquals(1.0, requests("rejected"));
+    }
+
+    private String forwardedHeader(String name) {
+        return chain.forwarded.getRequest().getHeaders().getFirst(name);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("clinicboard.gateway.auth.requests").tag("result", result).counter().count();
+    }
+
+    private static String token(String secret, Instant expiresAt) {
+        return JWT.create()
+                .withIssuer(ISSUER)
+                .withSubject("user-01")
+                .withClaim("role", "PROFESSIONAL")
+                .withExpiresAt(expiresAt)
+                .sign(Algorithm.HMAC256(secret));
+    }
+
+    private static final class ForwardingChain implements GatewayFilterChain {
+
+        private ServerWebExchange forwarded;
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange) {
+            forwarded = exchange;
+            return Mono.empty();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public long millis() {
+            return now.toEpochMilli();
+        }
+    }
+}
@@ -5,6 +5,9 @@ import com.clinicboard.notification_service.domain.event.AppointmentCanceledEven
 import com.clinicboard.notification_service.domain.event.AppointmentStatusChangedEvent;
 import com.clinicboard.notification_service.domain.event.AppointmentRescheduledEvent;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Porta de entrada para processamento de eventos de agendamento.
  * 
@@ -13,6 +16,9 @@ import com.clinicboard.notification_service.domain.event.AppointmentRescheduledE
  * 
  * Segue o padrão Hexagonal Architecture onde as portas definem
  * os contratos de entrada da aplicação.
+ * 
+ * Os métodos de lote devolvem um future por evento, na ordem recebida,
+ * para que o adaptador trate a falha de cada mensagem separadamente.
  */
 public interface ProcessAppointmentEventUseCase {
     
@@ -35,4 +41,24 @@ public interface ProcessAppointmentEventUseCase {
      * Processa evento de reagendamento
      */
     void processAppointmentRescheduled(AppointmentRescheduledEvent event);
+    
+    /**
+     * Processa um lote de eventos de agendamento criado
+     */
+    List<CompletableFuture<Void>> processAppointmentScheduledBatch(List<AppointmentScheduledEvent> events);
+    
+    /**
+     * Processa um lote de eventos de agendamento cancelado
+     */
+    List<CompletableFuture<Void>> processAppointmentCanceledBatch(List<AppointmentCanceledEvent> events);
+    
+    /**
+     * Processa um lote de eventos de mudança de status
+     */
+    List<CompletableFuture<Void>> processAppointmentStatusChangedBatch(List<AppointmentStatusChangedEvent> events);
+    
+    /**
+     * Processa um lote de eventos de reagendamento
+     */
+    List<CompletableFuture<Void>> processAppointmentRescheduledBatch(List<AppointmentRescheduledEvent> events);
 }
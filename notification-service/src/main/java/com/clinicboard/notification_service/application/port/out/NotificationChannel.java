@@ -0,0 +1,19 @@
+package com.clinicboard.notification_service.application.port.out;
+
+/**
+ * Canal de entrega de uma notificação.
+ *
+ * Cada canal pode ter sua própria variante dos templates (mensagens curtas
+ * para SMS, por exemplo); sem variante, vale o template geral.
+ */
+public enum NotificationChannel {
+    EMAIL,
+    SMS;
+
+    /**
+     * Sufixo das chaves de template específicas do canal
+     */
+    public String templateSuffix() {
+        return name().toLowerCase();
+    }
+}
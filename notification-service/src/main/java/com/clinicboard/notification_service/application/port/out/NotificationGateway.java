@@ -1,5 +1,7 @@
 package com.clinicboard.notification_service.application.port.out;
 
+import java.util.List;
+
 /**
  * Porta de saída para envio de notificações.
  * 
@@ -11,6 +13,12 @@ package com.clinicboard.notification_service.application.port.out;
  */
 public interface NotificationGateway {
     
+    /**
+     * Canal pelo qual este gateway entrega as mensagens; define a variante
+     * dos templates usada na renderização
+     */
+    NotificationChannel channel();
+    
     /**
      * Envia notificação de agendamento criado
      */
@@ -30,4 +38,9 @@ public interface NotificationGateway {
      * Envia notificação de reagendamento
      */
     void sendAppointmentRescheduledNotification(String userId, String userName, String message, String rescheduleDetails);
+    
+    /**
+     * Envia um resumo com várias notificações ao mesmo destinatário
+     */
+    void sendDigestNotification(String userId, String userName, String message, List<String> items);
 }
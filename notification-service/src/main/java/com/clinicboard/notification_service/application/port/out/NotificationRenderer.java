@@ -0,0 +1,18 @@
+package com.clinicboard.notification_service.application.port.out;
+
+import java.util.Locale;
+
+/**
+ * Porta de saída para a renderização do texto das notificações.
+ *
+ * Separa o texto das mensagens do caso de uso: os templates ficam fora do
+ * código e variam por idioma e por canal de entrega.
+ */
+public interface NotificationRenderer {
+
+    /**
+     * Renderiza o template na variante do canal e do idioma, recorrendo à
+     * versão geral quando não houver uma específica
+     */
+    String render(NotificationTemplate template, NotificationChannel channel, Locale locale, TemplateArguments arguments);
+}
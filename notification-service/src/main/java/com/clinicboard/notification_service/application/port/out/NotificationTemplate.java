@@ -0,0 +1,32 @@
+package com.clinicboard.notification_service.application.port.out;
+
+/**
+ * Templates de notificação conhecidos pelo caso de uso.
+ *
+ * A chave identifica o template nos arquivos de templates; cada
+ * idioma e canal pode ter sua própria versão.
+ */
+public enum NotificationTemplate {
+    APPOINTMENT_SCHEDULED_PATIENT("appointment.scheduled.patient"),
+    APPOINTMENT_SCHEDULED_PROFESSIONAL("appointment.scheduled.professional"),
+    APPOINTMENT_SCHEDULED_DETAILS("appointment.scheduled.details"),
+    APPOINTMENT_CANCELED_PATIENT("appointment.canceled.patient"),
+    APPOINTMENT_CANCELED_PROFESSIONAL("appointment.canceled.professional"),
+    APPOINTMENT_STATUS_CHANGED_PATIENT("appointment.status-changed.patient"),
+    APPOINTMENT_STATUS_CHANGED_PROFESSIONAL("appointment.status-changed.professional"),
+    APPOINTMENT_STATUS_CHANGED_DETAILS("appointment.status-changed.details"),
+    APPOINTMENT_RESCHEDULED_PATIENT("appointment.rescheduled.patient"),
+    APPOINTMENT_RESCHEDULED_PROFESSIONAL("appointment.rescheduled.professional"),
+    APPOINTMENT_RESCHEDULED_DETAILS("appointment.rescheduled.details"),
+    NOTIFICATION_DIGEST("notification.digest");
+
+    private final String key;
+
+    NotificationTemplate(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+}
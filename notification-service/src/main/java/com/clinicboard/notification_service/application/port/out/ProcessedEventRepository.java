@@ -0,0 +1,33 @@
+package com.clinicboard.notification_service.application.port.out;
+
+import com.clinicboard.notification_service.domain.event.DomainEvent;
+
+/**
+ * Porta de saída para o registro de eventos já processados.
+ *
+ * Permite ao caso de uso descartar entregas duplicadas do mesmo evento
+ * (retries do publicador, reprocessamento da DLQ). Um evento é identificado
+ * pelo id do agregado, tipo do evento e momento em que ocorreu.
+ *
+ * O fluxo é: tryClaim antes de processar; markProcessed após o sucesso;
+ * release após a falha, para que uma nova entrega seja processada.
+ */
+public interface ProcessedEventRepository {
+
+    /**
+     * Reserva o evento para processamento
+     *
+     * @return false se o evento já foi processado ou está em processamento
+     */
+    boolean tryClaim(DomainEvent event);
+
+    /**
+     * Confirma que o evento reservado foi processado
+     */
+    void markProcessed(DomainEvent event);
+
+    /**
+     * Libera a reserva de um evento cujo processamento falhou
+     */
+    void release(DomainEvent event);
+}
@@ -0,0 +1,67 @@
+package com.clinicboard.notification_service.application.port.out;
+
+/**
+ * Valores das variáveis de um template, indexados pela variável.
+ *
+ * Um mesmo conjunto de argumentos atende todos os templates de um evento.
+ * Valores de data e hora (TemporalAccessor) são formatados pelo renderizador
+ * conforme o idioma; os demais são escritos como texto. Valores ausentes
+ * resultam em texto vazio.
+ */
+public final class TemplateArguments {
+
+    /**
+     * Variáveis disponíveis nos templates, referenciadas como {patientName}
+     */
+    public enum Variable {
+        PATIENT_NAME("patientName"),
+        PROFESSIONAL_NAME("professionalName"),
+        APPOINTMENT_DATE_TIME("appointmentDateTime"),
+        PREVIOUS_DATE_TIME("previousDateTime"),
+        NEW_DATE_TIME("newDateTime"),
+        PREVIOUS_STATUS("previousStatus"),
+        NEW_STATUS("newStatus"),
+        REASON("reason"),
+        RECIPIENT_NAME("recipientName"),
+        COUNT("count");
+
+        private static final Variable[] VALUES = values();
+
+        private final String placeholder;
+
+        Variable(String placeholder) {
+            this.placeholder = placeholder;
+        }
+
+        public String placeholder() {
+            return placeholder;
+        }
+
+        /**
+         * @return a variável com o nome informado, ou null se não existir
+         */
+        public static Variable fromPlaceholder(String placeholder) {
+            for (Variable variable : VALUES) {
+                if (variable.placeholder.equals(placeholder)) {
+                    return variable;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Object[] values = new Object[Variable.VALUES.length];
+
+    public static TemplateArguments create() {
+        return new TemplateArguments();
+    }
+
+    public TemplateArguments with(Variable variable, Object value) {
+        values[variable.ordinal()] = value;
+        return this;
+    }
+
+    public Object get(Variable variable) {
+        return values[variable.ordinal()];
+    }
+}
@@ -2,206 +2,307 @@ package com.clinicboard.notification_service.application.usecase;
 
 import com.clinicboard.notification_service.application.port.in.ProcessAppointmentEventUseCase;
 import com.clinicboard.notification_service.application.port.out.NotificationGateway;
+import com.clinicboard.notification_service.application.port.out.NotificationRenderer;
+import com.clinicboard.notification_service.application.port.out.NotificationTemplate;
+import com.clinicboard.notification_service.application.port.out.ProcessedEventRepository;
+import com.clinicboard.notification_service.application.port.out.TemplateArguments;
+import com.clinicboard.notification_service.domain.event.DomainEvent;
 import com.clinicboard.notification_service.domain.event.AppointmentScheduledEvent;
 import com.clinicboard.notification_service.domain.event.AppointmentCanceledEvent;
 import com.clinicboard.notification_service.domain.event.AppointmentStatusChangedEvent;
 import com.clinicboard.notification_service.domain.event.AppointmentRescheduledEvent;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static com.clinicboard.notification_service.application.port.out.NotificationTemplate.*;
+import static com.clinicboard.notification_service.application.port.out.TemplateArguments.Variable.*;
 
 /**
  * Implementação do caso de uso para processamento de eventos de agendamento.
- * 
+ *
  * Esta classe orquestra a lógica de negócio para processar eventos relacionados
  * a agendamentos e coordenar o envio de notificações apropriadas.
- * 
+ *
+ * As notificações do paciente e do profissional de cada evento são enviadas em
+ * paralelo no notificationExecutor. Os métodos de evento único aguardam os dois
+ * envios; os de lote disparam todos os envios do lote antes de aguardar.
+ *
+ * Entregas repetidas do mesmo evento (retries do publicador, reprocessamento
+ * da DLQ) são descartadas via ProcessedEventRepository antes de qualquer envio.
+ *
+ * O texto das mensagens vem do NotificationRenderer, no idioma
+ * app.notification.locale e na variante do canal do gateway.
+ *
  * Segue os princípios de DDD onde o caso de uso coordena as operações
  * mas delega responsabilidades específicas para portas de saída.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ProcessAppointmentEventUseCaseImpl implements ProcessAppointmentEventUseCase {
-    
+
     private final NotificationGateway notificationGateway;
-    
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy 'às' HH:mm");
-    
+    private final ProcessedEventRepository processedEventRepository;
+    private final NotificationRenderer notificationRenderer;
+    private final Executor notificationExecutor;
+    private final Locale locale;
+
+    public ProcessAppointmentEventUseCaseImpl(NotificationGateway notificationGateway,
+                                              ProcessedEventRepository processedEventRepository,
+                                              NotificationRenderer notificationRenderer,
+                                              @Qualifier("notificationExecutor") Executor notificationExecutor,
+                                              @Value("${app.notification.locale:pt-BR}") Locale locale) {
+        this.notificationGateway = notificationGateway;
+        this.processedEventRepository = processedEventRepository;
+        this.notificationRenderer = notificationRenderer;
+        this.notificationExecutor = notificationExecutor;
+        this.locale = locale;
+    }
+
     @Override
     public void processAppointmentScheduled(AppointmentScheduledEvent event) {
-        log.info("Processing appointment scheduled event for appointment: {}", event.getAggregateId());
-        
+        await(once(event, this::scheduled), "Failed to process appointment scheduled event");
+    }
+
+    @Override
+    public void processAppointmentCanceled(AppointmentCanceledEvent event) {
+        await(once(event, this::canceled), "Failed to process appointment canceled event");
+    }
+
+    @Override
+    public void processAppointmentStatusChanged(AppointmentStatusChangedEvent event) {
+        await(once(event, this::statusChanged), "Failed to process appointment status changed event");
+    }
+
+    @Override
+    public void processAppointmentRescheduled(AppointmentRescheduledEvent event) {
+        await(once(event, this::rescheduled), "Failed to process appointment rescheduled event");
+    }
+
+    @Override
+    public List<CompletableFuture<Void>> processAppointmentScheduledBatch(List<AppointmentScheduledEvent> events) {
+        return processAll(events, this::scheduled);
+    }
+
+    @Override
+    public List<CompletableFuture<Void>> processAppointmentCanceledBatch(List<AppointmentCanceledEvent> events) {
+        return processAll(events, this::canceled);
+    }
+
+    @Override
+    public List<CompletableFuture<Void>> processAppointmentStatusChangedBatch(List<AppointmentStatusChangedEvent> events) {
+        return processAll(events, this::statusChanged);
+    }
+
+    @Override
+    public List<CompletableFuture<Void>> processAppointmentRescheduledBatch(List<AppointmentRescheduledEvent> events) {
+        return processAll(events, this::rescheduled);
+    }
+
+    private CompletableFuture<Void> scheduled(AppointmentScheduledEvent event) {
+        log.debug("Processing appointment scheduled event for appointment: {}", event.getAggregateId());
+
         try {
-            String appointmentDetails = String.format("Data: %s", 
-                event.getAppointmentDateTime().format(FORMATTER));
-            
+            TemplateArguments arguments = TemplateArguments.create()
+                .with(PATIENT_NAME, event.getPatientName())
+                .with(PROFESSIONAL_NAME, event.getProfessionalName())
+                .with(APPOINTMENT_DATE_TIME, event.getAppointmentDateTime());
+            String appointmentDetails = render(APPOINTMENT_SCHEDULED_DETAILS, arguments);
+
             // Notifica o paciente
-            String patientMessage = String.format(
-                "Olá %s! Seu agendamento foi confirmado com %s.",
-                event.getPatientName(),
-                event.getProfessionalName()
-            );
-            
-            notificationGateway.sendAppointmentScheduledNotification(
-                event.getPatientId(),
-                event.getPatientName(),
-                patientMessage,
-                appointmentDetails
-            );
-            
+            String patientMessage = render(APPOINTMENT_SCHEDULED_PATIENT, arguments);
+
             // Notifica o profissional
-            String professionalMessage = String.format(
-                "Olá %s! Você tem um novo agendamento com %s.",
-                event.getProfessionalName(),
-                event.getPatientName()
-            );
-            
-            notificationGateway.sendAppointmentScheduledNotification(
-                event.getProfessionalId(),
-                event.getProfessionalName(),
-                professionalMessage,
-                appointmentDetails
-            );
-            
-            log.info("Successfully processed appointment scheduled event for appointment: {}", event.getAggregateId());
-            
+            String professionalMessage = render(APPOINTMENT_SCHEDULED_PROFESSIONAL, arguments);
+
+            return notifyBoth("appointment scheduled", event.getAggregateId(),
+                () -> notificationGateway.sendAppointmentScheduledNotification(
+                    event.getPatientId(),
+                    event.getPatientName(),
+                    patientMessage,
+                    appointmentDetails
+                ),
+                () -> notificationGateway.sendAppointmentScheduledNotification(
+                    event.getProfessionalId(),
+                    event.getProfessionalName(),
+                    professionalMessage,
+                    appointmentDetails
+                ));
+
         } catch (Exception e) {
-            log.error("Failed to process appointment scheduled event for appointment: {}", event.getAggregateId(), e);
-            throw new RuntimeException("Failed to process appointment scheduled event", e);
+            return failed("appointment scheduled", event.getAggregateId(), e);
         }
     }
-    
-    @Override
-    public void processAppointmentCanceled(AppointmentCanceledEvent event) {
-        log.info("Processing appointment canceled event for appointment: {}", event.getAppointmentId());
-        
+
+    private CompletableFuture<Void> canceled(AppointmentCanceledEvent event) {
+        log.debug("Processing appointment canceled event for appointment: {}", event.getAppointmentId());
+
         try {
+            TemplateArguments arguments = TemplateArguments.create()
+                .with(PATIENT_NAME, event.getPatientName())
+                .with(PROFESSIONAL_NAME, event.getProfessionalName())
+                .with(REASON, event.getReason());
+
             // Notifica o paciente
-            String patientMessage = String.format(
-                "Olá %s! Seu agendamento com %s foi cancelado.",
-                event.getPatientName(),
-                event.getProfessionalName()
-            );
-            
-            notificationGateway.sendAppointmentCanceledNotification(
-                event.getPatientId(),
-                event.getPatientName(),
-                patientMessage,
-                event.getReason()
-            );
-            
+            String patientMessage = render(APPOINTMENT_CANCELED_PATIENT, arguments);
+
             // Notifica o profissional
-            String professionalMessage = String.format(
-                "Olá %s! O agendamento com %s foi cancelado.",
-                event.getProfessionalName(),
-                event.getPatientName()
-            );
-            
-            notificationGateway.sendAppointmentCanceledNotification(
-                event.getProfessionalId(),
-                event.getProfessionalName(),
-                professionalMessage,
-                event.getReason()
-            );
-            
-            log.info("Successfully processed appointment canceled event for appointment: {}", event.getAppointmentId());
-            
+            String professionalMessage = render(APPOINTMENT_CANCELED_PROFESSIONAL, arguments);
+
+            return notifyBoth("appointment canceled", event.getAppointmentId(),
+                () -> notificationGateway.sendAppointmentCanceledNotification(
+                    event.getPatientId(),
+                    event.getPatientName(),
+                    patientMessage,
+                    event.getReason()
+                ),
+                () -> notificationGateway.sendAppointmentCanceledNotification(
+                    event.getProfessionalId(),
+                    event.getProfessionalName(),
+                    professionalMessage,
+                    event.getReason()
+                ));
+
         } catch (Exception e) {
-            log.error("Failed to process appointment canceled event for appointment: {}", event.getAppointmentId(), e);
-            throw new RuntimeException("Failed to process appointment canceled event", e);
+            return failed("appointment canceled", event.getAppointmentId(), e);
         }
     }
-    
-    @Override
-    public void processAppointmentStatusChanged(AppointmentStatusChangedEvent event) {
-        log.info("Processing appointment status changed event for appointment: {} - {} -> {}", 
+
+    private CompletableFuture<Void> statusChanged(AppointmentStatusChangedEvent event) {
+        log.debug("Processing appointment status changed event for appointment: {} - {} -> {}",
             event.getAggregateId(), event.getPreviousStatusName(), event.getNewStatusName());
-        
+
         try {
-            String statusDetails = String.format("Status alterado de '%s' para '%s'", 
-                event.getPreviousStatusName(), event.getNewStatusName());
-            
+            TemplateArguments arguments = TemplateArguments.create()
+                .with(PATIENT_NAME, event.getPatientName())
+                .with(PROFESSIONAL_NAME, event.getProfessionalName())
+                .with(PREVIOUS_STATUS, event.getPreviousStatusName())
+                .with(NEW_STATUS, event.getNewStatusName());
+            String statusDetails = render(APPOINTMENT_STATUS_CHANGED_DETAILS, arguments);
+
             // Notifica o paciente
-            String patientMessage = String.format(
-                "Olá %s! O status do seu agendamento com %s foi atualizado.",
-                event.getPatientName(),
-                event.getProfessionalName()
-            );
-            
-            notificationGateway.sendAppointmentStatusChangedNotification(
-                event.getPatientId(),
-                event.getPatientName(),
-                patientMessage,
-                statusDetails
-            );
-            
+            String patientMessage = render(APPOINTMENT_STATUS_CHANGED_PATIENT, arguments);
+
             // Notifica o profissional
-            String professionalMessage = String.format(
-                "Olá %s! O status do agendamento com %s foi atualizado.",
-                event.getProfessionalName(),
-                event.getPatientName()
-            );
-            
-            notificationGateway.sendAppointmentStatusChangedNotification(
-                event.getProfessionalId(),
-                event.getProfessionalName(),
-                professionalMessage,
-                statusDetails
-            );
-            
-            log.info("Successfully processed appointment status changed event for appointment: {}", event.getAggregateId());
-            
+            String professionalMessage = render(APPOINTMENT_STATUS_CHANGED_PROFESSIONAL, arguments);
+
+            return notifyBoth("appointment status changed", event.getAggregateId(),
+                () -> notificationGateway.sendAppointmentStatusChangedNotification(
+                    event.getPatientId(),
+                    event.getPatientName(),
+                    patientMessage,
+                    statusDetails
+                ),
+                () -> notificationGateway.sendAppointmentStatusChangedNotification(
+                    event.getProfessionalId(),
+                    event.getProfessionalName(),
+                    professionalMessage,
+                    statusDetails
+                ));
+
         } catch (Exception e) {
-            log.error("Failed to process appointment status changed event for appointment: {}", event.getAggregateId(), e);
-            throw new RuntimeException("Failed to process appointment status changed event", e);
+            return failed("appointment status changed", event.getAggregateId(), e);
         }
     }
-    
-    @Override
-    public void processAppointmentRescheduled(AppointmentRescheduledEvent event) {
-        log.info("Processing appointment rescheduled event for appointment: {} from {} to {}", 
-            event.getAppointmentId(), event.getFormattedPreviousTime(), event.getFormattedNewTime());
-        
+
+    private CompletableFuture<Void> rescheduled(AppointmentRescheduledEvent event) {
+        log.debug("Processing appointment rescheduled event for appointment: {} from {} to {}",
+            event.getAppointmentId(), event.getPreviousDateTime(), event.getNewDateTime());
+
         try {
-            String rescheduleDetails = String.format("Nova data: %s (anterior: %s)", 
-                event.getFormattedNewTime(), event.getFormattedPreviousTime());
-            
+            TemplateArguments arguments = TemplateArguments.create()
+                .with(PATIENT_NAME, event.getPatientName())
+                .with(PROFESSIONAL_NAME, event.getProfessionalName())
+                .with(PREVIOUS_DATE_TIME, event.getPreviousDateTime())
+                .with(NEW_DATE_TIME, event.getNewDateTime());
+            String rescheduleDetails = render(APPOINTMENT_RESCHEDULED_DETAILS, arguments);
+
             // Notifica o paciente
-            String patientMessage = String.format(
-                "Olá %s! Seu agendamento com %s foi reagendado.",
-                event.getPatientName(),
-                event.getProfessionalName()
-            );
-            
-            notificationGateway.sendAppointmentRescheduledNotification(
-                event.getPatientId(),
-                event.getPatientName(),
-                patientMessage,
-                rescheduleDetails
-            );
-            
+            String patientMessage = render(APPOINTMENT_RESCHEDULED_PATIENT, arguments);
+
             // Notifica o profissional
-            String professionalMessage = String.format(
-                "Olá %s! O agendamento com %s foi reagendado.",
-                event.getProfessionalName(),
-                event.getPatientName()
-            );
-            
-            notificationGateway.sendAppointmentRescheduledNotification(
-                event.getProfessionalId(),
-                event.getProfessionalName(),
-                professionalMessage,
-                rescheduleDetails
-            );
-            
-            log.info("Successfully processed appointment rescheduled event for appointment: {}", event.getAppointmentId());
-            
+            String professionalMessage = render(APPOINTMENT_RESCHEDULED_PROFESSIONAL, arguments);
+
+            return notifyBoth("appointment rescheduled", event.getAppointmentId(),
+                () -> notificationGateway.sendAppointmentRescheduledNotification(
+                    event.getPatientId(),
+                    event.getPatientName(),
+                    patientMessage,
+                    rescheduleDetails
+                ),
+                () -> notificationGateway.sendAppointmentRescheduledNotification(
+                    event.getProfessionalId(),
+                    event.getProfessionalName(),
+                    professionalMessage,
+                    rescheduleDetails
+                ));
+
         } catch (Exception e) {
-            log.error("Failed to process appointment rescheduled event for appointment: {}", event.getAppointmentId(), e);
-            throw new RuntimeException("Failed to process appointment rescheduled event", e);
+            return failed("appointment rescheduled", event.getAppointmentId(), e);
+        }
+    }
+
+    private String render(NotificationTemplate template, TemplateArguments arguments) {
+        return notificationRenderer.render(template, notificationGateway.channel(), locale, arguments);
+    }
+
+    /**
+     * Dispara os envios do paciente e do profissional em paralelo.
+     */
+    private CompletableFuture<Void> notifyBoth(String eventName, String appointmentId,
+                                               Runnable patientNotification, Runnable professionalNotification) {
+        return CompletableFuture.allOf(
+                CompletableFuture.runAsync(patientNotification, notificationExecutor),
+                CompletableFuture.runAsync(professionalNotification, notificationExecutor))
+            .whenComplete((ignored, error) -> {
+                if (error == null) {
+                    log.debug("Successfully processed {} event for appointment: {}", eventName, appointmentId);
+                } else {
+                    log.error("Failed to process {} event for appointment: {}", eventName, appointmentId, error);
+                }
+            });
+    }
+
+    private CompletableFuture<Void> failed(String eventName, String appointmentId, Exception e) {
+        log.error("Failed to process {} event for appointment: {}", eventName, appointmentId, e);
+        return CompletableFuture.failedFuture(e);
+    }
+
+    private <E extends DomainEvent> List<CompletableFuture<Void>> processAll(List<E> events,
+                                                                            Function<E, CompletableFuture<Void>> processor) {
+        return events.stream().map(event -> once(event, processor)).toList();
+    }
+
+    /**
+     * Processa o evento apenas na primeira entrega. A reserva é confirmada após
+     * o sucesso e liberada após a falha, para que a reentrega seja processada.
+     */
+    private <E extends DomainEvent> CompletableFuture<Void> once(E event, Function<E, CompletableFuture<Void>> processor) {
+        if (!processedEventRepository.tryClaim(event)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return processor.apply(event).whenComplete((ignored, error) -> {
+            if (error == null) {
+                processedEventRepository.markProcessed(event);
+            } else {
+                processedEventRepository.release(event);
+            }
+        });
+    }
+
+    private void await(CompletableFuture<Void> processing, String failureMessage) {
+        try {
+            processing.join();
+        } catch (CompletionException e) {
+            throw new RuntimeException(failureMessage, e.getCause());
         }
     }
 }
@@ -0,0 +1,85 @@
+package com.clinicboard.notification_service.config;
+
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Configuração do consumo dos eventos.
+ *
+ * O container padrão (rabbitListenerContainerFactory) é o do Spring Boot,
+ * ajustado por spring.rabbitmq.listener.simple.* (concorrência, prefetch).
+ * Com app.messaging.listener.batch.enabled=true, os listeners passam a usar
+ * batchListenerContainerFactory, que entrega listas de até batch.size
+ * mensagens por chamada.
+ *
+ * Falhas no container padrão vão direto para a DLQ pelo MessageRecoverer
+ * (retry com uma única tentativa); as novas tentativas, com backoff, ficam a
+ * cargo do reprocessamento da DLQ. O consumo em lotes trata falhas por
+ * mensagem e por isso não usa o retry do container.
+ *
+ * O envio das notificações roda no notificationExecutor, para que paciente e
+ * profissional sejam notificados em paralelo. Quando o executor satura, a
+ * própria thread do listener executa o envio, o que segura o consumo da fila.
+ */
+@Configuration
+public class ListenerConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.messaging.listener.batch.enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${app.messaging.listener.batch.size:50}") int batchSize,
+            @Value("${app.messaging.listener.batch.receive-timeout-ms:200}") long receiveTimeoutMs) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        // Lote incompleto é entregue quando não chega mensagem neste intervalo
+        factory.setReceiveTimeout(receiveTimeoutMs);
+        factory.setAdviceChain();
+        return factory;
+    }
+
+    /**
+     * Container da DLQ: um consumidor, sem retry, devolvendo à fila as
+     * mensagens cujo agendamento falhou para que nunca sejam descartadas.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory replayListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setAdviceChain();
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setDefaultRequeueRejected(true);
+        return factory;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor notificationExecutor(
+            @Value("${app.notification.executor.core-size:16}") int coreSize,
+            @Value("${app.notification.executor.max-size:64}") int maxSize,
+            @Value("${app.notification.executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
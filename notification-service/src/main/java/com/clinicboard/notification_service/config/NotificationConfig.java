@@ -0,0 +1,48 @@
+package com.clinicboard.notification_service.config;
+
+import com.clinicboard.notification_service.application.port.out.NotificationGateway;
+import com.clinicboard.notification_service.application.port.out.NotificationRenderer;
+import com.clinicboard.notification_service.infrastructure.adapter.out.notification.MockNotificationGateway;
+import com.clinicboard.notification_service.infrastructure.adapter.out.notification.coalescing.CoalescingNotificationGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+
+/**
+ * Configuração do envio das notificações.
+ *
+ * Com app.notification.coalescing.enabled=true, o caso de uso recebe o
+ * CoalescingNotificationGateway, que agrupa as notificações por destinatário
+ * antes de repassá-las ao gateway real. O agrupamento vem desligado: como o
+ * envio retorna ao enfileirar, o evento é marcado como processado e a
+ * mensagem confirmada antes da entrega, e um grupo ainda na janela se perde
+ * se a instância parar sem encerramento ordenado.
+ */
+@Configuration
+public class NotificationConfig {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "app.notification.coalescing.enabled", havingValue = "true")
+    public NotificationGateway coalescingNotificationGateway(
+            MockNotificationGateway delegate,
+            NotificationRenderer renderer,
+            @Qualifier("notificationExecutor") Executor notificationExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${app.notification.locale:pt-BR}") Locale locale,
+            @Value("${app.notification.coalescing.window:PT5S}") Duration window,
+            @Value("${app.notification.coalescing.max-items:20}") int maxItems,
+            @Value("${app.notification.coalescing.tick:PT0.1S}") Duration tick,
+            @Value("${app.notification.coalescing.wheel-size:512}") int wheelSize) {
+        return new CoalescingNotificationGateway(delegate, renderer, notificationExecutor, meterRegistry, locale,
+            window, maxItems, tick, wheelSize);
+    }
+}
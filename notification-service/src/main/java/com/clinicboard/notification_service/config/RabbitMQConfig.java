@@ -1,13 +1,21 @@
 package com.clinicboard.notification_service.config;
 
+import com.clinicboard.notification_service.infrastructure.adapter.in.messaging.codec.BinaryEventMessageConverter;
+import com.clinicboard.notification_service.infrastructure.adapter.in.messaging.replay.FailedMessageRecoverer;
+import com.clinicboard.notification_service.infrastructure.adapter.in.messaging.replay.ReplayHeaders;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
 import org.springframework.amqp.support.converter.DefaultClassMapper;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -17,7 +25,8 @@ import java.util.Map;
  * - Exchanges para eventos e DLQ
  * - Filas específicas para cada tipo de evento
  * - Bindings entre exchanges e filas
- * - Conversor JSON para deserialização dos eventos
+ * - Conversor dos eventos: formato binário versionado, com JSON como alternativa
+ * - Filas de espera e parking lot do reprocessamento da DLQ
  * 
  * Alinhada com as configurações do business-service para garantir
  * compatibilidade na comunicação entre os serviços.
@@ -61,6 +70,18 @@ public class RabbitMQConfig {
     @Value("${app.messaging.routing-key.dlq}")
     private String dlqRoutingKey;
     
+    @Value("${app.messaging.replay.retry-exchange}")
+    private String retryExchange;
+    
+    @Value("${app.messaging.replay.retry-queue-prefix}")
+    private String retryQueuePrefix;
+    
+    @Value("${app.messaging.replay.parking-lot-queue}")
+    private String parkingLotQueue;
+    
+    @Value("${app.messaging.replay.max-attempts:5}")
+    private int maxReplayAttempts;
+    
     // ========== EXCHANGES ==========
     
     @Bean
@@ -154,10 +175,56 @@ public class RabbitMQConfig {
                 .with(dlqRoutingKey);
     }
     
-    // ========== CONVERSOR JSON ==========
+    // ========== REPROCESSAMENTO ==========
+    
+    /**
+     * Uma fila de espera por tentativa, ligada à exchange de headers pelo
+     * cabeçalho x-retry-tier. As filas não têm consumidor: cada mensagem
+     * expira conforme a própria expiração e volta pela exchange padrão, cuja
+     * routing key (definida no envio) é o nome da fila de consumo original.
+     */
+    @Bean
+    public Declarables retryTopology() {
+        List<Declarable> declarables = new ArrayList<>();
+        HeadersExchange exchange = new HeadersExchange(retryExchange, true, false);
+        declarables.add(exchange);
+        for (int attempt = 1; attempt <= maxReplayAttempts; attempt++) {
+            Queue queue = QueueBuilder.durable(retryQueuePrefix + attempt)
+                    .withArgument("x-dead-letter-exchange", "")
+                    .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(exchange)
+                    .where(ReplayHeaders.RETRY_TIER).matches(String.valueOf(attempt)));
+        }
+        return new Declarables(declarables);
+    }
+    
+    @Bean
+    public Queue parkingLotQueue() {
+        return QueueBuilder.durable(parkingLotQueue).build();
+    }
+    
+    /**
+     * Destino das mensagens cujo processamento falhou. O Spring Boot o aplica
+     * ao container padrão quando spring.rabbitmq.listener.simple.retry.enabled=true.
+     */
+    @Bean
+    public MessageRecoverer failedMessageRecoverer(RabbitTemplate rabbitTemplate) {
+        return new FailedMessageRecoverer(rabbitTemplate, dlqExchange, dlqRoutingKey);
+    }
+    
+    // ========== CONVERSORES ==========
     
+    /**
+     * Único conversor registrado, usado pelos listeners: decodifica o formato
+     * binário e delega ao JSON as mensagens publicadas no formato anterior.
+     */
     @Bean
-    public Jackson2JsonMessageConverter jackson2JsonMessageConverter() {
+    public MessageConverter eventMessageConverter() {
+        return new BinaryEventMessageConverter(jackson2JsonMessageConverter());
+    }
+    
+    private Jackson2JsonMessageConverter jackson2JsonMessageConverter() {
         Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
         DefaultClassMapper classMapper = new DefaultClassMapper();
         
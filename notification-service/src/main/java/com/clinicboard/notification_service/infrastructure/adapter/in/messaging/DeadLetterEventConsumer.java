@@ -0,0 +1,36 @@
+package com.clinicboard.notification_service.infrastructure.adapter.in.messaging;
+
+import com.clinicboard.notification_service.infrastructure.adapter.in.messaging.replay.DeadLetterReplayEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adaptador de entrada para a Dead Letter Queue.
+ * 
+ * Separado de RabbitMQEventConsumer para continuar ativo tanto no consumo
+ * unitário quanto no consumo em lotes.
+ * 
+ * Recebe a mensagem bruta, sem conversão, e entrega ao DeadLetterReplayEngine,
+ * que agenda uma nova tentativa com backoff ou envia a mensagem ao parking lot.
+ * Usa o replayListenerContainerFactory: se o agendamento falhar, a mensagem
+ * volta para a DLQ em vez de ser descartada.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadLetterEventConsumer {
+    
+    private final DeadLetterReplayEngine replayEngine;
+    
+    /**
+     * Consome mensagens da Dead Letter Queue e decide entre nova tentativa e parking lot
+     */
+    @RabbitListener(queues = "${app.messaging.queue.dlq}", containerFactory = "replayListenerContainerFactory")
+    public void handleFailedEvents(Message failedMessage) {
+        log.debug("Received failed message in DLQ: {}", failedMessage.getMessageProperties().getMessageId());
+        replayEngine.handle(failedMessage);
+    }
+}
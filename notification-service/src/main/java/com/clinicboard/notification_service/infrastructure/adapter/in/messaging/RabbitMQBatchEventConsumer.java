@@ -0,0 +1,102 @@
+package com.clinicboard.notification_service.infrastructure.adapter.in.messaging;
+
+import com.clinicboard.notification_service.application.port.in.ProcessAppointmentEventUseCase;
+import com.clinicboard.notification_service.domain.event.AppointmentCanceledEvent;
+import com.clinicboard.notification_service.domain.event.AppointmentRescheduledEvent;
+import com.clinicboard.notification_service.domain.event.AppointmentScheduledEvent;
+import com.clinicboard.notification_service.domain.event.AppointmentStatusChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Adaptador de entrada que consome os eventos em lotes.
+ *
+ * Ativo com app.messaging.listener.batch.enabled=true, no lugar de
+ * RabbitMQEventConsumer. Cada chamada recebe até batch.size mensagens, que
+ * são processadas em paralelo pelo caso de uso.
+ *
+ * O lote é confirmado de uma vez, então falhas são tratadas por mensagem:
+ * a mensagem que não converte ou cujo processamento falha é republicada na
+ * DLQ pelo MessageRecoverer (o mesmo do consumo unitário), e as demais seguem
+ * confirmadas. Se a própria republicação falhar, a exceção rejeita o lote
+ * inteiro e o broker o envia à DLQ.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.messaging.listener.batch.enabled", havingValue = "true")
+public class RabbitMQBatchEventConsumer {
+
+    private final ProcessAppointmentEventUseCase processAppointmentEventUseCase;
+    private final MessageConverter messageConverter;
+    private final MessageRecoverer messageRecoverer;
+
+    @RabbitListener(queues = "${app.messaging.queue.appointment-scheduled}", containerFactory = "batchListenerContainerFactory")
+    public void handleAppointmentScheduled(List<Message> messages) {
+        processBatch(messages, AppointmentScheduledEvent.class,
+            processAppointmentEventUseCase::processAppointmentScheduledBatch);
+    }
+
+    @RabbitListener(queues = "${app.messaging.queue.appointment-canceled}", containerFactory = "batchListenerContainerFactory")
+    public void handleAppointmentCanceled(List<Message> messages) {
+        processBatch(messages, AppointmentCanceledEvent.class,
+            processAppointmentEventUseCase::processAppointmentCanceledBatch);
+    }
+
+    @RabbitListener(queues = "${app.messaging.queue.appointment-status-changed}", containerFactory = "batchListenerContainerFactory")
+    public void handleAppointmentStatusChanged(List<Message> messages) {
+        processBatch(messages, AppointmentStatusChangedEvent.class,
+            processAppointmentEventUseCase::processAppointmentStatusChangedBatch);
+    }
+
+    @RabbitListener(queues = "${app.messaging.queue.appointment-rescheduled}", containerFactory = "batchListenerContainerFactory")
+    public void handleAppointmentRescheduled(List<Message> messages) {
+        processBatch(messages, AppointmentRescheduledEvent.class,
+            processAppointmentEventUseCase::processAppointmentRescheduledBatch);
+    }
+
+    private <E> void processBatch(List<Message> messages, Class<E> eventType,
+                                  Function<List<E>, List<CompletableFuture<Void>>> processor) {
+        List<E> events = new ArrayList<>(messages.size());
+        List<Message> accepted = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            try {
+                events.add(eventType.cast(messageConverter.fromMessage(message)));
+                accepted.add(message);
+            } catch (RuntimeException e) {
+                deadLetter(message, e);
+            }
+        }
+
+        List<CompletableFuture<Void>> results = processor.apply(events);
+        int failures = messages.size() - accepted.size();
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                results.get(i).join();
+            } catch (CompletionException e) {
+                deadLetter(accepted.get(i), e.getCause());
+                failures++;
+            }
+        }
+
+        log.debug("Processed batch of {} {} messages ({} sent to DLQ)", messages.size(), eventType.getSimpleName(), failures);
+    }
+
+    private void deadLetter(Message message, Throwable cause) {
+        log.error("Failed to process message {} from batch. Message will be sent to DLQ",
+            message.getMessageProperties().getMessageId(), cause);
+        messageRecoverer.recover(message, cause);
+    }
+}
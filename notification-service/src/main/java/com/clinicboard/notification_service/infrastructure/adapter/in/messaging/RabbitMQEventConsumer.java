@@ -8,6 +8,7 @@ import com.clinicboard.notification_service.domain.event.AppointmentRescheduledE
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 /**
@@ -22,10 +23,15 @@ import org.springframework.stereotype.Component;
  * 
  * Implementa Circuit Breaker pattern através de Dead Letter Queue (DLQ)
  * para tratamento de falhas e reprocessamento de mensagens.
+ * 
+ * Recebe uma mensagem por chamada; a concorrência e o prefetch vêm de
+ * spring.rabbitmq.listener.simple.*. Com app.messaging.listener.batch.enabled=true
+ * é substituído por RabbitMQBatchEventConsumer.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.messaging.listener.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class RabbitMQEventConsumer {
     
     private final ProcessAppointmentEventUseCase processAppointmentEventUseCase;
@@ -35,7 +41,7 @@ public class RabbitMQEventConsumer {
      */
     @RabbitListener(queues = "${app.messaging.queue.appointment-scheduled}")
     public void handleAppointmentScheduled(AppointmentScheduledEvent event) {
-        log.info("Received AppointmentScheduledEvent for appointment: {}", event.getAggregateId());
+        log.debug("Received AppointmentScheduledEvent for appointment: {}", event.getAggregateId());
         
         try {
             processAppointmentEventUseCase.processAppointmentScheduled(event);
@@ -53,7 +59,7 @@ public class RabbitMQEventConsumer {
      */
     @RabbitListener(queues = "${app.messaging.queue.appointment-canceled}")
     public void handleAppointmentCanceled(AppointmentCanceledEvent event) {
-        log.info("Received AppointmentCanceledEvent for appointment: {}", event.getAppointmentId());
+        log.debug("Received AppointmentCanceledEvent for appointment: {}", event.getAppointmentId());
         
         try {
             processAppointmentEventUseCase.processAppointmentCanceled(event);
@@ -70,7 +76,7 @@ public class RabbitMQEventConsumer {
      */
     @RabbitListener(queues = "${app.messaging.queue.appointment-status-changed}")
     public void handleAppointmentStatusChanged(AppointmentStatusChangedEvent event) {
-        log.info("Received AppointmentStatusChangedEvent for appointment: {} - {} -> {}", 
+        log.debug("Received AppointmentStatusChangedEvent for appointment: {} - {} -> {}", 
             event.getAggregateId(), event.getPreviousStatusName(), event.getNewStatusName());
         
         try {
@@ -88,7 +94,7 @@ public class RabbitMQEventConsumer {
      */
     @RabbitListener(queues = "${app.messaging.queue.appointment-rescheduled}")
     public void handleAppointmentRescheduled(AppointmentRescheduledEvent event) {
-        log.info("Received AppointmentRescheduledEvent for appointment: {} from {} to {}", 
+        log.debug("Received AppointmentRescheduledEvent for appointment: {} from {} to {}", 
             event.getAppointmentId(), event.getFormattedPreviousTime(), event.getFormattedNewTime());
         
         try {
@@ -100,20 +106,4 @@ public class RabbitMQEventConsumer {
             throw e;
         }
     }
-    
-    /**
-     * Consome mensagens da Dead Letter Queue para análise e possível reprocessamento
-     */
-    @RabbitListener(queues = "${app.messaging.queue.dlq}")
-    public void handleFailedEvents(Object failedEvent) {
-        log.warn("Received failed event in DLQ: {}", failedEvent.getClass().getSimpleName());
-        log.warn("Failed event details: {}", failedEvent.toString());
-        
-        // TODO: Implementar lógica de reprocessamento ou alerta para administradores
-        // Possíveis ações:
-        // 1. Tentar reprocessar após um tempo
-        // 2. Enviar alerta para administradores
-        // 3. Armazenar em banco para análise posterior
-        // 4. Aplicar estratégias de retry com backoff
-    }
 }
@@ -0,0 +1,127 @@
+package com.clinicboard.notification_service.infrastructure.adapter.in.messaging.codec;
+
+import com.clinicboard.notification_service.domain.event.AppointmentCanceledEvent;
+import com.clinicboard.notification_service.domain.event.AppointmentRescheduledEvent;
+import com.clinicboard.notification_service.domain.event.AppointmentScheduledEvent;
+import com.clinicboard.notification_service.domain.event.AppointmentStatusChangedEvent;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * MessageConverter que decodifica os eventos no formato binário compacto
+ * (content type application/x-clinicboard-event) para os eventos locais.
+ *
+ * O tipo e a versão vêm dos cabeçalhos x-event-type e x-event-version, sem
+ * depender de nomes de classe do business-service. Mensagens em outros
+ * formatos (JSON publicado antes da migração, mensagens já na DLQ) seguem
+ * para o conversor delegado.
+ *
+ * Versões desconhecidas geram MessageConversionException, tratada pelo
+ * container como erro fatal: a mensagem vai para a DLQ sem reentregas.
+ */
+public class BinaryEventMessageConverter implements MessageConverter {
+
+    private final MessageConverter delegate;
+
+    public BinaryEventMessageConverter(MessageConverter delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        return delegate.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        if (!EventWireFormat.CONTENT_TYPE.equals(properties.getContentType())) {
+            return delegate.fromMessage(message);
+        }
+
+        String eventType = properties.getHeader(EventWireFormat.TYPE_HEADER);
+        int version = versionOf(properties.getHeader(EventWireFormat.VERSION_HEADER));
+        if (version != EventWireFormat.CURRENT_VERSION) {
+            throw new MessageConversionException("Versão " + version + " do evento " + eventType + " não suportada");
+        }
+
+        try {
+            return decode(eventType, new CompactEventReader(message.getBody()));
+        } catch (IllegalArgumentException e) {
+            throw new MessageConversionException("Evento " + eventType + " malformado: " + e.getMessage(), e);
+        }
+    }
+
+    private Object decode(String eventType, CompactEventReader reader) {
+        if (eventType == null) {
+            throw new MessageConversionException("Cabeçalho " + EventWireFormat.TYPE_HEADER + " ausente");
+        }
+        return switch (eventType) {
+            case EventWireFormat.APPOINTMENT_SCHEDULED -> decodeScheduled(reader);
+            case EventWireFormat.APPOINTMENT_CANCELED -> decodeCanceled(reader);
+            case EventWireFormat.APPOINTMENT_STATUS_CHANGED -> decodeStatusChanged(reader);
+            case EventWireFormat.APPOINTMENT_RESCHEDULED -> decodeRescheduled(reader);
+            default -> throw new MessageConversionException("Tipo de evento desconhecido: " + eventType);
+        };
+    }
+
+    private AppointmentScheduledEvent decodeScheduled(CompactEventReader reader) {
+        AppointmentScheduledEvent event = new AppointmentScheduledEvent();
+        event.setAggregateId(reader.readId());
+        event.setPatientId(reader.readId());
+        event.setProfessionalId(reader.readId());
+        event.setAppointmentDateTime(reader.readDateTime());
+        event.setOccurredOn(reader.readInstant());
+        return event;
+    }
+
+    private AppointmentCanceledEvent decodeCanceled(CompactEventReader reader) {
+        AppointmentCanceledEvent event = new AppointmentCanceledEvent();
+        event.setAppointmentId(reader.readId());
+        event.setPatientId(reader.readId());
+        event.setProfessionalId(reader.readId());
+        // scheduledTime, canceledAt e eventId não são usados nas notificações
+        reader.readDateTime();
+        reader.readDateTime();
+        reader.readId();
+        event.setOccurredOn(reader.readInstant());
+        return event;
+    }
+
+    private AppointmentStatusChangedEvent decodeStatusChanged(CompactEventReader reader) {
+        AppointmentStatusChangedEvent event = new AppointmentStatusChangedEvent();
+        event.setAggregateId(reader.readId());
+        event.setPreviousStatusName(reader.readString());
+        event.setNewStatusName(reader.readString());
+        event.setOccurredOn(reader.readInstant());
+        return event;
+    }
+
+    private AppointmentRescheduledEvent decodeRescheduled(CompactEventReader reader) {
+        AppointmentRescheduledEvent event = new AppointmentRescheduledEvent();
+        event.setAppointmentId(reader.readId());
+        event.setPatientId(reader.readId());
+        event.setProfessionalId(reader.readId());
+        event.setPreviousDateTime(reader.readDateTime());
+        event.setNewDateTime(reader.readDateTime());
+        event.setReason(reader.readString());
+        event.setOccurredOn(reader.readInstant());
+        return event;
+    }
+
+    private static int versionOf(Object header) {
+        if (header instanceof Number number) {
+            return number.intValue();
+        }
+        if (header instanceof String text) {
+            try {
+                return Integer.parseInt(text);
+            } catch (NumberFormatException e) {
+                throw new MessageConversionException("Cabeçalho " + EventWireFormat.VERSION_HEADER + " inválido: " + text);
+            }
+        }
+        throw new MessageConversionException("Cabeçalho " + EventWireFormat.VERSION_HEADER + " ausente");
+    }
+}
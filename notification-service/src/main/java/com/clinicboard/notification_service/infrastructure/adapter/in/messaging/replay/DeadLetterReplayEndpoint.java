@@ -0,0 +1,63 @@
+package com.clinicboard.notification_service.infrastructure.adapter.in.messaging.replay;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Endpoint do actuator para operar o parking lot de eventos com falha.
+ *
+ * - GET /actuator/dlqreplay: profundidade do parking lot e último reprocessamento
+ * - POST /actuator/dlqreplay: inicia um reprocessamento, com filtros opcionais
+ *   eventType, from e to (ISO-8601, instante do estacionamento), ratePerSecond e limit
+ * - DELETE /actuator/dlqreplay: interrompe o reprocessamento em andamento
+ */
+@Component
+@Endpoint(id = "dlqreplay")
+@RequiredArgsConstructor
+public class DeadLetterReplayEndpoint {
+
+    private final ParkingLotReplayer replayer;
+
+    @ReadOperation
+    public ParkingLotReplayer.ReplayStatus status() {
+        return replayer.status();
+    }
+
+    @WriteOperation
+    public ParkingLotReplayer.ReplayStatus replay(@Nullable String eventType,
+                                                  @Nullable String from,
+                                                  @Nullable String to,
+                                                  @Nullable Integer ratePerSecond,
+                                                  @Nullable Integer limit) {
+        try {
+            return replayer.start(eventType, parse("from", from), parse("to", to), ratePerSecond, limit);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+    }
+
+    @DeleteOperation
+    public ParkingLotReplayer.ReplayStatus cancel() {
+        return replayer.cancel();
+    }
+
+    private static Instant parse(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Parâmetro " + name + " deve ser um instante ISO-8601: " + value);
+        }
+    }
+}
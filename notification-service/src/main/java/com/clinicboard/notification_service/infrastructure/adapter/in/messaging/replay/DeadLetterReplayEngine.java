@@ -0,0 +1,112 @@
+package com.clinicboard.notification_service.infrastructure.adapter.in.messaging.replay;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decide o destino de cada mensagem que chega à DLQ.
+ *
+ * Falhas transitórias dentro do orçamento de tentativas vão para a fila de
+ * espera da tentativa (notification.events.retry.N) com expiração igual ao
+ * backoff calculado pela ReplayPolicy. Ao expirar, o broker devolve a
+ * mensagem à fila de consumo original pela exchange padrão.
+ *
+ * Falhas não recuperáveis, mensagens sem fila de destino conhecida e
+ * mensagens que esgotaram as tentativas vão para o parking lot, de onde só
+ * saem por reprocessamento manual (DeadLetterReplayEndpoint).
+ *
+ * Cada fila de espera recebe sempre a mesma tentativa, então as expirações
+ * dentro dela variam só pelo jitter. Como o RabbitMQ expira mensagens apenas
+ * na cabeça da fila, o atraso adicional fica limitado a metade da espera.
+ *
+ * Métricas expostas:
+ * - clinicboard.notification.replay.scheduled
+ * - clinicboard.notification.replay.parked
+ */
+@Slf4j
+@Component
+public class DeadLetterReplayEngine {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ReplayPolicy policy;
+    private final EventQueueRoutes routes;
+    private final String retryExchange;
+    private final String parkingLotQueue;
+    private final Counter scheduled;
+    private final Counter parked;
+
+    public DeadLetterReplayEngine(RabbitTemplate rabbitTemplate,
+                                  ReplayPolicy policy,
+                                  EventQueueRoutes routes,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.messaging.replay.retry-exchange}") String retryExchange,
+                                  @Value("${app.messaging.replay.parking-lot-queue}") String parkingLotQueue) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.policy = policy;
+        this.routes = routes;
+        this.retryExchange = retryExchange;
+        this.parkingLotQueue = parkingLotQueue;
+        this.scheduled = Counter.builder("clinicboard.notification.replay.scheduled")
+                .description("Mensagens da DLQ agendadas para nova tentativa")
+                .register(meterRegistry);
+        this.parked = Counter.builder("clinicboard.notification.replay.parked")
+                .description("Mensagens da DLQ enviadas ao parking lot")
+                .register(meterRegistry);
+    }
+
+    public void handle(Message message) {
+        FailedMessage failed = new FailedMessage(message);
+        String targetQueue = failed.targetQueue(routes);
+
+        if (targetQueue == null) {
+            park(failed, null, "fila de destino desconhecida");
+            return;
+        }
+        if (!policy.isRetryable(failed.exceptionClass())) {
+            park(failed, targetQueue, "falha não recuperável: " + failed.exceptionClass());
+            return;
+        }
+        int attempt = failed.attempt() + 1;
+        if (attempt > policy.maxAttempts()) {
+            park(failed, targetQueue, "tentativas esgotadas: " + failed.attempt());
+            return;
+        }
+
+        long delay = policy.delayMillis(attempt);
+        MessageProperties properties = failed.properties();
+        properties.setHeader(ReplayHeaders.ORIGINAL_QUEUE, targetQueue);
+        properties.setHeader(ReplayHeaders.ATTEMPT, attempt);
+        properties.setHeader(ReplayHeaders.RETRY_TIER, String.valueOf(attempt));
+        properties.setExpiration(String.valueOf(delay));
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        // A routing key é a fila de destino: ao expirar, a exchange padrão entrega a mensagem nela
+        rabbitTemplate.send(retryExchange, targetQueue, message);
+        scheduled.increment();
+
+        log.info("Failed message for {} scheduled for attempt {}/{} in {} ms: {}",
+            targetQueue, attempt, policy.maxAttempts(), delay, failed.exceptionMessage());
+    }
+
+    private void park(FailedMessage failed, String targetQueue, String reason) {
+        MessageProperties properties = failed.properties();
+        if (targetQueue != null) {
+            properties.setHeader(ReplayHeaders.ORIGINAL_QUEUE, targetQueue);
+        }
+        properties.setHeader(ReplayHeaders.PARKED_AT, System.currentTimeMillis());
+        properties.setHeader(ReplayHeaders.PARK_REASON, reason);
+        properties.setExpiration(null);
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        rabbitTemplate.send("", parkingLotQueue, failed.message());
+        parked.increment();
+
+        log.warn("Failed message {} for {} sent to parking lot: {}",
+            properties.getMessageId(), targetQueue, reason);
+    }
+}
@@ -0,0 +1,49 @@
+package com.clinicboard.notification_service.infrastructure.adapter.in.messaging.replay;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Relação entre o tipo do evento (routing key publicada pelo business-service)
+ * e a fila de consumo do notification-service.
+ */
+@Component
+public class EventQueueRoutes {
+
+    private final Map<String, String> queueByEventType;
+
+    public EventQueueRoutes(
+            @Value("${app.messaging.routing-key.appointment-scheduled}") String scheduledRoutingKey,
+            @Value("${app.messaging.queue.appointment-scheduled}") String scheduledQueue,
+            @Value("${app.messaging.routing-key.appointment-canceled}") String canceledRoutingKey,
+            @Value("${app.messaging.queue.appointment-canceled}") String canceledQueue,
+            @Value("${app.messaging.routing-key.appointment-status-changed}") String statusChangedRoutingKey,
+            @Value("${app.messaging.queue.appointment-status-changed}") String statusChangedQueue,
+            @Value("${app.messaging.routing-key.appointment-rescheduled}") String rescheduledRoutingKey,
+            @Value("${app.messaging.queue.appointment-rescheduled}") String rescheduledQueue) {
+        this.queueByEventType = Map.of(
+            scheduledRoutingKey, scheduledQueue,
+            canceledRoutingKey, canceledQueue,
+            statusChangedRoutingKey, statusChangedQueue,
+            rescheduledRoutingKey, rescheduledQueue);
+    }
+
+    public String queueFor(String eventType) {
+        return eventType == null ? null : queueByEventType.get(eventType);
+    }
+
+    public String eventTypeFor(String queue) {
+        return queueByEventType.entrySet().stream()
+            .filter(route -> route.getValue().equals(queue))
+            .map(Map.Entry::getKey)
+            .findFirst()
+            .orElse(null);
+    }
+
+    public boolean isEventQueue(String queue) {
+        // Map.of não aceita consulta por null
+        return queue != null && queueByEventType.containsValue(queue);
+    }
+}
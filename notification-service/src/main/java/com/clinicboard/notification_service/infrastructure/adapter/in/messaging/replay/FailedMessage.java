@@ -0,0 +1,100 @@
+package com.clinicboard.notification_service.infrastructure.adapter.in.messaging.replay;
+
+import com.clinicboard.notification_service.infrastructure.adapter.in.messaging.codec.EventWireFormat;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Leitura dos cabeçalhos de uma mensagem que falhou.
+ *
+ * A mensagem pode chegar à DLQ por três caminhos, cada um com cabeçalhos
+ * diferentes:
+ * - FailedMessageRecoverer, após falha no listener: x-original-queue,
+ *   x-original-routingKey e x-exception-class
+ * - dead-lettering do broker (lote rejeitado, fila de espera): x-death
+ * - falha de publicação no business-service: apenas o tipo do evento
+ */
+final class FailedMessage {
+
+    private final Message message;
+
+    FailedMessage(Message message) {
+        this.message = message;
+    }
+
+    Message message() {
+        return message;
+    }
+
+    MessageProperties properties() {
+        return message.getMessageProperties();
+    }
+
+    /**
+     * Fila de consumo para onde a mensagem deve voltar, ou null se não for
+     * possível determiná-la.
+     */
+    String targetQueue(EventQueueRoutes routes) {
+        String originalQueue = header(ReplayHeaders.ORIGINAL_QUEUE);
+        if (routes.isEventQueue(originalQueue)) {
+            return originalQueue;
+        }
+        String deadLetteredFrom = firstDeath("queue");
+        if (routes.isEventQueue(deadLetteredFrom)) {
+            return deadLetteredFrom;
+        }
+        return routes.queueFor(eventType(routes));
+    }
+
+    /**
+     * Tipo do evento no formato da routing key (ex.: appointment.scheduled).
+     */
+    String eventType(EventQueueRoutes routes) {
+        String type = header(EventWireFormat.TYPE_HEADER);
+        if (type != null) {
+            return type;
+        }
+        type = header(RepublishMessageRecoverer.X_ORIGINAL_ROUTING_KEY);
+        if (type != null) {
+            return type;
+        }
+        String originalQueue = header(ReplayHeaders.ORIGINAL_QUEUE);
+        return routes.eventTypeFor(originalQueue != null ? originalQueue : firstDeath("queue"));
+    }
+
+    int attempt() {
+        Object attempt = properties().getHeader(ReplayHeaders.ATTEMPT);
+        return attempt instanceof Number number ? number.intValue() : 0;
+    }
+
+    String exceptionClass() {
+        return header(ReplayHeaders.EXCEPTION_CLASS);
+    }
+
+    String exceptionMessage() {
+        return header(RepublishMessageRecoverer.X_EXCEPTION_MESSAGE);
+    }
+
+    long parkedAt() {
+        Object parkedAt = properties().getHeader(ReplayHeaders.PARKED_AT);
+        return parkedAt instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private String header(String name) {
+        Object value = properties().getHeader(name);
+        return value == null ? null : value.toString();
+    }
+
+    private String firstDeath(String field) {
+        List<Map<String, ?>> deaths = properties().getXDeathHeader();
+        if (deaths == null || deaths.isEmpty()) {
+            return null;
+        }
+        Object value = deaths.get(0).get(field);
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package com.clinicboard.notification_service.infrastructure.adapter.in.messaging.replay;
+
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Republica na DLQ as mensagens cujo processamento falhou, registrando a fila
+ * de origem e a classe da causa raiz para que o DeadLetterReplayEngine possa
+ * classificar a falha e devolver a mensagem à fila certa.
+ *
+ * Usado pelo container padrão (via retry do Spring Boot) e pelo consumo em lotes.
+ */
+public class FailedMessageRecoverer extends RepublishMessageRecoverer {
+
+    public FailedMessageRecoverer(AmqpTemplate errorTemplate, String errorExchange, String errorRoutingKey) {
+        super(errorTemplate, errorExchange, errorRoutingKey);
+    }
+
+    @Override
+    protected Map<? extends String, ? extends Object> additionalHeaders(Message message, Throwable cause) {
+        Map<String, Object> headers = new HashMap<>();
+        String consumerQueue = message.getMessageProperties().getConsumerQueue();
+        if (consumerQueue != null) {
+            headers.put(ReplayHeaders.ORIGINAL_QUEUE, consumerQueue);
+        }
+        headers.put(ReplayHeaders.EXCEPTION_CLASS, rootCause(cause).getClass().getName());
+        return headers;
+    }
+
+    private static Throwable rootCause(Throwable cause) {
+        Throwable root = cause;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root;
+    }
+}
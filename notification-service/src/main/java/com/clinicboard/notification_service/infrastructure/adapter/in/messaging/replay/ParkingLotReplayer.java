@@ -0,0 +1,285 @@
+package com.clinicboard.notification_service.infrastructure.adapter.in.messaging.replay;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Devolve mensagens do parking lot às filas de consumo, a uma taxa controlada.
+ *
+ * Um reprocessamento percorre o parking lot uma única vez (tantas mensagens
+ * quanto a profundidade no início). Mensagens que atendem ao filtro voltam à
+ * fila original com o contador de tentativas zerado; as demais são
+ * republicadas no fim do parking lot. Em ambos os casos a mensagem só é
+ * confirmada após o broker confirmar a republicação (publisher confirms no
+ * canal do reprocessamento), então uma queda no meio gera no máximo uma
+ * duplicata, descartada pela deduplicação do caso de uso. Sem confirmação
+ * dentro de confirm-timeout, a mensagem volta ao parking lot e o
+ * reprocessamento é interrompido.
+ *
+ * A taxa limita só as mensagens devolvidas, que são as que chegam ao gateway
+ * de notificação; há no máximo um reprocessamento em andamento.
+ */
+@Slf4j
+@Component
+public class ParkingLotReplayer implements DisposableBean {
+
+    private static final String ENCODING = StandardCharsets.UTF_8.name();
+
+    private final RabbitTemplate rabbitTemplate;
+    private final AmqpAdmin amqpAdmin;
+    private final EventQueueRoutes routes;
+    private final String parkingLotQueue;
+    private final int defaultRatePerSecond;
+    private final long confirmTimeoutMillis;
+    private final Counter replayed;
+    private final MessagePropertiesConverter propertiesConverter = new DefaultMessagePropertiesConverter();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "parking-lot-replay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile ReplayJob currentJob;
+
+    public ParkingLotReplayer(RabbitTemplate rabbitTemplate,
+                              AmqpAdmin amqpAdmin,
+                              EventQueueRoutes routes,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.messaging.replay.parking-lot-queue}") String parkingLotQueue,
+                              @Value("${app.messaging.replay.default-rate-per-second:20}") int defaultRatePerSecond,
+                              @Value("${app.messaging.replay.confirm-timeout:PT5S}") Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.amqpAdmin = amqpAdmin;
+        this.routes = routes;
+        this.parkingLotQueue = parkingLotQueue;
+        this.defaultRatePerSecond = defaultRatePerSecond;
+        this.confirmTimeoutMillis = confirmTimeout.toMillis();
+        this.replayed = Counter.builder("clinicboard.notification.replay.replayed")
+                .description("Mensagens devolvidas do parking lot às filas de consumo")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Inicia um reprocessamento em segundo plano.
+     *
+     * @param eventType tipo do evento (ex.: appointment.scheduled), ou null para todos
+     * @param from início do intervalo de estacionamento, inclusivo, ou null
+     * @param to fim do intervalo de estacionamento, exclusivo, ou null
+     * @param ratePerSecond mensagens devolvidas por segundo, ou null para o padrão
+     * @param limit máximo de mensagens devolvidas, ou null para todas
+     * @throws IllegalStateException se já houver um reprocessamento em andamento
+     */
+    public synchronized ReplayStatus start(String eventType, Instant from, Instant to, Integer ratePerSecond, Integer limit) {
+        if (currentJob != null && currentJob.running) {
+            throw new IllegalStateException("Já existe um reprocessamento do parking lot em andamento");
+        }
+        int rate = ratePerSecond != null ? ratePerSecond : defaultRatePerSecond;
+        if (rate < 1 || (limit != null && limit < 1)) {
+            throw new IllegalArgumentException("Taxa e limite devem ser positivos");
+        }
+        ReplayJob job = new ReplayJob(eventType, from, to, rate, limit != null ? limit : Integer.MAX_VALUE);
+        currentJob = job;
+        executor.execute(() -> run(job));
+        return status();
+    }
+
+    public ReplayStatus status() {
+        ReplayJob job = currentJob;
+        return new ReplayStatus(parkingLotDepth(), job == null ? null : job.snapshot());
+    }
+
+    /**
+     * Interrompe o reprocessamento em andamento após a mensagem atual.
+     */
+    public ReplayStatus cancel() {
+        ReplayJob job = currentJob;
+        if (job != null) {
+            job.cancelled = true;
+        }
+        return status();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        cancel();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void run(ReplayJob job) {
+        log.info("Parking lot replay started: type={}, from={}, to={}, rate={}/s", job.eventType, job.from, job.to, job.ratePerSecond);
+        try {
+            int depth = parkingLotDepth();
+            // Um único canal para todo o reprocessamento, em modo de confirmação
+            rabbitTemplate.execute(channel -> {
+                channel.confirmSelect();
+                replayAll(channel, job, depth);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            job.error = e.getMessage();
+            log.error("Parking lot replay failed after {} messages: {}", job.scanned, e.getMessage(), e);
+        } finally {
+            job.finishedAt = Instant.now();
+            job.running = false;
+            log.info("Parking lot replay finished: scanned={}, replayed={}, cancelled={}", job.scanned, job.replayed, job.cancelled);
+        }
+    }
+
+    private void replayAll(Channel channel, ReplayJob job, int depth) throws IOException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / job.ratePerSecond;
+        long nextSend = System.nanoTime();
+        while (job.scanned < depth && job.replayed < job.limit && !job.cancelled) {
+            Outcome outcome = replayNext(channel, job);
+            if (outcome == Outcome.EMPTY) {
+                break;
+            }
+            job.scanned++;
+            if (outcome == Outcome.REPLAYED) {
+                job.replayed++;
+                replayed.increment();
+                nextSend += intervalNanos;
+                long wait = nextSend - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else {
+                    // Sem acumular crédito: uma pausa longa não vira rajada depois
+                    nextSend = System.nanoTime();
+                }
+            }
+        }
+    }
+
+    private Outcome replayNext(Channel channel, ReplayJob job) throws IOException {
+        GetResponse response = channel.basicGet(parkingLotQueue, false);
+        if (response == null) {
+            return Outcome.EMPTY;
+        }
+        MessageProperties properties = propertiesConverter.toMessageProperties(
+            response.getProps(), response.getEnvelope(), ENCODING);
+        FailedMessage parked = new FailedMessage(new Message(response.getBody(), properties));
+
+        String targetQueue = parked.targetQueue(routes);
+        boolean replay = targetQueue != null && job.matches(parked.eventType(routes), parked.parkedAt());
+        if (replay) {
+            properties.setHeader(ReplayHeaders.ATTEMPT, 0);
+            properties.getHeaders().remove(ReplayHeaders.PARKED_AT);
+            properties.getHeaders().remove(ReplayHeaders.PARK_REASON);
+        }
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+
+        channel.basicPublish("", replay ? targetQueue : parkingLotQueue,
+            propertiesConverter.fromMessageProperties(properties, ENCODING), response.getBody());
+        long deliveryTag = response.getEnvelope().getDeliveryTag();
+        if (!confirmed(channel)) {
+            requeue(channel, deliveryTag);
+            throw new IllegalStateException("Republicação não confirmada pelo broker; mensagem mantida no parking lot");
+        }
+        channel.basicAck(deliveryTag, false);
+        return replay ? Outcome.REPLAYED : Outcome.KEPT;
+    }
+
+    private boolean confirmed(Channel channel) {
+        try {
+            channel.waitForConfirmsOrDie(confirmTimeoutMillis);
+            return true;
+        } catch (IOException | TimeoutException e) {
+            log.warn("Parking lot republish not confirmed within {} ms: {}", confirmTimeoutMillis, e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void requeue(Channel channel, long deliveryTag) {
+        try {
+            channel.basicNack(deliveryTag, false, true);
+        } catch (IOException | RuntimeException e) {
+            // Canal já fechado pelo waitForConfirmsOrDie: o broker devolve as mensagens sem ack
+            log.debug("Parking lot message {} left for the broker to requeue: {}", deliveryTag, e.getMessage());
+        }
+    }
+
+    private int parkingLotDepth() {
+        QueueInformation info = amqpAdmin.getQueueInfo(parkingLotQueue);
+        return info == null ? 0 : info.getMessageCount();
+    }
+
+    private enum Outcome { REPLAYED, KEPT, EMPTY }
+
+    /**
+     * Situação do parking lot e do último reprocessamento.
+     */
+    public record ReplayStatus(int parkingLotDepth, JobSnapshot lastReplay) {
+    }
+
+    public record JobSnapshot(String eventType, Instant from, Instant to, int ratePerSecond, Integer limit,
+                              int scanned, int replayed, boolean running, boolean cancelled,
+                              Instant startedAt, Instant finishedAt, String error) {
+    }
+
+    private static final class ReplayJob {
+
+        private final String eventType;
+        private final Instant from;
+        private final Instant to;
+        private final int ratePerSecond;
+        private final int limit;
+        private final Instant startedAt = Instant.now();
+
+        private volatile int scanned;
+        private volatile int replayed;
+        private volatile boolean running = true;
+        private volatile boolean cancelled;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        private ReplayJob(String eventType, Instant from, Instant to, int ratePerSecond, int limit) {
+            this.eventType = eventType;
+            this.from = from;
+            this.to = to;
+            this.ratePerSecond = ratePerSecond;
+            this.limit = limit;
+        }
+
+        private boolean matches(String type, long parkedAtMillis) {
+            if (eventType != null && !eventType.equals(type)) {
+                return false;
+            }
+            if (from != null && parkedAtMillis < from.toEpochMilli()) {
+                return false;
+            }
+            return to == null || parkedAtMillis < to.toEpochMilli();
+        }
+
+        private JobSnapshot snapshot() {
+            return new JobSnapshot(eventType, from, to, ratePerSecond, limit == Integer.MAX_VALUE ? null : limit,
+                scanned, replayed, running, cancelled, startedAt, finishedAt, error);
+        }
+    }
+}
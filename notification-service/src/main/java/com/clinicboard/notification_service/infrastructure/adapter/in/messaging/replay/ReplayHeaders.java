@@ -0,0 +1,28 @@
+package com.clinicboard.notification_service.infrastructure.adapter.in.messaging.replay;
+
+/**
+ * Cabeçalhos usados pelo reprocessamento de mensagens com falha.
+ */
+public final class ReplayHeaders {
+
+    /** Fila de consumo onde a mensagem falhou e para onde volta ao ser reprocessada */
+    public static final String ORIGINAL_QUEUE = "x-original-queue";
+
+    /** Classe da causa raiz da falha */
+    public static final String EXCEPTION_CLASS = "x-exception-class";
+
+    /** Tentativas de reprocessamento já agendadas */
+    public static final String ATTEMPT = "x-replay-attempt";
+
+    /** Fila de espera (nível de backoff) escolhida para a tentativa */
+    public static final String RETRY_TIER = "x-retry-tier";
+
+    /** Momento, em epoch millis, em que a mensagem foi estacionada */
+    public static final String PARKED_AT = "x-parked-at";
+
+    /** Motivo pelo qual a mensagem foi estacionada */
+    public static final String PARK_REASON = "x-park-reason";
+
+    private ReplayHeaders() {
+    }
+}
@@ -0,0 +1,63 @@
+package com.clinicboard.notification_service.infrastructure.adapter.in.messaging.replay;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Política de reprocessamento: quais falhas merecem nova tentativa, quantas
+ * tentativas cabem no orçamento e quanto esperar antes de cada uma.
+ *
+ * A espera da tentativa n é base * 2^(n-1), limitada a max-delay, com jitter:
+ * o valor sorteado fica entre metade e o total da espera. Mensagens que
+ * falharam juntas (queda do gateway, por exemplo) voltam espalhadas, e não
+ * todas no mesmo instante.
+ */
+@Component
+public class ReplayPolicy {
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final Set<String> nonRetryableExceptions;
+
+    public ReplayPolicy(@Value("${app.messaging.replay.max-attempts:5}") int maxAttempts,
+                        @Value("${app.messaging.replay.base-delay:PT5S}") Duration baseDelay,
+                        @Value("${app.messaging.replay.max-delay:PT10M}") Duration maxDelay,
+                        @Value("${app.messaging.replay.non-retryable-exceptions:}") List<String> nonRetryableExceptions) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("app.messaging.replay.max-attempts deve ser ao menos 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelay.toMillis();
+        this.maxDelayMillis = maxDelay.toMillis();
+        this.nonRetryableExceptions = Set.copyOf(nonRetryableExceptions);
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Falhas sem classe registrada (dead-lettering do broker, falha de
+     * publicação) são tratadas como transitórias.
+     */
+    public boolean isRetryable(String exceptionClass) {
+        if (exceptionClass == null) {
+            return true;
+        }
+        String simpleName = exceptionClass.substring(exceptionClass.lastIndexOf('.') + 1);
+        return !nonRetryableExceptions.contains(simpleName) && !nonRetryableExceptions.contains(exceptionClass);
+    }
+
+    public long delayMillis(int attempt) {
+        int exponent = Math.min(Math.max(attempt - 1, 0), 30);
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << exponent);
+        long floor = ceiling / 2;
+        return floor + ThreadLocalRandom.current().nextLong(ceiling - floor + 1);
+    }
+}
@@ -0,0 +1,155 @@
+package com.clinicboard.notification_service.infrastructure.adapter.out.idempotency;
+
+import com.clinicboard.notification_service.application.port.out.ProcessedEventRepository;
+import com.clinicboard.notification_service.domain.event.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Registro de eventos processados em memória, sem ida ao banco por mensagem.
+ *
+ * Cada evento vira uma impressão digital de 64 bits (id do agregado, tipo do
+ * evento e occurredOn) guardada em um LongTtlSet limitado por quantidade e por
+ * TTL. Com app.notification.dedup.journal-path preenchido, os eventos
+ * processados também são gravados em um arquivo append-only e recarregados na
+ * inicialização.
+ *
+ * A impressão digital pode colidir: com 1 milhão de entradas, a chance de um
+ * evento novo ser tomado por duplicado é de cerca de 1 em 10^13.
+ * Eventos sem id de agregado ou sem occurredOn não são deduplicados.
+ *
+ * Métricas expostas:
+ * - clinicboard.notification.dedup.duplicates
+ * - clinicboard.notification.dedup.entries
+ */
+@Slf4j
+@Component
+public class InMemoryProcessedEventRepository implements ProcessedEventRepository, DisposableBean {
+
+    private static final int SEGMENTS = 16;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final LongTtlSet processed;
+    private final ProcessedEventJournal journal;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Counter duplicates;
+
+    public InMemoryProcessedEventRepository(MeterRegistry meterRegistry,
+                                            @Value("${app.notification.dedup.max-entries:200000}") int maxEntries,
+                                            @Value("${app.notification.dedup.ttl:PT24H}") Duration ttl,
+                                            @Value("${app.notification.dedup.journal-path:}") String journalPath) {
+        this.processed = new LongTtlSet(maxEntries, ttl.toMillis(), SEGMENTS);
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.journal = journalPath.isBlank() ? null : openJournal(Path.of(journalPath), ttl);
+        this.duplicates = Counter.builder("clinicboard.notification.dedup.duplicates")
+                .description("Entregas descartadas por já terem sido processadas")
+                .register(meterRegistry);
+        Gauge.builder("clinicboard.notification.dedup.entries", processed, LongTtlSet::size)
+                .description("Eventos no registro de deduplicação")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean tryClaim(DomainEvent event) {
+        if (!isIdentifiable(event)) {
+            return true;
+        }
+        boolean claimed = processed.add(fingerprint(event), System.currentTimeMillis());
+        if (!claimed) {
+            duplicates.increment();
+            log.debug("Duplicate {} for appointment {} skipped", event.getEventType(), event.getAggregateId());
+        }
+        return claimed;
+    }
+
+    @Override
+    public void markProcessed(DomainEvent event) {
+        if (journal == null || !isIdentifiable(event)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        try {
+            journal.append(fingerprint(event), now);
+            if (journal.appendedSinceCompaction() > 2L * maxEntries) {
+                journal.compact(now - ttlMillis, maxEntries);
+            }
+        } catch (IOException e) {
+            // A deduplicação em memória continua valendo; só a sobrevivência a reinícios é afetada
+            log.error("Erro ao gravar evento processado no journal de deduplicação: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void release(DomainEvent event) {
+        if (isIdentifiable(event)) {
+            processed.remove(fingerprint(event));
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private ProcessedEventJournal openJournal(Path path, Duration ttl) {
+        long now = System.currentTimeMillis();
+        long cutoff = now - ttl.toMillis();
+        try {
+            ProcessedEventJournal opened = ProcessedEventJournal.open(path, (key, processedAt) -> {
+                if (processedAt > cutoff) {
+                    processed.add(key, processedAt);
+                }
+            });
+            opened.compact(cutoff, maxEntries);
+            log.info("Journal de deduplicação {} carregado com {} eventos", path, processed.size());
+            return opened;
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao abrir o journal de deduplicação " + path, e);
+        }
+    }
+
+    private static boolean isIdentifiable(DomainEvent event) {
+        return event.getAggregateId() != null && event.occurredOn() != null;
+    }
+
+    /**
+     * FNV-1a sobre id e tipo, seguido dos campos de occurredOn e da mistura
+     * final do MurmurHash3 para espalhar os bits.
+     */
+    static long fingerprint(DomainEvent event) {
+        long hash = FNV_OFFSET;
+        hash = mix(hash, event.getAggregateId());
+        hash = (hash ^ 0xFF) * FNV_PRIME;
+        hash = mix(hash, event.getEventType());
+        hash = (hash ^ event.occurredOn().getEpochSecond()) * FNV_PRIME;
+        hash = (hash ^ event.occurredOn().getNano()) * FNV_PRIME;
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static long mix(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
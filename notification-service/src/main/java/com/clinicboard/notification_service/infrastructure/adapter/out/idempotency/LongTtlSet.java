@@ -0,0 +1,221 @@
+package com.clinicboard.notification_service.infrastructure.adapter.out.idempotency;
+
+/**
+ * Conjunto limitado de chaves long com expiração, sem objetos por entrada.
+ *
+ * Dividido em segmentos com lock próprio. Cada segmento combina uma tabela de
+ * endereçamento aberto (sondagem linear, remoção por deslocamento reverso) com
+ * uma fila circular na ordem de inserção. Como o TTL é o mesmo para todas as
+ * chaves, a cabeça da fila é sempre a próxima a expirar: expiração e despejo
+ * por capacidade removem as entradas mais antigas primeiro, em O(1) amortizado.
+ * A capacidade é dividida igualmente entre os segmentos.
+ *
+ * A chave 0 marca posição livre na tabela e é remapeada internamente.
+ */
+final class LongTtlSet {
+
+    private static final long EMPTY = 0L;
+    private static final long ZERO_KEY_REPLACEMENT = 0x9E3779B97F4A7C15L;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final long ttlMillis;
+
+    LongTtlSet(int maxEntries, long ttlMillis, int segmentCount) {
+        if (Integer.bitCount(segmentCount) != 1) {
+            throw new IllegalArgumentException("Quantidade de segmentos deve ser potência de 2: " + segmentCount);
+        }
+        this.ttlMillis = ttlMillis;
+        this.segmentShift = 64 - Integer.numberOfTrailingZeros(segmentCount);
+        this.segments = new Segment[segmentCount];
+        int perSegment = Math.max(1, (maxEntries + segmentCount - 1) / segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    /**
+     * Insere a chave se ela não estiver presente.
+     *
+     * @return true se a chave foi inserida, false se já existia e não expirou
+     */
+    boolean add(long key, long nowMillis) {
+        key = normalize(key);
+        return segmentFor(key).add(key, nowMillis);
+    }
+
+    boolean contains(long key, long nowMillis) {
+        key = normalize(key);
+        return segmentFor(key).contains(key, nowMillis);
+    }
+
+    void remove(long key) {
+        key = normalize(key);
+        segmentFor(key).remove(key);
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Percorre as entradas vivas, segmento a segmento, na ordem de inserção.
+     */
+    void forEachLive(long nowMillis, EntryConsumer consumer) {
+        for (Segment segment : segments) {
+            segment.forEachLive(nowMillis, consumer);
+        }
+    }
+
+    private Segment segmentFor(long key) {
+        // Bits altos escolhem o segmento; os baixos, a posição na tabela
+        return segments.length == 1 ? segments[0] : segments[(int) (key >>> segmentShift)];
+    }
+
+    private static long normalize(long key) {
+        return key == EMPTY ? ZERO_KEY_REPLACEMENT : key;
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long key, long insertedAtMillis);
+    }
+
+    private final class Segment {
+
+        private final long[] keys;
+        private final long[] insertedAt;
+        private final int mask;
+        private int size;
+
+        private final long[] ringKeys;
+        private final long[] ringTimes;
+        private int head;
+        private int count;
+
+        Segment(int capacity) {
+            int tableSize = Integer.highestOneBit(Math.max(2, capacity * 2 - 1)) << 1;
+            this.keys = new long[tableSize];
+            this.insertedAt = new long[tableSize];
+            this.mask = tableSize - 1;
+            this.ringKeys = new long[capacity];
+            this.ringTimes = new long[capacity];
+        }
+
+        synchronized boolean add(long key, long now) {
+            expire(now);
+            if (find(key) >= 0) {
+                return false;
+            }
+            if (count == ringKeys.length) {
+                evictOldest();
+            }
+            insert(key, now);
+            int tail = (head + count) % ringKeys.length;
+            ringKeys[tail] = key;
+            ringTimes[tail] = now;
+            count++;
+            return true;
+        }
+
+        synchronized boolean contains(long key, long now) {
+            expire(now);
+            return find(key) >= 0;
+        }
+
+        synchronized void remove(long key) {
+            // A entrada da fila fica órfã e é ignorada quando chegar à cabeça
+            int slot = find(key);
+            if (slot >= 0) {
+                delete(slot);
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void forEachLive(long now, EntryConsumer consumer) {
+            expire(now);
+            for (int i = 0; i < count; i++) {
+                int index = (head + i) % ringKeys.length;
+                int slot = find(ringKeys[index]);
+                if (slot >= 0 && insertedAt[slot] == ringTimes[index]) {
+                    consumer.accept(ringKeys[index], ringTimes[index]);
+                }
+            }
+        }
+
+        private void expire(long now) {
+            while (count > 0 && ringTimes[head] + ttlMillis <= now) {
+                evictOldest();
+            }
+        }
+
+        private void evictOldest() {
+            long key = ringKeys[head];
+            long time = ringTimes[head];
+            head = (head + 1) % ringKeys.length;
+            count--;
+
+            int slot = find(key);
+            // Só remove se a tabela ainda guarda esta inserção, e não uma posterior
+            if (slot >= 0 && insertedAt[slot] == time) {
+                delete(slot);
+            }
+        }
+
+        private int find(long key) {
+            int slot = (int) key & mask;
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void insert(long key, long now) {
+            int slot = (int) key & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            insertedAt[slot] = now;
+            size++;
+        }
+
+        /**
+         * Remoção por deslocamento reverso: puxa para a posição liberada as
+         * chaves seguintes do mesmo agrupamento que não estejam na posição de origem.
+         */
+        private void delete(int slot) {
+            int free = slot;
+            int next = slot;
+            while (true) {
+                next = (next + 1) & mask;
+                long key = keys[next];
+                if (key == EMPTY) {
+                    break;
+                }
+                int home = (int) key & mask;
+                boolean staysPut = free <= next
+                        ? free < home && home <= next
+                        : free < home || home <= next;
+                if (!staysPut) {
+                    keys[free] = key;
+                    insertedAt[free] = insertedAt[next];
+                    free = next;
+                }
+            }
+            keys[free] = EMPTY;
+            insertedAt[free] = 0L;
+            size--;
+        }
+    }
+}
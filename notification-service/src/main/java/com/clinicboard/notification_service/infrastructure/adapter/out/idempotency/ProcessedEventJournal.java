@@ -0,0 +1,127 @@
+package com.clinicboard.notification_service.infrastructure.adapter.out.idempotency;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Arquivo local append-only com as chaves dos eventos processados.
+ *
+ * Cada registro tem 16 bytes: a chave e o instante do processamento em
+ * milissegundos. Um registro incompleto no fim do arquivo (queda durante a
+ * escrita) é ignorado na leitura. O arquivo é compactado na inicialização e
+ * sempre que os registros acrescentados superam o limite de compactação.
+ *
+ * As escritas vão para o page cache a cada registro, sem fsync: sobrevivem a
+ * uma queda do processo, não a uma queda da máquina.
+ */
+final class ProcessedEventJournal implements Closeable {
+
+    private final Path path;
+    private DataOutputStream out;
+    private long appendedSinceCompaction;
+
+    private ProcessedEventJournal(Path path) throws IOException {
+        this.path = path;
+        this.out = openForAppend(path);
+    }
+
+    /**
+     * Lê os registros existentes e abre o arquivo para novas escritas.
+     */
+    static ProcessedEventJournal open(Path path, LongTtlSet.EntryConsumer existingEntries) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        if (Files.exists(path)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                readAll(in, existingEntries);
+            }
+        }
+        return new ProcessedEventJournal(path);
+    }
+
+    synchronized void append(long key, long processedAtMillis) throws IOException {
+        out.writeLong(key);
+        out.writeLong(processedAtMillis);
+        out.flush();
+        appendedSinceCompaction++;
+    }
+
+    synchronized long appendedSinceCompaction() {
+        return appendedSinceCompaction;
+    }
+
+    /**
+     * Reescreve o arquivo só com os registros posteriores ao corte, limitados
+     * aos maxRecords mais recentes. Usa o próprio arquivo como fonte, e não o
+     * conjunto em memória, para nunca gravar eventos ainda em processamento.
+     */
+    synchronized void compact(long cutoffMillis, int maxRecords) throws IOException {
+        out.flush();
+        long[] keys = new long[maxRecords];
+        long[] times = new long[maxRecords];
+        int[] cursor = new int[2];
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            readAll(in, (key, processedAt) -> {
+                if (processedAt > cutoffMillis) {
+                    int index = (cursor[0] + cursor[1]) % maxRecords;
+                    keys[index] = key;
+                    times[index] = processedAt;
+                    if (cursor[1] < maxRecords) {
+                        cursor[1]++;
+                    } else {
+                        cursor[0] = (cursor[0] + 1) % maxRecords;
+                    }
+                }
+            });
+        }
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream compacted = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)))) {
+            for (int i = 0; i < cursor[1]; i++) {
+                int index = (cursor[0] + i) % maxRecords;
+                compacted.writeLong(keys[index]);
+                compacted.writeLong(times[index]);
+            }
+        }
+
+        out.close();
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        out = openForAppend(path);
+        appendedSinceCompaction = 0;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+
+    private static void readAll(DataInputStream in, LongTtlSet.EntryConsumer consumer) throws IOException {
+        while (true) {
+            long key;
+            long processedAt;
+            try {
+                key = in.readLong();
+                processedAt = in.readLong();
+            } catch (EOFException e) {
+                return;
+            }
+            consumer.accept(key, processedAt);
+        }
+    }
+
+    private static DataOutputStream openForAppend(Path path) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE)));
+    }
+}
@@ -1,14 +1,21 @@
 package com.clinicboard.notification_service.infrastructure.adapter.out.notification;
 
+import com.clinicboard.notification_service.application.port.out.NotificationChannel;
 import com.clinicboard.notification_service.application.port.out.NotificationGateway;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Implementação mock do gateway de notificações.
  * 
  * Esta implementação serve como placeholder inicial e pode ser
  * substituída por implementações reais (email, SMS, push notifications, etc).
+ * O canal simulado vem de app.notification.channel.
+ * 
+ * Cada envio gera uma única linha de log, para não pesar em operações em massa.
  * 
  * Segue o padrão Hexagonal Architecture onde os adaptadores de saída
  * implementam as portas definidas pela camada de aplicação.
@@ -17,13 +24,21 @@ import org.springframework.stereotype.Component;
 @Component
 public class MockNotificationGateway implements NotificationGateway {
     
+    private final NotificationChannel channel;
+    
+    public MockNotificationGateway(@Value("${app.notification.channel:EMAIL}") NotificationChannel channel) {
+        this.channel = channel;
+    }
+    
+    @Override
+    public NotificationChannel channel() {
+        return channel;
+    }
+    
     @Override
     public void sendAppointmentScheduledNotification(String userId, String userName, String message, String appointmentDetails) {
-        log.info("📅 [NOTIFICATION] Agendamento Criado");
-        log.info("   Usuário: {} (ID: {})", userName, userId);
-        log.info("   Mensagem: {}", message);
-        log.info("   Detalhes: {}", appointmentDetails);
-        log.info("   ===============================================");
+        log.info("📅 [NOTIFICATION] Agendamento Criado | {} | Usuário: {} (ID: {}) | Mensagem: {} | Detalhes: {}",
+            channel, userName, userId, message, appointmentDetails);
         
         // TODO: Implementar envio real de notificação (email, SMS, push, etc)
         // Aqui seria integrado com serviços como SendGrid, Twilio, Firebase, etc.
@@ -31,33 +46,32 @@ public class MockNotificationGateway implements NotificationGateway {
     
     @Override
     public void sendAppointmentCanceledNotification(String userId, String userName, String message, String reason) {
-        log.info("❌ [NOTIFICATION] Agendamento Cancelado");
-        log.info("   Usuário: {} (ID: {})", userName, userId);
-        log.info("   Mensagem: {}", message);
-        log.info("   Motivo: {}", reason);
-        log.info("   ===============================================");
+        log.info("❌ [NOTIFICATION] Agendamento Cancelado | {} | Usuário: {} (ID: {}) | Mensagem: {} | Motivo: {}",
+            channel, userName, userId, message, reason);
         
         // TODO: Implementar envio real de notificação
     }
     
     @Override
     public void sendAppointmentStatusChangedNotification(String userId, String userName, String message, String statusDetails) {
-        log.info("🔄 [NOTIFICATION] Status Alterado");
-        log.info("   Usuário: {} (ID: {})", userName, userId);
-        log.info("   Mensagem: {}", message);
-        log.info("   Status: {}", statusDetails);
-        log.info("   ===============================================");
+        log.info("🔄 [NOTIFICATION] Status Alterado | {} | Usuário: {} (ID: {}) | Mensagem: {} | Status: {}",
+            channel, userName, userId, message, statusDetails);
         
         // TODO: Implementar envio real de notificação
     }
     
     @Override
     public void sendAppointmentRescheduledNotification(String userId, String userName, String message, String rescheduleDetails) {
-        log.info("📅 [NOTIFICATION] Agendamento Reagendado");
-        log.info("   Usuário: {} (ID: {})", userName, userId);
-        log.info("   Mensagem: {}", message);
-        log.info("   Reagendamento: {}", rescheduleDetails);
-        log.info("   ===============================================");
+        log.info("📅 [NOTIFICATION] Agendamento Reagendado | {} | Usuário: {} (ID: {}) | Mensagem: {} | Reagendamento: {}",
+            channel, userName, userId, message, rescheduleDetails);
+        
+        // TODO: Implementar envio real de notificação
+    }
+    
+    @Override
+    public void sendDigestNotification(String userId, String userName, String message, List<String> items) {
+        log.info("📬 [NOTIFICATION] Resumo | {} | Usuário: {} (ID: {}) | Mensagem: {} | Itens: {}",
+            channel, userName, userId, message, items);
         
         // TODO: Implementar envio real de notificação
     }
@@ -0,0 +1,243 @@
+package com.clinicboard.notification_service.infrastructure.adapter.out.notification.coalescing;
+
+import com.clinicboard.notification_service.application.port.out.NotificationChannel;
+import com.clinicboard.notification_service.application.port.out.NotificationGateway;
+import com.clinicboard.notification_service.application.port.out.NotificationRenderer;
+import com.clinicboard.notification_service.application.port.out.NotificationTemplate;
+import com.clinicboard.notification_service.application.port.out.TemplateArguments;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Decorador do gateway que agrupa as notificações de cada destinatário.
+ *
+ * A primeira notificação de um destinatário abre uma janela de duração fixa
+ * (window), agendada na HashedTimingWheel. Ao fim da janela, ou antes dela
+ * se o destinatário acumular max-items notificações, o grupo é enviado: uma
+ * notificação sozinha segue pelo método original; duas ou mais viram um
+ * único resumo (sendDigestNotification). Reagendar a agenda de um
+ * profissional gera assim uma mensagem por profissional, e não uma por
+ * consulta.
+ *
+ * Os métodos de envio retornam ao enfileirar. Falhas do gateway real
+ * acontecem depois da confirmação da mensagem e por isso são apenas
+ * registradas; no encerramento da aplicação, os grupos pendentes são
+ * enviados antes de parar. Se o processo cair sem esse encerramento, as
+ * notificações ainda na janela se perdem: por isso o agrupamento só é
+ * ativado com app.notification.coalescing.enabled=true.
+ *
+ * Métricas expostas:
+ * - clinicboard.notification.coalescing.buffered
+ * - clinicboard.notification.coalescing.sent (tag type: single, digest)
+ * - clinicboard.notification.coalescing.pending
+ */
+@Slf4j
+public class CoalescingNotificationGateway implements NotificationGateway, DisposableBean {
+
+    private final NotificationGateway delegate;
+    private final NotificationRenderer renderer;
+    private final Executor flushExecutor;
+    private final Locale locale;
+    private final long windowMillis;
+    private final int maxItems;
+    private final HashedTimingWheel timingWheel;
+    private final Map<String, RecipientBuffer> buffers = new ConcurrentHashMap<>();
+    private final Counter buffered;
+    private final Counter sentSingle;
+    private final Counter sentDigest;
+
+    public CoalescingNotificationGateway(NotificationGateway delegate, NotificationRenderer renderer,
+                                         Executor flushExecutor, MeterRegistry meterRegistry, Locale locale,
+                                         Duration window, int maxItems, Duration tick, int wheelSize) {
+        this.delegate = delegate;
+        this.renderer = renderer;
+        this.flushExecutor = flushExecutor;
+        this.locale = locale;
+        this.windowMillis = window.toMillis();
+        this.maxItems = maxItems;
+        this.timingWheel = new HashedTimingWheel(tick.toMillis(), wheelSize, "notification-coalescing");
+        this.buffered = Counter.builder("clinicboard.notification.coalescing.buffered")
+                .description("Notificações recebidas pelo agrupamento por destinatário")
+                .register(meterRegistry);
+        this.sentSingle = sentCounter(meterRegistry, "single");
+        this.sentDigest = sentCounter(meterRegistry, "digest");
+        Gauge.builder("clinicboard.notification.coalescing.pending", buffers, Map::size)
+                .description("Destinatários com notificações aguardando envio")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public NotificationChannel channel() {
+        return delegate.channel();
+    }
+
+    @Override
+    public void sendAppointmentScheduledNotification(String userId, String userName, String message, String appointmentDetails) {
+        enqueue(userId, userName, new PendingNotification(Kind.SCHEDULED, message, appointmentDetails));
+    }
+
+    @Override
+    public void sendAppointmentCanceledNotification(String userId, String userName, String message, String reason) {
+        enqueue(userId, userName, new PendingNotification(Kind.CANCELED, message, reason));
+    }
+
+    @Override
+    public void sendAppointmentStatusChangedNotification(String userId, String userName, String message, String statusDetails) {
+        enqueue(userId, userName, new PendingNotification(Kind.STATUS_CHANGED, message, statusDetails));
+    }
+
+    @Override
+    public void sendAppointmentRescheduledNotification(String userId, String userName, String message, String rescheduleDetails) {
+        enqueue(userId, userName, new PendingNotification(Kind.RESCHEDULED, message, rescheduleDetails));
+    }
+
+    @Override
+    public void sendDigestNotification(String userId, String userName, String message, List<String> items) {
+        delegate.sendDigestNotification(userId, userName, message, items);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        timingWheel.close();
+        for (RecipientBuffer buffer : buffers.values()) {
+            List<PendingNotification> notifications = buffer.close();
+            if (notifications != null) {
+                send(buffer, notifications);
+            }
+        }
+    }
+
+    private void enqueue(String userId, String userName, PendingNotification notification) {
+        buffered.increment();
+        if (userId == null) {
+            // Sem destinatário identificado não há o que agrupar
+            sendSingle(userId, userName, notification);
+            sentSingle.increment();
+            return;
+        }
+        while (true) {
+            RecipientBuffer buffer = buffers.computeIfAbsent(userId, id -> openBuffer(id, userName));
+            List<PendingNotification> full;
+            synchronized (buffer) {
+                if (buffer.closed) {
+                    // Janela fechada entre a busca e o lock: abre outra
+                    continue;
+                }
+                buffer.notifications.add(notification);
+                if (buffer.notifications.size() < maxItems) {
+                    return;
+                }
+                full = buffer.close();
+            }
+            buffer.timeout.cancel();
+            send(buffer, full);
+            return;
+        }
+    }
+
+    private RecipientBuffer openBuffer(String userId, String userName) {
+        RecipientBuffer buffer = new RecipientBuffer(userId, userName);
+        buffer.timeout = timingWheel.schedule(() -> flushExecutor.execute(() -> flush(buffer)), windowMillis);
+        return buffer;
+    }
+
+    private void flush(RecipientBuffer buffer) {
+        List<PendingNotification> notifications = buffer.close();
+        if (notifications != null) {
+            send(buffer, notifications);
+        }
+    }
+
+    private void send(RecipientBuffer buffer, List<PendingNotification> notifications) {
+        try {
+            if (notifications.size() == 1) {
+                sendSingle(buffer.userId, buffer.userName, notifications.get(0));
+                sentSingle.increment();
+            } else {
+                sendDigest(buffer, notifications);
+                sentDigest.increment();
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to send {} coalesced notifications to user {}", notifications.size(), buffer.userId, e);
+        }
+    }
+
+    private void sendSingle(String userId, String userName, PendingNotification notification) {
+        switch (notification.kind()) {
+            case SCHEDULED -> delegate.sendAppointmentScheduledNotification(
+                userId, userName, notification.message(), notification.details());
+            case CANCELED -> delegate.sendAppointmentCanceledNotification(
+                userId, userName, notification.message(), notification.details());
+            case STATUS_CHANGED -> delegate.sendAppointmentStatusChangedNotification(
+                userId, userName, notification.message(), notification.details());
+            case RESCHEDULED -> delegate.sendAppointmentRescheduledNotification(
+                userId, userName, notification.message(), notification.details());
+        }
+    }
+
+    private void sendDigest(RecipientBuffer buffer, List<PendingNotification> notifications) {
+        TemplateArguments arguments = TemplateArguments.create()
+            .with(TemplateArguments.Variable.RECIPIENT_NAME, buffer.userName)
+            .with(TemplateArguments.Variable.COUNT, notifications.size());
+        String message = renderer.render(NotificationTemplate.NOTIFICATION_DIGEST, delegate.channel(), locale, arguments);
+
+        List<String> items = new ArrayList<>(notifications.size());
+        for (PendingNotification notification : notifications) {
+            items.add(notification.details() == null || notification.details().isBlank()
+                ? notification.message()
+                : notification.message() + " (" + notification.details() + ")");
+        }
+        delegate.sendDigestNotification(buffer.userId, buffer.userName, message, items);
+    }
+
+    private Counter sentCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("clinicboard.notification.coalescing.sent")
+                .description("Mensagens entregues ao gateway após o agrupamento")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private enum Kind { SCHEDULED, CANCELED, STATUS_CHANGED, RESCHEDULED }
+
+    private record PendingNotification(Kind kind, String message, String details) {
+    }
+
+    private final class RecipientBuffer {
+
+        private final String userId;
+        private final String userName;
+        private final List<PendingNotification> notifications = new ArrayList<>();
+        private HashedTimingWheel.Timeout timeout;
+        private boolean closed;
+
+        private RecipientBuffer(String userId, String userName) {
+            this.userId = userId;
+            this.userName = userName;
+        }
+
+        /**
+         * Fecha a janela e a retira do mapa
+         *
+         * @return as notificações acumuladas, ou null se a janela já estava fechada
+         */
+        private synchronized List<PendingNotification> close() {
+            if (closed) {
+                return null;
+            }
+            closed = true;
+            buffers.remove(userId, this);
+            return notifications;
+        }
+    }
+}
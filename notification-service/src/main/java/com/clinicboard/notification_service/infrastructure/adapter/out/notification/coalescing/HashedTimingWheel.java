@@ -0,0 +1,131 @@
+package com.clinicboard.notification_service.infrastructure.adapter.out.notification.coalescing;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Agendador de timeouts em roda hashed, com uma thread de ticks.
+ *
+ * Agendar e cancelar custam O(1) e não disputam lock: novos timeouts entram
+ * por uma fila concorrente e são distribuídos nas posições da roda pela
+ * própria thread de ticks, a única que acessa as posições. Um timeout cujo
+ * prazo ultrapassa uma volta da roda guarda quantas voltas ainda faltam.
+ *
+ * A precisão é de um tick: o timeout dispara no primeiro tick após o prazo.
+ * As tarefas rodam na thread de ticks e devem apenas repassar o trabalho.
+ */
+@Slf4j
+final class HashedTimingWheel implements AutoCloseable {
+
+    private final long tickNanos;
+    private final List<Timeout>[] buckets;
+    private final int mask;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean running = true;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(long tickMillis, int wheelSize, String threadName) {
+        if (tickMillis <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Tick deve ser positivo e o tamanho da roda potência de 2");
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.buckets = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.mask = wheelSize - 1;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    Timeout schedule(Runnable task, long delayMillis) {
+        Timeout timeout = new Timeout(task, System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(delayMillis));
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Para a thread de ticks; timeouts ainda não disparados são descartados.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        while (running) {
+            long wait = (tick + 1) * tickNanos - (System.nanoTime() - startNanos);
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+            transferPendingTimeouts();
+            expire(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long deadlineTick = Math.max(timeout.deadlineNanos / tickNanos, tick);
+            timeout.remainingRounds = (deadlineTick - tick) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout> bucket) {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Timeout timeout = bucket.get(i);
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                bucket.set(kept++, timeout);
+                continue;
+            }
+            try {
+                timeout.task.run();
+            } catch (RuntimeException e) {
+                // Uma tarefa com erro não pode parar a roda
+                log.error("Erro ao executar timeout agendado: {}", e.getMessage(), e);
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    static final class Timeout {
+
+        private final Runnable task;
+        private final long deadlineNanos;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.clinicboard.notification_service.infrastructure.adapter.out.template;
+
+import com.clinicboard.notification_service.application.port.out.TemplateArguments;
+import com.clinicboard.notification_service.application.port.out.TemplateArguments.Variable;
+
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Template já analisado: trechos literais intercalados com variáveis.
+ *
+ * Sintaxe: {variavel} insere o valor; {variavel,formato} formata datas com o
+ * padrão format.formato do arquivo de templates (sem formato, vale
+ * format.datetime); {{ produz uma chave literal.
+ *
+ * A análise acontece uma única vez; renderizar é só percorrer os arrays e
+ * escrever no StringBuilder recebido.
+ */
+final class CompiledTemplate {
+
+    static final String DEFAULT_FORMAT = "datetime";
+
+    private final String[] literals;
+    private final Variable[] variables;
+    private final DateTimeFormatter[] formats;
+
+    private CompiledTemplate(String[] literals, Variable[] variables, DateTimeFormatter[] formats) {
+        this.literals = literals;
+        this.variables = variables;
+        this.formats = formats;
+    }
+
+    /**
+     * @param formats formatador de cada nome de formato, ou null se não existir
+     * @throws IllegalStateException se o template for inválido
+     */
+    static CompiledTemplate compile(String key, String source, Function<String, DateTimeFormatter> formats) {
+        List<String> literals = new ArrayList<>();
+        List<Variable> variables = new ArrayList<>();
+        List<DateTimeFormatter> formatters = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c != '{') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            if (i + 1 < source.length() && source.charAt(i + 1) == '{') {
+                literal.append('{');
+                i += 2;
+                continue;
+            }
+            int end = source.indexOf('}', i);
+            if (end < 0) {
+                throw new IllegalStateException("Variável sem '}' no template " + key + ": " + source);
+            }
+            String[] parts = source.substring(i + 1, end).split(",", 2);
+            Variable variable = Variable.fromPlaceholder(parts[0].trim());
+            if (variable == null) {
+                throw new IllegalStateException("Variável desconhecida {" + parts[0] + "} no template " + key);
+            }
+            String formatName = parts.length > 1 ? parts[1].trim() : DEFAULT_FORMAT;
+            DateTimeFormatter formatter = formats.apply(formatName);
+            if (formatter == null && parts.length > 1) {
+                throw new IllegalStateException("Formato format." + formatName + " não definido para o template " + key);
+            }
+
+            literals.add(literal.toString());
+            literal.setLength(0);
+            variables.add(variable);
+            formatters.add(formatter);
+            i = end + 1;
+        }
+        literals.add(literal.toString());
+
+        return new CompiledTemplate(literals.toArray(String[]::new), variables.toArray(Variable[]::new),
+            formatters.toArray(DateTimeFormatter[]::new));
+    }
+
+    void renderTo(StringBuilder out, TemplateArguments arguments) {
+        out.append(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            Object value = arguments.get(variables[i]);
+            if (value instanceof TemporalAccessor temporal && formats[i] != null) {
+                formats[i].formatTo(temporal, out);
+            } else if (value instanceof CharSequence text) {
+                out.append(text);
+            } else if (value != null) {
+                out.append(value);
+            }
+            out.append(literals[i + 1]);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.clinicboard.notification_service.infrastructure.adapter.out.template;
+
+import com.clinicboard.notification_service.application.port.out.NotificationChannel;
+import com.clinicboard.notification_service.application.port.out.NotificationRenderer;
+import com.clinicboard.notification_service.application.port.out.NotificationTemplate;
+import com.clinicboard.notification_service.application.port.out.TemplateArguments;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renderizador de notificações a partir de arquivos .properties (UTF-8).
+ *
+ * Os templates de um idioma são lidos e compilados na primeira vez que o
+ * idioma é usado (o idioma padrão, na inicialização) e ficam em memória.
+ * A busca segue a cadeia notifications_pt_BR, notifications_pt,
+ * notifications; em cada arquivo, a variante do canal
+ * (appointment.scheduled.patient.sms) tem precedência sobre a geral.
+ *
+ * Cada thread renderiza em um StringBuilder próprio e reaproveitado.
+ */
+@Slf4j
+@Component
+public class PropertiesNotificationRenderer implements NotificationRenderer {
+
+    private static final int INITIAL_BUFFER_CAPACITY = 256;
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 4096;
+    private static final ThreadLocal<StringBuilder> BUFFER =
+        ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_CAPACITY));
+
+    private final String baseName;
+    private final Locale defaultLocale;
+    private final Map<Locale, CompiledTemplate[][]> templatesByLocale = new ConcurrentHashMap<>();
+
+    public PropertiesNotificationRenderer(
+            @Value("${app.notification.templates.base-name:templates/notifications}") String baseName,
+            @Value("${app.notification.locale:pt-BR}") Locale defaultLocale) {
+        this.baseName = baseName;
+        this.defaultLocale = defaultLocale;
+        // Falha na inicialização se algum template do idioma padrão estiver ausente ou inválido
+        templatesByLocale.put(defaultLocale, compileAll(defaultLocale));
+    }
+
+    @Override
+    public String render(NotificationTemplate template, NotificationChannel channel, Locale locale,
+                         TemplateArguments arguments) {
+        CompiledTemplate compiled = templatesByLocale
+            .computeIfAbsent(locale != null ? locale : defaultLocale, this::compileAll)
+            [channel.ordinal()][template.ordinal()];
+
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        compiled.renderTo(buffer, arguments);
+        String rendered = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+            BUFFER.set(new StringBuilder(INITIAL_BUFFER_CAPACITY));
+        }
+        return rendered;
+    }
+
+    private CompiledTemplate[][] compileAll(Locale locale) {
+        List<Properties> bundles = loadBundles(locale);
+        Map<String, DateTimeFormatter> formats = new HashMap<>();
+
+        NotificationChannel[] channels = NotificationChannel.values();
+        NotificationTemplate[] templates = NotificationTemplate.values();
+        CompiledTemplate[][] compiled = new CompiledTemplate[channels.length][templates.length];
+        for (NotificationChannel channel : channels) {
+            for (NotificationTemplate template : templates) {
+                String source = lookup(bundles, template.key() + "." + channel.templateSuffix(), template.key());
+                if (source == null) {
+                    throw new IllegalStateException("Template " + template.key() + " não encontrado em " + baseName);
+                }
+                compiled[channel.ordinal()][template.ordinal()] = CompiledTemplate.compile(template.key(), source,
+                    name -> formats.computeIfAbsent(name, ignored -> formatter(bundles, name, locale)));
+            }
+        }
+        log.info("Templates de notificação compilados para {}", locale.toLanguageTag());
+        return compiled;
+    }
+
+    private static DateTimeFormatter formatter(List<Properties> bundles, String name, Locale locale) {
+        String pattern = lookup(bundles, "format." + name, null);
+        return pattern == null ? null : DateTimeFormatter.ofPattern(pattern, locale);
+    }
+
+    /**
+     * Procura a chave específica e depois a geral em cada arquivo, do mais
+     * específico para o mais geral.
+     */
+    private static String lookup(List<Properties> bundles, String specificKey, String generalKey) {
+        for (Properties bundle : bundles) {
+            String value = bundle.getProperty(specificKey);
+            if (value == null && generalKey != null) {
+                value = bundle.getProperty(generalKey);
+            }
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private List<Properties> loadBundles(Locale locale) {
+        List<String> names = new ArrayList<>();
+        if (!locale.getLanguage().isEmpty() && !locale.getCountry().isEmpty()) {
+            names.add(baseName + "_" + locale.getLanguage() + "_" + locale.getCountry());
+        }
+        if (!locale.getLanguage().isEmpty()) {
+            names.add(baseName + "_" + locale.getLanguage());
+        }
+        names.add(baseName);
+
+        List<Properties> bundles = new ArrayList<>();
+        for (String name : names) {
+            Properties bundle = load(name + ".properties");
+            if (bundle != null) {
+                bundles.add(bundle);
+            }
+        }
+        return bundles;
+    }
+
+    private Properties load(String resource) {
+        InputStream in = getClass().getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            return null;
+        }
+        try (InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            Properties properties = new Properties();
+            properties.load(reader);
+            return properties;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler os templates " + resource, e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.clinicboard.notification_service.benchmark;
+
+import com.clinicboard.notification_service.application.port.out.NotificationChannel;
+import com.clinicboard.notification_service.application.port.out.NotificationGateway;
+import com.clinicboard.notification_service.application.port.out.ProcessedEventRepository;
+import com.clinicboard.notification_service.application.usecase.ProcessAppointmentEventUseCaseImpl;
+import com.clinicboard.notification_service.config.ListenerConfig;
+import com.clinicboard.notification_service.config.RabbitMQConfig;
+import com.clinicboard.notification_service.domain.event.AppointmentScheduledEvent;
+import com.clinicboard.notification_service.domain.event.DomainEvent;
+import com.clinicboard.notification_service.infrastructure.adapter.in.messaging.RabbitMQBatchEventConsumer;
+import com.clinicboard.notification_service.infrastructure.adapter.in.messaging.RabbitMQEventConsumer;
+import com.clinicboard.notification_service.infrastructure.adapter.out.template.PropertiesNotificationRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compara, em uma thread de listener, o consumo de MESSAGES agendamentos
+ * criados uma mensagem por vez (RabbitMQEventConsumer) e em um único lote
+ * (RabbitMQBatchEventConsumer).
+ *
+ * Os dois caminhos usam o caso de uso, o renderizador, o conversor e o
+ * notificationExecutor reais; só o envio é simulado, com sendLatencyMicros de
+ * espera por notificação. O broker não participa: o ganho de menos acks por
+ * lote não aparece aqui, apenas o de aguardar os envios do lote juntos.
+ *
+ * Execução (após mvn test-compile):
+ *   java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.clinicboard.notification_service.benchmark.ListenerBatchingBenchmark
+ *
+ * O resultado é o tempo médio por mensagem.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListenerBatchingBenchmark {
+
+    private static final int MESSAGES = 50;
+    private static final Locale PT_BR = Locale.forLanguageTag("pt-BR");
+
+    @Param({"0", "500"})
+    public long sendLatencyMicros;
+
+    private ThreadPoolTaskExecutor executor;
+    private MessageConverter converter;
+    private RabbitMQEventConsumer singleConsumer;
+    private RabbitMQBatchEventConsumer batchConsumer;
+    private List<Message> messages;
+
+    @Setup
+    public void setUp() {
+        executor = new ListenerConfig().notificationExecutor(16, 64, 1000);
+        executor.initialize();
+        converter = new RabbitMQConfig().eventMessageConverter();
+
+        ProcessAppointmentEventUseCaseImpl useCase = new ProcessAppointmentEventUseCaseImpl(
+            new SimulatedGateway(TimeUnit.MICROSECONDS.toNanos(sendLatencyMicros)),
+            new AcceptAllRepository(),
+            new PropertiesNotificationRenderer("templates/notifications", PT_BR),
+            executor,
+            PT_BR);
+        singleConsumer = new RabbitMQEventConsumer(useCase);
+        batchConsumer = new RabbitMQBatchEventConsumer(useCase, converter, (message, cause) -> {
+            throw new IllegalStateException("Mensagem enviada à DLQ durante o benchmark", cause);
+        });
+
+        messages = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            messages.add(converter.toMessage(sampleEvent(i), new MessageProperties()));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void singleMessages() {
+        // O container converte cada mensagem antes de chamar o listener
+        for (Message message : messages) {
+            singleConsumer.handleAppointmentScheduled((AppointmentScheduledEvent) converter.fromMessage(message));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void batch() {
+        batchConsumer.handleAppointmentScheduled(messages);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ListenerBatchingBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    private static AppointmentScheduledEvent sampleEvent(int index) {
+        return new AppointmentScheduledEvent(
+            UUID.randomUUID().toString(),
+            UUID.randomUUID().toString(),
+            UUID.randomUUID().toString(),
+            LocalDateTime.of(2026, 3, 9, 8, 0).plusMinutes(30L * index),
+            null,
+            "Paciente " + index,
+            "Dra. Maria Santos",
+            Instant.now());
+    }
+
+    /**
+     * Gateway que apenas espera o tempo de um envio
+     */
+    private static final class SimulatedGateway implements NotificationGateway {
+
+        private final long latencyNanos;
+
+        SimulatedGateway(long latencyNanos) {
+            this.latencyNanos = latencyNanos;
+        }
+
+        @Override
+        public NotificationChannel channel() {
+            return NotificationChannel.EMAIL;
+        }
+
+        @Override
+        public void sendAppointmentScheduledNotification(String userId, String userName, String message,
+                                                         String appointmentDetails) {
+            send();
+        }
+
+        @Override
+        public void sendAppointmentCanceledNotification(String userId, String userName, String message,
+                                                        String reason) {
+            send();
+        }
+
+        @Override
+        public void sendAppointmentStatusChangedNotification(String userId, String userName, String message,
+                                                             String statusDetails) {
+            send();
+        }
+
+        @Override
+        public void sendAppointmentRescheduledNotification(String userId, String userName, String message,
+                                                           String rescheduleDetails) {
+            send();
+        }
+
+        @Override
+        public void sendDigestNotification(String userId, String userName, String message, List<String> items) {
+            send();
+        }
+
+        private void send() {
+            if (latencyNanos > 0) {
+                LockSupport.parkNanos(latencyNanos);
+            }
+        }
+    }
+
+    /**
+     * Repositório que aceita toda entrega: as mesmas mensagens são
+     * consumidas a cada operação
+     */
+    private static final class AcceptAllRepository implements ProcessedEventRepository {
+
+        @Override
+        public boolean tryClaim(DomainEvent event) {
+            return true;
+        }
+
+        @Override
+        public void markProcessed(DomainEvent event) {
+        }
+
+        @Override
+        public void release(DomainEvent event) {
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.clinicboard.notification_service.benchmark;
+
+import com.clinicboard.notification_service.application.port.out.NotificationChannel;
+import com.clinicboard.notification_service.application.port.out.NotificationTemplate;
+import com.clinicboard.notification_service.application.port.out.TemplateArguments;
+import com.clinicboard.notification_service.infrastructure.adapter.out.template.PropertiesNotificationRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static com.clinicboard.notification_service.application.port.out.TemplateArguments.Variable.*;
+
+/**
+ * Compara a montagem das mensagens de um agendamento criado com String.format
+ * (como fazia o ProcessAppointmentEventUseCaseImpl) com os templates
+ * compilados do PropertiesNotificationRenderer.
+ *
+ * Cada operação produz as três mensagens do evento: detalhes, paciente e
+ * profissional.
+ *
+ * Execução (após mvn test-compile):
+ *   java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.clinicboard.notification_service.benchmark.NotificationRenderingBenchmark
+ *
+ * Para comparar a alocação, rode com -prof gc.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationRenderingBenchmark {
+
+    private static final Locale PT_BR = Locale.forLanguageTag("pt-BR");
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy 'às' HH:mm");
+
+    private final String patientName = "João Silva";
+    private final String professionalName = "Dra. Maria Santos";
+    private final LocalDateTime appointmentDateTime = LocalDateTime.of(2026, 3, 9, 14, 30);
+
+    private PropertiesNotificationRenderer renderer;
+
+    @Setup
+    public void setUp() {
+        renderer = new PropertiesNotificationRenderer("templates/notifications", PT_BR);
+    }
+
+    @Benchmark
+    public void stringFormat(Blackhole blackhole) {
+        blackhole.consume(String.format("Data: %s", appointmentDateTime.format(FORMATTER)));
+        blackhole.consume(String.format("Olá %s! Seu agendamento foi confirmado com %s.",
+            patientName, professionalName));
+        blackhole.consume(String.format("Olá %s! Você tem um novo agendamento com %s.",
+            professionalName, patientName));
+    }
+
+    @Benchmark
+    public void compiledTemplates(Blackhole blackhole) {
+        TemplateArguments arguments = TemplateArguments.create()
+            .with(PATIENT_NAME, patientName)
+            .with(PROFESSIONAL_NAME, professionalName)
+            .with(APPOINTMENT_DATE_TIME, appointmentDateTime);
+        blackhole.consume(renderer.render(NotificationTemplate.APPOINTMENT_SCHEDULED_DETAILS,
+            NotificationChannel.EMAIL, PT_BR, arguments));
+        blackhole.consume(renderer.render(NotificationTemplate.APPOINTMENT_SCHEDULED_PATIENT,
+            NotificationChannel.EMAIL, PT_BR, arguments));
+        blackhole.consume(renderer.render(NotificationTemplate.APPOINTMENT_SCHEDULED_PROFESSIONAL,
+            NotificationChannel.EMAIL, PT_BR, arguments));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(NotificationRenderingBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
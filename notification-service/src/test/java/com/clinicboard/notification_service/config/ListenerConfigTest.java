@@ -0,0 +1,141 @@
+package com.clinicboard.notification_service.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Testes unitários para ListenerConfig
+ *
+ * As fábricas são configuradas a partir das mesmas propriedades
+ * spring.rabbitmq.listener.simple.* do application.properties, com retry
+ * habilitado, para verificar o que cada fábrica sobrescreve.
+ */
+@DisplayName("ListenerConfig Tests")
+class ListenerConfigTest {
+
+    private final ListenerConfig config = new ListenerConfig();
+    private final ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+    private SimpleRabbitListenerContainerFactoryConfigurer configurer;
+
+    @BeforeEach
+    void setUp() {
+        RabbitProperties properties = new RabbitProperties();
+        RabbitProperties.SimpleContainer simple = properties.getListener().getSimple();
+        simple.setConcurrency(4);
+        simple.setMaxConcurrency(16);
+        simple.setDefaultRequeueRejected(false);
+        simple.getRetry().setEnabled(true);
+        simple.getRetry().setMaxAttempts(1);
+        configurer = new SimpleRabbitListenerContainerFactoryConfigurer(properties);
+    }
+
+    @Nested
+    @DisplayName("Consumo em Lotes")
+    class BatchFactory {
+
+        @Test
+        @DisplayName("Deve entregar listas de até batch.size mensagens")
+        void shouldDeliverBatchesOfConfiguredSize() {
+            // When
+            SimpleRabbitListenerContainerFactory factory =
+                config.batchListenerContainerFactory(configurer, connectionFactory, 25, 150);
+
+            // Then
+            assertEquals(true, ReflectionTestUtils.getField(factory, "batchListener"));
+            assertEquals(true, ReflectionTestUtils.getField(factory, "consumerBatchEnabled"));
+            assertEquals(25, ReflectionTestUtils.getField(factory, "batchSize"));
+            assertEquals(150L, ReflectionTestUtils.getField(factory, "receiveTimeout"));
+        }
+
+        @Test
+        @DisplayName("Deve remover o retry do container, pois as falhas são tratadas por mensagem")
+        void shouldRemoveContainerRetry() {
+            // When
+            SimpleRabbitListenerContainerFactory factory =
+                config.batchListenerContainerFactory(configurer, connectionFactory, 25, 150);
+
+            // Then
+            assertEquals(0, factory.getAdviceChain().length);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reprocessamento da DLQ")
+    class ReplayFactory {
+
+        @Test
+        @DisplayName("Deve usar um único consumidor, independente da concorrência padrão")
+        void shouldUseSingleConsumer() {
+            // When
+            SimpleRabbitListenerContainerFactory factory =
+                config.replayListenerContainerFactory(configurer, connectionFactory);
+
+            // Then
+            assertEquals(1, ReflectionTestUtils.getField(factory, "concurrentConsumers"));
+            assertEquals(1, ReflectionTestUtils.getField(factory, "maxConcurrentConsumers"));
+        }
+
+        @Test
+        @DisplayName("Deve devolver à DLQ as mensagens rejeitadas, sem retry")
+        void shouldRequeueRejectedMessagesWithoutRetry() {
+            // When
+            SimpleRabbitListenerContainerFactory factory =
+                config.replayListenerContainerFactory(configurer, connectionFactory);
+
+            // Then
+            assertEquals(true, ReflectionTestUtils.getField(factory, "defaultRequeueRejected"));
+            assertEquals(0, factory.getAdviceChain().length);
+        }
+    }
+
+    @Nested
+    @DisplayName("Executor de Notificações")
+    class NotificationExecutor {
+
+        @Test
+        @DisplayName("Deve executar o envio na thread do listener quando o executor saturar")
+        void shouldRunOnCallerWhenSaturated() throws InterruptedException {
+            // Given - uma thread ocupada e a fila cheia
+            ThreadPoolTaskExecutor executor = config.notificationExecutor(1, 1, 1);
+            executor.initialize();
+            CountDownLatch release = new CountDownLatch(1);
+            try {
+                executor.execute(() -> awaitQuietly(release));
+                executor.execute(() -> { });
+
+                // When
+                AtomicReference<Thread> ranOn = new AtomicReference<>();
+                executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+                // Then
+                assertSame(Thread.currentThread(), ranOn.get());
+            } finally {
+                release.countDown();
+                executor.shutdown();
+            }
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
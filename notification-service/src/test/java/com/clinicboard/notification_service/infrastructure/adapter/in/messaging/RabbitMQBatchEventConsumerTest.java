@@ -0,0 +1,179 @@
+package com.clinicboard.notification_service.infrastructure.adapter.in.messaging;
+
+import com.clinicboard.notification_service.application.port.in.ProcessAppointmentEventUseCase;
+import com.clinicboard.notification_service.domain.event.AppointmentCanceledEvent;
+import com.clinicboard.notification_service.domain.event.AppointmentScheduledEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para RabbitMQBatchEventConsumer
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RabbitMQBatchEventConsumer Tests")
+class RabbitMQBatchEventConsumerTest {
+
+    @Mock
+    private ProcessAppointmentEventUseCase processAppointmentEventUseCase;
+
+    @Mock
+    private MessageConverter messageConverter;
+
+    @Mock
+    private MessageRecoverer messageRecoverer;
+
+    private RabbitMQBatchEventConsumer consumer;
+
+    private final Message first = message("msg-1");
+    private final Message second = message("msg-2");
+    private final Message third = message("msg-3");
+    private final AppointmentScheduledEvent firstEvent = scheduled("appointment-1");
+    private final AppointmentScheduledEvent thirdEvent = scheduled("appointment-3");
+
+    @BeforeEach
+    void setUp() {
+        consumer = new RabbitMQBatchEventConsumer(processAppointmentEventUseCase, messageConverter, messageRecoverer);
+    }
+
+    @Nested
+    @DisplayName("Processamento do Lote")
+    class BatchProcessing {
+
+        @Test
+        @DisplayName("Deve entregar os eventos ao caso de uso em uma única chamada, na ordem do lote")
+        void shouldProcessWholeBatchInOneCall() {
+            // Given
+            when(messageConverter.fromMessage(first)).thenReturn(firstEvent);
+            when(messageConverter.fromMessage(third)).thenReturn(thirdEvent);
+            when(processAppointmentEventUseCase.processAppointmentScheduledBatch(List.of(firstEvent, thirdEvent)))
+                .thenReturn(List.of(CompletableFuture.completedFuture(null), CompletableFuture.completedFuture(null)));
+
+            // When
+            consumer.handleAppointmentScheduled(List.of(first, third));
+
+            // Then
+            verify(processAppointmentEventUseCase, times(1)).processAppointmentScheduledBatch(any());
+            verify(messageRecoverer, never()).recover(any(), any());
+        }
+
+        @Test
+        @DisplayName("Deve enviar à DLQ a mensagem que não converte e processar as demais")
+        void shouldDeadLetterUnconvertibleMessage() {
+            // Given
+            MessageConversionException failure = new MessageConversionException("formato inválido");
+            when(messageConverter.fromMessage(first)).thenReturn(firstEvent);
+            when(messageConverter.fromMessage(second)).thenThrow(failure);
+            when(messageConverter.fromMessage(third)).thenReturn(thirdEvent);
+            when(processAppointmentEventUseCase.processAppointmentScheduledBatch(List.of(firstEvent, thirdEvent)))
+                .thenReturn(List.of(CompletableFuture.completedFuture(null), CompletableFuture.completedFuture(null)));
+
+            // When
+            consumer.handleAppointmentScheduled(List.of(first, second, third));
+
+            // Then
+            verify(messageRecoverer).recover(second, failure);
+            verifyNoMoreInteractions(messageRecoverer);
+        }
+
+        @Test
+        @DisplayName("Deve enviar à DLQ a mensagem do evento que falhou, mesmo após uma conversão descartada")
+        void shouldDeadLetterMessageOfFailedEvent() {
+            // Given - o segundo evento processado vem da terceira mensagem
+            IllegalStateException failure = new IllegalStateException("gateway indisponível");
+            when(messageConverter.fromMessage(first)).thenReturn(firstEvent);
+            when(messageConverter.fromMessage(second)).thenThrow(new MessageConversionException("formato inválido"));
+            when(messageConverter.fromMessage(third)).thenReturn(thirdEvent);
+            when(processAppointmentEventUseCase.processAppointmentScheduledBatch(List.of(firstEvent, thirdEvent)))
+                .thenReturn(List.of(CompletableFuture.completedFuture(null), CompletableFuture.failedFuture(failure)));
+
+            // When
+            consumer.handleAppointmentScheduled(List.of(first, second, third));
+
+            // Then
+            verify(messageRecoverer).recover(same(second), any(MessageConversionException.class));
+            verify(messageRecoverer).recover(third, failure);
+            verify(messageRecoverer, never()).recover(same(first), any());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar o lote quando a republicação na DLQ falhar")
+        void shouldRejectBatchWhenRecovererFails() {
+            // Given
+            IllegalStateException failure = new IllegalStateException("gateway indisponível");
+            when(messageConverter.fromMessage(first)).thenReturn(firstEvent);
+            when(processAppointmentEventUseCase.processAppointmentScheduledBatch(List.of(firstEvent)))
+                .thenReturn(List.of(CompletableFuture.failedFuture(failure)));
+            doThrow(new AmqpException("broker indisponível")).when(messageRecoverer).recover(first, failure);
+
+            // When / Then - a exceção chega ao container, que rejeita o lote
+            assertThrows(AmqpException.class, () -> consumer.handleAppointmentScheduled(List.of(first)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Roteamento por Tipo")
+    class Routing {
+
+        @Test
+        @DisplayName("Deve enviar à DLQ a mensagem de outro tipo de evento")
+        void shouldDeadLetterEventOfWrongType() {
+            // Given - evento de cancelamento na fila de agendamentos criados
+            when(messageConverter.fromMessage(first)).thenReturn(new AppointmentCanceledEvent());
+
+            // When
+            consumer.handleAppointmentScheduled(List.of(first));
+
+            // Then
+            verify(messageRecoverer).recover(same(first), any(ClassCastException.class));
+        }
+
+        @Test
+        @DisplayName("Deve usar o método de lote do tipo de evento da fila")
+        void shouldUseBatchMethodOfQueueEventType() {
+            // Given
+            AppointmentCanceledEvent event = new AppointmentCanceledEvent();
+            when(messageConverter.fromMessage(first)).thenReturn(event);
+            when(processAppointmentEventUseCase.processAppointmentCanceledBatch(List.of(event)))
+                .thenReturn(List.of(CompletableFuture.completedFuture(null)));
+
+            // When
+            consumer.handleAppointmentCanceled(List.of(first));
+
+            // Then
+            verify(processAppointmentEventUseCase, never()).processAppointmentScheduledBatch(any());
+            verify(messageRecoverer, never()).recover(any(), any());
+        }
+    }
+
+    private static Message message(String messageId) {
+        MessageProperties properties = new MessageProperties();
+        properties.setMessageId(messageId);
+        return new Message(new byte[0], properties);
+    }
+
+    private static AppointmentScheduledEvent scheduled(String appointmentId) {
+        AppointmentScheduledEvent event = new AppointmentScheduledEvent();
+        event.setAggregateId(appointmentId);
+        return event;
+    }
+}
@@ -0,0 +1,180 @@
+package com.clinicboard.notification_service.infrastructure.adapter.in.messaging.replay;
+
+import com.clinicboard.notification_service.infrastructure.adapter.in.messaging.codec.EventWireFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para DeadLetterReplayEngine
+ *
+ * Espera base de 1 s, máxima de 1 min e orçamento de 3 tentativas.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeadLetterReplayEngine Tests")
+class DeadLetterReplayEngineTest {
+
+    private static final String RETRY_EXCHANGE = "clinicboard.notification.retry";
+    private static final String PARKING_LOT = "notification.events.parking-lot";
+    private static final String SCHEDULED_QUEUE = "notification.appointment.scheduled";
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DeadLetterReplayEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        EventQueueRoutes routes = new EventQueueRoutes(
+            "appointment.scheduled", SCHEDULED_QUEUE,
+            "appointment.canceled", "notification.appointment.canceled",
+            "appointment.status.changed", "notification.appointment.status.changed",
+            "appointment.rescheduled", "notification.appointment.rescheduled");
+        ReplayPolicy policy = new ReplayPolicy(3, Duration.ofSeconds(1), Duration.ofMinutes(1),
+            List.of("MessageConversionException"));
+        engine = new DeadLetterReplayEngine(rabbitTemplate, policy, routes, meterRegistry, RETRY_EXCHANGE, PARKING_LOT);
+    }
+
+    @Nested
+    @DisplayName("Nova Tentativa")
+    class Retry {
+
+        @Test
+        @DisplayName("Deve agendar a primeira tentativa na fila de espera com o backoff como expiração")
+        void shouldScheduleFirstAttempt() {
+            // Given
+            Message message = failedIn(SCHEDULED_QUEUE, "java.net.ConnectException");
+
+            // When
+            engine.handle(message);
+
+            // Then - a routing key é a fila de destino
+            verify(rabbitTemplate).send(RETRY_EXCHANGE, SCHEDULED_QUEUE, message);
+            MessageProperties properties = message.getMessageProperties();
+            assertEquals(1, properties.<Integer>getHeader(ReplayHeaders.ATTEMPT).intValue());
+            assertEquals("1", properties.getHeader(ReplayHeaders.RETRY_TIER));
+            long expiration = Long.parseLong(properties.getExpiration());
+            assertTrue(expiration >= 500 && expiration <= 1_000, "expiração " + expiration);
+            assertEquals(MessageDeliveryMode.PERSISTENT, properties.getDeliveryMode());
+            assertEquals(1.0, meterRegistry.get("clinicboard.notification.replay.scheduled").counter().count());
+        }
+
+        @Test
+        @DisplayName("Deve agendar a última tentativa do orçamento")
+        void shouldScheduleLastAttemptWithinBudget() {
+            // Given
+            Message message = failedIn(SCHEDULED_QUEUE, "java.net.ConnectException");
+            message.getMessageProperties().setHeader(ReplayHeaders.ATTEMPT, 2);
+
+            // When
+            engine.handle(message);
+
+            // Then
+            verify(rabbitTemplate).send(RETRY_EXCHANGE, SCHEDULED_QUEUE, message);
+            assertEquals(3, message.getMessageProperties().<Integer>getHeader(ReplayHeaders.ATTEMPT).intValue());
+        }
+
+        @Test
+        @DisplayName("Deve descobrir a fila de destino pelo tipo do evento quando a falha foi na publicação")
+        void shouldResolveQueueFromEventType() {
+            // Given
+            MessageProperties properties = new MessageProperties();
+            properties.setHeader(EventWireFormat.TYPE_HEADER, "appointment.scheduled");
+            Message message = new Message("{}".getBytes(), properties);
+
+            // When
+            engine.handle(message);
+
+            // Then
+            verify(rabbitTemplate).send(RETRY_EXCHANGE, SCHEDULED_QUEUE, message);
+        }
+    }
+
+    @Nested
+    @DisplayName("Parking Lot")
+    class Parking {
+
+        @Test
+        @DisplayName("Deve estacionar a mensagem que esgotou as tentativas")
+        void shouldParkWhenAttemptsExhausted() {
+            // Given
+            Message message = failedIn(SCHEDULED_QUEUE, "java.net.ConnectException");
+            message.getMessageProperties().setHeader(ReplayHeaders.ATTEMPT, 3);
+
+            // When
+            engine.handle(message);
+
+            // Then
+            assertParked(message, "tentativas esgotadas: 3");
+            assertEquals(SCHEDULED_QUEUE, message.getMessageProperties().getHeader(ReplayHeaders.ORIGINAL_QUEUE));
+        }
+
+        @Test
+        @DisplayName("Deve estacionar sem nova tentativa a falha não recuperável")
+        void shouldParkNonRetryableFailure() {
+            // Given
+            Message message = failedIn(SCHEDULED_QUEUE,
+                "org.springframework.amqp.support.converter.MessageConversionException");
+
+            // When
+            engine.handle(message);
+
+            // Then
+            assertParked(message,
+                "falha não recuperável: org.springframework.amqp.support.converter.MessageConversionException");
+        }
+
+        @Test
+        @DisplayName("Deve estacionar a mensagem sem fila de destino conhecida")
+        void shouldParkMessageWithoutKnownQueue() {
+            // Given
+            Message message = failedIn("notification.unknown", "java.net.ConnectException");
+
+            // When
+            engine.handle(message);
+
+            // Then
+            assertParked(message, "fila de destino desconhecida");
+        }
+    }
+
+    private void assertParked(Message message, String reason) {
+        ArgumentCaptor<Message> parked = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq(""), eq(PARKING_LOT), parked.capture());
+        verify(rabbitTemplate, never()).send(eq(RETRY_EXCHANGE), anyString(), any(Message.class));
+        MessageProperties properties = parked.getValue().getMessageProperties();
+        assertSame(message, parked.getValue());
+        assertEquals(reason, properties.getHeader(ReplayHeaders.PARK_REASON));
+        assertNotNull(properties.getHeader(ReplayHeaders.PARKED_AT));
+        assertNull(properties.getExpiration());
+        assertEquals(1.0, meterRegistry.get("clinicboard.notification.replay.parked").counter().count());
+    }
+
+    private static Message failedIn(String queue, String exceptionClass) {
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(ReplayHeaders.ORIGINAL_QUEUE, queue);
+        properties.setHeader(ReplayHeaders.EXCEPTION_CLASS, exceptionClass);
+        return new Message("{}".getBytes(), properties);
+    }
+}
@@ -0,0 +1,148 @@
+package com.clinicboard.notification_service.infrastructure.adapter.in.messaging.replay;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ParkingLotReplayer
+ *
+ * O broker é simulado por um Channel mockado: basicGet devolve mensagens do
+ * parking lot e waitForConfirmsOrDie decide se a republicação foi confirmada.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ParkingLotReplayer Tests")
+class ParkingLotReplayerTest {
+
+    private static final String PARKING_LOT = "notification.events.parking-lot";
+    private static final String SCHEDULED_QUEUE = "notification.appointment.scheduled";
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private AmqpAdmin amqpAdmin;
+
+    @Mock
+    private Channel channel;
+
+    private ParkingLotReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        EventQueueRoutes routes = new EventQueueRoutes(
+            "appointment.scheduled", SCHEDULED_QUEUE,
+            "appointment.canceled", "notification.appointment.canceled",
+            "appointment.status.changed", "notification.appointment.status.changed",
+            "appointment.rescheduled", "notification.appointment.rescheduled");
+        replayer = new ParkingLotReplayer(rabbitTemplate, amqpAdmin, routes, new SimpleMeterRegistry(),
+            PARKING_LOT, 1000, Duration.ofSeconds(1));
+        when(rabbitTemplate.execute(any(ChannelCallback.class))).thenAnswer(invocation ->
+            invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(channel));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        replayer.destroy();
+    }
+
+    @Nested
+    @DisplayName("Confirmação da Republicação")
+    class PublisherConfirms {
+
+        @Test
+        @DisplayName("Deve confirmar a mensagem no parking lot só após o confirm do broker")
+        void shouldAckOnlyAfterBrokerConfirm() throws Exception {
+            // Given
+            parkingLotWith(2);
+            when(channel.basicGet(PARKING_LOT, false)).thenReturn(parked(1), parked(2));
+
+            // When
+            ParkingLotReplayer.JobSnapshot job = runReplay();
+
+            // Then
+            assertEquals(2, job.replayed());
+            assertNull(job.error());
+            verify(channel, times(1)).confirmSelect();
+            InOrder order = inOrder(channel);
+            for (long tag = 1; tag <= 2; tag++) {
+                order.verify(channel).basicPublish(eq(""), eq(SCHEDULED_QUEUE), any(AMQP.BasicProperties.class), any(byte[].class));
+                order.verify(channel).waitForConfirmsOrDie(1000);
+                order.verify(channel).basicAck(tag, false);
+            }
+        }
+
+        @Test
+        @DisplayName("Deve manter a mensagem no parking lot quando a republicação não for confirmada")
+        void shouldKeepMessageWhenPublishIsNeverConfirmed() throws Exception {
+            // Given
+            parkingLotWith(2);
+            when(channel.basicGet(PARKING_LOT, false)).thenReturn(parked(1));
+            doThrow(new TimeoutException("sem confirm")).when(channel).waitForConfirmsOrDie(anyLong());
+
+            // When
+            ParkingLotReplayer.JobSnapshot job = runReplay();
+
+            // Then - devolvida ao parking lot e o reprocessamento interrompido
+            verify(channel).basicNack(1L, false, true);
+            verify(channel, never()).basicAck(anyLong(), anyBoolean());
+            verify(channel, times(1)).basicGet(PARKING_LOT, false);
+            assertEquals(0, job.replayed());
+            assertNotNull(job.error());
+        }
+    }
+
+    private ParkingLotReplayer.JobSnapshot runReplay() throws InterruptedException {
+        replayer.start(null, null, null, null, null);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ParkingLotReplayer.JobSnapshot job = replayer.status().lastReplay();
+        while (job.running() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = replayer.status().lastReplay();
+        }
+        assertFalse(job.running());
+        return job;
+    }
+
+    private void parkingLotWith(int depth) {
+        when(amqpAdmin.getQueueInfo(PARKING_LOT)).thenReturn(new QueueInformation(PARKING_LOT, depth, 0));
+    }
+
+    private static GetResponse parked(long deliveryTag) {
+        AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder()
+            .headers(Map.of(
+                ReplayHeaders.ORIGINAL_QUEUE, SCHEDULED_QUEUE,
+                ReplayHeaders.PARKED_AT, 1_700_000_000_000L,
+                ReplayHeaders.PARK_REASON, "tentativas esgotadas: 5"))
+            .build();
+        Envelope envelope = new Envelope(deliveryTag, false, "", PARKING_LOT);
+        return new GetResponse(envelope, properties, "{}".getBytes(), 0);
+    }
+}
@@ -0,0 +1,80 @@
+package com.clinicboard.notification_service.infrastructure.adapter.in.messaging.replay;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ReplayPolicy
+ */
+@DisplayName("ReplayPolicy Tests")
+class ReplayPolicyTest {
+
+    private final ReplayPolicy policy = new ReplayPolicy(5, Duration.ofSeconds(5), Duration.ofSeconds(60),
+        List.of("MessageConversionException", "java.lang.NullPointerException"));
+
+    @Nested
+    @DisplayName("Espera entre Tentativas")
+    class Backoff {
+
+        @Test
+        @DisplayName("Deve dobrar a espera a cada tentativa, com jitter entre metade e o total")
+        void shouldDoubleDelayWithJitter() {
+            for (int attempt = 1; attempt <= 4; attempt++) {
+                long ceiling = 5_000L << (attempt - 1);
+                for (int i = 0; i < 200; i++) {
+                    long delay = policy.delayMillis(attempt);
+                    assertTrue(delay >= ceiling / 2 && delay <= ceiling,
+                        "tentativa " + attempt + " esperou " + delay + " ms");
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Deve limitar a espera ao máximo configurado")
+        void shouldCapDelayAtMaxDelay() {
+            for (int i = 0; i < 200; i++) {
+                long delay = policy.delayMillis(30);
+                assertTrue(delay >= 30_000L && delay <= 60_000L, "esperou " + delay + " ms");
+            }
+        }
+
+        @Test
+        @DisplayName("Não deve estourar com tentativas muito altas")
+        void shouldNotOverflowForHugeAttempts() {
+            long delay = policy.delayMillis(Integer.MAX_VALUE);
+            assertTrue(delay >= 30_000L && delay <= 60_000L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Classificação das Falhas")
+    class Classification {
+
+        @Test
+        @DisplayName("Deve recusar nova tentativa para exceção registrada pelo nome simples ou completo")
+        void shouldRejectRegisteredExceptions() {
+            assertFalse(policy.isRetryable("org.springframework.amqp.support.converter.MessageConversionException"));
+            assertFalse(policy.isRetryable("java.lang.NullPointerException"));
+        }
+
+        @Test
+        @DisplayName("Deve aceitar nova tentativa para outras exceções e para falha sem classe")
+        void shouldRetryOtherFailures() {
+            assertTrue(policy.isRetryable("java.net.ConnectException"));
+            assertTrue(policy.isRetryable(null));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recusar orçamento sem nenhuma tentativa")
+    void shouldRejectZeroAttempts() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new ReplayPolicy(0, Duration.ofSeconds(5), Duration.ofSeconds(60), List.of()));
+    }
+}
@@ -0,0 +1,156 @@
+package com.clinicboard.notification_service.infrastructure.adapter.out.idempotency;
+
+import com.clinicboard.notification_service.domain.event.DomainEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para InMemoryProcessedEventRepository
+ */
+@DisplayName("InMemoryProcessedEventRepository Tests")
+class InMemoryProcessedEventRepositoryTest {
+
+    private static final Instant OCCURRED_ON = Instant.parse("2026-01-05T12:00:00.123456Z");
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private InMemoryProcessedEventRepository repository;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (repository != null) {
+            repository.destroy();
+        }
+    }
+
+    @Nested
+    @DisplayName("Reserva de Eventos")
+    class Claims {
+
+        @Test
+        @DisplayName("Deve recusar a segunda entrega do mesmo evento")
+        void shouldRejectSecondDelivery() {
+            // Given
+            repository = repository("");
+            repository.tryClaim(event("appointment-01", OCCURRED_ON));
+
+            // When
+            boolean claimed = repository.tryClaim(event("appointment-01", OCCURRED_ON));
+
+            // Then
+            assertFalse(claimed);
+            assertEquals(1.0, meterRegistry.get("clinicboard.notification.dedup.duplicates").counter().count());
+        }
+
+        @Test
+        @DisplayName("Deve aceitar eventos do mesmo agendamento em instantes diferentes")
+        void shouldAcceptSameAggregateAtDifferentInstant() {
+            // Given
+            repository = repository("");
+            repository.tryClaim(event("appointment-01", OCCURRED_ON));
+
+            // When
+            boolean claimed = repository.tryClaim(event("appointment-01", OCCURRED_ON.plusNanos(1000)));
+
+            // Then
+            assertTrue(claimed);
+        }
+
+        @Test
+        @DisplayName("Deve aceitar nova entrega após a liberação de um processamento que falhou")
+        void shouldAcceptDeliveryAfterRelease() {
+            // Given
+            repository = repository("");
+            repository.tryClaim(event("appointment-01", OCCURRED_ON));
+            repository.release(event("appointment-01", OCCURRED_ON));
+
+            // When
+            boolean claimed = repository.tryClaim(event("appointment-01", OCCURRED_ON));
+
+            // Then
+            assertTrue(claimed);
+        }
+
+        @Test
+        @DisplayName("Não deve deduplicar evento sem id de agregado")
+        void shouldNotDeduplicateEventWithoutAggregateId() {
+            // Given
+            repository = repository("");
+            repository.tryClaim(event(null, OCCURRED_ON));
+
+            // When
+            boolean claimed = repository.tryClaim(event(null, OCCURRED_ON));
+
+            // Then
+            assertTrue(claimed);
+        }
+    }
+
+    @Nested
+    @DisplayName("Journal")
+    class Journal {
+
+        @Test
+        @DisplayName("Deve lembrar os eventos processados após reiniciar")
+        void shouldRememberProcessedEventsAfterRestart() throws IOException {
+            // Given
+            String journal = directory.resolve("processed.journal").toString();
+            repository = repository(journal);
+            repository.tryClaim(event("appointment-01", OCCURRED_ON));
+            repository.markProcessed(event("appointment-01", OCCURRED_ON));
+            repository.destroy();
+
+            // When
+            repository = repository(journal);
+
+            // Then
+            assertFalse(repository.tryClaim(event("appointment-01", OCCURRED_ON)));
+        }
+
+        @Test
+        @DisplayName("Não deve lembrar após reiniciar evento que não chegou a ser processado")
+        void shouldForgetClaimedButUnprocessedEventsAfterRestart() throws IOException {
+            // Given
+            String journal = directory.resolve("processed.journal").toString();
+            repository = repository(journal);
+            repository.tryClaim(event("appointment-01", OCCURRED_ON));
+            repository.destroy();
+
+            // When
+            repository = repository(journal);
+
+            // Then
+            assertTrue(repository.tryClaim(event("appointment-01", OCCURRED_ON)));
+        }
+    }
+
+    private InMemoryProcessedEventRepository repository(String journalPath) {
+        return new InMemoryProcessedEventRepository(meterRegistry, 100, Duration.ofHours(24), journalPath);
+    }
+
+    private static DomainEvent event(String appointmentId, Instant occurredOn) {
+        return new TestEvent(appointmentId, occurredOn);
+    }
+
+    private record TestEvent(String appointmentId, Instant occurredOn) implements DomainEvent {
+
+        @Override
+        public String getAggregateId() {
+            return appointmentId;
+        }
+    }
+}
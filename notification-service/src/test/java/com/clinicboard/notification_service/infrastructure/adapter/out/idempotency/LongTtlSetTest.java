@@ -0,0 +1,207 @@
+package com.clinicboard.notification_service.infrastructure.adapter.out.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para LongTtlSet
+ *
+ * Com um segmento de capacidade 4 a tabela tem 8 posições, e a posição de
+ * origem de uma chave são seus 3 bits baixos: os testes escolhem as chaves
+ * para montar agrupamentos conhecidos.
+ */
+@DisplayName("LongTtlSet Tests")
+class LongTtlSetTest {
+
+    private static final long TTL = 1_000L;
+    private static final long T0 = 1_700_000_000_000L;
+
+    @Nested
+    @DisplayName("Inserção")
+    class Insertion {
+
+        @Test
+        @DisplayName("Deve inserir a chave só uma vez")
+        void shouldInsertKeyOnce() {
+            // Given
+            LongTtlSet set = new LongTtlSet(4, TTL, 1);
+
+            // When
+            boolean first = set.add(42L, T0);
+            boolean second = set.add(42L, T0 + 1);
+
+            // Then
+            assertTrue(first);
+            assertFalse(second);
+            assertTrue(set.contains(42L, T0 + 1));
+            assertEquals(1, set.size());
+        }
+
+        @Test
+        @DisplayName("Deve aceitar a chave 0, usada internamente como posição livre")
+        void shouldAcceptZeroKey() {
+            // Given
+            LongTtlSet set = new LongTtlSet(4, TTL, 1);
+
+            // When
+            set.add(0L, T0);
+
+            // Then
+            assertTrue(set.contains(0L, T0));
+            assertFalse(set.add(0L, T0));
+        }
+
+        @Test
+        @DisplayName("Deve despejar a chave mais antiga quando o segmento estiver cheio")
+        void shouldEvictOldestWhenFull() {
+            // Given
+            LongTtlSet set = new LongTtlSet(4, TTL, 1);
+            for (long key = 1; key <= 4; key++) {
+                set.add(key, T0 + key);
+            }
+
+            // When
+            set.add(5L, T0 + 5);
+
+            // Then
+            assertFalse(set.contains(1L, T0 + 5));
+            assertTrue(set.contains(2L, T0 + 5));
+            assertTrue(set.contains(5L, T0 + 5));
+            assertEquals(4, set.size());
+        }
+
+        @Test
+        @DisplayName("Deve recusar quantidade de segmentos que não seja potência de 2")
+        void shouldRejectSegmentCountNotPowerOfTwo() {
+            assertThrows(IllegalArgumentException.class, () -> new LongTtlSet(4, TTL, 3));
+        }
+    }
+
+    @Nested
+    @DisplayName("Expiração")
+    class Expiration {
+
+        @Test
+        @DisplayName("Deve expirar a chave ao fim do TTL")
+        void shouldExpireKeyAtTtl() {
+            // Given
+            LongTtlSet set = new LongTtlSet(4, TTL, 1);
+            set.add(42L, T0);
+
+            // When & Then
+            assertTrue(set.contains(42L, T0 + TTL - 1));
+            assertFalse(set.contains(42L, T0 + TTL));
+            assertEquals(0, set.size());
+            assertTrue(set.add(42L, T0 + TTL));
+        }
+
+        @Test
+        @DisplayName("Deve manter a chave reinserida quando a inserção antiga expira")
+        void shouldKeepReinsertedKeyWhenOldInsertionExpires() {
+            // Given - a remoção deixa a entrada antiga órfã na fila
+            LongTtlSet set = new LongTtlSet(4, TTL, 1);
+            set.add(42L, T0);
+            set.remove(42L);
+            set.add(42L, T0 + 500);
+
+            // When
+            boolean present = set.contains(42L, T0 + TTL);
+
+            // Then
+            assertTrue(present);
+            assertFalse(set.contains(42L, T0 + 500 + TTL));
+        }
+    }
+
+    @Nested
+    @DisplayName("Remoção")
+    class Removal {
+
+        @Test
+        @DisplayName("Deve encontrar as chaves do agrupamento que dá a volta na tabela após remover a primeira")
+        void shouldProbeWrappedClusterAfterDelete() {
+            // Given - 6, 14 e 22 têm origem 6 e ocupam 6, 7 e 0; 8 tem origem 0 e vai para 1
+            LongTtlSet set = new LongTtlSet(4, TTL, 1);
+            set.add(6L, T0);
+            set.add(14L, T0);
+            set.add(22L, T0);
+            set.add(8L, T0);
+
+            // When
+            set.remove(6L);
+
+            // Then
+            assertFalse(set.contains(6L, T0));
+            assertTrue(set.contains(14L, T0));
+            assertTrue(set.contains(22L, T0));
+            assertTrue(set.contains(8L, T0));
+            assertEquals(3, set.size());
+        }
+
+        @Test
+        @DisplayName("Deve encontrar a chave deslocada após remover o meio do agrupamento")
+        void shouldProbeShiftedKeyAfterDeletingMiddleOfCluster() {
+            // Given
+            LongTtlSet set = new LongTtlSet(4, TTL, 1);
+            set.add(6L, T0);
+            set.add(14L, T0);
+            set.add(22L, T0);
+            set.add(8L, T0);
+
+            // When - remove a chave na posição 0, depois da volta
+            set.remove(22L);
+            set.remove(6L);
+
+            // Then
+            assertTrue(set.contains(14L, T0));
+            assertTrue(set.contains(8L, T0));
+            assertFalse(set.contains(22L, T0));
+            assertEquals(2, set.size());
+        }
+
+        @Test
+        @DisplayName("Deve ignorar a remoção de chave ausente")
+        void shouldIgnoreMissingKey() {
+            // Given
+            LongTtlSet set = new LongTtlSet(4, TTL, 1);
+            set.add(6L, T0);
+
+            // When
+            set.remove(14L);
+
+            // Then
+            assertTrue(set.contains(6L, T0));
+            assertEquals(1, set.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Percurso")
+    class Traversal {
+
+        @Test
+        @DisplayName("Deve percorrer só as entradas vivas, na ordem de inserção")
+        void shouldVisitLiveEntriesInInsertionOrder() {
+            // Given
+            LongTtlSet set = new LongTtlSet(4, TTL, 1);
+            set.add(1L, T0);
+            set.add(2L, T0 + 600);
+            set.add(3L, T0 + 700);
+            set.remove(3L);
+            set.add(4L, T0 + 800);
+
+            // When
+            List<Long> visited = new ArrayList<>();
+            set.forEachLive(T0 + TTL, (key, insertedAt) -> visited.add(key));
+
+            // Then
+            assertEquals(List.of(2L, 4L), visited);
+        }
+    }
+}
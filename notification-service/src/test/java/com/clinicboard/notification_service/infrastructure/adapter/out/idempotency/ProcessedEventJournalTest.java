@@ -0,0 +1,134 @@
+package com.clinicboard.notification_service.infrastructure.adapter.out.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ProcessedEventJournal
+ */
+@DisplayName("ProcessedEventJournal Tests")
+class ProcessedEventJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    @DisplayName("Leitura")
+    class Reading {
+
+        @Test
+        @DisplayName("Deve reler os registros gravados ao reabrir o arquivo")
+        void shouldReadAppendedRecordsOnReopen() throws IOException {
+            // Given
+            Path path = directory.resolve("processed.journal");
+            try (ProcessedEventJournal journal = ProcessedEventJournal.open(path, (key, at) -> { })) {
+                journal.append(1L, 100L);
+                journal.append(2L, 200L);
+            }
+
+            // When
+            List<long[]> records = reopen(path);
+
+            // Then
+            assertEquals(2, records.size());
+            assertArrayEquals(new long[]{1L, 100L}, records.get(0));
+            assertArrayEquals(new long[]{2L, 200L}, records.get(1));
+        }
+
+        @Test
+        @DisplayName("Deve ignorar registro incompleto no fim do arquivo")
+        void shouldIgnoreTruncatedLastRecord() throws IOException {
+            // Given - queda no meio da escrita do segundo registro
+            Path path = directory.resolve("processed.journal");
+            try (ProcessedEventJournal journal = ProcessedEventJournal.open(path, (key, at) -> { })) {
+                journal.append(1L, 100L);
+            }
+            Files.write(path, new byte[]{0, 0, 0, 0, 0, 0, 0, 2, 0, 0}, StandardOpenOption.APPEND);
+
+            // When
+            List<long[]> records = reopen(path);
+
+            // Then
+            assertEquals(1, records.size());
+            assertArrayEquals(new long[]{1L, 100L}, records.get(0));
+        }
+
+        @Test
+        @DisplayName("Deve criar o diretório do arquivo quando não existir")
+        void shouldCreateParentDirectory() throws IOException {
+            // Given
+            Path path = directory.resolve("dedup").resolve("processed.journal");
+
+            // When
+            ProcessedEventJournal.open(path, (key, at) -> { }).close();
+
+            // Then
+            assertTrue(Files.exists(path));
+        }
+    }
+
+    @Nested
+    @DisplayName("Compactação")
+    class Compaction {
+
+        @Test
+        @DisplayName("Deve manter só os registros posteriores ao corte")
+        void shouldDropRecordsBeforeCutoff() throws IOException {
+            // Given
+            Path path = directory.resolve("processed.journal");
+            try (ProcessedEventJournal journal = ProcessedEventJournal.open(path, (key, at) -> { })) {
+                journal.append(1L, 100L);
+                journal.append(2L, 200L);
+                journal.append(3L, 300L);
+
+                // When
+                journal.compact(200L, 10);
+
+                // Then
+                assertEquals(0, journal.appendedSinceCompaction());
+                journal.append(4L, 400L);
+            }
+            List<long[]> records = reopen(path);
+            assertEquals(List.of(3L, 4L), keys(records));
+        }
+
+        @Test
+        @DisplayName("Deve manter só os registros mais recentes até o limite")
+        void shouldKeepMostRecentRecordsUpToLimit() throws IOException {
+            // Given
+            Path path = directory.resolve("processed.journal");
+            try (ProcessedEventJournal journal = ProcessedEventJournal.open(path, (key, at) -> { })) {
+                for (long key = 1; key <= 5; key++) {
+                    journal.append(key, key * 100);
+                }
+
+                // When
+                journal.compact(0L, 3);
+            }
+
+            // Then
+            assertEquals(List.of(3L, 4L, 5L), keys(reopen(path)));
+        }
+    }
+
+    private static List<long[]> reopen(Path path) throws IOException {
+        List<long[]> records = new ArrayList<>();
+        ProcessedEventJournal.open(path, (key, at) -> records.add(new long[]{key, at})).close();
+        return records;
+    }
+
+    private static List<Long> keys(List<long[]> records) {
+        return records.stream().map(record -> record[0]).toList();
+    }
+}
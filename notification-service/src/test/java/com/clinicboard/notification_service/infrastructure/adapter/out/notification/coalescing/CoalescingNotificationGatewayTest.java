@@ -0,0 +1,205 @@
+package com.clinicboard.notification_service.infrastructure.adapter.out.notification.coalescing;
+
+import com.clinicboard.notification_service.application.port.out.NotificationChannel;
+import com.clinicboard.notification_service.application.port.out.NotificationGateway;
+import com.clinicboard.notification_service.application.port.out.NotificationRenderer;
+import com.clinicboard.notification_service.application.port.out.NotificationTemplate;
+import com.clinicboard.notification_service.application.port.out.TemplateArguments;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para CoalescingNotificationGateway
+ *
+ * O envio ao fim da janela roda na própria thread da roda (executor direto).
+ * Nos testes que não dependem do fim da janela, ela é longa o bastante para
+ * nunca terminar durante o teste.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoalescingNotificationGateway Tests")
+class CoalescingNotificationGatewayTest {
+
+    private static final Duration LONG_WINDOW = Duration.ofHours(1);
+
+    @Mock
+    private NotificationGateway delegate;
+
+    @Mock
+    private NotificationRenderer renderer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CoalescingNotificationGateway gateway;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        gateway.destroy();
+    }
+
+    @Nested
+    @DisplayName("Janela de Agrupamento")
+    class Window {
+
+        @Test
+        @DisplayName("Deve enviar pelo método original a notificação que ficou sozinha na janela")
+        void shouldSendLoneNotificationThroughOriginalMethod() {
+            // Given
+            gateway = gateway(Duration.ofMillis(50), 10);
+
+            // When
+            gateway.sendAppointmentCanceledNotification("professional-01", "Dra. Ana", "Consulta cancelada", "Paciente desistiu");
+
+            // Then
+            verify(delegate, timeout(5000)).sendAppointmentCanceledNotification(
+                "professional-01", "Dra. Ana", "Consulta cancelada", "Paciente desistiu");
+            verify(delegate, never()).sendDigestNotification(anyString(), anyString(), anyString(), anyList());
+        }
+
+        @Test
+        @DisplayName("Deve agrupar em um resumo as notificações do destinatário ao fim da janela")
+        void shouldSendDigestAtEndOfWindow() {
+            // Given
+            gateway = gateway(Duration.ofMillis(50), 10);
+            digestRendersAs("3 atualizações");
+
+            // When
+            reschedule("professional-01", 3);
+
+            // Then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<String>> items = ArgumentCaptor.forClass(List.class);
+            verify(delegate, timeout(5000)).sendDigestNotification(
+                eq("professional-01"), eq("Dra. Ana"), eq("3 atualizações"), items.capture());
+            assertEquals(List.of(
+                "Consulta reagendada 1 (para 10:01)",
+                "Consulta reagendada 2 (para 10:02)",
+                "Consulta reagendada 3 (para 10:03)"), items.getValue());
+            verify(delegate, never()).sendAppointmentRescheduledNotification(anyString(), anyString(), anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Envio Antecipado")
+    class EarlyDelivery {
+
+        @Test
+        @DisplayName("Deve enviar o resumo assim que o destinatário acumular o máximo de itens")
+        void shouldSendDigestWhenMaxItemsReached() {
+            // Given
+            gateway = gateway(LONG_WINDOW, 3);
+            digestRendersAs("resumo");
+
+            // When
+            reschedule("professional-01", 3);
+
+            // Then - enviado na thread de quem chamou, sem esperar a janela
+            verify(delegate).sendDigestNotification(eq("professional-01"), eq("Dra. Ana"), eq("resumo"), anyList());
+            assertEquals(1.0, sent("digest"));
+        }
+
+        @Test
+        @DisplayName("Deve abrir nova janela depois do envio antecipado")
+        void shouldOpenNewWindowAfterEarlyDelivery() throws InterruptedException {
+            // Given
+            gateway = gateway(LONG_WINDOW, 2);
+            digestRendersAs("resumo");
+            reschedule("professional-01", 2);
+
+            // When
+            gateway.sendAppointmentScheduledNotification("professional-01", "Dra. Ana", "Nova consulta", "amanhã");
+            gateway.destroy();
+
+            // Then
+            verify(delegate, times(1)).sendDigestNotification(anyString(), anyString(), anyString(), anyList());
+            verify(delegate).sendAppointmentScheduledNotification("professional-01", "Dra. Ana", "Nova consulta", "amanhã");
+        }
+
+        @Test
+        @DisplayName("Deve enviar direto a notificação sem destinatário")
+        void shouldSendNotificationWithoutRecipientImmediately() {
+            // Given
+            gateway = gateway(LONG_WINDOW, 10);
+
+            // When
+            gateway.sendAppointmentScheduledNotification(null, "Paciente", "Consulta agendada", "amanhã");
+
+            // Then
+            verify(delegate).sendAppointmentScheduledNotification(null, "Paciente", "Consulta agendada", "amanhã");
+            assertEquals(1.0, sent("single"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Encerramento")
+    class Shutdown {
+
+        @Test
+        @DisplayName("Deve enviar os grupos pendentes de cada destinatário ao encerrar")
+        void shouldFlushPendingGroupsOnDestroy() throws InterruptedException {
+            // Given
+            gateway = gateway(LONG_WINDOW, 10);
+            digestRendersAs("resumo");
+            reschedule("professional-01", 2);
+            gateway.sendAppointmentStatusChangedNotification("patient-01", "João", "Status alterado", "CONFIRMADO");
+
+            // When
+            gateway.destroy();
+
+            // Then
+            verify(delegate).sendDigestNotification(eq("professional-01"), eq("Dra. Ana"), eq("resumo"), anyList());
+            verify(delegate).sendAppointmentStatusChangedNotification("patient-01", "João", "Status alterado", "CONFIRMADO");
+        }
+
+        @Test
+        @DisplayName("Não deve propagar falha do gateway real")
+        void shouldNotPropagateDelegateFailure() {
+            // Given
+            gateway = gateway(LONG_WINDOW, 10);
+            doThrow(new IllegalStateException("provedor indisponível"))
+                .when(delegate).sendAppointmentScheduledNotification(anyString(), anyString(), anyString(), anyString());
+            gateway.sendAppointmentScheduledNotification("patient-01", "João", "Consulta agendada", "amanhã");
+
+            // When & Then
+            assertDoesNotThrow(() -> gateway.destroy());
+        }
+    }
+
+    private CoalescingNotificationGateway gateway(Duration window, int maxItems) {
+        return new CoalescingNotificationGateway(delegate, renderer, Runnable::run, meterRegistry, Locale.ROOT,
+            window, maxItems, Duration.ofMillis(10), 8);
+    }
+
+    private void digestRendersAs(String message) {
+        when(delegate.channel()).thenReturn(NotificationChannel.EMAIL);
+        when(renderer.render(eq(NotificationTemplate.NOTIFICATION_DIGEST), eq(NotificationChannel.EMAIL),
+            eq(Locale.ROOT), any(TemplateArguments.class))).thenReturn(message);
+    }
+
+    private void reschedule(String userId, int count) {
+        for (int i = 1; i <= count; i++) {
+            gateway.sendAppointmentRescheduledNotification(userId, "Dra. Ana", "Consulta reagendada " + i, "para 10:0" + i);
+        }
+    }
+
+    private double sent(String type) {
+        return meterRegistry.get("clinicboard.notification.coalescing.sent").tag("type", type).counter().count();
+    }
+}
@@ -0,0 +1,144 @@
+package com.clinicboard.notification_service.infrastructure.adapter.out.notification.coalescing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para HashedTimingWheel
+ *
+ * Roda de 4 posições com tick de 10 ms: uma volta dura 40 ms. Os testes só
+ * verificam que nada dispara antes do prazo; o limite superior é folgado
+ * para não depender da carga da máquina.
+ */
+@DisplayName("HashedTimingWheel Tests")
+class HashedTimingWheelTest {
+
+    private static final long TICK_MILLIS = 10;
+    private static final int WHEEL_SIZE = 4;
+
+    private final HashedTimingWheel wheel = new HashedTimingWheel(TICK_MILLIS, WHEEL_SIZE, "timing-wheel-test");
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        wheel.close();
+    }
+
+    @Nested
+    @DisplayName("Disparo")
+    class Firing {
+
+        @Test
+        @DisplayName("Deve disparar o timeout só depois do prazo")
+        void shouldFireAfterDelay() throws InterruptedException {
+            // Given
+            CountDownLatch fired = new CountDownLatch(1);
+            AtomicLong firedAfterNanos = new AtomicLong();
+            long start = System.nanoTime();
+
+            // When
+            wheel.schedule(() -> {
+                firedAfterNanos.set(System.nanoTime() - start);
+                fired.countDown();
+            }, 30);
+
+            // Then
+            assertTrue(fired.await(5, TimeUnit.SECONDS));
+            assertTrue(firedAfterNanos.get() >= TimeUnit.MILLISECONDS.toNanos(30));
+        }
+
+        @Test
+        @DisplayName("Deve esperar as voltas restantes de um prazo maior que a roda")
+        void shouldWaitRemainingRoundsForDelayBeyondOneTurn() throws InterruptedException {
+            // Given - 30 ms e 150 ms caem na mesma posição (ticks 3 e 15)
+            CountDownLatch shortFired = new CountDownLatch(1);
+            CountDownLatch longFired = new CountDownLatch(1);
+            AtomicBoolean longFiredFirst = new AtomicBoolean();
+            AtomicLong longFiredAfterNanos = new AtomicLong();
+            long start = System.nanoTime();
+
+            // When
+            wheel.schedule(() -> {
+                longFiredAfterNanos.set(System.nanoTime() - start);
+                longFired.countDown();
+            }, 150);
+            wheel.schedule(() -> {
+                longFiredFirst.set(longFired.getCount() == 0);
+                shortFired.countDown();
+            }, 30);
+
+            // Then
+            assertTrue(shortFired.await(5, TimeUnit.SECONDS));
+            assertFalse(longFiredFirst.get());
+            assertTrue(longFired.await(5, TimeUnit.SECONDS));
+            assertTrue(longFiredAfterNanos.get() >= TimeUnit.MILLISECONDS.toNanos(150));
+        }
+
+        @Test
+        @DisplayName("Deve continuar disparando após uma tarefa com erro")
+        void shouldKeepTickingAfterFailingTask() throws InterruptedException {
+            // Given
+            CountDownLatch fired = new CountDownLatch(1);
+            wheel.schedule(() -> {
+                throw new IllegalStateException("falha na tarefa");
+            }, 10);
+
+            // When
+            wheel.schedule(fired::countDown, 30);
+
+            // Then
+            assertTrue(fired.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Nested
+    @DisplayName("Cancelamento")
+    class Cancellation {
+
+        @Test
+        @DisplayName("Não deve disparar timeout cancelado")
+        void shouldNotFireCancelledTimeout() throws InterruptedException {
+            // Given
+            AtomicBoolean cancelledRan = new AtomicBoolean();
+            CountDownLatch later = new CountDownLatch(1);
+            HashedTimingWheel.Timeout timeout = wheel.schedule(() -> cancelledRan.set(true), 20);
+            wheel.schedule(later::countDown, 60);
+
+            // When
+            timeout.cancel();
+
+            // Then - o timeout posterior já disparou, então o cancelado teria disparado antes
+            assertTrue(later.await(5, TimeUnit.SECONDS));
+            assertFalse(cancelledRan.get());
+        }
+
+        @Test
+        @DisplayName("Deve descartar os timeouts pendentes ao fechar")
+        void shouldDiscardPendingTimeoutsOnClose() throws InterruptedException {
+            // Given
+            AtomicBoolean ran = new AtomicBoolean();
+            wheel.schedule(() -> ran.set(true), 50);
+
+            // When
+            wheel.close();
+            Thread.sleep(100);
+
+            // Then
+            assertFalse(ran.get());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recusar tamanho de roda que não seja potência de 2")
+    void shouldRejectWheelSizeNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimingWheel(TICK_MILLIS, 3, "invalid"));
+    }
+}
@@ -0,0 +1,162 @@
+package com.clinicboard.notification_service.infrastructure.adapter.out.template;
+
+import com.clinicboard.notification_service.application.port.out.NotificationChannel;
+import com.clinicboard.notification_service.application.port.out.NotificationTemplate;
+import com.clinicboard.notification_service.application.port.out.TemplateArguments;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.clinicboard.notification_service.application.port.out.TemplateArguments.Variable.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para PropertiesNotificationRenderer
+ *
+ * As mensagens em português no canal de e-mail são comparadas com as que o
+ * ProcessAppointmentEventUseCaseImpl montava com String.format antes dos
+ * templates.
+ */
+@DisplayName("PropertiesNotificationRenderer Tests")
+class PropertiesNotificationRendererTest {
+
+    private static final Locale PT_BR = Locale.forLanguageTag("pt-BR");
+    private static final String PATIENT = "João Silva";
+    private static final String PROFESSIONAL = "Dra. Maria Santos";
+    private static final LocalDateTime APPOINTMENT = LocalDateTime.of(2026, 3, 9, 14, 30);
+    private static final LocalDateTime PREVIOUS = LocalDateTime.of(2026, 3, 2, 9, 5);
+
+    private final PropertiesNotificationRenderer renderer =
+        new PropertiesNotificationRenderer("templates/notifications", PT_BR);
+
+    @Nested
+    @DisplayName("Compatibilidade com String.format")
+    class LegacyParity {
+
+        @Test
+        @DisplayName("Deve produzir exatamente a mensagem anterior para cada template de evento")
+        void shouldMatchLegacyMessageForEveryTemplate() {
+            // Given
+            Map<NotificationTemplate, String> legacy = legacyMessages();
+            TemplateArguments arguments = arguments();
+
+            for (NotificationTemplate template : legacy.keySet()) {
+                // When
+                String rendered = renderer.render(template, NotificationChannel.EMAIL, PT_BR, arguments);
+
+                // Then
+                assertEquals(legacy.get(template), rendered, template.key());
+            }
+        }
+
+        @Test
+        @DisplayName("Deve cobrir todos os templates que existiam antes do resumo")
+        void shouldCoverEveryTemplateExceptDigest() {
+            // Then - o resumo (notification.digest) não tinha versão com String.format
+            assertEquals(EnumSet.complementOf(EnumSet.of(NotificationTemplate.NOTIFICATION_DIGEST)),
+                EnumSet.copyOf(legacyMessages().keySet()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Resolução de Templates")
+    class Resolution {
+
+        @Test
+        @DisplayName("Deve usar a variante do canal quando existir")
+        void shouldPreferChannelVariant() {
+            // When
+            String rendered = renderer.render(NotificationTemplate.APPOINTMENT_SCHEDULED_DETAILS,
+                NotificationChannel.SMS, PT_BR, arguments());
+
+            // Then
+            assertEquals("09/03/2026 14:30", rendered);
+        }
+
+        @Test
+        @DisplayName("Deve usar o idioma padrão quando o idioma não for informado")
+        void shouldFallBackToDefaultLocale() {
+            // When
+            String rendered = renderer.render(NotificationTemplate.APPOINTMENT_CANCELED_PATIENT,
+                NotificationChannel.EMAIL, null, arguments());
+
+            // Then
+            assertEquals("Olá João Silva! Seu agendamento com Dra. Maria Santos foi cancelado.", rendered);
+        }
+
+        @Test
+        @DisplayName("Deve formatar datas conforme o idioma do destinatário")
+        void shouldFormatDatesPerLocale() {
+            // When
+            String rendered = renderer.render(NotificationTemplate.APPOINTMENT_SCHEDULED_DETAILS,
+                NotificationChannel.EMAIL, Locale.ENGLISH, arguments());
+
+            // Then
+            assertEquals("Date: 03/09/2026 at 2:30 PM", rendered);
+        }
+
+        @Test
+        @DisplayName("Deve escrever texto vazio para variável ausente")
+        void shouldRenderMissingVariableAsEmpty() {
+            // When
+            String rendered = renderer.render(NotificationTemplate.APPOINTMENT_STATUS_CHANGED_DETAILS,
+                NotificationChannel.EMAIL, PT_BR, TemplateArguments.create().with(NEW_STATUS, "CONFIRMED"));
+
+            // Then
+            assertEquals("Status alterado de '' para 'CONFIRMED'", rendered);
+        }
+    }
+
+    private static TemplateArguments arguments() {
+        return TemplateArguments.create()
+            .with(PATIENT_NAME, PATIENT)
+            .with(PROFESSIONAL_NAME, PROFESSIONAL)
+            .with(APPOINTMENT_DATE_TIME, APPOINTMENT)
+            .with(PREVIOUS_DATE_TIME, PREVIOUS)
+            .with(NEW_DATE_TIME, APPOINTMENT)
+            .with(PREVIOUS_STATUS, "SCHEDULED")
+            .with(NEW_STATUS, "CONFIRMED");
+    }
+
+    /**
+     * Mensagens como eram montadas antes dos templates (commit 1bd5d37)
+     */
+    private static Map<NotificationTemplate, String> legacyMessages() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy 'às' HH:mm");
+        DateTimeFormatter shortFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+        Map<NotificationTemplate, String> messages = new EnumMap<>(NotificationTemplate.class);
+        messages.put(NotificationTemplate.APPOINTMENT_SCHEDULED_DETAILS,
+            String.format("Data: %s", APPOINTMENT.format(formatter)));
+        messages.put(NotificationTemplate.APPOINTMENT_SCHEDULED_PATIENT,
+            String.format("Olá %s! Seu agendamento foi confirmado com %s.", PATIENT, PROFESSIONAL));
+        messages.put(NotificationTemplate.APPOINTMENT_SCHEDULED_PROFESSIONAL,
+            String.format("Olá %s! Você tem um novo agendamento com %s.", PROFESSIONAL, PATIENT));
+        messages.put(NotificationTemplate.APPOINTMENT_CANCELED_PATIENT,
+            String.format("Olá %s! Seu agendamento com %s foi cancelado.", PATIENT, PROFESSIONAL));
+        messages.put(NotificationTemplate.APPOINTMENT_CANCELED_PROFESSIONAL,
+            String.format("Olá %s! O agendamento com %s foi cancelado.", PROFESSIONAL, PATIENT));
+        messages.put(NotificationTemplate.APPOINTMENT_STATUS_CHANGED_DETAILS,
+            String.format("Status alterado de '%s' para '%s'", "SCHEDULED", "CONFIRMED"));
+        messages.put(NotificationTemplate.APPOINTMENT_STATUS_CHANGED_PATIENT,
+            String.format("Olá %s! O status do seu agendamento com %s foi atualizado.", PATIENT, PROFESSIONAL));
+        messages.put(NotificationTemplate.APPOINTMENT_STATUS_CHANGED_PROFESSIONAL,
+            String.format("Olá %s! O status do agendamento com %s foi atualizado.", PROFESSIONAL, PATIENT));
+        messages.put(NotificationTemplate.APPOINTMENT_RESCHEDULED_DETAILS,
+            String.format("Nova data: %s (anterior: %s)",
+                APPOINTMENT.format(shortFormatter), PREVIOUS.format(shortFormatter)));
+        messages.put(NotificationTemplate.APPOINTMENT_RESCHEDULED_PATIENT,
+            String.format("Olá %s! Seu agendamento com %s foi reagendado.", PATIENT, PROFESSIONAL));
+        messages.put(NotificationTemplate.APPOINTMENT_RESCHEDULED_PROFESSIONAL,
+            String.format("Olá %s! O agendamento com %s foi reagendado.", PROFESSIONAL, PATIENT));
+        return messages;
+    }
+}
@@ -2,6 +2,10 @@ package com.clinicboard.user_service.application.port.in;
 
 import com.clinicboard.user_service.domain.model.User;
 import com.clinicboard.user_service.domain.model.UserId;
+import com.clinicboard.user_service.domain.model.UserRole;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Porta de entrada para buscar usuário.
@@ -18,4 +22,19 @@ public interface FindUserUseCase {
      * Busca usuário por email
      */
     User findByEmail(String email);
+
+    /**
+     * Busca o resumo de vários usuários em uma única consulta.
+     * Ids inexistentes são ignorados e ids repetidos contam uma vez.
+     */
+    List<UserSummary> findSummariesByIds(Collection<UserId> ids);
+
+    /**
+     * Projeção compacta de usuário, sem dados de contato nem credenciais
+     */
+    record UserSummary(
+            String id,
+            String name,
+            UserRole.RoleType role
+    ) {}
 }
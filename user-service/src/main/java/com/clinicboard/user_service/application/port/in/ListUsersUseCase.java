@@ -1,8 +1,10 @@
 package com.clinicboard.user_service.application.port.in;
 
 import com.clinicboard.user_service.domain.model.User;
+import com.clinicboard.user_service.domain.model.UserId;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Porta de entrada para listar usuários.
@@ -10,7 +12,23 @@ import java.util.List;
 public interface ListUsersUseCase {
     
     /**
-     * Lista todos os usuários do sistema
+     * Lista uma página de usuários ordenada por id, a partir do cursor
+     *
+     * @param cursor id do último usuário da página anterior, ou null para a primeira
+     * @param size quantidade máxima de usuários na página
      */
-    List<User> findAll();
+    UserPage findPage(UserId cursor, int size);
+
+    /**
+     * Percorre todos os usuários em ordem de id sem carregá-los de uma vez
+     */
+    void forEachUser(Consumer<User> action);
+
+    /**
+     * Página de usuários; nextCursor é null na última página
+     */
+    record UserPage(
+            List<User> users,
+            UserId nextCursor
+    ) {}
 }
@@ -1,6 +1,7 @@
 package com.clinicboard.user_service.application.port.out;
 
 import com.clinicboard.user_service.domain.model.User;
+import com.clinicboard.user_service.domain.model.UserId;
 
 /**
  * Porta de saída para operações de autenticação.
@@ -16,4 +17,9 @@ public interface AuthenticationServicePort {
      * Gera um token JWT para o usuário
      */
     String generateToken(User user);
+    
+    /**
+     * Descarta as autenticações guardadas do usuário, após alteração ou remoção
+     */
+    void invalidateAuthentication(UserId id);
 }
@@ -6,12 +6,30 @@ package com.clinicboard.user_service.application.port.out;
  * de criptografia, seguindo o princípio de inversão de dependência.
  */
 public interface PasswordEncoderPort {
-    
+
     /**
      * Codifica uma senha em texto puro.
-     * 
+     *
      * @param rawPassword A senha em texto puro a ser codificada
      * @return A senha codificada/hash
      */
     String encode(String rawPassword);
+
+    /**
+     * Verifica se uma senha em texto puro corresponde a um hash armazenado.
+     *
+     * @param rawPassword A senha em texto puro informada
+     * @param encodedPassword O hash armazenado
+     * @return true se a senha corresponde ao hash
+     */
+    boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * Indica se o hash foi gerado com parâmetros diferentes dos atuais e deve
+     * ser refeito na próxima vez que a senha em texto puro estiver disponível.
+     *
+     * @param encodedPassword O hash armazenado
+     * @return true se o hash deve ser refeito
+     */
+    boolean needsRehash(String encodedPassword);
 }
@@ -1,11 +1,14 @@
 package com.clinicboard.user_service.application.port.out;
 
+import com.clinicboard.user_service.application.port.in.FindUserUseCase.UserSummary;
 import com.clinicboard.user_service.domain.model.Email;
 import com.clinicboard.user_service.domain.model.User;
 import com.clinicboard.user_service.domain.model.UserId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Porta de saída para persistência de usuários.
@@ -29,9 +32,22 @@ public interface UserPersistencePort {
     Optional<User> findByEmail(Email email);
     
     /**
-     * Lista todos os usuários
+     * Busca o resumo dos usuários com os IDs especificados em uma única consulta
      */
-    List<User> findAll();
+    List<UserSummary> findSummariesByIds(Collection<UserId> ids);
+    
+    /**
+     * Lista até limit usuários com id maior que afterId, em ordem de id
+     *
+     * @param afterId id do último usuário já lido, ou null para começar do início
+     */
+    List<User> findPageAfter(UserId afterId, int limit);
+
+    /**
+     * Entrega todos os usuários, em ordem de id, lidos do banco por cursor;
+     * a memória usada não depende da quantidade de usuários
+     */
+    void forEachOrderedById(Consumer<User> action);
     
     /**
      * Verifica se existe um usuário com o ID especificado
@@ -2,27 +2,44 @@ package com.clinicboard.user_service.application.usecase;
 
 import com.clinicboard.user_service.application.port.in.AuthenticateUserUseCase;
 import com.clinicboard.user_service.application.port.out.AuthenticationServicePort;
+import com.clinicboard.user_service.application.port.out.PasswordEncoderPort;
+import com.clinicboard.user_service.application.port.out.UserPersistencePort;
+import com.clinicboard.user_service.domain.model.Password;
 import com.clinicboard.user_service.domain.model.User;
 
 import org.springframework.stereotype.Service;
 
 /**
  * Caso de uso para autenticação de usuários.
+ *
+ * Após uma autenticação bem-sucedida, se o hash armazenado foi gerado com
+ * outro custo, a senha (disponível só neste momento) é codificada de novo
+ * com o custo atual.
  */
 @Service
 public class AuthenticateUserUseCaseImpl implements AuthenticateUserUseCase {
-    
+
     private final AuthenticationServicePort authenticationServicePort;
-    
-    public AuthenticateUserUseCaseImpl(AuthenticationServicePort authenticationServicePort) {
+    private final PasswordEncoderPort passwordEncoderPort;
+    private final UserPersistencePort userPersistencePort;
+
+    public AuthenticateUserUseCaseImpl(AuthenticationServicePort authenticationServicePort,
+                                       PasswordEncoderPort passwordEncoderPort,
+                                       UserPersistencePort userPersistencePort) {
         this.authenticationServicePort = authenticationServicePort;
+        this.passwordEncoderPort = passwordEncoderPort;
+        this.userPersistencePort = userPersistencePort;
     }
-    
+
     @Override
     public AuthenticationResult authenticate(AuthenticationCommand command) {
         User user = authenticationServicePort.authenticate(command.email(), command.password());
+        if (passwordEncoderPort.needsRehash(user.getDomainPassword().getValue())) {
+            String rehashed = passwordEncoderPort.encode(command.password());
+            user = userPersistencePort.save(user.changePassword(Password.fromEncrypted(rehashed)));
+        }
         String token = authenticationServicePort.generateToken(user);
-        
+
         return new AuthenticationResult(user, token);
     }
 }
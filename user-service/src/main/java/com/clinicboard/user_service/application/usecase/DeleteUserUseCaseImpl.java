@@ -1,6 +1,7 @@
 package com.clinicboard.user_service.application.usecase;
 
 import com.clinicboard.user_service.application.port.in.DeleteUserUseCase;
+import com.clinicboard.user_service.application.port.out.AuthenticationServicePort;
 import com.clinicboard.user_service.application.port.out.UserPersistencePort;
 import com.clinicboard.user_service.domain.exception.BusinessException;
 import com.clinicboard.user_service.domain.model.UserId;
@@ -14,9 +15,12 @@ import org.springframework.stereotype.Service;
 public class DeleteUserUseCaseImpl implements DeleteUserUseCase {
     
     private final UserPersistencePort userPersistencePort;
+    private final AuthenticationServicePort authenticationServicePort;
 
-    public DeleteUserUseCaseImpl(UserPersistencePort userPersistencePort) {
+    public DeleteUserUseCaseImpl(UserPersistencePort userPersistencePort,
+                                 AuthenticationServicePort authenticationServicePort) {
         this.userPersistencePort = userPersistencePort;
+        this.authenticationServicePort = authenticationServicePort;
     }    @Override
     public void deleteUser(UserId id) {
         if (!userPersistencePort.existsById(id)) {
@@ -24,5 +28,6 @@ public class DeleteUserUseCaseImpl implements DeleteUserUseCase {
         }
         
         userPersistencePort.deleteById(id);
+        authenticationServicePort.invalidateAuthentication(id);
     }
 }
@@ -9,6 +9,11 @@ import com.clinicboard.user_service.domain.model.UserId;
 
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Caso de uso para buscar usuários.
  */
@@ -33,4 +38,13 @@ public class FindUserUseCaseImpl implements FindUserUseCase {
         return userPersistencePort.findByEmail(email)
                 .orElseThrow(() -> new BusinessException("Usuário não encontrado com o email: " + emailValue));
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<UserSummary> findSummariesByIds(Collection<UserId> ids) {
+        Set<UserId> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+        return userPersistencePort.findSummariesByIds(distinctIds);
+    }
+}
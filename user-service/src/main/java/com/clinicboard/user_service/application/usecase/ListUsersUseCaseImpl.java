@@ -2,14 +2,21 @@ package com.clinicboard.user_service.application.usecase;
 
 import com.clinicboard.user_service.application.port.in.ListUsersUseCase;
 import com.clinicboard.user_service.application.port.out.UserPersistencePort;
+import com.clinicboard.user_service.domain.exception.BusinessException;
 import com.clinicboard.user_service.domain.model.User;
+import com.clinicboard.user_service.domain.model.UserId;
 
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Caso de uso para listar usuários.
+ *
+ * A paginação é por cursor (keyset): cada página continua a partir do id do
+ * último usuário da anterior, então o custo de uma página não depende de
+ * quantas vieram antes.
  */
 @Service
 public class ListUsersUseCaseImpl implements ListUsersUseCase {
@@ -21,7 +28,22 @@ public class ListUsersUseCaseImpl implements ListUsersUseCase {
     }
     
     @Override
-    public List<User> findAll() {
-        return userPersistencePort.findAll();
+    public UserPage findPage(UserId cursor, int size) {
+        if (size < 1) {
+            throw new BusinessException("Tamanho de página deve ser maior que zero");
+        }
+
+        // Um usuário a mais indica se existe próxima página
+        List<User> users = userPersistencePort.findPageAfter(cursor, size + 1);
+        if (users.size() <= size) {
+            return new UserPage(users, null);
+        }
+        List<User> page = users.subList(0, size);
+        return new UserPage(List.copyOf(page), page.get(size - 1).getId());
+    }
+
+    @Override
+    public void forEachUser(Consumer<User> action) {
+        userPersistencePort.forEachOrderedById(action);
     }
 }
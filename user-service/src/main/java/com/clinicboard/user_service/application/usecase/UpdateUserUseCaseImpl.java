@@ -1,6 +1,7 @@
 package com.clinicboard.user_service.application.usecase;
 
 import com.clinicboard.user_service.application.port.in.UpdateUserUseCase;
+import com.clinicboard.user_service.application.port.out.AuthenticationServicePort;
 import com.clinicboard.user_service.application.port.out.UserPersistencePort;
 import com.clinicboard.user_service.domain.exception.BusinessException;
 import com.clinicboard.user_service.domain.model.*;
@@ -14,9 +15,12 @@ import org.springframework.stereotype.Service;
 public class UpdateUserUseCaseImpl implements UpdateUserUseCase {
     
     private final UserPersistencePort userPersistencePort;
+    private final AuthenticationServicePort authenticationServicePort;
 
-    public UpdateUserUseCaseImpl(UserPersistencePort userPersistencePort) {
+    public UpdateUserUseCaseImpl(UserPersistencePort userPersistencePort,
+                                 AuthenticationServicePort authenticationServicePort) {
         this.userPersistencePort = userPersistencePort;
+        this.authenticationServicePort = authenticationServicePort;
     }    @Override
     public User updateUser(UpdateUserCommand command) {
         // Buscar usuário existente
@@ -29,6 +33,8 @@ public class UpdateUserUseCaseImpl implements UpdateUserUseCase {
             new ContactDetails(command.contact())
         );
         
-        return userPersistencePort.save(updatedUser);
+        User savedUser = userPersistencePort.save(updatedUser);
+        authenticationServicePort.invalidateAuthentication(command.id());
+        return savedUser;
     }
 }
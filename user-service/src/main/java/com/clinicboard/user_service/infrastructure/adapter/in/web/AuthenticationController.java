@@ -3,8 +3,12 @@ package com.clinicboard.user_service.infrastructure.adapter.in.web;
 import com.clinicboard.user_service.application.port.in.AuthenticateUserUseCase;
 import com.clinicboard.user_service.infrastructure.adapter.in.web.dto.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,6 +17,9 @@ import jakarta.validation.Valid;
 /**
  * Adaptador de entrada (Controller) para operações de autenticação.
  * Implementa exclusivamente endpoints de login/autenticação.
+ *
+ * A verificação da senha (BCrypt) roda no pool passwordHashingExecutor; a
+ * thread do Tomcat é liberada enquanto o login aguarda sua vez.
  */
 @RestController
 @RequestMapping("auth")
@@ -20,24 +27,29 @@ public class AuthenticationController {
 
     private final AuthenticateUserUseCase authenticateUserUseCase;
     private final AuthWebMapper authWebMapper;
+    private final Executor passwordHashingExecutor;
     
     private static final Logger log = LoggerFactory.getLogger(AuthenticationController.class);
 
     public AuthenticationController(
             AuthenticateUserUseCase authenticateUserUseCase,
-            AuthWebMapper authWebMapper) {
+            AuthWebMapper authWebMapper,
+            @Qualifier("passwordHashingExecutor") Executor passwordHashingExecutor) {
         this.authenticateUserUseCase = authenticateUserUseCase;
         this.authWebMapper = authWebMapper;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponseDto> login(@RequestBody @Valid LoginRequestDto loginDto) {
+    public CompletableFuture<ResponseEntity<LoginResponseDto>> login(@RequestBody @Valid LoginRequestDto loginDto) {
         AuthenticateUserUseCase.AuthenticationCommand command = authWebMapper.toAuthCommand(loginDto);
-        AuthenticateUserUseCase.AuthenticationResult result = authenticateUserUseCase.authenticate(command);
-        
-        log.info("Autenticando usuário: {}", result.user().getEmail().getValue());
-        
-        LoginResponseDto responseDto = authWebMapper.toLoginResponseDto(result);
-        return ResponseEntity.ok().body(responseDto);
+
+        return CompletableFuture.supplyAsync(() -> authenticateUserUseCase.authenticate(command), passwordHashingExecutor)
+                .thenApply(result -> {
+                    log.info("Autenticando usuário: {}", result.user().getEmail().getValue());
+
+                    LoginResponseDto responseDto = authWebMapper.toLoginResponseDto(result);
+                    return ResponseEntity.ok().body(responseDto);
+                });
     }
 }
@@ -6,12 +6,25 @@ import com.clinicboard.user_service.domain.model.User;
 import com.clinicboard.user_service.domain.model.UserId;
 import com.clinicboard.user_service.infrastructure.adapter.in.web.dto.*;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Adaptador de entrada (Controller) para operações relacionadas a usuários.
@@ -21,12 +34,19 @@ import java.util.List;
 @RequestMapping("users")
 public class UserController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final FindUserUseCase findUserUseCase;
     private final ListUsersUseCase listUsersUseCase;
     private final UpdateUserUseCase updateUserUseCase;
     private final DeleteUserUseCase deleteUserUseCase;
     private final CreateUserUseCase createUserUseCase;
     private final UserWebMapper userWebMapper;
+    private final Executor passwordHashingExecutor;
+    private final ObjectMapper objectMapper;
+    private final int maxBatchSize;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
     public UserController(
             FindUserUseCase findUserUseCase,
@@ -34,23 +54,65 @@ public class UserController {
             UpdateUserUseCase updateUserUseCase,
             DeleteUserUseCase deleteUserUseCase,
             CreateUserUseCase createUserUseCase,
-            UserWebMapper userWebMapper) {
+            UserWebMapper userWebMapper,
+            @Qualifier("passwordHashingExecutor") Executor passwordHashingExecutor,
+            ObjectMapper objectMapper,
+            @Value("${app.users.batch.max-size:500}") int maxBatchSize,
+            @Value("${app.users.page.default-size:100}") int defaultPageSize,
+            @Value("${app.users.page.max-size:500}") int maxPageSize) {
         this.findUserUseCase = findUserUseCase;
         this.listUsersUseCase = listUsersUseCase;
         this.updateUserUseCase = updateUserUseCase;
         this.deleteUserUseCase = deleteUserUseCase;
         this.createUserUseCase = createUserUseCase;
         this.userWebMapper = userWebMapper;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.objectMapper = objectMapper;
+        this.maxBatchSize = maxBatchSize;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
+    /**
+     * Lista uma página de usuários ordenada por id. Se houver mais usuários, o
+     * cabeçalho X-Next-Cursor traz o valor de cursor da próxima página. O
+     * tamanho é limitado a app.users.page.max-size; sem cursor a resposta é a
+     * primeira página. A lista completa só sai por /users/stream.
+     */
     @GetMapping()
-    public ResponseEntity<List<UserResponseDto>> findAll() {
-        List<User> users = listUsersUseCase.findAll();
-        List<UserResponseDto> userDtos = users.stream()
+    public ResponseEntity<List<UserResponseDto>> findAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        UserId after = cursor != null && !cursor.isBlank() ? new UserId(cursor) : null;
+        int pageSize = Math.min(size == null ? defaultPageSize : size, maxPageSize);
+        ListUsersUseCase.UserPage page = listUsersUseCase.findPage(after, pageSize);
+        List<UserResponseDto> userDtos = page.users().stream()
                 .map(userWebMapper::toUserResponseDto)
                 .toList();
         
-        return userDtos.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(userDtos);
+        if (userDtos.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().getValue());
+        }
+        return response.body(userDtos);
+    }
+
+    /**
+     * Todos os usuários em NDJSON (um JSON por linha), escritos à medida que
+     * são lidos do banco por cursor; a memória não cresce com o total.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream() {
+        StreamingResponseBody body = output -> {
+            listUsersUseCase.forEachUser(user -> writeLine(output, userWebMapper.toUserResponseDto(user)));
+            output.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -60,6 +122,24 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.OK).body(userDto);
     }
 
+    /**
+     * Busca vários usuários em uma única consulta. Ids inexistentes são
+     * omitidos da resposta; a ordem da resposta não segue a da requisição.
+     * O limite de ids distintos vem de app.users.batch.max-size.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserSummaryResponseDto>> findBatch(@RequestBody @Valid UserBatchRequestDto batchDto) {
+        Set<UserId> ids = new LinkedHashSet<>(userWebMapper.toUserIds(batchDto));
+        if (ids.size() > maxBatchSize) {
+            throw new BusinessException("Busca em lote limitada a " + maxBatchSize + " usuários por requisição");
+        }
+        List<UserSummaryResponseDto> summaries = findUserUseCase.findSummariesByIds(ids)
+                .stream()
+                .map(userWebMapper::toUserSummaryResponseDto)
+                .toList();
+        return ResponseEntity.ok(summaries);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<UserResponseDto> update(
             @PathVariable String id, 
@@ -78,8 +158,12 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * O hash da senha (BCrypt) roda no pool passwordHashingExecutor, fora da
+     * thread do Tomcat.
+     */
     @PostMapping("/register")
-    public ResponseEntity<UserResponseDto> register(@RequestBody @Valid CreateUserRequestDto createDto) {
+    public CompletableFuture<ResponseEntity<UserResponseDto>> register(@RequestBody @Valid CreateUserRequestDto createDto) {
         // Verificar se email já existe
         try {
             findUserUseCase.findByEmail(createDto.getEmail());
@@ -89,9 +173,20 @@ public class UserController {
         }
 
         CreateUserUseCase.CreateUserCommand command = userWebMapper.toCreateCommand(createDto);
-        User savedUser = createUserUseCase.createUser(command);
-        UserResponseDto responseDto = userWebMapper.toUserResponseDto(savedUser);
 
-        return ResponseEntity.ok().body(responseDto);
+        return CompletableFuture.supplyAsync(() -> createUserUseCase.createUser(command), passwordHashingExecutor)
+                .thenApply(savedUser -> {
+                    UserResponseDto responseDto = userWebMapper.toUserResponseDto(savedUser);
+                    return ResponseEntity.ok().body(responseDto);
+                });
+    }
+
+    private void writeLine(OutputStream output, UserResponseDto userDto) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(userDto));
+            output.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
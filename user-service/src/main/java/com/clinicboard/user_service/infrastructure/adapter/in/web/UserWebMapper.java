@@ -1,6 +1,7 @@
 package com.clinicboard.user_service.infrastructure.adapter.in.web;
 
 import com.clinicboard.user_service.application.port.in.CreateUserUseCase;
+import com.clinicboard.user_service.application.port.in.FindUserUseCase;
 import com.clinicboard.user_service.application.port.in.UpdateUserUseCase;
 import com.clinicboard.user_service.domain.model.User;
 import com.clinicboard.user_service.domain.model.UserId;
@@ -8,6 +9,8 @@ import com.clinicboard.user_service.infrastructure.adapter.in.web.dto.*;
 
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Mapper para conversão entre DTOs da camada web e comandos/objetos de domínio.
  * Responsável exclusivamente por operações de CRUD de usuários.
@@ -51,4 +54,24 @@ public class UserWebMapper {
                 user.getRole()
         );
     }
+    
+    /**
+     * Converte a lista de ids da busca em lote para UserIds
+     */
+    public List<UserId> toUserIds(UserBatchRequestDto dto) {
+        return dto.getIds().stream()
+                .map(UserId::new)
+                .toList();
+    }
+    
+    /**
+     * Converte UserSummary para UserSummaryResponseDto
+     */
+    public UserSummaryResponseDto toUserSummaryResponseDto(FindUserUseCase.UserSummary summary) {
+        return new UserSummaryResponseDto(
+                summary.id(),
+                summary.name(),
+                summary.role()
+        );
+    }
 }
@@ -0,0 +1,23 @@
+package com.clinicboard.user_service.infrastructure.adapter.in.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO de requisição para busca de usuários em lote.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchRequestDto {
+
+    @NotEmpty(message = "Informe ao menos um id!")
+    private List<@NotBlank(message = "O id não pode ser vazio!") String> ids;
+}
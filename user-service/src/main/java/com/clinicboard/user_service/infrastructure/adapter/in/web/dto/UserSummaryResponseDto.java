@@ -0,0 +1,21 @@
+package com.clinicboard.user_service.infrastructure.adapter.in.web.dto;
+
+import com.clinicboard.user_service.domain.model.UserRole;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO de resposta compacto da busca de usuários em lote.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryResponseDto {
+    private String id;
+    private String name;
+    private UserRole.RoleType role;
+}
@@ -1,8 +1,12 @@
 package com.clinicboard.user_service.infrastructure.adapter.in.web.exception;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -21,6 +25,12 @@ import com.clinicboard.user_service.infrastructure.adapter.in.web.dto.ErrorRespo
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final String retryAfterSeconds;
+
+    public GlobalExceptionHandler(@Value("${app.security.password.retry-after:PT1S}") Duration retryAfter) {
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+    }
+
     // Handler para BusinessException (exceções de domínio)
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException ex) {
@@ -57,6 +67,15 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
     }
 
+    // Handler para sobrecarga: fila do pool de hashing de senhas cheia
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecutionException(RejectedExecutionException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("Serviço sobrecarregado. Tente novamente em instantes.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .body(errorResponse);
+    }
+
     // Handler para exceções genéricas não especificadas
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneralException(Exception ex) {
@@ -1,24 +1,106 @@
 package com.clinicboard.user_service.infrastructure.adapter.out;
 
 import com.clinicboard.user_service.application.port.out.PasswordEncoderPort;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 /**
  * Adaptador que implementa a porta de codificação de senhas
  * usando BCrypt como estratégia de hash.
+ *
+ * O custo do BCrypt vem de app.security.password.bcrypt-strength (10 por
+ * padrão). Só com bcrypt-strength=0 ele é calibrado na inicialização: o maior
+ * custo cujo hash leva até app.security.password.target-hash-time nesta
+ * máquina. O mesmo encoder é usado pelo Spring Security na autenticação
+ * (passwordEncoder()).
+ *
+ * Hashes gravados com outro custo são refeitos no login (needsRehash). Réplicas
+ * calibradas em máquinas diferentes podem chegar a custos diferentes e refazer,
+ * a cada login, o hash gravado pela outra; por isso o custo fixo é o padrão.
  */
 @Component
 public class PasswordEncoderAdapter implements PasswordEncoderPort {
-    
+
+    static final int MIN_STRENGTH = 10;
+    static final int MAX_STRENGTH = 16;
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordEncoderAdapter.class);
+    private static final Pattern BCRYPT_STRENGTH = Pattern.compile("\\A\\$2[abxy]?\\$(\\d\\d)\\$");
+
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
-    
-    public PasswordEncoderAdapter() {
-        this.bCryptPasswordEncoder = new BCryptPasswordEncoder();
+    private final int strength;
+
+    public PasswordEncoderAdapter(
+            @Value("${app.security.password.bcrypt-strength:10}") int configuredStrength,
+            @Value("${app.security.password.target-hash-time:PT0.25S}") Duration targetHashTime) {
+        this.strength = configuredStrength > 0 ? configuredStrength : calibrate(targetHashTime);
+        this.bCryptPasswordEncoder = new BCryptPasswordEncoder(strength);
+        log.info("BCrypt com custo {} ({})", strength,
+                configuredStrength > 0 ? "configurado" : "calibrado para " + targetHashTime.toMillis() + " ms");
     }
-    
+
     @Override
     public String encode(String rawPassword) {
         return bCryptPasswordEncoder.encode(rawPassword);
     }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return bCryptPasswordEncoder.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_STRENGTH.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * Encoder compartilhado com o Spring Security
+     */
+    public PasswordEncoder passwordEncoder() {
+        return bCryptPasswordEncoder;
+    }
+
+    public int strength() {
+        return strength;
+    }
+
+    /**
+     * Mede o hash no custo mínimo e dobra a estimativa a cada nível, já que
+     * cada unidade de custo dobra o número de rodadas do BCrypt.
+     */
+    static int calibrate(Duration targetHashTime) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_STRENGTH);
+        String sample = "calibracao-bcrypt";
+        probe.encode(sample);
+
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode(sample);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+
+        long target = targetHashTime.toNanos();
+        int calibrated = MIN_STRENGTH;
+        long estimate = fastest;
+        while (calibrated < MAX_STRENGTH && estimate * 2 <= target) {
+            estimate *= 2;
+            calibrated++;
+        }
+        return calibrated;
+    }
 }
@@ -4,6 +4,8 @@ import com.clinicboard.user_service.application.port.out.AuthenticationServicePo
 import com.clinicboard.user_service.application.port.out.UserPersistencePort;
 import com.clinicboard.user_service.domain.model.Email;
 import com.clinicboard.user_service.domain.model.User;
+import com.clinicboard.user_service.domain.model.UserId;
+import com.clinicboard.user_service.infrastructure.security.AuthenticatedUserCache;
 import com.clinicboard.user_service.infrastructure.security.TokenService;
 
 import org.springframework.security.authentication.AuthenticationManager;
@@ -20,14 +22,17 @@ public class AuthenticationAdapter implements AuthenticationServicePort {
     private final AuthenticationManager authenticationManager;
     private final TokenService tokenService;
     private final UserPersistencePort userPersistencePort;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     public AuthenticationAdapter(
             AuthenticationManager authenticationManager,
             TokenService tokenService,
-            UserPersistencePort userPersistencePort) {
+            UserPersistencePort userPersistencePort,
+            AuthenticatedUserCache authenticatedUserCache) {
         this.authenticationManager = authenticationManager;
         this.tokenService = tokenService;
         this.userPersistencePort = userPersistencePort;
+        this.authenticatedUserCache = authenticatedUserCache;
     }
     
     @Override
@@ -45,4 +50,9 @@ public class AuthenticationAdapter implements AuthenticationServicePort {
     public String generateToken(User user) {
         return tokenService.generateToken(user);
     }
+    
+    @Override
+    public void invalidateAuthentication(UserId id) {
+        authenticatedUserCache.invalidate(id);
+    }
 }
@@ -1,9 +1,19 @@
 package com.clinicboard.user_service.infrastructure.adapter.out.persistence;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositório JPA para UserJpaEntity.
@@ -14,4 +24,21 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, String>
     Optional<UserJpaEntity> findByEmail(String email);
     
     boolean existsByEmail(String email);
+    
+    @Query("select u.id as id, u.name as name, u.role as role from UserJpaEntity u where u.id in :ids")
+    List<UserSummaryView> findSummariesByIdIn(@Param("ids") Collection<String> ids);
+    
+    List<UserJpaEntity> findAllByOrderByIdAsc(Limit limit);
+    
+    List<UserJpaEntity> findByIdGreaterThanOrderByIdAsc(String id, Limit limit);
+    
+    /**
+     * Lê por cursor do banco, 500 linhas por vez; exige transação aberta
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u from UserJpaEntity u order by u.id")
+    Stream<UserJpaEntity> streamAllOrderedById();
 }
@@ -1,14 +1,22 @@
 package com.clinicboard.user_service.infrastructure.adapter.out.persistence;
 
+import com.clinicboard.user_service.application.port.in.FindUserUseCase.UserSummary;
 import com.clinicboard.user_service.application.port.out.UserPersistencePort;
 import com.clinicboard.user_service.domain.model.Email;
 import com.clinicboard.user_service.domain.model.User;
 import com.clinicboard.user_service.domain.model.UserId;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adaptador de persistência que implementa UserPersistencePort.
@@ -19,10 +27,13 @@ public class UserPersistenceAdapter implements UserPersistencePort {
     
     private final UserJpaRepository userJpaRepository;
     private final UserPersistenceMapper mapper;
+    private final EntityManager entityManager;
     
-    public UserPersistenceAdapter(UserJpaRepository userJpaRepository, UserPersistenceMapper mapper) {
+    public UserPersistenceAdapter(UserJpaRepository userJpaRepository, UserPersistenceMapper mapper,
+                                  EntityManager entityManager) {
         this.userJpaRepository = userJpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
     
     @Override
@@ -45,13 +56,43 @@ public class UserPersistenceAdapter implements UserPersistencePort {
     }
     
     @Override
-    public List<User> findAll() {
-        return userJpaRepository.findAll()
+    public List<UserSummary> findSummariesByIds(Collection<UserId> ids) {
+        List<String> values = ids.stream()
+                .map(UserId::getValue)
+                .toList();
+        return userJpaRepository.findSummariesByIdIn(values)
                 .stream()
+                .map(view -> new UserSummary(view.getId(), view.getName(), view.getRole()))
+                .toList();
+    }
+    
+    @Override
+    public List<User> findPageAfter(UserId afterId, int limit) {
+        List<UserJpaEntity> entities = afterId == null
+                ? userJpaRepository.findAllByOrderByIdAsc(Limit.of(limit))
+                : userJpaRepository.findByIdGreaterThanOrderByIdAsc(afterId.getValue(), Limit.of(limit));
+        return entities.stream()
                 .map(mapper::toDomainEntity)
                 .toList();
     }
     
+    /**
+     * A transação mantém o cursor do banco aberto (no PostgreSQL o fetch size só
+     * vale com autocommit desligado); cada entidade é desanexada após o mapeamento
+     * para que o contexto de persistência não cresça com a leitura.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachOrderedById(Consumer<User> action) {
+        try (Stream<UserJpaEntity> entities = userJpaRepository.streamAllOrderedById()) {
+            entities.forEach(entity -> {
+                User user = mapper.toDomainEntity(entity);
+                entityManager.detach(entity);
+                action.accept(user);
+            });
+        }
+    }
+    
     @Override
     public boolean existsById(UserId id) {
         return userJpaRepository.existsById(id.getValue());
@@ -0,0 +1,16 @@
+package com.clinicboard.user_service.infrastructure.adapter.out.persistence;
+
+import com.clinicboard.user_service.domain.model.UserRole;
+
+/**
+ * Projeção JPA com as colunas usadas na busca em lote de usuários.
+ * Evita carregar senha e contato quando só o resumo é necessário.
+ */
+public interface UserSummaryView {
+
+    String getId();
+
+    String getName();
+
+    UserRole.RoleType getRole();
+}
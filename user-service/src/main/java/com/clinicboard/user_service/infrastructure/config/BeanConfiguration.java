@@ -5,6 +5,7 @@ import com.clinicboard.user_service.application.port.out.UserPersistencePort;
 import com.clinicboard.user_service.domain.service.PasswordPolicyDomainService;
 import com.clinicboard.user_service.infrastructure.adapter.out.authentication.AuthenticationAdapter;
 import com.clinicboard.user_service.infrastructure.adapter.out.persistence.UserPersistenceAdapter;
+import com.clinicboard.user_service.infrastructure.security.AuthenticatedUserCache;
 import com.clinicboard.user_service.infrastructure.security.TokenService;
 
 import org.springframework.context.annotation.Bean;
@@ -33,8 +34,9 @@ public class BeanConfiguration {
     public AuthenticationServicePort authenticationServicePort(
             AuthenticationManager authenticationManager,
             TokenService tokenService,
-            UserPersistencePort userPersistencePort) {
-        return new AuthenticationAdapter(authenticationManager, tokenService, userPersistencePort);
+            UserPersistencePort userPersistencePort,
+            AuthenticatedUserCache authenticatedUserCache) {
+        return new AuthenticationAdapter(authenticationManager, tokenService, userPersistencePort, authenticatedUserCache);
     }
 
     /**
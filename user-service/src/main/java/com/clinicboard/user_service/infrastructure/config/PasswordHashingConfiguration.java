@@ -0,0 +1,61 @@
+package com.clinicboard.user_service.infrastructure.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Pool dedicado ao BCrypt (login e cadastro), separado das threads do Tomcat.
+ *
+ * Um pico de logins ocupa no máximo app.security.password.threads núcleos e
+ * app.security.password.queue-capacity posições de fila; além disso a
+ * requisição é recusada com RejectedExecutionException, convertida em 503 com
+ * Retry-After pelo GlobalExceptionHandler. As threads do Tomcat ficam livres
+ * para os demais endpoints.
+ *
+ * Métricas expostas:
+ * - clinicboard.security.password.hashing.active
+ * - clinicboard.security.password.hashing.queue.size
+ * - clinicboard.security.password.hashing.rejected
+ */
+@Configuration
+public class PasswordHashingConfiguration {
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${app.security.password.threads:0}") int threads,
+            @Value("${app.security.password.queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        Counter rejected = Counter.builder("clinicboard.security.password.hashing.rejected")
+                .description("Logins e cadastros recusados com a fila de hashing cheia")
+                .register(meterRegistry);
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                (task, pool) -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException("Fila de hashing de senhas cheia");
+                });
+
+        Gauge.builder("clinicboard.security.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashes de senha em execução")
+                .register(meterRegistry);
+        Gauge.builder("clinicboard.security.password.hashing.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Hashes de senha aguardando uma thread")
+                .register(meterRegistry);
+        return executor;
+    }
+}
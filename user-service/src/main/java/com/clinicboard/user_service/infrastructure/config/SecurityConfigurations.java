@@ -8,11 +8,12 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.clinicboard.user_service.infrastructure.adapter.out.PasswordEncoderAdapter;
+
 /**
  * Configurações de segurança da aplicação.
  * Movido para infrastructure pois é detalhe de implementação.
@@ -52,8 +53,11 @@ public class SecurityConfigurations {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    /**
+     * Mesmo encoder (e mesmo custo) usado pelo PasswordEncoderAdapter
+     */
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(PasswordEncoderAdapter passwordEncoderAdapter) {
+        return passwordEncoderAdapter.passwordEncoder();
     }
 }
@@ -1,17 +1,21 @@
 package com.clinicboard.user_service.infrastructure.config;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.clinicboard.user_service.application.port.out.UserPersistencePort;
 import com.clinicboard.user_service.infrastructure.adapter.out.authentication.UserDetailsAdapter;
-import com.clinicboard.user_service.infrastructure.security.TokenService;
-import com.clinicboard.user_service.domain.model.UserId;
+import com.clinicboard.user_service.infrastructure.security.AuthenticatedUserCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,38 +24,75 @@ import jakarta.servlet.http.HttpServletResponse;
 /**
  * Filtro de segurança para interceptação e validação de tokens JWT.
  * Movido para infrastructure pois é detalhe de implementação.
+ *
+ * O usuário do token vem do AuthenticatedUserCache, que só verifica o token e
+ * consulta o banco na primeira requisição com cada token.
+ *
+ * Com app.security.trusted-headers.enabled, a identidade já validada pelo
+ * gateway (X-User-Id e X-User-Role) é aceita sem verificar o token. Só deve
+ * ser ligado quando o serviço não é acessível por fora do gateway, que
+ * remove esses cabeçalhos das requisições dos clientes.
+ *
+ * Métricas expostas:
+ * - clinicboard.security.filter.latency
  */
 @Component
 public class SecurityFilter extends OncePerRequestFilter {
 
-    private final UserPersistencePort userPersistencePort;
-    private final TokenService tokenService;
+    private static final String USER_ID_HEADER = "X-User-Id";
+    private static final String USER_ROLE_HEADER = "X-User-Role";
 
-    public SecurityFilter(UserPersistencePort userPersistencePort, TokenService tokenService) {
-        this.userPersistencePort = userPersistencePort;
-        this.tokenService = tokenService;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final boolean trustedHeadersEnabled;
+    private final Timer latency;
+
+    public SecurityFilter(AuthenticatedUserCache authenticatedUserCache,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.security.trusted-headers.enabled:false}") boolean trustedHeadersEnabled) {
+        this.authenticatedUserCache = authenticatedUserCache;
+        this.trustedHeadersEnabled = trustedHeadersEnabled;
+        this.latency = Timer.builder("clinicboard.security.filter.latency")
+                .description("Tempo de autenticação do token, sem o restante da requisição")
+                .register(meterRegistry);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        var trustedUserId = trustedHeadersEnabled ? request.getHeader(USER_ID_HEADER) : null;
+        if (trustedUserId != null && !trustedUserId.isBlank()) {
+            authenticateFromTrustedHeaders(trustedUserId, request.getHeader(USER_ROLE_HEADER));
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         var token = this.recoverToken(request);
         if (token != null) {
-            var userId = tokenService.validateToken(token);
-            if (!userId.isEmpty()) {
-                var userOptional = userPersistencePort.findById(new UserId(userId));
-                if (userOptional.isPresent()) {
-                    UserDetails user = new UserDetailsAdapter(userOptional.get());
-                    var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                }
+            long start = System.nanoTime();
+            var userOptional = authenticatedUserCache.resolve(token);
+            if (userOptional.isPresent()) {
+                UserDetails user = new UserDetailsAdapter(userOptional.get());
+                var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
             }
+            latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * O principal é o id do usuário; não há consulta ao banco.
+     */
+    private void authenticateFromTrustedHeaders(String userId, String role) {
+        var authorities = role == null || role.isBlank()
+                ? List.<SimpleGrantedAuthority>of()
+                : List.of(new SimpleGrantedAuthority("ROLE_" + role));
+        var authentication = new UsernamePasswordAuthenticationToken(userId, null, authorities);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
     private String recoverToken(HttpServletRequest request) {
         var authHeader = request.getHeader("Authorization");
         if (authHeader == null)
@@ -0,0 +1,241 @@
+package com.clinicboard.user_service.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.clinicboard.user_service.application.port.out.UserPersistencePort;
+import com.clinicboard.user_service.domain.model.User;
+import com.clinicboard.user_service.domain.model.UserId;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cache de usuários autenticados por token.
+ *
+ * Um token válido é verificado e o usuário carregado do banco apenas na
+ * primeira requisição; as seguintes com o mesmo token são atendidas daqui,
+ * sem criptografia e sem consulta. A chave é o SHA-256 do token, para que
+ * tokens não fiquem na memória.
+ *
+ * A entrada vale por ttl, nunca além da expiração do token. Alteração ou
+ * remoção do usuário descarta suas entradas (invalidate). Acima de
+ * max-entries, as entradas vencidas são removidas e, se preciso, outras
+ * quaisquer até liberar um décimo da capacidade.
+ *
+ * Métricas expostas:
+ * - clinicboard.security.authentication.requests{result=hit|miss|invalid}
+ * - clinicboard.security.authentication.cache.size
+ * - clinicboard.security.authentication.cache.hit.ratio
+ */
+@Component
+public class AuthenticatedUserCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(AuthenticatedUserCache::newDigest);
+
+    private final TokenService tokenService;
+    private final UserPersistencePort userPersistencePort;
+    private final Map<TokenKey, AuthenticatedUser> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalid;
+    private final Clock clock;
+
+    /**
+     * Incrementado a cada invalidação; um usuário carregado durante uma
+     * invalidação não é guardado.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public AuthenticatedUserCache(TokenService tokenService,
+                                  UserPersistencePort userPersistencePort,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.security.authentication-cache.max-entries:10000}") int maxEntries,
+                                  @Value("${app.security.authentication-cache.ttl:PT5M}") Duration ttl) {
+        this(tokenService, userPersistencePort, meterRegistry, maxEntries, ttl, Clock.systemUTC());
+    }
+
+    AuthenticatedUserCache(TokenService tokenService,
+                           UserPersistencePort userPersistencePort,
+                           MeterRegistry meterRegistry,
+                           int maxEntries,
+                           Duration ttl,
+                           Clock clock) {
+        this.tokenService = tokenService;
+        this.userPersistencePort = userPersistencePort;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.hits = requests(meterRegistry, "hit", "Requisições autenticadas sem verificar o token nem consultar o banco");
+        this.misses = requests(meterRegistry, "miss", "Requisições que exigiram verificação do token e consulta do usuário");
+        this.invalid = requests(meterRegistry, "invalid", "Requisições com token inválido ou expirado");
+        Gauge.builder("clinicboard.security.authentication.cache.size", entries, Map::size)
+                .description("Tokens autenticados em memória")
+                .register(meterRegistry);
+        Gauge.builder("clinicboard.security.authentication.cache.hit.ratio", this, AuthenticatedUserCache::hitRatio)
+                .description("Fração das requisições com token válido atendidas da memória")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retorna o usuário dono do token, ou vazio se o token for inválido ou o
+     * usuário não existir mais.
+     */
+    public Optional<User> resolve(String token) {
+        TokenKey key = TokenKey.of(token);
+        long now = clock.millis();
+
+        AuthenticatedUser cached = entries.get(key);
+        if (cached != null) {
+            if (cached.expiresAtMillis > now) {
+                hits.increment();
+                return Optional.of(cached.user);
+            }
+            entries.remove(key, cached);
+        }
+
+        long loadGeneration = generation.get();
+        Optional<DecodedJWT> jwt = tokenService.verify(token);
+        String subject = jwt.map(DecodedJWT::getSubject).orElse(null);
+        if (subject == null || subject.isBlank()) {
+            invalid.increment();
+            return Optional.empty();
+        }
+
+        misses.increment();
+        Optional<User> user = userPersistencePort.findById(new UserId(subject));
+        user.ifPresent(found -> store(key, found, jwt.get().getExpiresAt(), now, loadGeneration));
+        return user;
+    }
+
+    /**
+     * Descarta as entradas do usuário; chamado quando ele é alterado ou removido.
+     */
+    public void invalidate(UserId userId) {
+        generation.incrementAndGet();
+        String id = userId.getValue();
+        entries.values().removeIf(entry -> entry.userId.equals(id));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    private void store(TokenKey key, User user, Date tokenExpiresAt, long now, long loadGeneration) {
+        long expiresAt = now + ttlMillis;
+        if (tokenExpiresAt != null) {
+            expiresAt = Math.min(expiresAt, tokenExpiresAt.getTime());
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            prune(now);
+        }
+        entries.put(key, new AuthenticatedUser(user, expiresAt));
+        if (generation.get() != loadGeneration) {
+            // Uma invalidação pode ter passado antes desta inclusão
+            entries.remove(key);
+        }
+    }
+
+    private void prune(long now) {
+        entries.values().removeIf(entry -> entry.expiresAtMillis <= now);
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<AuthenticatedUser> iterator = entries.values().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private double hitRatio() {
+        double hitCount = hits.count();
+        double total = hitCount + misses.count();
+        return total == 0 ? 0 : hitCount / total;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("clinicboard.security.authentication.requests")
+                .tag("result", result)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Primeiros 128 bits do SHA-256 do token.
+     */
+    private static final class TokenKey {
+
+        private final long high;
+        private final long low;
+
+        private TokenKey(long high, long low) {
+            this.high = high;
+            this.low = low;
+        }
+
+        static TokenKey of(String token) {
+            byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+            return new TokenKey(toLong(digest, 0), toLong(digest, 8));
+        }
+
+        private static long toLong(byte[] bytes, int offset) {
+            long value = 0;
+            for (int i = offset; i < offset + 8; i++) {
+                value = (value << 8) | (bytes[i] & 0xFF);
+            }
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof TokenKey key && key.high == high && key.low == low;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(high);
+        }
+    }
+
+    private static final class AuthenticatedUser {
+
+        private final User user;
+        private final String userId;
+        private final long expiresAtMillis;
+
+        private AuthenticatedUser(User user, long expiresAtMillis) {
+            this.user = user;
+            this.userId = user.getId().getValue();
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -3,32 +3,48 @@ package com.clinicboard.user_service.infrastructure.security;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.clinicboard.user_service.domain.model.User;
 
 /**
  * Serviço de infraestrutura para geração e validação de tokens JWT.
  * Movido para infrastructure.security para quebrar dependência cíclica.
+ *
+ * O algoritmo e o verificador são criados uma vez e compartilhados entre as
+ * requisições; ambos são imutáveis e seguros para uso concorrente.
  */
 @Service
 public class TokenService {
 
-    @Value("${api.security.token.secret}")
-    private String secret;
+    private static final String ISSUER = "clinicboard-backend-ms";
+    private static final String ROLE_CLAIM = "role";
+
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+
+    public TokenService(@Value("${api.security.token.secret}") String secret) {
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+    }
 
     public String generateToken(User user) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
             String token = JWT.create()
-                    .withIssuer("clinicboard-backend-ms")
+                    .withIssuer(ISSUER)
                     .withSubject(user.getId().getValue())
+                    .withClaim(ROLE_CLAIM, user.getRole().type().name())
                     .withExpiresAt(genExpirationDate())
                     .sign(algorithm);
             return token;
@@ -38,15 +54,21 @@ public class TokenService {
     }
 
     public String validateToken(String token) {
+        return verify(token)
+                .map(DecodedJWT::getSubject)
+                .orElse("");
+    }
+
+    /**
+     * Verifica assinatura, emissor e expiração do token
+     *
+     * @return o token decodificado, ou vazio se for inválido
+     */
+    public Optional<DecodedJWT> verify(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            return JWT.require(algorithm)
-                    .withIssuer("clinicboard-backend-ms")
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            return Optional.of(verifier.verify(token));
         } catch (JWTVerificationException exception) {
-            return "";
+            return Optional.empty();
         }
     }
 
@@ -2,6 +2,7 @@ package com.clinicboard.user_service.architecture;
 
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ImportOption;
 import com.tngtech.archunit.lang.ArchRule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -33,7 +34,9 @@ class ArchitecturalFitnessTest {
 
     @BeforeEach
     void setUp() {
-        classes = new ClassFileImporter().importPackages("com.clinicboard.user_service");
+        classes = new ClassFileImporter()
+                .withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_TESTS)
+                .importPackages("com.clinicboard.user_service");
     }
 
     // ==================== ARQUITETURA HEXAGONAL ====================
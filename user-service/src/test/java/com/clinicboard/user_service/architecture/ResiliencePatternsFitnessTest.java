@@ -2,6 +2,7 @@ package com.clinicboard.user_service.architecture;
 
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ImportOption;
 import com.tngtech.archunit.lang.ArchRule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -33,7 +34,9 @@ class ResiliencePatternsFitnessTest {
 
     @BeforeEach
     void setUp() {
-        classes = new ClassFileImporter().importPackages("com.clinicboard.user_service");
+        classes = new ClassFileImporter()
+                .withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_TESTS)
+                .importPackages("com.clinicboard.user_service");
     }
 
     // ==================== CIRCUIT BREAKER ====================
@@ -275,9 +278,12 @@ class ResiliencePatternsFitnessTest {
     @Test
     @DisplayName("🚨 RESILIENCE CRITICAL: Cache deve ter TTL configurado")
     void cacheMustHaveTtlConfigured() {
+        // O cache de autenticação fica em security, junto do TokenService: o
+        // AuthenticationAdapter o invalida e config já depende dos adaptadores,
+        // então em config ele criaria um ciclo entre config e adapter
         ArchRule rule = classes()
                 .that().haveNameMatching(".*CacheConfig.*|.*Cache.*")
-                .should().resideInAPackage("..infrastructure.config..")
+                .should().resideInAnyPackage("..infrastructure.config..", "..infrastructure.security..")
                 .because("CACHE DEVE TER TTL PARA EVITAR DADOS OBSOLETOS");
 
         rule.allowEmptyShould(true).check(classes);
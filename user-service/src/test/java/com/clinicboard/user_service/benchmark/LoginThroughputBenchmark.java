@@ -0,0 +1,137 @@
+package com.clinicboard.user_service.benchmark;
+
+import com.clinicboard.user_service.infrastructure.adapter.out.PasswordEncoderAdapter;
+import com.clinicboard.user_service.infrastructure.config.PasswordHashingConfiguration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão de login durante um pico e latência de um endpoint barato no mesmo
+ * período, com o BCrypt nas threads de requisição ("inline") e no pool de
+ * hashing ("pool").
+ *
+ * Cada grupo tem LOGIN_THREADS threads fazendo login e uma thread chamando o
+ * endpoint barato, todas pelo mesmo pool de threads de requisição, que simula
+ * o Tomcat. O pool é menor que o padrão do Tomcat (200) para que as threads do
+ * JMH, com uma requisição cada, consigam ocupá-lo. No modo pool a thread de
+ * requisição apenas entrega o login ao pool de hashing, como faz o
+ * AuthenticationController com o CompletableFuture.
+ *
+ * Execução (após mvn test-compile):
+ *   java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.clinicboard.user_service.benchmark.LoginThroughputBenchmark
+ *
+ * Em SampleTime, compare os percentis de inlineProbe e pooledProbe e o número
+ * de amostras (logins) de inlineLogin e pooledLogin.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginThroughputBenchmark {
+
+    private static final int LOGIN_THREADS = 16;
+    private static final String PASSWORD = "Senha@Forte123";
+
+    @Param({"10"})
+    public int strength;
+
+    @Param({"8"})
+    public int requestThreads;
+
+    private PasswordEncoderAdapter encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = new PasswordEncoderAdapter(strength, Duration.ZERO);
+        hash = encoder.encode(PASSWORD);
+    }
+
+    /**
+     * Pools de um grupo: cada modo mede com suas próprias threads.
+     */
+    @State(Scope.Group)
+    public static class Pools {
+
+        ExecutorService requests;
+        ThreadPoolExecutor hashing;
+
+        @Setup(Level.Trial)
+        public void setUp(LoginThroughputBenchmark benchmark) {
+            requests = Executors.newFixedThreadPool(benchmark.requestThreads);
+            // Fila com espaço para todos os logins do grupo: nenhum é recusado
+            hashing = new PasswordHashingConfiguration()
+                    .passwordHashingExecutor(new SimpleMeterRegistry(), 0, LOGIN_THREADS);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            requests.shutdownNow();
+            hashing.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    @Group("inline")
+    @GroupThreads(LOGIN_THREADS)
+    public boolean inlineLogin(Pools pools) throws Exception {
+        return pools.requests.submit(() -> encoder.matches(PASSWORD, hash)).get();
+    }
+
+    @Benchmark
+    @Group("inline")
+    @GroupThreads(1)
+    public Object inlineProbe(Pools pools) throws Exception {
+        return pools.requests.submit(() -> null).get();
+    }
+
+    @Benchmark
+    @Group("pool")
+    @GroupThreads(LOGIN_THREADS)
+    public boolean pooledLogin(Pools pools) throws Exception {
+        CompletableFuture<Boolean> login = pools.requests.submit(() ->
+                CompletableFuture.supplyAsync(() -> encoder.matches(PASSWORD, hash), pools.hashing)).get();
+        return login.get();
+    }
+
+    @Benchmark
+    @Group("pool")
+    @GroupThreads(1)
+    public Object pooledProbe(Pools pools) throws Exception {
+        return pools.requests.submit(() -> null).get();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(LoginThroughputBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,97 @@
+package com.clinicboard.user_service.infrastructure.adapter.in.web;
+
+import com.clinicboard.user_service.application.port.in.AuthenticateUserUseCase;
+import com.clinicboard.user_service.infrastructure.adapter.in.web.exception.GlobalExceptionHandler;
+import com.clinicboard.user_service.infrastructure.config.PasswordHashingConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes da camada web para AuthenticationController
+ *
+ * Usa o pool passwordHashingExecutor real, com uma thread e uma posição
+ * de fila, e o GlobalExceptionHandler real para verificar a resposta de
+ * sobrecarga.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthenticationController Tests")
+class AuthenticationControllerTest {
+
+    private static final String LOGIN_BODY = """
+            {"email": "usuario@clinicboard.com", "password": "senhaSegura123"}
+            """;
+
+    @Mock
+    private AuthenticateUserUseCase authenticateUserUseCase;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolExecutor passwordHashingExecutor;
+    private CountDownLatch release;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingExecutor = new PasswordHashingConfiguration().passwordHashingExecutor(meterRegistry, 1, 1);
+        release = new CountDownLatch(1);
+        AuthenticationController controller =
+                new AuthenticationController(authenticateUserUseCase, new AuthWebMapper(), passwordHashingExecutor);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(Duration.ofSeconds(2)))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 com Retry-After quando o pool de hashing estiver cheio")
+    void shouldRejectLoginWhenHashingPoolIsSaturated() throws Exception {
+        // Given - a única thread ocupada e a fila cheia
+        passwordHashingExecutor.execute(this::awaitRelease);
+        passwordHashingExecutor.execute(() -> { });
+
+        // When / Then
+        mockMvc.perform(post("/auth/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN_BODY))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.error").value(true));
+
+        verifyNoInteractions(authenticateUserUseCase);
+        assertEquals(1.0, meterRegistry.get("clinicboard.security.password.hashing.rejected").counter().count());
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.clinicboard.user_service.infrastructure.security;
+
+import com.clinicboard.user_service.application.port.out.UserPersistencePort;
+import com.clinicboard.user_service.domain.model.ContactDetails;
+import com.clinicboard.user_service.domain.model.Email;
+import com.clinicboard.user_service.domain.model.Password;
+import com.clinicboard.user_service.domain.model.User;
+import com.clinicboard.user_service.domain.model.UserId;
+import com.clinicboard.user_service.domain.model.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para AuthenticatedUserCache
+ *
+ * Os tokens são gerados e verificados pelo TokenService real; só o banco é
+ * simulado. O relógio do cache é controlado pelo teste.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthenticatedUserCache Tests")
+class AuthenticatedUserCacheTest {
+
+    private static final User USER = new User(
+            new UserId("user-01"),
+            "Usuário Teste",
+            new Email("usuario@clinicboard.com"),
+            Password.fromEncrypted("$2a$10$hash"),
+            new ContactDetails("83987654321"),
+            UserRole.of(UserRole.RoleType.PROFESSIONAL));
+
+    @Mock
+    private UserPersistencePort userPersistencePort;
+
+    private final TokenService tokenService = new TokenService("segredo-de-teste");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock(Instant.now());
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = tokenService.generateToken(USER);
+        when(userPersistencePort.findById(USER.getId())).thenReturn(Optional.of(USER));
+    }
+
+    @Nested
+    @DisplayName("Acertos")
+    class Hits {
+
+        @Test
+        @DisplayName("Deve atender o mesmo token sem verificar de novo nem consultar o banco")
+        void shouldServeRepeatedTokenFromCache() {
+            // Given
+            AuthenticatedUserCache cache = cache(Duration.ofMinutes(5));
+            cache.resolve(token);
+
+            // When
+            Optional<User> user = cache.resolve(token);
+
+            // Then
+            assertEquals(Optional.of(USER), user);
+            verify(userPersistencePort, times(1)).findById(USER.getId());
+            assertEquals(1.0, requests("hit"));
+            assertEquals(1.0, requests("miss"));
+        }
+
+        @Test
+        @DisplayName("Não deve guardar token inválido")
+        void shouldNotCacheInvalidToken() {
+            // Given
+            AuthenticatedUserCache cache = cache(Duration.ofMinutes(5));
+            cache.resolve(token);
+
+            // When
+            Optional<User> user = cache.resolve(token + "x");
+
+            // Then
+            assertTrue(user.isEmpty());
+            assertEquals(1.0, requests("invalid"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Expiração")
+    class Expiration {
+
+        @Test
+        @DisplayName("Deve expirar a entrada no exp do token, mesmo com TTL maior")
+        void shouldExpireAtTokenExp() {
+            // Given - TTL bem maior que a validade do token
+            AuthenticatedUserCache cache = cache(Duration.ofDays(1));
+            Instant tokenExpiresAt = tokenService.verify(token).orElseThrow().getExpiresAt().toInstant();
+            cache.resolve(token);
+
+            // When
+            clock.set(tokenExpiresAt.minusSeconds(1));
+            cache.resolve(token);
+            clock.set(tokenExpiresAt);
+            cache.resolve(token);
+
+            // Then - a última requisição verificou o token de novo
+            assertEquals(1.0, requests("hit"));
+            assertEquals(2.0, requests("miss"));
+            verify(userPersistencePort, times(2)).findById(USER.getId());
+        }
+
+        @Test
+        @DisplayName("Deve expirar a entrada no fim do TTL")
+        void shouldExpireAtTtl() {
+            // Given
+            AuthenticatedUserCache cache = cache(Duration.ofMinutes(5));
+            cache.resolve(token);
+
+            // When
+            clock.advance(Duration.ofMinutes(5));
+            cache.resolve(token);
+
+            // Then
+            assertEquals(0.0, requests("hit"));
+            assertEquals(2.0, requests("miss"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidação")
+    class Invalidation {
+
+        @Test
+        @DisplayName("Deve recarregar o usuário alterado após a invalidação")
+        void shouldReloadUserAfterUpdate() {
+            // Given
+            AuthenticatedUserCache cache = cache(Duration.ofMinutes(5));
+            cache.resolve(token);
+            User updated = USER.updateProfile("Nome Alterado", null);
+            when(userPersistencePort.findById(USER.getId())).thenReturn(Optional.of(updated));
+
+            // When - UpdateUserUseCaseImpl invalida via AuthenticationServicePort
+            cache.invalidate(USER.getId());
+            Optional<User> user = cache.resolve(token);
+
+            // Then
+            assertEquals(Optional.of(updated), user);
+            assertEquals(2.0, requests("miss"));
+        }
+
+        @Test
+        @DisplayName("Deve negar o token do usuário removido após a invalidação")
+        void shouldRejectTokenOfDeletedUser() {
+            // Given
+            AuthenticatedUserCache cache = cache(Duration.ofMinutes(5));
+            cache.resolve(token);
+            when(userPersistencePort.findById(USER.getId())).thenReturn(Optional.empty());
+
+            // When - DeleteUserUseCaseImpl invalida via AuthenticationServicePort
+            cache.invalidate(USER.getId());
+            Optional<User> user = cache.resolve(token);
+
+            // Then
+            assertTrue(user.isEmpty());
+            assertEquals(0.0, requests("hit"));
+        }
+
+        @Test
+        @DisplayName("Deve manter as entradas de outros usuários")
+        void shouldKeepOtherUsers() {
+            // Given
+            AuthenticatedUserCache cache = cache(Duration.ofMinutes(5));
+            cache.resolve(token);
+
+            // When
+            cache.invalidate(new UserId("user-02"));
+            cache.resolve(token);
+
+            // Then
+            assertEquals(1.0, requests("hit"));
+        }
+    }
+
+    private AuthenticatedUserCache cache(Duration ttl) {
+        return new AuthenticatedUserCache(tokenService, userPersistencePort, meterRegistry, 100, ttl, clock);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("clinicboard.security.authentication.requests").tag("result", result).counter().count();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant instant) {
+            now = instant;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public long millis() {
+            return now.toEpochMilli();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.clinicboard.user_service.usecase;
+
+import com.clinicboard.user_service.application.port.in.AuthenticateUserUseCase.AuthenticationCommand;
+import com.clinicboard.user_service.application.port.in.AuthenticateUserUseCase.AuthenticationResult;
+import com.clinicboard.user_service.application.port.out.AuthenticationServicePort;
+import com.clinicboard.user_service.application.port.out.PasswordEncoderPort;
+import com.clinicboard.user_service.application.port.out.UserPersistencePort;
+import com.clinicboard.user_service.application.usecase.AuthenticateUserUseCaseImpl;
+import com.clinicboard.user_service.domain.model.ContactDetails;
+import com.clinicboard.user_service.domain.model.Email;
+import com.clinicboard.user_service.domain.model.Password;
+import com.clinicboard.user_service.domain.model.User;
+import com.clinicboard.user_service.domain.model.UserId;
+import com.clinicboard.user_service.domain.model.UserRole;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para AuthenticateUserUseCaseImpl
+ *
+ * Foco no rehash da senha no login quando o custo do hash gravado difere
+ * do custo atual do BCrypt.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthenticateUserUseCaseImpl Tests")
+class AuthenticateUserUseCaseImplTest {
+
+    private static final String EMAIL = "usuario@clinicboard.com";
+    private static final String RAW_PASSWORD = "senhaSegura123";
+    private static final String OLD_HASH = "$2a$12$hashComCustoAntigo";
+    private static final String NEW_HASH = "$2a$10$hashComCustoAtual";
+
+    @Mock
+    private AuthenticationServicePort authenticationServicePort;
+
+    @Mock
+    private PasswordEncoderPort passwordEncoderPort;
+
+    @Mock
+    private UserPersistencePort userPersistencePort;
+
+    private AuthenticateUserUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new AuthenticateUserUseCaseImpl(authenticationServicePort, passwordEncoderPort, userPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Deve refazer o hash com o custo atual quando o gravado usar outro custo")
+    void shouldRehashPasswordWithOutdatedCost() {
+        // Given
+        when(authenticationServicePort.authenticate(EMAIL, RAW_PASSWORD)).thenReturn(user(OLD_HASH));
+        when(passwordEncoderPort.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordEncoderPort.encode(RAW_PASSWORD)).thenReturn(NEW_HASH);
+        when(userPersistencePort.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(authenticationServicePort.generateToken(any(User.class))).thenReturn("token");
+
+        // When
+        AuthenticationResult result = useCase.authenticate(new AuthenticationCommand(EMAIL, RAW_PASSWORD));
+
+        // Then
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userPersistencePort).save(saved.capture());
+        assertEquals(NEW_HASH, saved.getValue().getDomainPassword().getValue());
+        assertEquals(NEW_HASH, result.user().getDomainPassword().getValue());
+        verify(authenticationServicePort).generateToken(saved.getValue());
+        assertEquals("token", result.token());
+    }
+
+    @Test
+    @DisplayName("Não deve regravar a senha quando o hash já usar o custo atual")
+    void shouldKeepPasswordWithCurrentCost() {
+        // Given
+        User user = user(NEW_HASH);
+        when(authenticationServicePort.authenticate(EMAIL, RAW_PASSWORD)).thenReturn(user);
+        when(passwordEncoderPort.needsRehash(NEW_HASH)).thenReturn(false);
+        when(authenticationServicePort.generateToken(user)).thenReturn("token");
+
+        // When
+        AuthenticationResult result = useCase.authenticate(new AuthenticationCommand(EMAIL, RAW_PASSWORD));
+
+        // Then
+        verify(passwordEncoderPort, never()).encode(anyString());
+        verify(userPersistencePort, never()).save(any(User.class));
+        assertSame(user, result.user());
+    }
+
+    private static User user(String passwordHash) {
+        return new User(
+                new UserId("user-01"),
+                "Usuário Teste",
+                new Email(EMAIL),
+                Password.fromEncrypted(passwordHash),
+                new ContactDetails("83987654321"),
+                UserRole.of(UserRole.RoleType.PROFESSIONAL));
+    }
+}
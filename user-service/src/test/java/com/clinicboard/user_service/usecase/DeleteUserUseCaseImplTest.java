@@ -0,0 +1,70 @@
+package com.clinicboard.user_service.usecase;
+
+import com.clinicboard.user_service.application.port.out.AuthenticationServicePort;
+import com.clinicboard.user_service.application.port.out.UserPersistencePort;
+import com.clinicboard.user_service.application.usecase.DeleteUserUseCaseImpl;
+import com.clinicboard.user_service.domain.exception.BusinessException;
+import com.clinicboard.user_service.domain.model.UserId;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para DeleteUserUseCaseImpl
+ *
+ * Foco na invalidação do cache de autenticação depois da remoção.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeleteUserUseCaseImpl Tests")
+class DeleteUserUseCaseImplTest {
+
+    private static final UserId USER_ID = new UserId("user-01");
+
+    @Mock
+    private UserPersistencePort userPersistencePort;
+
+    @Mock
+    private AuthenticationServicePort authenticationServicePort;
+
+    private DeleteUserUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new DeleteUserUseCaseImpl(userPersistencePort, authenticationServicePort);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a autenticação do usuário depois de removê-lo")
+    void shouldInvalidateAuthenticationAfterDeleting() {
+        // Given
+        when(userPersistencePort.existsById(USER_ID)).thenReturn(true);
+
+        // When
+        useCase.deleteUser(USER_ID);
+
+        // Then
+        InOrder order = inOrder(userPersistencePort, authenticationServicePort);
+        order.verify(userPersistencePort).deleteById(USER_ID);
+        order.verify(authenticationServicePort).invalidateAuthentication(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Não deve invalidar a autenticação quando o usuário não existir")
+    void shouldNotInvalidateWhenUserDoesNotExist() {
+        // Given
+        when(userPersistencePort.existsById(USER_ID)).thenReturn(false);
+
+        // When & Then
+        assertThrows(BusinessException.class, () -> useCase.deleteUser(USER_ID));
+        verify(authenticationServicePort, never()).invalidateAuthentication(any());
+    }
+}
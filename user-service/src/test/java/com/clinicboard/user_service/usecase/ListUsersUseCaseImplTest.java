@@ -0,0 +1,102 @@
+package com.clinicboard.user_service.usecase;
+
+import com.clinicboard.user_service.application.port.in.ListUsersUseCase.UserPage;
+import com.clinicboard.user_service.application.port.out.UserPersistencePort;
+import com.clinicboard.user_service.application.usecase.ListUsersUseCaseImpl;
+import com.clinicboard.user_service.domain.exception.BusinessException;
+import com.clinicboard.user_service.domain.model.ContactDetails;
+import com.clinicboard.user_service.domain.model.Email;
+import com.clinicboard.user_service.domain.model.Password;
+import com.clinicboard.user_service.domain.model.User;
+import com.clinicboard.user_service.domain.model.UserId;
+import com.clinicboard.user_service.domain.model.UserRole;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ListUsersUseCaseImpl
+ *
+ * Foco na paginação por cursor: a página é lida com um usuário a mais para
+ * saber se existe próxima página sem uma contagem separada.
+ *
+ * Fica fora de application.usecase porque os testes de arquitetura também
+ * importam as classes de teste, e ali só são aceitos casos de uso.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListUsersUseCaseImpl Tests")
+class ListUsersUseCaseImplTest {
+
+    @Mock
+    private UserPersistencePort userPersistencePort;
+
+    private ListUsersUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ListUsersUseCaseImpl(userPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Deve devolver o id do último usuário da página como próximo cursor")
+    void shouldReturnLastUserIdAsNextCursorWhenMoreUsersExist() {
+        // Given
+        UserId cursor = new UserId("user-00");
+        when(userPersistencePort.findPageAfter(cursor, 3)).thenReturn(users(3));
+
+        // When
+        UserPage page = useCase.findPage(cursor, 2);
+
+        // Then
+        assertEquals(2, page.users().size());
+        assertEquals(new UserId("user-02"), page.nextCursor());
+        assertEquals(new UserId("user-02"), page.users().get(1).getId());
+    }
+
+    @Test
+    @DisplayName("Não deve devolver cursor na última página")
+    void shouldReturnNoCursorOnLastPage() {
+        // Given
+        when(userPersistencePort.findPageAfter(null, 3)).thenReturn(users(2));
+
+        // When
+        UserPage page = useCase.findPage(null, 2);
+
+        // Then
+        assertEquals(2, page.users().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de página menor que um")
+    void shouldRejectNonPositiveSize() {
+        // When & Then
+        assertThrows(BusinessException.class, () -> useCase.findPage(null, 0));
+        verify(userPersistencePort, never()).findPageAfter(any(), anyInt());
+    }
+
+    private static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            users.add(new User(
+                    new UserId(String.format("user-%02d", i)),
+                    "Usuário Teste",
+                    new Email("usuario" + i + "@clinicboard.com"),
+                    Password.fromEncrypted("$2a$10$hash"),
+                    new ContactDetails("83987654321"),
+                    UserRole.of(UserRole.RoleType.PROFESSIONAL)));
+        }
+        return users;
+    }
+}
@@ -0,0 +1,91 @@
+package com.clinicboard.user_service.usecase;
+
+import com.clinicboard.user_service.application.port.in.UpdateUserUseCase.UpdateUserCommand;
+import com.clinicboard.user_service.application.port.out.AuthenticationServicePort;
+import com.clinicboard.user_service.application.port.out.UserPersistencePort;
+import com.clinicboard.user_service.application.usecase.UpdateUserUseCaseImpl;
+import com.clinicboard.user_service.domain.exception.BusinessException;
+import com.clinicboard.user_service.domain.model.ContactDetails;
+import com.clinicboard.user_service.domain.model.Email;
+import com.clinicboard.user_service.domain.model.Password;
+import com.clinicboard.user_service.domain.model.User;
+import com.clinicboard.user_service.domain.model.UserId;
+import com.clinicboard.user_service.domain.model.UserRole;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para UpdateUserUseCaseImpl
+ *
+ * Foco na invalidação do cache de autenticação depois da alteração.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpdateUserUseCaseImpl Tests")
+class UpdateUserUseCaseImplTest {
+
+    private static final UserId USER_ID = new UserId("user-01");
+
+    @Mock
+    private UserPersistencePort userPersistencePort;
+
+    @Mock
+    private AuthenticationServicePort authenticationServicePort;
+
+    private UpdateUserUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new UpdateUserUseCaseImpl(userPersistencePort, authenticationServicePort);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a autenticação do usuário depois de salvar a alteração")
+    void shouldInvalidateAuthenticationAfterSaving() {
+        // Given
+        when(userPersistencePort.findById(USER_ID)).thenReturn(Optional.of(user()));
+        when(userPersistencePort.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        User updated = useCase.updateUser(new UpdateUserCommand(USER_ID, "Nome Alterado", "83912345678"));
+
+        // Then
+        assertEquals("Nome Alterado", updated.getName());
+        InOrder order = inOrder(userPersistencePort, authenticationServicePort);
+        order.verify(userPersistencePort).save(any(User.class));
+        order.verify(authenticationServicePort).invalidateAuthentication(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Não deve invalidar a autenticação quando o usuário não existir")
+    void shouldNotInvalidateWhenUserDoesNotExist() {
+        // Given
+        when(userPersistencePort.findById(USER_ID)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(BusinessException.class,
+                () -> useCase.updateUser(new UpdateUserCommand(USER_ID, "Nome Alterado", "83912345678")));
+        verify(authenticationServicePort, never()).invalidateAuthentication(any());
+    }
+
+    private static User user() {
+        return new User(
+                USER_ID,
+                "Usuário Teste",
+                new Email("usuario@clinicboard.com"),
+                Password.fromEncrypted("$2a$10$hash"),
+                new ContactDetails("83987654321"),
+                UserRole.of(UserRole.RoleType.PROFESSIONAL));
+    }
+}